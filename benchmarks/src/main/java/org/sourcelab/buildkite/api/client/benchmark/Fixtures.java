@@ -0,0 +1,89 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Builds benchmark fixtures by scaling up the mock API responses used by the main module's tests.
+ */
+public final class Fixtures {
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private Fixtures() {
+    }
+
+    /**
+     * Create a List Builds response body containing the given number of builds, each with the given number of jobs.
+     *
+     * @param builds How many builds to include.
+     * @param jobsPerBuild How many jobs each build should have.
+     * @return Response body as UTF-8 JSON.
+     * @throws IOException on errors reading the source fixture.
+     */
+    public static byte[] listBuilds(final int builds, final int jobsPerBuild) throws IOException {
+        final JsonNode source = readFixture("listBuilds.json");
+        final ArrayNode result = MAPPER.createArrayNode();
+        for (int index = 0; index < builds; index++) {
+            result.add(scaleBuild((ObjectNode) source.get(index % source.size()), index, jobsPerBuild));
+        }
+        return MAPPER.writeValueAsBytes(result);
+    }
+
+    /**
+     * Create a Get Build response body with the given number of jobs.
+     *
+     * @param jobs How many jobs the build should have.
+     * @return Response body as UTF-8 JSON.
+     * @throws IOException on errors reading the source fixture.
+     */
+    public static byte[] getBuild(final int jobs) throws IOException {
+        return MAPPER.writeValueAsBytes(scaleBuild((ObjectNode) readFixture("getBuild.json"), 0, jobs));
+    }
+
+    private static ObjectNode scaleBuild(final ObjectNode source, final int buildIndex, final int jobs) {
+        final ObjectNode build = source.deepCopy();
+        build.put("id", source.get("id").asText() + "-" + buildIndex);
+        build.put("number", buildIndex + 1);
+
+        // Repeat the fixture's jobs until we have the requested number, each with a unique id.
+        final ArrayNode sourceJobs = (ArrayNode) source.get("jobs");
+        final ArrayNode scaledJobs = build.putArray("jobs");
+        for (int index = 0; index < jobs && sourceJobs.size() > 0; index++) {
+            final ObjectNode job = ((ObjectNode) sourceJobs.get(index % sourceJobs.size())).deepCopy();
+            job.put("id", job.get("id").asText() + "-" + buildIndex + "-" + index);
+            scaledJobs.add(job);
+        }
+        return build;
+    }
+
+    private static JsonNode readFixture(final String fileName) throws IOException {
+        try (final InputStream inputStream = Fixtures.class.getClassLoader().getResourceAsStream("mockResponses/" + fileName)) {
+            if (inputStream == null) {
+                throw new IOException("Unable to find fixture " + fileName);
+            }
+            return MAPPER.readTree(inputStream);
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.codec;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sourcelab.buildkite.api.client.benchmark.Fixtures;
+import org.sourcelab.buildkite.api.client.http.HttpHeaders;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.parser.GetBuildResponseParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares reading a build from its {@link BuildCodec} binary encoding against parsing it from the API's JSON.
+ *
+ * The size of each encoding is reported separately by {@link BuildCodecSizeReport}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BuildCodecBenchmark {
+    /**
+     * How many jobs the build has.
+     */
+    @Param({"10", "50"})
+    public int jobsPerBuild;
+
+    private GetBuildResponseParser parser;
+    private byte[] json;
+    private byte[] encoded;
+    private Build build;
+
+    /**
+     * Build fixtures.
+     * @throws IOException on errors reading fixtures.
+     */
+    @Setup
+    public void setup() throws IOException {
+        parser = new GetBuildResponseParser();
+        json = Fixtures.getBuild(jobsPerBuild);
+        build = parseJson();
+        encoded = BuildCodec.encodeBuild(build);
+    }
+
+    /**
+     * Parse the build from JSON.
+     * @return Parsed build.
+     * @throws IOException on parse errors.
+     */
+    @Benchmark
+    public Build parseJson() throws IOException {
+        return parser.parseResponse(new HttpResult(200, json, StandardCharsets.UTF_8, new HttpHeaders(Collections.emptyList())));
+    }
+
+    /**
+     * Decode the build from its binary encoding.
+     * @return Decoded build.
+     */
+    @Benchmark
+    public Build decodeBinary() {
+        return BuildCodec.decodeBuild(encoded);
+    }
+
+    /**
+     * Encode the build.
+     * @return Encoded build.
+     */
+    @Benchmark
+    public byte[] encodeBinary() {
+        return BuildCodec.encodeBuild(build);
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.codec;
+
+import org.sourcelab.buildkite.api.client.benchmark.Fixtures;
+import org.sourcelab.buildkite.api.client.http.HttpHeaders;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.parser.GetBuildResponseParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+/**
+ * Prints the size of a build's JSON and {@link BuildCodec} binary encodings, for the same builds measured by
+ * {@link BuildCodecBenchmark}, as JMH only reports time and allocation.
+ *
+ * Usage: {@code java -cp benchmarks/target/benchmarks.jar org.sourcelab.buildkite.api.client.codec.BuildCodecSizeReport}
+ */
+public final class BuildCodecSizeReport {
+    private BuildCodecSizeReport() {
+    }
+
+    /**
+     * Print the encoding sizes.
+     * @param args Unused.
+     * @throws IOException on errors reading fixtures.
+     */
+    public static void main(final String[] args) throws IOException {
+        final GetBuildResponseParser parser = new GetBuildResponseParser();
+        for (final int jobsPerBuild : new int[] {10, 50}) {
+            final byte[] json = Fixtures.getBuild(jobsPerBuild);
+            final Build build = parser.parseResponse(
+                new HttpResult(200, json, StandardCharsets.UTF_8, new HttpHeaders(Collections.emptyList()))
+            );
+            final byte[] encoded = BuildCodec.encodeBuild(build);
+            System.out.printf("Build with %d jobs: JSON %d bytes, binary %d bytes (%.1f%%)%n",
+                jobsPerBuild, json.length, encoded.length, 100.0 * encoded.length / json.length);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.request;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures building request parameters and parsing paging options, done for every page requested.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class RequestBenchmark {
+    private final String pageUrl = "https://api.buildkite.com/v2/organizations/my-org/builds?branch=main&page=3&per_page=100&state=failed";
+    private ListBuildsRequest listBuildsRequest;
+
+    /**
+     * Build a request using a representative set of filters.
+     */
+    @Setup
+    public void setup() {
+        listBuildsRequest = new ListBuildsRequest(BuildFilters.newBuilder()
+            .withPipeline("my-org", "my-pipeline")
+            .withBranches("main", "release")
+            .withStates("failed", "canceled")
+            .withMetaData("release-version", "1.2.3")
+            .withCreatedFrom(ZonedDateTime.parse("2023-01-12T05:48:28Z"))
+            .withIncludeRetriedJobs(true)
+            .withPageOptions(3, 100)
+            .build());
+    }
+
+    /**
+     * Parse paging options from a paging link.
+     * @return Parsed page options.
+     */
+    @Benchmark
+    public PageOptions pageOptionsFromUrl() {
+        return PageOptions.fromUrl(pageUrl);
+    }
+
+    /**
+     * Build the query parameters for a filtered List Builds request.
+     * @return Request parameters.
+     */
+    @Benchmark
+    public RequestParameters listBuildsRequestParameters() {
+        return listBuildsRequest.getRequestParameters();
+    }
+}
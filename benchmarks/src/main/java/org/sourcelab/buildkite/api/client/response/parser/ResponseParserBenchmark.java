@@ -0,0 +1,112 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.response.parser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.sourcelab.buildkite.api.client.benchmark.Fixtures;
+import org.sourcelab.buildkite.api.client.http.HttpHeader;
+import org.sourcelab.buildkite.api.client.http.HttpHeaders;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.BuildFilters;
+import org.sourcelab.buildkite.api.client.request.ListBuildsRequest;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.ListBuildsResponse;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures parsing of build responses, the largest and most frequently requested payloads.
+ *
+ * List Builds results are reported per build parsed, so {@code gc.alloc.rate.norm} is bytes allocated per build.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ResponseParserBenchmark {
+    private static final int BUILDS_PER_PAGE = 100;
+
+    /**
+     * How many jobs each build has.
+     */
+    @Param({"10", "50"})
+    public int jobsPerBuild;
+
+    private ListBuildsResponseParser listBuildsParser;
+    private GetBuildResponseParser getBuildParser;
+    private byte[] listBuildsBody;
+    private byte[] getBuildBody;
+    private HttpHeaders listBuildsHeaders;
+
+    /**
+     * Build fixtures.
+     * @throws IOException on errors reading fixtures.
+     */
+    @Setup
+    public void setup() throws IOException {
+        listBuildsParser = new ListBuildsResponseParser(new ListBuildsRequest(BuildFilters.newBuilder().build()));
+        getBuildParser = new GetBuildResponseParser();
+        listBuildsBody = Fixtures.listBuilds(BUILDS_PER_PAGE, jobsPerBuild);
+        getBuildBody = Fixtures.getBuild(jobsPerBuild);
+        listBuildsHeaders = new HttpHeaders(Collections.singletonList(new HttpHeader(
+            "Link",
+            "<https://api.buildkite.com/v2/builds?page=3&per_page=100>; rel=\"next\", "
+            + "<https://api.buildkite.com/v2/builds?page=1&per_page=100>; rel=\"prev\", "
+            + "<https://api.buildkite.com/v2/builds?page=1&per_page=100>; rel=\"first\", "
+            + "<https://api.buildkite.com/v2/builds?page=50&per_page=100>; rel=\"last\""
+        )));
+    }
+
+    /**
+     * Parse a page of 100 builds, reported per build.
+     * @return Parsed response.
+     * @throws IOException on parse errors.
+     */
+    @Benchmark
+    @OperationsPerInvocation(BUILDS_PER_PAGE)
+    public ListBuildsResponse listBuilds() throws IOException {
+        // A new result per invocation, as results memoize their parsed response.
+        return listBuildsParser.parseResponse(new HttpResult(200, listBuildsBody, StandardCharsets.UTF_8, listBuildsHeaders));
+    }
+
+    /**
+     * Parse a single build.
+     * @return Parsed response.
+     * @throws IOException on parse errors.
+     */
+    @Benchmark
+    public Build getBuild() throws IOException {
+        return getBuildParser.parseResponse(new HttpResult(200, getBuildBody, StandardCharsets.UTF_8, listBuildsHeaders));
+    }
+}
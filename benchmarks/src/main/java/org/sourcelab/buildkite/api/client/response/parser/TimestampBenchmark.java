@@ -0,0 +1,103 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.response.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZonedDateTime;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares decoding timestamps in the format sent by the Buildkite API using the hand written
+ * {@link UtcTimestampDeserializer} against the JSR-310 module's formatter based deserializer.
+ *
+ * Results are reported per timestamp.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TimestampBenchmark {
+    private static final int TIMESTAMPS = 1000;
+
+    private ObjectReader javaTimeReader;
+    private ObjectReader utcTimestampReader;
+    private byte[] body;
+
+    /**
+     * Build fixtures.
+     */
+    @Setup
+    public void setup() {
+        javaTimeReader = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .readerFor(ZonedDateTime[].class);
+        utcTimestampReader = JacksonFactory.readerFor(ZonedDateTime[].class);
+
+        // Timestamps with millisecond precision a few minutes apart, as sent by the API.
+        final Instant start = Instant.parse("2023-01-04T23:38:39.123Z");
+        final StringBuilder json = new StringBuilder("[");
+        for (int index = 0; index < TIMESTAMPS; index++) {
+            if (index > 0) {
+                json.append(',');
+            }
+            json.append('"').append(start.plusMillis(index * 182_731L)).append('"');
+        }
+        body = json.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Decode using the JSR-310 module's deserializer.
+     * @return Decoded timestamps.
+     * @throws IOException on parse errors.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TIMESTAMPS)
+    public ZonedDateTime[] javaTimeModule() throws IOException {
+        return javaTimeReader.readValue(body);
+    }
+
+    /**
+     * Decode using {@link UtcTimestampDeserializer}.
+     * @return Decoded timestamps.
+     * @throws IOException on parse errors.
+     */
+    @Benchmark
+    @OperationsPerInvocation(TIMESTAMPS)
+    public ZonedDateTime[] utcTimestampDeserializer() throws IOException {
+        return utcTimestampReader.readValue(body);
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
+import org.sourcelab.buildkite.api.client.exception.InvalidAccessTokenException;
+import org.sourcelab.buildkite.api.client.exception.InvalidAllowedIpAddressException;
+import org.sourcelab.buildkite.api.client.exception.InvalidRequestException;
+import org.sourcelab.buildkite.api.client.exception.NotFoundException;
+import org.sourcelab.buildkite.api.client.exception.RateLimitExceededException;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.Request;
+import org.sourcelab.buildkite.api.client.response.Error;
+import org.sourcelab.buildkite.api.client.response.ErrorResponse;
+import org.sourcelab.buildkite.api.client.response.parser.ErrorResponseParser;
+import org.sourcelab.buildkite.api.client.response.parser.StringDeduplicator;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * Shared logic for turning an {@link HttpResult} into either a parsed response object, or the
+ * appropriate exception.  Used by both {@link BuildkiteClient} and {@link BuildkiteAsyncClient}.
+ */
+final class ApiResponseHandler {
+    private static final Logger logger = LoggerFactory.getLogger(ApiResponseHandler.class);
+
+    /**
+     * Static utility class.
+     */
+    private ApiResponseHandler() {
+    }
+
+    /**
+     * Given the result from executing a request, return the parsed response or throw the
+     * appropriate exception if an error was returned from the API.
+     *
+     * @param <T> The parsed response object.
+     * @param request The request that was executed.
+     * @param result The result from the underlying http client.
+     * @param stringDeduplicator Table used to canonicalize repeating values when parsing, or null to not deduplicate.
+     * @return The parsed response object.
+     * @throws BuildkiteException if API returns an error response.
+     */
+    static <T> T handleResult(
+        final Request<T> request,
+        final HttpResult result,
+        final StringDeduplicator stringDeduplicator
+    ) throws BuildkiteException {
+        // Debug logging of the result.
+        logger.trace("HttpResult: {}", result);
+
+        // Handle Errors based on HttpCode.
+        if (result.getStatus() != 200 && result.getStatus() != 201 && result.getStatus() != 204) {
+            handleError(result);
+        }
+
+        // Success response code, parse response into object and return.
+        // Results served from a response cache may already have been parsed, in which case that object is returned.
+        if (stringDeduplicator != null) {
+            return result.withStringDeduplicator(stringDeduplicator).parseResponse(request);
+        }
+        return result.parseResponse(request);
+    }
+
+    /**
+     * Handle error responses from the API by throwing the appropriate exception.
+     * @param errorResult Error response from REST API.
+     * @throws BuildkiteException relating to specific underlying API error.
+     */
+    private static void handleError(final HttpResult errorResult) throws BuildkiteException {
+        // Attempt to parse error response.
+        String errorMessage = null;
+        List<Error> errors = Collections.emptyList();
+        try {
+            final ErrorResponse errorResponse = new ErrorResponseParser().parseResponse(errorResult);
+            errorMessage = errorResponse.getMessage();
+            errors = errorResponse.getErrors();
+        } catch (final IOException e) {
+            errorMessage = errorResult.getContent();
+        }
+        if (errorMessage != null && errorMessage.trim().isEmpty()) {
+            errorMessage = null;
+        }
+
+        switch (errorResult.getStatus()) {
+            case 401:
+                throw new InvalidAccessTokenException(
+                    errorMessage == null ? "Invalid Access Token" : errorMessage
+                );
+            case 403:
+                throw new InvalidAllowedIpAddressException(
+                    errorMessage == null
+                    ?
+                        "API requested from an IP address not specifically allowed by your AccessToken. "
+                        + "Check the 'Allowed IP Addresses' field on your Access Token"
+                    : errorMessage
+                );
+            case 404:
+                throw new NotFoundException(
+                    errorMessage == null
+                        ?
+                        "The URL or Resource Request could not be found"
+                        : errorMessage
+                );
+            case 422:
+                String validationErrorMessage = (( errorMessage != null) ? errorMessage : "The submitted request was invalid. ");
+                validationErrorMessage += "\n" + errors.stream()
+                    .map((error) -> error.getField() + ": " + error.getCode())
+                    .collect(Collectors.joining("\n"));
+                throw new InvalidRequestException(validationErrorMessage, errors);
+            case 429:
+                throw new RateLimitExceededException(
+                    errorMessage == null ? "API rate limit exceeded" : errorMessage,
+                    parseRetryAfter(errorResult)
+                );
+            default:
+                throw new BuildkiteException(
+                    errorMessage == null ? "Unknown/Unhandled Error HttpCode: " + errorResult.getStatus() : errorMessage
+                );
+        }
+    }
+
+    /**
+     * Determine how long until the rate limit resets from the headers of a 429 response.
+     * @param errorResult Error response from REST API.
+     * @return How long until the rate limit resets, or null if not reported.
+     */
+    private static Duration parseRetryAfter(final HttpResult errorResult) {
+        Optional<String> seconds = errorResult.getHttpHeaders().findHeader("RateLimit-Reset");
+        if (!seconds.isPresent()) {
+            seconds = errorResult.getHttpHeaders().findHeader("Retry-After");
+        }
+        if (!seconds.isPresent()) {
+            return null;
+        }
+        try {
+            return Duration.ofSeconds(Long.parseLong(seconds.get().trim()));
+        } catch (final NumberFormatException exception) {
+            return null;
+        }
+    }
+}
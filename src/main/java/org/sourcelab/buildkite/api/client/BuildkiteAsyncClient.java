@@ -0,0 +1,520 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client;
+
+import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
+import org.sourcelab.buildkite.api.client.exception.InvalidPagingRequestException;
+import org.sourcelab.buildkite.api.client.http.AsyncClient;
+import org.sourcelab.buildkite.api.client.http.ConnectionPoolStats;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.AnnotationFilters;
+import org.sourcelab.buildkite.api.client.request.BuildFilters;
+import org.sourcelab.buildkite.api.client.request.BuildFiltersBuilder;
+import org.sourcelab.buildkite.api.client.request.CancelBuildRequest;
+import org.sourcelab.buildkite.api.client.request.CreateBuildOptions;
+import org.sourcelab.buildkite.api.client.request.CreateBuildRequest;
+import org.sourcelab.buildkite.api.client.request.GetAnnotationsForBuildRequest;
+import org.sourcelab.buildkite.api.client.request.GetBuildFilters;
+import org.sourcelab.buildkite.api.client.request.GetBuildFiltersBuilder;
+import org.sourcelab.buildkite.api.client.request.GetBuildRequest;
+import org.sourcelab.buildkite.api.client.request.GetOrganizationRequest;
+import org.sourcelab.buildkite.api.client.request.GetPipelineRequest;
+import org.sourcelab.buildkite.api.client.request.ListBuildsRequest;
+import org.sourcelab.buildkite.api.client.request.ListOrganizationsRequest;
+import org.sourcelab.buildkite.api.client.request.ListPipelinesRequest;
+import org.sourcelab.buildkite.api.client.request.OrganizationFilters;
+import org.sourcelab.buildkite.api.client.request.PageOptions;
+import org.sourcelab.buildkite.api.client.request.PageableRequest;
+import org.sourcelab.buildkite.api.client.request.PingRequest;
+import org.sourcelab.buildkite.api.client.request.PipelineFilters;
+import org.sourcelab.buildkite.api.client.request.RebuildBuildRequest;
+import org.sourcelab.buildkite.api.client.request.Request;
+import org.sourcelab.buildkite.api.client.request.RetryJobOptions;
+import org.sourcelab.buildkite.api.client.request.RetryJobRequest;
+import org.sourcelab.buildkite.api.client.request.UnblockJobOptions;
+import org.sourcelab.buildkite.api.client.request.UnblockJobRequest;
+import org.sourcelab.buildkite.api.client.response.AnnotationsForBuildResponse;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.Job;
+import org.sourcelab.buildkite.api.client.response.ListBuildsResponse;
+import org.sourcelab.buildkite.api.client.response.ListOrganizationsResponse;
+import org.sourcelab.buildkite.api.client.response.ListPipelinesResponse;
+import org.sourcelab.buildkite.api.client.response.Organization;
+import org.sourcelab.buildkite.api.client.response.PageableResponse;
+import org.sourcelab.buildkite.api.client.response.PagingLinks;
+import org.sourcelab.buildkite.api.client.response.PingResponse;
+import org.sourcelab.buildkite.api.client.response.Pipeline;
+import org.sourcelab.buildkite.api.client.response.parser.StringDeduplicator;
+import org.sourcelab.buildkite.api.client.util.DaemonThreadFactory;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Non-blocking API Client for Buildkite's REST Api.
+ *
+ * Every method returns immediately with a {@link CompletableFuture} which completes once the API has
+ * responded.  Requests are multiplexed over a shared pool of connections, so many requests may be in flight
+ * at once without a thread waiting on each.  If the API returns an error response, the future completes
+ * exceptionally with the same {@link BuildkiteException} sub-types thrown by {@link BuildkiteClient}.
+ *
+ * Instances should be re-used, and closed via {@link #close()} when no longer needed.
+ *
+ * See API Documentation: {@see <a href="https://buildkite.com/docs/apis/rest-api">https://buildkite.com/docs/apis/rest-api</a>}
+ */
+public class BuildkiteAsyncClient implements Closeable {
+    /**
+     * User provided configuration.
+     */
+    private final Configuration configuration;
+
+    /**
+     * Underlying non-blocking HTTP client.
+     */
+    private final AsyncClient httpClient;
+
+    /**
+     * Paces requests to stay within the API rate limit.
+     */
+    private final RateLimitScheduler rateLimitScheduler;
+
+    /**
+     * Metrics about requests made by this client.
+     */
+    private final BuildkiteClientMetrics metrics;
+
+    /**
+     * Canonicalizes repeating values in parsed responses, or null if disabled.
+     */
+    private final StringDeduplicator stringDeduplicator;
+
+    /**
+     * Delays requests held back by the rate limit scheduler or waiting to be retried, created on first use.
+     */
+    private ScheduledExecutorService delayExecutor = null;
+
+    /**
+     * Delays not yet elapsed, completed exceptionally if the client is closed first.  Guarded by this.
+     */
+    private final Set<CompletableFuture<Void>> pendingDelays = new HashSet<>();
+
+    /**
+     * Set once the client is closed, after which no further delays are scheduled.
+     */
+    private volatile boolean closed = false;
+
+    /**
+     * Parses responses off the underlying client's IO threads.
+     */
+    private final Executor parseExecutor;
+
+    /**
+     * Pool created by this client to parse responses, shut down on close, or null if supplied by the configuration.
+     */
+    private final ExecutorService ownedParseExecutor;
+
+    /**
+     * Constructor.
+     * @param configuration The configuration for the client.
+     */
+    public BuildkiteAsyncClient(final Configuration configuration) {
+        this.configuration = configuration;
+        this.httpClient = configuration.getAsyncClientFactory().createAsyncClient(configuration);
+        this.rateLimitScheduler = new RateLimitScheduler(configuration);
+        this.metrics = new BuildkiteClientMetrics(rateLimitScheduler, httpClient.getResponseCache());
+        this.stringDeduplicator = configuration.isStringDeduplicationEnabled()
+            ? new StringDeduplicator(configuration.getStringDeduplicationMaxEntries())
+            : null;
+        if (configuration.getAsyncParseExecutor() != null) {
+            this.ownedParseExecutor = null;
+            this.parseExecutor = configuration.getAsyncParseExecutor();
+        } else {
+            this.ownedParseExecutor = Executors.newFixedThreadPool(
+                Runtime.getRuntime().availableProcessors(), new DaemonThreadFactory("buildkite-response-parse")
+            );
+            this.parseExecutor = ownedParseExecutor;
+        }
+    }
+
+    /**
+     * Make a 'test' or 'hello world' request to the Buildkite API.
+     * @see BuildkiteClient#ping()
+     *
+     * @return Future completing with response details from the ping request.
+     */
+    public CompletableFuture<PingResponse> ping() {
+        return executeRequestAsync(new PingRequest());
+    }
+
+    /**
+     * Retrieve all Organizations accessible to the current user/API access token.
+     * @see BuildkiteClient#listOrganizations(OrganizationFilters)
+     *
+     * @param filters Filter criteria.
+     * @return Future completing with a page of Organizations.
+     */
+    public CompletableFuture<ListOrganizationsResponse> listOrganizations(final OrganizationFilters filters) {
+        Objects.requireNonNull(filters);
+        return executeRequestAsync(new ListOrganizationsRequest(filters));
+    }
+
+    /**
+     * Retrieve specific organization via its Organization slug id.
+     * @see BuildkiteClient#getOrganization(String)
+     *
+     * @param organizationSlugId Slug of the organization to retrieve.
+     * @return Future completing with the Organization matching the slug, if found.
+     */
+    public CompletableFuture<Optional<Organization>> getOrganization(final String organizationSlugId) {
+        Objects.requireNonNull(organizationSlugId);
+        return executeRequestAsync(new GetOrganizationRequest(organizationSlugId))
+            .thenApply(Optional::ofNullable);
+    }
+
+    /**
+     * Retrieve all Pipelines accessible to the current user/API access token for the given Organization.
+     * @see BuildkiteClient#listPipelines(PipelineFilters)
+     *
+     * @param filters Filter criteria.
+     * @return Future completing with a page of Pipelines.
+     */
+    public CompletableFuture<ListPipelinesResponse> listPipelines(final PipelineFilters filters) {
+        Objects.requireNonNull(filters);
+        return executeRequestAsync(new ListPipelinesRequest(filters));
+    }
+
+    /**
+     * Retrieve specific pipeline via its Organization and Pipeline Slug Ids.
+     * @see BuildkiteClient#getPipeline(String, String)
+     *
+     * @param organizationSlugId Slug of the organization to retrieve.
+     * @param pipelineSlugId Slug of the pipeline to retrieve.
+     * @return Future completing with the Pipeline matching the slug, if found.
+     */
+    public CompletableFuture<Optional<Pipeline>> getPipeline(final String organizationSlugId, final String pipelineSlugId) {
+        Objects.requireNonNull(organizationSlugId);
+        Objects.requireNonNull(pipelineSlugId);
+        return executeRequestAsync(new GetPipelineRequest(organizationSlugId, pipelineSlugId))
+            .thenApply(Optional::ofNullable);
+    }
+
+    /**
+     * Retrieve all builds which match the supplied search criteria.
+     * @see BuildkiteClient#listBuilds(BuildFiltersBuilder)
+     *
+     * @param filtersBuilder Filter criteria.
+     * @return Future completing with a page of Builds.
+     */
+    public CompletableFuture<ListBuildsResponse> listBuilds(final BuildFiltersBuilder filtersBuilder) {
+        return listBuilds(filtersBuilder.build());
+    }
+
+    /**
+     * Retrieve all builds which match the supplied search criteria.
+     * @see BuildkiteClient#listBuilds(BuildFilters)
+     *
+     * @param filters Filter criteria.
+     * @return Future completing with a page of Builds.
+     */
+    public CompletableFuture<ListBuildsResponse> listBuilds(final BuildFilters filters) {
+        return executeRequestAsync(new ListBuildsRequest(filters));
+    }
+
+    /**
+     * Retrieve a specific build.
+     * @see BuildkiteClient#getBuild(String, String, long)
+     *
+     * @param organizationSlugId Organization associated with the build.
+     * @param pipelineSlugId Pipeline associated with the build.
+     * @param buildNumber The build number.
+     * @return Future completing with the build, if found.
+     */
+    public CompletableFuture<Optional<Build>> getBuild(final String organizationSlugId, final String pipelineSlugId, final long buildNumber) {
+        return getBuild(GetBuildFilters.newBuilder()
+            .withOrgIdSlug(organizationSlugId)
+            .withPipelineIdSlug(pipelineSlugId)
+            .withBuildNumber(buildNumber)
+        );
+    }
+
+    /**
+     * Retrieve a specific build based on the filter criteria.
+     * @see BuildkiteClient#getBuild(GetBuildFiltersBuilder)
+     *
+     * @param filters Filter criteria.
+     * @return Future completing with the build, if found.
+     */
+    public CompletableFuture<Optional<Build>> getBuild(final GetBuildFiltersBuilder filters) {
+        return getBuild(filters.build());
+    }
+
+    /**
+     * Retrieve a specific build based on the filter criteria.
+     * @see BuildkiteClient#getBuild(GetBuildFilters)
+     *
+     * @param filters Filter criteria.
+     * @return Future completing with the build, if found.
+     */
+    public CompletableFuture<Optional<Build>> getBuild(final GetBuildFilters filters) {
+        return executeRequestAsync(new GetBuildRequest(filters))
+            .thenApply(Optional::ofNullable);
+    }
+
+    /**
+     * Cancels the build if its state is either scheduled or running.
+     * @see BuildkiteClient#cancelBuild(String, String, long)
+     *
+     * @param organizationSlugId Organization associated with the build.
+     * @param pipelineSlugId Pipeline associated with the build.
+     * @param buildNumber The build number.
+     * @return Future completing with the updated Build instance.
+     */
+    public CompletableFuture<Build> cancelBuild(final String organizationSlugId, final String pipelineSlugId, final long buildNumber) {
+        return executeRequestAsync(new CancelBuildRequest(organizationSlugId, pipelineSlugId, buildNumber));
+    }
+
+    /**
+     * Creates a new build to be executed.
+     * @see BuildkiteClient#createBuild(CreateBuildOptions)
+     *
+     * @param createBuildOptions Defines the build to be created.
+     * @return Future completing with the created Build instance.
+     */
+    public CompletableFuture<Build> createBuild(final CreateBuildOptions createBuildOptions) {
+        return executeRequestAsync(new CreateBuildRequest(createBuildOptions));
+    }
+
+    /**
+     * Retries a build.
+     * @see BuildkiteClient#rebuildBuild(String, String, long)
+     *
+     * @param organizationSlugId Organization associated with the build.
+     * @param pipelineSlugId Pipeline associated with the build.
+     * @param buildNumber The build number.
+     * @return Future completing with the new Build instance.
+     */
+    public CompletableFuture<Build> rebuildBuild(final String organizationSlugId, final String pipelineSlugId, final long buildNumber) {
+        return executeRequestAsync(new RebuildBuildRequest(organizationSlugId, pipelineSlugId, buildNumber));
+    }
+
+    /**
+     * Retries a failed or timed_out job.
+     * @see BuildkiteClient#retryJob(RetryJobOptions)
+     *
+     * @param options Defines which Job to retry.
+     * @return Future completing with the updated job instance.
+     */
+    public CompletableFuture<Job> retryJob(final RetryJobOptions options) {
+        return executeRequestAsync(new RetryJobRequest(options));
+    }
+
+    /**
+     * Unblocks a build's "Block pipeline" job.
+     * @see BuildkiteClient#unblockJob(UnblockJobOptions)
+     *
+     * @param options Defines which Job to unblock.
+     * @return Future completing with the updated job instance.
+     */
+    public CompletableFuture<Job> unblockJob(final UnblockJobOptions options) {
+        return executeRequestAsync(new UnblockJobRequest(options));
+    }
+
+    /**
+     * Retrieve annotations for a given build.
+     * @see BuildkiteClient#getAnnotationsForBuild(AnnotationFilters)
+     *
+     * @param options Defines which build to retrieve annotations for.
+     * @return Future completing with the annotations associated with the build.
+     */
+    public CompletableFuture<AnnotationsForBuildResponse> getAnnotationsForBuild(final AnnotationFilters options) {
+        return executeRequestAsync(new GetAnnotationsForBuildRequest(options));
+    }
+
+    /**
+     * Retrieve the next page of results from the previously retrieved request.
+     * @see BuildkiteClient#nextPage(PageableResponse)
+     *
+     * @param <T> The parsed return object representing the result.
+     * @param response Previously retrieved result/response to retrieve the next page of results for.
+     * @return Future completing with the next page of results, or completing exceptionally with an
+     *         {@link InvalidPagingRequestException} if no next page exists to retrieve.
+     */
+    public <T> CompletableFuture<T> nextPage(final PageableResponse<T> response) {
+        // Validate
+        Objects.requireNonNull(response);
+        final PagingLinks pagingLinks = Objects.requireNonNull(response.getPagingLinks());
+        if (!pagingLinks.hasNextUrl()) {
+            final CompletableFuture<T> failed = new CompletableFuture<>();
+            failed.completeExceptionally(new InvalidPagingRequestException(
+                "Requested 'Next' page on response " + response.getClass().getSimpleName() + ", but no Next page is available."
+            ));
+            return failed;
+        }
+
+        // Execute and return.
+        return executeRequestAsync(BuildkiteClient.createPageRequest(response, pagingLinks.getNextUrl()));
+    }
+
+    /**
+     * Statistics about the underlying connection pool.
+     * @return Snapshot of the connection pool statistics, or empty if the underlying client does not pool connections.
+     */
+    public Optional<ConnectionPoolStats> getConnectionPoolStats() {
+        return httpClient.getConnectionPoolStats();
+    }
+
+    /**
+     * Metrics about the requests made by this client, including the remaining API rate limit budget.
+     * @return Live metrics about the requests made by this client.
+     */
+    public BuildkiteClientMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Close the client, releasing the underlying IO reactor and any pooled connections.
+     */
+    @Override
+    public void close() {
+        final List<CompletableFuture<Void>> abandonedDelays;
+        synchronized (this) {
+            closed = true;
+            abandonedDelays = new ArrayList<>(pendingDelays);
+            pendingDelays.clear();
+            if (delayExecutor != null) {
+                delayExecutor.shutdownNow();
+                delayExecutor = null;
+            }
+        }
+        // Fail requests waiting to be paced or retried, rather than leaving them to never complete.
+        abandonedDelays.forEach((delay) -> delay.completeExceptionally(closedException()));
+        if (ownedParseExecutor != null) {
+            ownedParseExecutor.shutdownNow();
+        }
+        httpClient.close();
+    }
+
+    /**
+     * Submit the given request without blocking, returning a future that completes with the parsed
+     * response, or completes exceptionally with the appropriate {@link BuildkiteException} if an error
+     * was returned from the API.
+     *
+     * This method scoped public to allow for user defined requests to be executed by the library
+     * as an extension point.
+     *
+     * @param <T> The parsed response object.
+     * @param request The request to execute.
+     * @return Future completing with the parsed response object, on the configured parse executor.
+     * @see ConfigurationBuilder#withAsyncParseExecutor(Executor)
+     */
+    public <T> CompletableFuture<T> executeRequestAsync(final Request<T> request) {
+        // Parse off the IO thread which completed the request, so large responses don't hold up other requests.
+        return submitRequest(request, 1)
+            .thenApplyAsync((httpResult) -> ApiResponseHandler.handleResult(request, httpResult, stringDeduplicator), parseExecutor);
+    }
+
+    private CompletableFuture<HttpResult> submitRequest(final Request<?> request, final int attempt) {
+        final RetryPolicy retryPolicy = configuration.getRetryPolicy();
+
+        // If we are close to exhausting the API rate limit, delay submitting the request without blocking.
+        final long delayNanos = rateLimitScheduler.reserve();
+        metrics.recordRequest(delayNanos);
+
+        return delay(delayNanos)
+            .thenCompose((ignored) -> httpClient.executeRequestAsync(request))
+            .handle((httpResult, error) -> {
+                if (error != null) {
+                    final Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+                    if (retryPolicy.shouldRetry(request, attempt, cause)) {
+                        return retryRequest(retryPolicy, request, attempt);
+                    }
+                    final CompletableFuture<HttpResult> failed = new CompletableFuture<>();
+                    failed.completeExceptionally(cause);
+                    return failed;
+                }
+
+                rateLimitScheduler.update(httpResult);
+                metrics.recordResult(httpResult);
+                if (retryPolicy.shouldRetry(request, attempt, httpResult)) {
+                    return retryRequest(retryPolicy, request, attempt);
+                }
+                return CompletableFuture.completedFuture(httpResult);
+            })
+            .thenCompose(Function.identity());
+    }
+
+    private CompletableFuture<HttpResult> retryRequest(final RetryPolicy retryPolicy, final Request<?> request, final int attempt) {
+        metrics.recordRetry();
+        return delay(retryPolicy.getDelayNanos(attempt))
+            .thenCompose((ignored) -> submitRequest(request, attempt + 1));
+    }
+
+    private CompletableFuture<Void> delay(final long delayNanos) {
+        if (closed) {
+            return closedDelay();
+        }
+        if (delayNanos <= 0) {
+            return CompletableFuture.completedFuture(null);
+        }
+        final CompletableFuture<Void> delay = new CompletableFuture<>();
+        synchronized (this) {
+            if (closed) {
+                return closedDelay();
+            }
+            pendingDelays.add(delay);
+            getDelayExecutor().schedule(() -> {
+                synchronized (this) {
+                    pendingDelays.remove(delay);
+                }
+                delay.complete(null);
+            }, delayNanos, TimeUnit.NANOSECONDS);
+        }
+        return delay;
+    }
+
+    private static CompletableFuture<Void> closedDelay() {
+        final CompletableFuture<Void> delay = new CompletableFuture<>();
+        delay.completeExceptionally(closedException());
+        return delay;
+    }
+
+    private static BuildkiteException closedException() {
+        return new BuildkiteException("BuildkiteAsyncClient has been closed.");
+    }
+
+    private ScheduledExecutorService getDelayExecutor() {
+        // Only called while holding this, and never once closed.
+        if (delayExecutor == null) {
+            delayExecutor = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("buildkite-rate-limit-delay"));
+        }
+        return delayExecutor;
+    }
+}
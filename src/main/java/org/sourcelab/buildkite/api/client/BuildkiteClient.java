@@ -17,15 +17,11 @@
 
 package org.sourcelab.buildkite.api.client;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
+import org.sourcelab.buildkite.api.client.cache.FinishedBuildCache;
 import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
-import org.sourcelab.buildkite.api.client.exception.InvalidAccessTokenException;
-import org.sourcelab.buildkite.api.client.exception.InvalidAllowedIpAddressException;
 import org.sourcelab.buildkite.api.client.exception.InvalidPagingRequestException;
-import org.sourcelab.buildkite.api.client.exception.InvalidRequestException;
-import org.sourcelab.buildkite.api.client.exception.NotFoundException;
 import org.sourcelab.buildkite.api.client.http.Client;
+import org.sourcelab.buildkite.api.client.http.ConnectionPoolStats;
 import org.sourcelab.buildkite.api.client.http.HttpResult;
 import org.sourcelab.buildkite.api.client.request.AnnotationFilters;
 import org.sourcelab.buildkite.api.client.request.BuildFilters;
@@ -64,12 +60,11 @@ import org.sourcelab.buildkite.api.client.request.UnblockJobOptions;
 import org.sourcelab.buildkite.api.client.request.UnblockJobOptionsBuilder;
 import org.sourcelab.buildkite.api.client.request.UnblockJobRequest;
 import org.sourcelab.buildkite.api.client.response.AccessTokenResponse;
+import org.sourcelab.buildkite.api.client.response.Annotation;
 import org.sourcelab.buildkite.api.client.response.AnnotationsForBuildResponse;
 import org.sourcelab.buildkite.api.client.response.Build;
 import org.sourcelab.buildkite.api.client.response.CurrentUserResponse;
 import org.sourcelab.buildkite.api.client.response.Emoji;
-import org.sourcelab.buildkite.api.client.response.Error;
-import org.sourcelab.buildkite.api.client.response.ErrorResponse;
 import org.sourcelab.buildkite.api.client.response.Job;
 import org.sourcelab.buildkite.api.client.response.ListBuildsResponse;
 import org.sourcelab.buildkite.api.client.response.ListOrganizationsResponse;
@@ -80,23 +75,37 @@ import org.sourcelab.buildkite.api.client.response.PageableResponse;
 import org.sourcelab.buildkite.api.client.response.PagingLinks;
 import org.sourcelab.buildkite.api.client.response.PingResponse;
 import org.sourcelab.buildkite.api.client.response.Pipeline;
-import org.sourcelab.buildkite.api.client.response.parser.ErrorResponseParser;
+import org.sourcelab.buildkite.api.client.response.parser.StringDeduplicator;
+import org.sourcelab.buildkite.api.client.util.DaemonThreadFactory;
 
-import java.io.IOException;
-import java.util.Collections;
+import java.io.Closeable;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.stream.Collectors;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
 
 /**
  * API Client for Buildkite's REST Api.
  *
  * See API Documentation: {@see <a href="https://buildkite.com/docs/apis/rest-api">https://buildkite.com/docs/apis/rest-api</a>}
+ *
+ * Instances hold open pooled connections to the API and should be re-used, and closed via {@link #close()}
+ * when no longer needed.
+ *
+ * Instances are safe for concurrent use, a single client (and its connection pool, rate limit budget and
+ * metrics) may be shared across many threads.  Requests and responses are immutable, so multiple threads
+ * may page from the same response at once, see {@link #nextPage(PageableResponse)}.
+ *
+ * Requests are paced using the rate limit budget reported by the API, see
+ * {@link ConfigurationBuilder#withRateLimitPacing(boolean)}, and a 429 response is surfaced as a
+ * {@link org.sourcelab.buildkite.api.client.exception.RateLimitExceededException}.  Failed requests are
+ * retried as defined by the configured {@link RetryPolicy}.
  */
-public class BuildkiteClient {
-    private static final Logger logger = LoggerFactory.getLogger(BuildkiteClient.class);
-
+public class BuildkiteClient implements Closeable {
     /**
      * User provided configuration.
      */
@@ -107,6 +116,37 @@ public class BuildkiteClient {
      */
     private final Client httpClient;
 
+    /**
+     * Paces requests to stay within the API rate limit.
+     */
+    private final RateLimitScheduler rateLimitScheduler;
+
+    /**
+     * Metrics about requests made by this client.
+     */
+    private final BuildkiteClientMetrics metrics;
+
+    /**
+     * Canonicalizes repeating values in parsed responses, or null if disabled.
+     */
+    private final StringDeduplicator stringDeduplicator;
+
+    /**
+     * Shares identical concurrent GET requests, or null if disabled.
+     */
+    private final RequestCoalescer requestCoalescer;
+
+    /**
+     * Serves finished builds without a request to the API, or null if disabled.
+     */
+    private final FinishedBuildCache finishedBuildCache;
+
+    /**
+     * Prefetches the next page for streams created by this client.  Bounded to the available processors,
+     * idle threads time out so no threads are held while no streams are being consumed.
+     */
+    private final ThreadPoolExecutor pagePrefetchExecutor;
+
     /**
      * Constructor.
      * @param configuration The configuration for the client.
@@ -114,6 +154,24 @@ public class BuildkiteClient {
     public BuildkiteClient(final Configuration configuration) {
         this.configuration = configuration;
         this.httpClient = configuration.getClientFactory().createClient(configuration);
+        this.rateLimitScheduler = new RateLimitScheduler(configuration);
+        this.metrics = new BuildkiteClientMetrics(rateLimitScheduler, httpClient.getResponseCache());
+        this.stringDeduplicator = configuration.isStringDeduplicationEnabled()
+            ? new StringDeduplicator(configuration.getStringDeduplicationMaxEntries())
+            : null;
+        this.requestCoalescer = configuration.isRequestCoalescingEnabled() ? new RequestCoalescer(metrics) : null;
+        this.finishedBuildCache = configuration.isFinishedBuildCacheEnabled()
+            ? new FinishedBuildCache(
+                configuration.getFinishedBuildCacheMaxBytes(),
+                configuration.getFinishedBuildCacheDirectory(),
+                configuration.getFinishedBuildCacheMaxDiskBytes())
+            : null;
+        final int prefetchThreads = Runtime.getRuntime().availableProcessors();
+        this.pagePrefetchExecutor = new ThreadPoolExecutor(
+            prefetchThreads, prefetchThreads, 30, TimeUnit.SECONDS,
+            new LinkedBlockingQueue<>(), new DaemonThreadFactory("buildkite-page-prefetch")
+        );
+        this.pagePrefetchExecutor.allowCoreThreadTimeOut(true);
     }
 
     /**
@@ -366,6 +424,9 @@ public class BuildkiteClient {
     /**
      * Retrieve a specific build based on the filter criteria.
      *
+     * When enabled via {@link ConfigurationBuilder#withFinishedBuildCacheMaxBytes(long)}, finished builds are
+     * served from the finished build cache without a request to the API.
+     *
      * @see <a href="https://buildkite.com/docs/apis/rest-api/builds#get-a-build">https://buildkite.com/docs/apis/rest-api/builds#get-a-build</a>
      *
      * @param filters Filter criteria.
@@ -373,8 +434,15 @@ public class BuildkiteClient {
      * @throws BuildkiteException if API returns an error response.
      */
     public Optional<Build> getBuild(final GetBuildFilters filters) {
-        final Build build = executeRequest(new GetBuildRequest(filters));
-        return Optional.ofNullable(build);
+        if (finishedBuildCache == null) {
+            return Optional.ofNullable(executeRequest(new GetBuildRequest(filters)));
+        }
+        final Optional<Build> cached = finishedBuildCache.get(filters);
+        if (cached.isPresent()) {
+            metrics.recordFinishedBuildCacheHit();
+            return cached;
+        }
+        return Optional.ofNullable(executeRequest(finishedBuildCache.newRequest(filters)));
     }
 
     /**
@@ -458,7 +526,12 @@ public class BuildkiteClient {
      * @throws BuildkiteException if API returns an error response.
      */
     public Job retryJob(final RetryJobOptions options) {
-        return executeRequest(new RetryJobRequest(options));
+        final Job job = executeRequest(new RetryJobRequest(options));
+        if (finishedBuildCache != null) {
+            // The retried job's build is no longer finished.
+            finishedBuildCache.invalidate(options.getOrganizationSlug(), options.getPipelineSlug(), options.getBuildNumber());
+        }
+        return job;
     }
 
     /**
@@ -545,18 +618,8 @@ public class BuildkiteClient {
             );
         }
 
-        // Update request with appropriate page options.
-        final PageOptions pageOptions;
-        try {
-            pageOptions = PageOptions.fromUrl(pagingLinks.getNextUrl());
-        } catch (final IllegalArgumentException ex) {
-            throw new InvalidPagingRequestException("Unable to parse URL for paging information", ex);
-        }
-        final PageableRequest<T> request = response.getOriginalRequest();
-        request.updatePageOptions(pageOptions);
-
         // Execute and return.
-        return executeRequest(request);
+        return executeRequest(createPageRequest(response, pagingLinks.getNextUrl()));
     }
 
     /**
@@ -578,18 +641,8 @@ public class BuildkiteClient {
             );
         }
 
-        // Update request with appropriate page options.
-        final PageOptions pageOptions;
-        try {
-            pageOptions = PageOptions.fromUrl(pagingLinks.getNextUrl());
-        } catch (final IllegalArgumentException ex) {
-            throw new InvalidPagingRequestException("Unable to parse URL for paging information", ex);
-        }
-        final PageableRequest<T> request = response.getOriginalRequest();
-        request.updatePageOptions(pageOptions);
-
         // Execute and return.
-        return executeRequest(request);
+        return executeRequest(createPageRequest(response, pagingLinks.getPrevUrl()));
     }
 
     /**
@@ -611,18 +664,8 @@ public class BuildkiteClient {
             );
         }
 
-        // Update request with appropriate page options.
-        final PageOptions pageOptions;
-        try {
-            pageOptions = PageOptions.fromUrl(pagingLinks.getNextUrl());
-        } catch (final IllegalArgumentException ex) {
-            throw new InvalidPagingRequestException("Unable to parse URL for paging information", ex);
-        }
-        final PageableRequest<T> request = response.getOriginalRequest();
-        request.updatePageOptions(pageOptions);
-
         // Execute and return.
-        return executeRequest(request);
+        return executeRequest(createPageRequest(response, pagingLinks.getFirstUrl()));
     }
 
     /**
@@ -644,18 +687,120 @@ public class BuildkiteClient {
             );
         }
 
-        // Update request with appropriate page options.
+        // Execute and return.
+        return executeRequest(createPageRequest(response, pagingLinks.getLastUrl()));
+    }
+
+    /**
+     * Create a request for the page of results at the given paging link, leaving the original request untouched.
+     *
+     * @param <T> The parsed return object representing the result.
+     * @param response Previously retrieved result/response.
+     * @param pageUrl Paging link to the page of results to request.
+     * @return New request for the given page of results.
+     * @throws InvalidPagingRequestException if the paging link could not be parsed.
+     */
+    static <T> PageableRequest<T> createPageRequest(final PageableResponse<T> response, final String pageUrl) {
         final PageOptions pageOptions;
         try {
-            pageOptions = PageOptions.fromUrl(pagingLinks.getNextUrl());
+            pageOptions = PageOptions.fromUrl(pageUrl);
         } catch (final IllegalArgumentException ex) {
             throw new InvalidPagingRequestException("Unable to parse URL for paging information", ex);
         }
-        final PageableRequest<T> request = response.getOriginalRequest();
-        request.updatePageOptions(pageOptions);
+        return response.getOriginalRequest().withPageOptions(pageOptions);
+    }
 
-        // Execute and return.
-        return executeRequest(request);
+    /**
+     * Lazily stream all builds matching the given filters, across all pages.
+     *
+     * Pages are retrieved on demand as the stream is consumed, and the following page is prefetched in the background
+     * while the current page is processed. Streams which are not fully consumed should be closed, for example using
+     * try-with-resources, to stop any outstanding prefetch.
+     *
+     * @param filters Search criteria.
+     * @return Lazy stream of all matching builds.
+     * @throws BuildkiteException if API returns an error response.
+     */
+    public Stream<Build> stream(final BuildFilters filters) {
+        return PagedResultsSpliterator.stream(this, new ListBuildsRequest(filters), ListBuildsResponse::getBuilds);
+    }
+
+    /**
+     * Lazily stream all pipelines matching the given filters, across all pages.
+     *
+     * Pages are retrieved on demand as the stream is consumed, and the following page is prefetched in the background
+     * while the current page is processed. Streams which are not fully consumed should be closed, for example using
+     * try-with-resources, to stop any outstanding prefetch.
+     *
+     * @param filters Search criteria.
+     * @return Lazy stream of all matching pipelines.
+     * @throws BuildkiteException if API returns an error response.
+     */
+    public Stream<Pipeline> stream(final PipelineFilters filters) {
+        return PagedResultsSpliterator.stream(this, new ListPipelinesRequest(filters), ListPipelinesResponse::getPipelines);
+    }
+
+    /**
+     * Lazily stream all organizations matching the given filters, across all pages.
+     *
+     * Pages are retrieved on demand as the stream is consumed, and the following page is prefetched in the background
+     * while the current page is processed. Streams which are not fully consumed should be closed, for example using
+     * try-with-resources, to stop any outstanding prefetch.
+     *
+     * @param filters Search criteria.
+     * @return Lazy stream of all matching organizations.
+     * @throws BuildkiteException if API returns an error response.
+     */
+    public Stream<Organization> stream(final OrganizationFilters filters) {
+        return PagedResultsSpliterator.stream(this, new ListOrganizationsRequest(filters), ListOrganizationsResponse::getOrganizations);
+    }
+
+    /**
+     * Lazily stream all annotations for a given build, across all pages.
+     *
+     * Pages are retrieved on demand as the stream is consumed, and the following page is prefetched in the background
+     * while the current page is processed. Streams which are not fully consumed should be closed, for example using
+     * try-with-resources, to stop any outstanding prefetch.
+     *
+     * @param filters Defines which build to retrieve annotations for.
+     * @return Lazy stream of all matching annotations.
+     * @throws BuildkiteException if API returns an error response.
+     */
+    public Stream<Annotation> stream(final AnnotationFilters filters) {
+        return PagedResultsSpliterator.stream(this, new GetAnnotationsForBuildRequest(filters), AnnotationsForBuildResponse::getAnnotations);
+    }
+
+    /**
+     * Statistics about the underlying connection pool.
+     * @return Snapshot of the connection pool statistics, or empty if the underlying client does not pool connections.
+     */
+    public Optional<ConnectionPoolStats> getConnectionPoolStats() {
+        return httpClient.getConnectionPoolStats();
+    }
+
+    /**
+     * Metrics about the requests made by this client, including the remaining API rate limit budget.
+     * @return Live metrics about the requests made by this client.
+     */
+    public BuildkiteClientMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Close the client, releasing any pooled connections or other resources held by the underlying http client.
+     */
+    @Override
+    public void close() {
+        pagePrefetchExecutor.shutdownNow();
+        httpClient.close();
+    }
+
+    /**
+     * Executor used by streams created by this client to prefetch the next page.
+     * @return The client owned prefetch executor.
+     */
+    ExecutorService getPagePrefetchExecutor() {
+        return pagePrefetchExecutor;
     }
 
     /**
@@ -671,70 +816,56 @@ public class BuildkiteClient {
      * @throws BuildkiteException if API returns an error response.
      */
     public <T> T executeRequest(final Request<T> request) throws BuildkiteException {
-        final HttpResult result = httpClient.executeRequest(request);
-
-        // Debug logging of the result.
-        logger.trace("HttpResult: {}", result);
-
-        // Handle Errors based on HttpCode.
-        if (result.getStatus() != 200 && result.getStatus() != 201 && result.getStatus() != 204) {
-            handleError(result);
+        if (requestCoalescer != null) {
+            return requestCoalescer.execute(request, () -> send(request));
+        }
+        return send(request);
+    }
+
+    private <T> T send(final Request<T> request) {
+        final RetryPolicy retryPolicy = configuration.getRetryPolicy();
+        int attempt = 1;
+        while (true) {
+            // Wait for our turn if we are close to exhausting the API rate limit.
+            awaitRateLimit();
+
+            final HttpResult result;
+            try {
+                result = httpClient.executeRequest(request);
+            } catch (final RuntimeException exception) {
+                if (!retryPolicy.shouldRetry(request, attempt, exception)) {
+                    throw exception;
+                }
+                awaitRetry(retryPolicy, attempt++);
+                continue;
+            }
+            rateLimitScheduler.update(result);
+            metrics.recordResult(result);
+
+            if (retryPolicy.shouldRetry(request, attempt, result)) {
+                awaitRetry(retryPolicy, attempt++);
+                continue;
+            }
+            return ApiResponseHandler.handleResult(request, result, stringDeduplicator);
         }
-
-        // Success response code, parse response into object and return.
-        return request.parseResponse(result);
     }
 
-    /**
-     * Handle error responses from the API by throwing the appropriate exception.
-     * @param errorResult Error response from REST API.
-     * @throws BuildkiteException relating to specific underlying API error.
-     */
-    private void handleError(final HttpResult errorResult) throws BuildkiteException {
-        // Attempt to parse error response.
-        String errorMessage = null;
-        List<Error> errors = Collections.emptyList();
+    private void awaitRateLimit() {
         try {
-            final ErrorResponse errorResponse = new ErrorResponseParser().parseResponse(errorResult);
-            errorMessage = errorResponse.getMessage();
-            errors = errorResponse.getErrors();
-        } catch (final IOException e) {
-            errorMessage = errorResult.getContent();
-        }
-        if (errorMessage != null && errorMessage.trim().isEmpty()) {
-            errorMessage = null;
+            metrics.recordRequest(rateLimitScheduler.acquire());
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new BuildkiteException("Interrupted while waiting for API rate limit budget.", exception);
         }
+    }
 
-        switch (errorResult.getStatus()) {
-            case 401:
-                throw new InvalidAccessTokenException(
-                    errorMessage == null ? "Invalid Access Token" : errorMessage
-                );
-            case 403:
-                throw new InvalidAllowedIpAddressException(
-                    errorMessage == null
-                    ?
-                        "API requested from an IP address not specifically allowed by your AccessToken. "
-                        + "Check the 'Allowed IP Addresses' field on your Access Token"
-                    : errorMessage
-                );
-            case 404:
-                throw new NotFoundException(
-                    errorMessage == null
-                        ?
-                        "The URL or Resource Request could not be found"
-                        : errorMessage
-                );
-            case 422:
-                String validationErrorMessage = (( errorMessage != null) ? errorMessage : "The submitted request was invalid. ");
-                validationErrorMessage += "\n" + errors.stream()
-                    .map((error) -> error.getField() + ": " + error.getCode())
-                    .collect(Collectors.joining("\n"));
-                throw new InvalidRequestException(validationErrorMessage, errors);
-            default:
-                throw new BuildkiteException(
-                    errorMessage == null ? "Unknown/Unhandled Error HttpCode: " + errorResult.getStatus() : errorMessage
-                );
+    private void awaitRetry(final RetryPolicy retryPolicy, final int attempt) {
+        metrics.recordRetry();
+        try {
+            TimeUnit.NANOSECONDS.sleep(retryPolicy.getDelayNanos(attempt));
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new BuildkiteException("Interrupted while waiting to retry request.", exception);
         }
     }
 }
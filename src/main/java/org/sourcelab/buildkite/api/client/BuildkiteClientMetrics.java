@@ -0,0 +1,178 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client;
+
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.http.ResponseCache;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Live metrics about the requests made by a {@link BuildkiteClient} or {@link BuildkiteAsyncClient} instance.
+ * Values are updated as requests are made, and are safe to read from any thread.
+ */
+public final class BuildkiteClientMetrics {
+    private final LongAdder requestCount = new LongAdder();
+    private final LongAdder throttledRequestCount = new LongAdder();
+    private final LongAdder throttledNanos = new LongAdder();
+    private final LongAdder rateLimitedResponseCount = new LongAdder();
+    private final LongAdder retryCount = new LongAdder();
+    private final LongAdder coalescedRequestCount = new LongAdder();
+    private final LongAdder finishedBuildCacheHitCount = new LongAdder();
+
+    private final RateLimitScheduler rateLimitScheduler;
+    private final Optional<ResponseCache> responseCache;
+
+    /**
+     * Constructor.
+     * @param rateLimitScheduler The client's rate limit scheduler, which tracks the remaining request budget.
+     * @param responseCache The client's response cache, if enabled.
+     */
+    BuildkiteClientMetrics(final RateLimitScheduler rateLimitScheduler, final Optional<ResponseCache> responseCache) {
+        this.rateLimitScheduler = Objects.requireNonNull(rateLimitScheduler);
+        this.responseCache = Objects.requireNonNull(responseCache);
+    }
+
+    /**
+     * Total number of requests submitted.
+     * @return Total number of requests submitted.
+     */
+    public long getRequestCount() {
+        return requestCount.sum();
+    }
+
+    /**
+     * Number of requests which were held back to stay within the API rate limit.
+     * @return Number of requests which were held back to stay within the API rate limit.
+     */
+    public long getThrottledRequestCount() {
+        return throttledRequestCount.sum();
+    }
+
+    /**
+     * Combined time requests have been held back to stay within the API rate limit.
+     * @return Combined time requests have been held back to stay within the API rate limit.
+     */
+    public Duration getThrottledTime() {
+        return Duration.ofNanos(throttledNanos.sum());
+    }
+
+    /**
+     * Number of requests rejected by the API with 429 Too Many Requests.
+     * @return Number of requests rejected by the API with 429 Too Many Requests.
+     */
+    public long getRateLimitedResponseCount() {
+        return rateLimitedResponseCount.sum();
+    }
+
+    /**
+     * Number of times a failed request has been retried, as defined by the configured {@link RetryPolicy}.
+     * @return Number of times a failed request has been retried.
+     */
+    public long getRetryCount() {
+        return retryCount.sum();
+    }
+
+    /**
+     * Number of requests remaining in the current API rate limit window, as last reported by the API.
+     * @return Remaining request budget, or empty if not yet known or the rate limit window has since reset.
+     */
+    public OptionalInt getRateLimitRemaining() {
+        return rateLimitScheduler.getRemaining();
+    }
+
+    /**
+     * Number of requests allowed per API rate limit window, as last reported by the API.
+     * @return Request budget per window, or empty if not yet known.
+     */
+    public OptionalInt getRateLimitLimit() {
+        return rateLimitScheduler.getLimit();
+    }
+
+    /**
+     * Number of requests answered with 304 Not Modified and served from the response cache.
+     * @return Number of requests served from the response cache, 0 if the response cache is disabled.
+     */
+    public long getResponseCacheHitCount() {
+        return responseCache.map(ResponseCache::getNotModifiedCount).orElse(0L);
+    }
+
+    /**
+     * Number of GET requests which shared the response of an identical request already in flight, rather than
+     * being sent, see {@link ConfigurationBuilder#withRequestCoalescing(boolean)}.
+     * @return Number of coalesced requests, 0 if request coalescing is disabled.
+     */
+    public long getCoalescedRequestCount() {
+        return coalescedRequestCount.sum();
+    }
+
+    /**
+     * Number of finished builds served from the finished build cache without a request to the API, see
+     * {@link ConfigurationBuilder#withFinishedBuildCacheMaxBytes(long)}.
+     * @return Number of finished builds served from the cache, 0 if the finished build cache is disabled.
+     */
+    public long getFinishedBuildCacheHitCount() {
+        return finishedBuildCacheHitCount.sum();
+    }
+
+    void recordRequest(final long throttledNanos) {
+        requestCount.increment();
+        if (throttledNanos > 0) {
+            throttledRequestCount.increment();
+            this.throttledNanos.add(throttledNanos);
+        }
+    }
+
+    void recordResult(final HttpResult result) {
+        if (result.getStatus() == 429) {
+            rateLimitedResponseCount.increment();
+        }
+    }
+
+    void recordRetry() {
+        retryCount.increment();
+    }
+
+    void recordCoalesced() {
+        coalescedRequestCount.increment();
+    }
+
+    void recordFinishedBuildCacheHit() {
+        finishedBuildCacheHitCount.increment();
+    }
+
+    @Override
+    public String toString() {
+        return "BuildkiteClientMetrics{"
+            + "requestCount=" + getRequestCount()
+            + ", throttledRequestCount=" + getThrottledRequestCount()
+            + ", throttledTime=" + getThrottledTime()
+            + ", rateLimitedResponseCount=" + getRateLimitedResponseCount()
+            + ", retryCount=" + getRetryCount()
+            + ", rateLimitRemaining=" + getRateLimitRemaining()
+            + ", rateLimitLimit=" + getRateLimitLimit()
+            + ", responseCacheHitCount=" + getResponseCacheHitCount()
+            + ", coalescedRequestCount=" + getCoalescedRequestCount()
+            + ", finishedBuildCacheHitCount=" + getFinishedBuildCacheHitCount()
+            + '}';
+    }
+}
@@ -17,8 +17,13 @@
 
 package org.sourcelab.buildkite.api.client;
 
+import org.sourcelab.buildkite.api.client.http.AsyncClientFactory;
 import org.sourcelab.buildkite.api.client.http.ClientFactory;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.Executor;
+
 /**
  * User supplied Configuration of the API Client.
  */
@@ -26,6 +31,38 @@ public class Configuration {
     private final String apiToken;
     private final String apiUrl;
     private final ClientFactory clientFactory;
+    private final AsyncClientFactory asyncClientFactory;
+
+    // Connection Pool settings
+    private final int maxConnectionsTotal;
+    private final int maxConnectionsPerRoute;
+    private final Duration connectionIdleTimeout;
+    private final Duration connectionTimeToLive;
+
+    // Response Cache settings
+    private final int responseCacheMaxEntries;
+    private final long responseCacheMaxBytes;
+
+    // Rate limit settings
+    private final boolean rateLimitPacingEnabled;
+    private final int rateLimitPacingThreshold;
+
+    // Retry settings
+    private final RetryPolicy retryPolicy;
+
+    // String deduplication settings
+    private final int stringDeduplicationMaxEntries;
+
+    // Request coalescing settings
+    private final boolean requestCoalescingEnabled;
+
+    // Finished build cache settings
+    private final long finishedBuildCacheMaxBytes;
+    private final Path finishedBuildCacheDirectory;
+    private final long finishedBuildCacheMaxDiskBytes;
+
+    // Async client settings
+    private final Executor asyncParseExecutor;
 
     /**
      * Create a new Builder for creating Configuration instances.
@@ -41,11 +78,63 @@ public class Configuration {
      * @param apiToken Set the configured Api Token.
      * @param apiUrl Set the API Url.
      * @param clientFactory Set the client factory.
+     * @param asyncClientFactory Set the async client factory.
+     * @param maxConnectionsTotal Maximum number of pooled connections across all routes.
+     * @param maxConnectionsPerRoute Maximum number of pooled connections per route.
+     * @param connectionIdleTimeout How long a pooled connection may sit idle before being evicted.
+     * @param connectionTimeToLive Maximum lifetime of a pooled connection.
+     * @param responseCacheMaxEntries Maximum number of responses held in the response cache, 0 disables the cache.
+     * @param responseCacheMaxBytes Maximum combined size in bytes of responses held in the response cache.
+     * @param rateLimitPacingEnabled Should requests be paced to stay within the API rate limit.
+     * @param rateLimitPacingThreshold Remaining rate limit budget at or below which requests are paced.
+     * @param retryPolicy Defines if and how failed requests are retried.
+     * @param stringDeduplicationMaxEntries Maximum number of distinct repeating values canonicalized, 0 disables.
+     * @param requestCoalescingEnabled Should identical concurrent GET requests share a single request.
+     * @param finishedBuildCacheMaxBytes Maximum combined size in bytes of finished builds cached in memory, 0 disables.
+     * @param finishedBuildCacheDirectory Directory finished builds are additionally cached in, or null for none.
+     * @param finishedBuildCacheMaxDiskBytes Maximum combined size in bytes of finished builds cached on disk.
+     * @param asyncParseExecutor Executor parsing responses for the async client, or null for a pool owned by the client.
      */
-    protected Configuration(final String apiToken, final String apiUrl, final ClientFactory clientFactory) {
+    protected Configuration(
+        final String apiToken,
+        final String apiUrl,
+        final ClientFactory clientFactory,
+        final AsyncClientFactory asyncClientFactory,
+        final int maxConnectionsTotal,
+        final int maxConnectionsPerRoute,
+        final Duration connectionIdleTimeout,
+        final Duration connectionTimeToLive,
+        final int responseCacheMaxEntries,
+        final long responseCacheMaxBytes,
+        final boolean rateLimitPacingEnabled,
+        final int rateLimitPacingThreshold,
+        final RetryPolicy retryPolicy,
+        final int stringDeduplicationMaxEntries,
+        final boolean requestCoalescingEnabled,
+        final long finishedBuildCacheMaxBytes,
+        final Path finishedBuildCacheDirectory,
+        final long finishedBuildCacheMaxDiskBytes,
+        final Executor asyncParseExecutor
+    ) {
         this.apiToken = apiToken;
         this.apiUrl = apiUrl;
         this.clientFactory = clientFactory;
+        this.asyncClientFactory = asyncClientFactory;
+        this.maxConnectionsTotal = maxConnectionsTotal;
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        this.connectionIdleTimeout = connectionIdleTimeout;
+        this.connectionTimeToLive = connectionTimeToLive;
+        this.responseCacheMaxEntries = responseCacheMaxEntries;
+        this.responseCacheMaxBytes = responseCacheMaxBytes;
+        this.rateLimitPacingEnabled = rateLimitPacingEnabled;
+        this.rateLimitPacingThreshold = rateLimitPacingThreshold;
+        this.retryPolicy = retryPolicy;
+        this.stringDeduplicationMaxEntries = stringDeduplicationMaxEntries;
+        this.requestCoalescingEnabled = requestCoalescingEnabled;
+        this.finishedBuildCacheMaxBytes = finishedBuildCacheMaxBytes;
+        this.finishedBuildCacheDirectory = finishedBuildCacheDirectory;
+        this.finishedBuildCacheMaxDiskBytes = finishedBuildCacheMaxDiskBytes;
+        this.asyncParseExecutor = asyncParseExecutor;
     }
 
     /**
@@ -72,12 +161,180 @@ public class Configuration {
         return clientFactory;
     }
 
+    /**
+     * The configured Async Client factory instance.
+     * @return The configured async client factory instance.
+     */
+    public AsyncClientFactory getAsyncClientFactory() {
+        return asyncClientFactory;
+    }
+
+    /**
+     * Maximum number of pooled connections held open across all routes.
+     * @return Maximum number of pooled connections held open across all routes.
+     */
+    public int getMaxConnectionsTotal() {
+        return maxConnectionsTotal;
+    }
+
+    /**
+     * Maximum number of pooled connections held open per route.
+     * @return Maximum number of pooled connections held open per route.
+     */
+    public int getMaxConnectionsPerRoute() {
+        return maxConnectionsPerRoute;
+    }
+
+    /**
+     * How long a pooled connection may sit idle before it is evicted from the pool.
+     * @return How long a pooled connection may sit idle before it is evicted from the pool.
+     */
+    public Duration getConnectionIdleTimeout() {
+        return connectionIdleTimeout;
+    }
+
+    /**
+     * Maximum lifetime of a pooled connection, after which it will be closed and replaced.
+     * @return Maximum lifetime of a pooled connection.
+     */
+    public Duration getConnectionTimeToLive() {
+        return connectionTimeToLive;
+    }
+
+    /**
+     * Maximum number of GET responses held in the conditional request response cache.
+     * @return Maximum number of cached responses, 0 if the response cache is disabled.
+     */
+    public int getResponseCacheMaxEntries() {
+        return responseCacheMaxEntries;
+    }
+
+    /**
+     * Maximum combined size, in bytes, of the response bodies held in the conditional request response cache.
+     * @return Maximum combined size, in bytes, of cached response bodies.
+     */
+    public long getResponseCacheMaxBytes() {
+        return responseCacheMaxBytes;
+    }
+
+    /**
+     * Is the conditional request response cache enabled.
+     * @return true if responses should be cached, false if not.
+     */
+    public boolean isResponseCacheEnabled() {
+        return responseCacheMaxEntries > 0;
+    }
+
+    /**
+     * Should outgoing requests be paced to stay within the API rate limit reported by the API.
+     * @return true if requests should be paced, false if not.
+     */
+    public boolean isRateLimitPacingEnabled() {
+        return rateLimitPacingEnabled;
+    }
+
+    /**
+     * Remaining rate limit budget at or below which outgoing requests are paced.
+     * @return Remaining rate limit budget at or below which outgoing requests are paced.
+     */
+    public int getRateLimitPacingThreshold() {
+        return rateLimitPacingThreshold;
+    }
+
+    /**
+     * Defines if and how failed requests are retried.
+     * @return Defines if and how failed requests are retried.
+     */
+    public RetryPolicy getRetryPolicy() {
+        return retryPolicy;
+    }
+
+    /**
+     * Maximum number of distinct repeating values canonicalized when parsing responses.
+     * @return Maximum number of distinct values canonicalized, 0 if string deduplication is disabled.
+     */
+    public int getStringDeduplicationMaxEntries() {
+        return stringDeduplicationMaxEntries;
+    }
+
+    /**
+     * Are repeating values canonicalized when parsing responses.
+     * @return true if repeating values are canonicalized, false if not.
+     */
+    public boolean isStringDeduplicationEnabled() {
+        return stringDeduplicationMaxEntries > 0;
+    }
+
+    /**
+     * Do identical GET requests made concurrently share a single request and parsed response.
+     * @return true if identical concurrent GET requests are coalesced, false if not.
+     */
+    public boolean isRequestCoalescingEnabled() {
+        return requestCoalescingEnabled;
+    }
+
+    /**
+     * Maximum combined size, in bytes, of the responses finished builds held in memory were parsed from.
+     * @return Maximum size of finished builds cached in memory, 0 if the finished build cache is disabled.
+     */
+    public long getFinishedBuildCacheMaxBytes() {
+        return finishedBuildCacheMaxBytes;
+    }
+
+    /**
+     * Directory finished builds are additionally cached in, surviving eviction from memory and restarts.
+     * @return Directory finished builds are cached in, or null if only cached in memory.
+     */
+    public Path getFinishedBuildCacheDirectory() {
+        return finishedBuildCacheDirectory;
+    }
+
+    /**
+     * Maximum combined size, in bytes, of finished builds cached on disk.
+     * @return Maximum size of finished builds cached on disk.
+     */
+    public long getFinishedBuildCacheMaxDiskBytes() {
+        return finishedBuildCacheMaxDiskBytes;
+    }
+
+    /**
+     * Executor on which {@link BuildkiteAsyncClient} parses responses, keeping parsing off the IO threads.
+     * @return Executor parsing responses, or null if each async client creates and owns its own pool.
+     */
+    public Executor getAsyncParseExecutor() {
+        return asyncParseExecutor;
+    }
+
+    /**
+     * Are finished builds cached, serving repeat requests for them without a request to the API.
+     * @return true if finished builds are cached, false if not.
+     */
+    public boolean isFinishedBuildCacheEnabled() {
+        return finishedBuildCacheMaxBytes > 0;
+    }
+
     @Override
     public String toString() {
         return "Configuration{"
                 + "apiToken='XXXXXXX'"
                 + ", apiUrl='" + apiUrl + '\''
                 + ", clientFactory=" + clientFactory
+                + ", asyncClientFactory=" + asyncClientFactory
+                + ", maxConnectionsTotal=" + maxConnectionsTotal
+                + ", maxConnectionsPerRoute=" + maxConnectionsPerRoute
+                + ", connectionIdleTimeout=" + connectionIdleTimeout
+                + ", connectionTimeToLive=" + connectionTimeToLive
+                + ", responseCacheMaxEntries=" + responseCacheMaxEntries
+                + ", responseCacheMaxBytes=" + responseCacheMaxBytes
+                + ", rateLimitPacingEnabled=" + rateLimitPacingEnabled
+                + ", rateLimitPacingThreshold=" + rateLimitPacingThreshold
+                + ", retryPolicy=" + retryPolicy
+                + ", stringDeduplicationMaxEntries=" + stringDeduplicationMaxEntries
+                + ", requestCoalescingEnabled=" + requestCoalescingEnabled
+                + ", finishedBuildCacheMaxBytes=" + finishedBuildCacheMaxBytes
+                + ", finishedBuildCacheDirectory=" + finishedBuildCacheDirectory
+                + ", finishedBuildCacheMaxDiskBytes=" + finishedBuildCacheMaxDiskBytes
+                + ", asyncParseExecutor=" + asyncParseExecutor
                 + '}';
     }
 }
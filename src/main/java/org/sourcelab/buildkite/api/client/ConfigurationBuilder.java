@@ -18,9 +18,16 @@
 package org.sourcelab.buildkite.api.client;
 
 import org.sourcelab.buildkite.api.client.exception.BuilderValidationException;
+import org.sourcelab.buildkite.api.client.http.AsyncClientFactory;
 import org.sourcelab.buildkite.api.client.http.ClientFactory;
+import org.sourcelab.buildkite.api.client.http.DefaultAsyncClientFactory;
 import org.sourcelab.buildkite.api.client.http.DefaultClientFactory;
 
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Executor;
+
 /**
  * Configuration builder for {@see Configuration}.
  */
@@ -28,6 +35,38 @@ public final class ConfigurationBuilder {
     private String apiToken = null;
     private String apiUrl = "https://api.buildkite.com";
     private ClientFactory clientFactory = new DefaultClientFactory();
+    private AsyncClientFactory asyncClientFactory = new DefaultAsyncClientFactory();
+
+    // Connection Pool settings
+    private int maxConnectionsTotal = 20;
+    private int maxConnectionsPerRoute = 20;
+    private Duration connectionIdleTimeout = Duration.ofSeconds(30);
+    private Duration connectionTimeToLive = Duration.ofMinutes(5);
+
+    // Response Cache settings, disabled by default.
+    private int responseCacheMaxEntries = 0;
+    private long responseCacheMaxBytes = 10 * 1024 * 1024;
+
+    // Rate limit settings
+    private boolean rateLimitPacingEnabled = true;
+    private int rateLimitPacingThreshold = 20;
+
+    // Retry settings
+    private RetryPolicy retryPolicy = RetryPolicy.newBuilder().build();
+
+    // String deduplication settings, disabled by default.
+    private int stringDeduplicationMaxEntries = 0;
+
+    // Request coalescing settings, disabled by default.
+    private boolean requestCoalescingEnabled = false;
+
+    // Finished build cache settings
+    private long finishedBuildCacheMaxBytes = 0;
+    private Path finishedBuildCacheDirectory = null;
+    private long finishedBuildCacheMaxDiskBytes = 256L * 1024 * 1024;
+
+    // Async client settings
+    private Executor asyncParseExecutor = null;
 
     /**
      * Constructor.
@@ -55,6 +94,210 @@ public final class ConfigurationBuilder {
         return this;
     }
 
+    /**
+     * Override the underlying non-blocking http client library used by {@link BuildkiteAsyncClient}.
+     * @param asyncClientFactory Supply your own Async Client Factory implementation.
+     * @return self.
+     */
+    public ConfigurationBuilder withAsyncClientFactory(final AsyncClientFactory asyncClientFactory) {
+        this.asyncClientFactory = asyncClientFactory;
+        return this;
+    }
+
+    /**
+     * Set the executor on which {@link BuildkiteAsyncClient} parses responses, and runs any non-async stages callers
+     * chain onto its futures.  Parsing is kept off the underlying client's IO threads, so large responses do not
+     * hold up other requests in flight.
+     *
+     * An executor supplied here is not shut down when the client is closed.  Defaults to null, each async client
+     * creating its own pool, sized to the number of available processors, which is shut down when the client is closed.
+     *
+     * @param asyncParseExecutor Executor parsing responses, or null for a pool owned by the client.
+     * @return self.
+     */
+    public ConfigurationBuilder withAsyncParseExecutor(final Executor asyncParseExecutor) {
+        this.asyncParseExecutor = asyncParseExecutor;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of pooled connections across all routes.
+     * @param maxConnectionsTotal Maximum number of pooled connections across all routes.
+     * @return self.
+     */
+    public ConfigurationBuilder withMaxConnectionsTotal(final int maxConnectionsTotal) {
+        this.maxConnectionsTotal = maxConnectionsTotal;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of pooled connections per route.
+     * @param maxConnectionsPerRoute Maximum number of pooled connections per route.
+     * @return self.
+     */
+    public ConfigurationBuilder withMaxConnectionsPerRoute(final int maxConnectionsPerRoute) {
+        this.maxConnectionsPerRoute = maxConnectionsPerRoute;
+        return this;
+    }
+
+    /**
+     * Set how long a pooled connection may sit idle before it is evicted from the pool.
+     * @param connectionIdleTimeout How long a pooled connection may sit idle before being evicted.
+     * @return self.
+     */
+    public ConfigurationBuilder withConnectionIdleTimeout(final Duration connectionIdleTimeout) {
+        this.connectionIdleTimeout = Objects.requireNonNull(connectionIdleTimeout);
+        return this;
+    }
+
+    /**
+     * Set the maximum lifetime of a pooled connection.
+     * @param connectionTimeToLive Maximum lifetime of a pooled connection.
+     * @return self.
+     */
+    public ConfigurationBuilder withConnectionTimeToLive(final Duration connectionTimeToLive) {
+        this.connectionTimeToLive = Objects.requireNonNull(connectionTimeToLive);
+        return this;
+    }
+
+    /**
+     * Enable caching of GET responses which carry an ETag or Last-Modified header, and set the maximum number
+     * of responses to cache.  Repeat requests are sent conditionally, and if the API reports the response has not
+     * been modified, the previously parsed response is returned without re-parsing it.
+     *
+     * Defaults to 0, which disables the response cache.
+     *
+     * @param responseCacheMaxEntries Maximum number of responses to cache, or 0 to disable.
+     * @return self.
+     */
+    public ConfigurationBuilder withResponseCacheMaxEntries(final int responseCacheMaxEntries) {
+        this.responseCacheMaxEntries = responseCacheMaxEntries;
+        return this;
+    }
+
+    /**
+     * Set the maximum combined size, in bytes, of responses held in the response cache.  Each response is weighed
+     * by an estimate of the memory it retains: its body, along with the object parsed from it.
+     * Least recently used responses are evicted once exceeded.  Defaults to 10MB.
+     *
+     * @param responseCacheMaxBytes Maximum estimated combined size, in bytes, of cached responses.
+     * @return self.
+     */
+    public ConfigurationBuilder withResponseCacheMaxBytes(final long responseCacheMaxBytes) {
+        this.responseCacheMaxBytes = responseCacheMaxBytes;
+        return this;
+    }
+
+    /**
+     * Enable or disable pacing of outgoing requests based on the rate limit budget reported by the API via the
+     * RateLimit-Remaining and RateLimit-Reset response headers.  When enabled, once the remaining budget falls to
+     * the pacing threshold, requests are spread out over the rest of the rate limit window, and held until the
+     * window resets if the budget is spent.  Defaults to enabled.
+     *
+     * @param rateLimitPacingEnabled true to pace requests, false to send them immediately.
+     * @return self.
+     */
+    public ConfigurationBuilder withRateLimitPacing(final boolean rateLimitPacingEnabled) {
+        this.rateLimitPacingEnabled = rateLimitPacingEnabled;
+        return this;
+    }
+
+    /**
+     * Set the remaining rate limit budget at or below which outgoing requests start being paced.  Defaults to 20.
+     *
+     * @param rateLimitPacingThreshold Remaining rate limit budget at or below which requests are paced.
+     * @return self.
+     */
+    public ConfigurationBuilder withRateLimitPacingThreshold(final int rateLimitPacingThreshold) {
+        this.rateLimitPacingThreshold = rateLimitPacingThreshold;
+        return this;
+    }
+
+    /**
+     * Set the policy defining if and how failed requests are retried.  By default, GET requests failing with
+     * a 502, 503 or 504 response, or failing to complete, are retried up to 3 attempts with exponential backoff.
+     * Use {@link RetryPolicy#none()} to disable retries.
+     *
+     * @param retryPolicy Defines if and how failed requests are retried.
+     * @return self.
+     */
+    public ConfigurationBuilder withRetryPolicy(final RetryPolicy retryPolicy) {
+        this.retryPolicy = Objects.requireNonNull(retryPolicy);
+        return this;
+    }
+
+    /**
+     * Enable canonicalizing values which repeat across parsed responses, such as branch names, build and job
+     * states, job names and commands, agent details, and author and creator names and emails, so each distinct
+     * value is held by a single String instance.  Useful when holding many parsed builds in memory.
+     *
+     * The table is bounded, and held per client.  Defaults to 0, which disables string deduplication.
+     *
+     * @param stringDeduplicationMaxEntries Maximum number of distinct values to canonicalize, or 0 to disable.
+     * @return self.
+     */
+    public ConfigurationBuilder withStringDeduplicationMaxEntries(final int stringDeduplicationMaxEntries) {
+        this.stringDeduplicationMaxEntries = stringDeduplicationMaxEntries;
+        return this;
+    }
+
+    /**
+     * Enable or disable coalescing of identical GET requests made concurrently.  When enabled, a GET request made
+     * while an identical one (same path, parameters and parsing) is already in flight waits for that request and
+     * shares its parsed response, rather than making its own.  Errors are shared in the same way.
+     *
+     * Parsed responses are then shared between callers, so must not be modified.  Defaults to disabled.
+     *
+     * @param requestCoalescingEnabled true to coalesce identical concurrent GET requests, false to send each.
+     * @return self.
+     */
+    public ConfigurationBuilder withRequestCoalescing(final boolean requestCoalescingEnabled) {
+        this.requestCoalescingEnabled = requestCoalescingEnabled;
+        return this;
+    }
+
+    /**
+     * Enable caching of finished builds.  Once a build has finished it no longer changes, so repeat calls to
+     * {@link BuildkiteClient#getBuild(org.sourcelab.buildkite.api.client.request.GetBuildFilters)} for it are served
+     * from the cache without a request to the API.  Retrying one of its jobs via {@link BuildkiteClient#retryJob}
+     * removes it from the cache.
+     *
+     * Cached builds are bounded by the combined size of the responses they were parsed from, evicting the least
+     * recently used first.  Cached builds are shared between callers, so must not be modified.  Defaults to 0, disabled.
+     *
+     * @param finishedBuildCacheMaxBytes Maximum combined size in bytes of finished builds cached in memory, 0 disables.
+     * @return self.
+     */
+    public ConfigurationBuilder withFinishedBuildCacheMaxBytes(final long finishedBuildCacheMaxBytes) {
+        this.finishedBuildCacheMaxBytes = finishedBuildCacheMaxBytes;
+        return this;
+    }
+
+    /**
+     * Additionally cache finished builds on disk, in the given directory.  Builds evicted from memory, or cached by
+     * an earlier process, are then re-parsed from disk rather than requested again.  Only used when the finished
+     * build cache is enabled via {@link #withFinishedBuildCacheMaxBytes(long)}.  Defaults to null, memory only.
+     *
+     * @param finishedBuildCacheDirectory Directory to cache finished builds in, or null to only cache in memory.
+     * @return self.
+     */
+    public ConfigurationBuilder withFinishedBuildCacheDirectory(final Path finishedBuildCacheDirectory) {
+        this.finishedBuildCacheDirectory = finishedBuildCacheDirectory;
+        return this;
+    }
+
+    /**
+     * Maximum combined size of finished builds cached on disk, evicting the least recently used first.
+     * Defaults to 256MB.
+     *
+     * @param finishedBuildCacheMaxDiskBytes Maximum combined size in bytes of finished builds cached on disk.
+     * @return self.
+     */
+    public ConfigurationBuilder withFinishedBuildCacheMaxDiskBytes(final long finishedBuildCacheMaxDiskBytes) {
+        this.finishedBuildCacheMaxDiskBytes = finishedBuildCacheMaxDiskBytes;
+        return this;
+    }
+
     /**
      * Validates that the supplied values are correct.
      * @throws BuilderValidationException if not valid or complete.
@@ -66,9 +309,39 @@ public final class ConfigurationBuilder {
         if (clientFactory == null) {
             throw new BuilderValidationException("The 'ClientFactory' property must be configured.");
         }
+        if (asyncClientFactory == null) {
+            throw new BuilderValidationException("The 'AsyncClientFactory' property must be configured.");
+        }
         if (apiUrl == null || apiUrl.trim().isEmpty()) {
             throw new BuilderValidationException("The 'ApiUrl' property must be configured.");
         }
+        if (maxConnectionsTotal < 1) {
+            throw new BuilderValidationException("The 'MaxConnectionsTotal' property must be 1 or larger.");
+        }
+        if (maxConnectionsPerRoute < 1) {
+            throw new BuilderValidationException("The 'MaxConnectionsPerRoute' property must be 1 or larger.");
+        }
+        if (connectionIdleTimeout.isNegative() || connectionTimeToLive.isNegative()) {
+            throw new BuilderValidationException("Connection timeouts must not be negative.");
+        }
+        if (responseCacheMaxEntries < 0) {
+            throw new BuilderValidationException("The 'ResponseCacheMaxEntries' property must be 0 or larger.");
+        }
+        if (responseCacheMaxBytes < 1) {
+            throw new BuilderValidationException("The 'ResponseCacheMaxBytes' property must be 1 or larger.");
+        }
+        if (rateLimitPacingThreshold < 0) {
+            throw new BuilderValidationException("The 'RateLimitPacingThreshold' property must be 0 or larger.");
+        }
+        if (stringDeduplicationMaxEntries < 0) {
+            throw new BuilderValidationException("The 'StringDeduplicationMaxEntries' property must be 0 or larger.");
+        }
+        if (finishedBuildCacheMaxBytes < 0) {
+            throw new BuilderValidationException("The 'FinishedBuildCacheMaxBytes' property must be 0 or larger.");
+        }
+        if (finishedBuildCacheMaxDiskBytes < 1) {
+            throw new BuilderValidationException("The 'FinishedBuildCacheMaxDiskBytes' property must be 1 or larger.");
+        }
     }
 
     /**
@@ -78,6 +351,26 @@ public final class ConfigurationBuilder {
      */
     public Configuration build() {
         validate();
-        return new Configuration(apiToken, apiUrl, clientFactory);
+        return new Configuration(
+            apiToken,
+            apiUrl,
+            clientFactory,
+            asyncClientFactory,
+            maxConnectionsTotal,
+            maxConnectionsPerRoute,
+            connectionIdleTimeout,
+            connectionTimeToLive,
+            responseCacheMaxEntries,
+            responseCacheMaxBytes,
+            rateLimitPacingEnabled,
+            rateLimitPacingThreshold,
+            retryPolicy,
+            stringDeduplicationMaxEntries,
+            requestCoalescingEnabled,
+            finishedBuildCacheMaxBytes,
+            finishedBuildCacheDirectory,
+            finishedBuildCacheMaxDiskBytes,
+            asyncParseExecutor
+        );
     }
 }
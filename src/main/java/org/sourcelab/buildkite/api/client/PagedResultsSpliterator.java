@@ -0,0 +1,171 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client;
+
+import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
+import org.sourcelab.buildkite.api.client.request.PageableRequest;
+import org.sourcelab.buildkite.api.client.response.PageableResponse;
+
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Spliterator;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily walks the pages of a pageable request, yielding the entries of each page in order.
+ *
+ * Pages are only requested on demand. Once a page has been handed out, the following page is
+ * prefetched on the client's prefetch executor while the caller works through the current one, so at most
+ * two pages are held in memory at any time.
+ *
+ * @param <R> The pageable response type.
+ * @param <E> The entry type contained within each page.
+ */
+final class PagedResultsSpliterator<R extends PageableResponse<R>, E> implements Spliterator<E> {
+    private final BuildkiteClient client;
+    private final Function<R, List<E>> entryExtractor;
+
+    private PageableRequest<R> firstRequest;
+    private Iterator<E> currentEntries = Collections.emptyIterator();
+    private Future<R> nextPage = null;
+    private boolean closed = false;
+
+    /**
+     * Constructor.
+     * @param client The client to execute page requests against.
+     * @param firstRequest Request for the first page of results.
+     * @param entryExtractor Extracts the entries from a page.
+     */
+    PagedResultsSpliterator(
+        final BuildkiteClient client,
+        final PageableRequest<R> firstRequest,
+        final Function<R, List<E>> entryExtractor
+    ) {
+        this.client = Objects.requireNonNull(client);
+        this.firstRequest = Objects.requireNonNull(firstRequest);
+        this.entryExtractor = Objects.requireNonNull(entryExtractor);
+    }
+
+    /**
+     * Create a sequential Stream over all entries. Closing the stream stops any outstanding prefetch.
+     *
+     * @param <R> The pageable response type.
+     * @param <E> The entry type contained within each page.
+     * @param client The client to execute page requests against.
+     * @param firstRequest Request for the first page of results.
+     * @param entryExtractor Extracts the entries from a page.
+     * @return Lazy stream of entries.
+     */
+    static <R extends PageableResponse<R>, E> Stream<E> stream(
+        final BuildkiteClient client,
+        final PageableRequest<R> firstRequest,
+        final Function<R, List<E>> entryExtractor
+    ) {
+        final PagedResultsSpliterator<R, E> spliterator = new PagedResultsSpliterator<>(client, firstRequest, entryExtractor);
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    @Override
+    public boolean tryAdvance(final Consumer<? super E> action) {
+        Objects.requireNonNull(action);
+        while (!currentEntries.hasNext()) {
+            if (!loadNextPage()) {
+                return false;
+            }
+        }
+        action.accept(currentEntries.next());
+        return true;
+    }
+
+    @Override
+    public Spliterator<E> trySplit() {
+        // Pages must be walked in order, splitting is not supported.
+        return null;
+    }
+
+    @Override
+    public long estimateSize() {
+        return Long.MAX_VALUE;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL;
+    }
+
+    /**
+     * Stop any outstanding prefetch.
+     */
+    void close() {
+        closed = true;
+        currentEntries = Collections.emptyIterator();
+        if (nextPage != null) {
+            nextPage.cancel(true);
+            nextPage = null;
+        }
+    }
+
+    private boolean loadNextPage() {
+        if (closed) {
+            return false;
+        }
+
+        final R page;
+        if (firstRequest != null) {
+            page = client.executeRequest(firstRequest);
+            firstRequest = null;
+        } else if (nextPage != null) {
+            page = awaitNextPage();
+        } else {
+            close();
+            return false;
+        }
+        currentEntries = entryExtractor.apply(page).iterator();
+
+        if (page.hasNextPage()) {
+            // Start retrieving the following page while the caller consumes this one.
+            nextPage = client.getPagePrefetchExecutor().submit(() -> client.nextPage(page));
+        } else {
+            nextPage = null;
+        }
+        return true;
+    }
+
+    private R awaitNextPage() {
+        try {
+            return nextPage.get();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            close();
+            throw new BuildkiteException("Interrupted while retrieving next page.", exception);
+        } catch (final ExecutionException exception) {
+            close();
+            if (exception.getCause() instanceof BuildkiteException) {
+                throw (BuildkiteException) exception.getCause();
+            }
+            throw new BuildkiteException("Failed to retrieve next page: " + exception.getCause().getMessage(), exception.getCause());
+        }
+    }
+}
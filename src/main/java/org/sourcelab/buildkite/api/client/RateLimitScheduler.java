@@ -0,0 +1,194 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client;
+
+import org.sourcelab.buildkite.api.client.http.HttpHeaders;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+/**
+ * Paces outgoing requests to stay within the API rate limit, as reported by the
+ * {@code RateLimit-Remaining}, {@code RateLimit-Limit} and {@code RateLimit-Reset} response headers.
+ *
+ * While the remaining budget is above the configured threshold, requests are sent immediately.  Once it falls
+ * to the threshold or below, the remaining budget is spread evenly over the time left until the limit resets.
+ * When the budget is spent, requests are held until the reset.  Each request reserves its slot in arrival order,
+ * so waiting requests are released first-in first-out.
+ *
+ * Until a response carrying rate limit headers has been seen, or once the current window has reset,
+ * requests are not delayed.
+ */
+final class RateLimitScheduler {
+    private static final long RESET_WINDOW_TOLERANCE_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean pacingEnabled;
+    private final int pacingThreshold;
+    private final LongSupplier nanoClock;
+
+    // State, guarded by this.
+    private boolean known = false;
+    private int limit = -1;
+    private int remaining = 0;
+    private long resetAtNanos = 0;
+    private long nextSlotNanos = 0;
+
+    /**
+     * Constructor.
+     * @param configuration Client configuration.
+     */
+    RateLimitScheduler(final Configuration configuration) {
+        this(configuration.isRateLimitPacingEnabled(), configuration.getRateLimitPacingThreshold(), System::nanoTime);
+    }
+
+    /**
+     * Constructor.
+     * @param pacingEnabled Should requests be delayed to stay within the rate limit.
+     * @param pacingThreshold Remaining budget at or below which requests start being paced.
+     * @param nanoClock Source of the current time, in nanoseconds.
+     */
+    RateLimitScheduler(
+        final boolean pacingEnabled,
+        final int pacingThreshold,
+        final LongSupplier nanoClock
+    ) {
+        this.pacingEnabled = pacingEnabled;
+        this.pacingThreshold = pacingThreshold;
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Reserve a slot to send a request, blocking the calling thread until it may be sent.
+     * @return How long, in nanoseconds, the request was held back.
+     * @throws InterruptedException if interrupted while waiting.
+     */
+    long acquire() throws InterruptedException {
+        final long delayNanos = reserve();
+        if (delayNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(delayNanos);
+        }
+        return delayNanos;
+    }
+
+    /**
+     * Update the known rate limit budget from the result of a request.
+     * @param result Result returned by the API.
+     */
+    synchronized void update(final HttpResult result) {
+        final HttpHeaders headers = result.getHttpHeaders();
+        final long now = nanoClock.getAsLong();
+
+        if (result.getStatus() == 429) {
+            // Budget is spent, hold requests until the limit resets.
+            final long resetSeconds = parseInt(headers, "RateLimit-Reset")
+                .orElse(parseInt(headers, "Retry-After").orElse(1));
+            known = true;
+            remaining = 0;
+            resetAtNanos = now + TimeUnit.SECONDS.toNanos(resetSeconds);
+            return;
+        }
+
+        final OptionalInt headerRemaining = parseInt(headers, "RateLimit-Remaining");
+        final OptionalInt headerReset = parseInt(headers, "RateLimit-Reset");
+        if (!headerRemaining.isPresent() || !headerReset.isPresent()) {
+            return;
+        }
+        parseInt(headers, "RateLimit-Limit").ifPresent((value) -> limit = value);
+
+        final long headerResetAtNanos = now + TimeUnit.SECONDS.toNanos(headerReset.getAsInt());
+        if (!known || now - resetAtNanos >= 0 || headerResetAtNanos - resetAtNanos > RESET_WINDOW_TOLERANCE_NANOS) {
+            // First response, or a new rate limit window has started.
+            known = true;
+            remaining = headerRemaining.getAsInt();
+            resetAtNanos = headerResetAtNanos;
+            nextSlotNanos = now;
+        } else {
+            // Responses to concurrent requests can arrive out of order, so never raise the budget within a window.
+            remaining = Math.min(remaining, headerRemaining.getAsInt());
+        }
+    }
+
+    /**
+     * The remaining request budget, as last reported by the API.
+     * @return The remaining request budget, or empty if unknown or the rate limit window has since reset.
+     */
+    synchronized OptionalInt getRemaining() {
+        if (!known || nanoClock.getAsLong() - resetAtNanos >= 0) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(Math.max(0, remaining));
+    }
+
+    /**
+     * The request budget per rate limit window, as last reported by the API.
+     * @return The request budget per rate limit window, or empty if unknown.
+     */
+    synchronized OptionalInt getLimit() {
+        return limit < 0 ? OptionalInt.empty() : OptionalInt.of(limit);
+    }
+
+    /**
+     * Reserve a slot to send a request, without blocking.
+     * @return How long, in nanoseconds, the caller must wait before sending the request.
+     */
+    synchronized long reserve() {
+        if (!pacingEnabled || !known) {
+            return 0;
+        }
+
+        final long now = nanoClock.getAsLong();
+        if (now - resetAtNanos >= 0) {
+            // The window has reset, the budget will be re-learned from the next response.
+            known = false;
+            return 0;
+        }
+
+        if (remaining > pacingThreshold) {
+            remaining--;
+            return 0;
+        }
+
+        final long slotNanos;
+        if (remaining > 0) {
+            // Spread what is left of the budget evenly over the rest of the window.
+            slotNanos = Math.max(now, nextSlotNanos);
+            nextSlotNanos = slotNanos + Math.max(0, (resetAtNanos - slotNanos) / remaining);
+            remaining--;
+        } else {
+            // Budget spent, hold until the window resets.
+            slotNanos = Math.max(resetAtNanos, nextSlotNanos);
+            nextSlotNanos = slotNanos;
+        }
+        return Math.max(0, slotNanos - now);
+    }
+
+    private static OptionalInt parseInt(final HttpHeaders headers, final String name) {
+        final Optional<String> value = headers.findHeader(name);
+        if (!value.isPresent()) {
+            return OptionalInt.empty();
+        }
+        try {
+            return OptionalInt.of(Integer.parseInt(value.get().trim()));
+        } catch (final NumberFormatException exception) {
+            return OptionalInt.empty();
+        }
+    }
+}
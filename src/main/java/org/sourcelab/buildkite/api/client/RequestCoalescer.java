@@ -0,0 +1,123 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client;
+
+import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
+import org.sourcelab.buildkite.api.client.request.HttpMethod;
+import org.sourcelab.buildkite.api.client.request.Request;
+import org.sourcelab.buildkite.api.client.request.RequestParameter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical GET requests made concurrently, so that only the first is sent, and every other caller
+ * waits for and shares its parsed response, or its error.
+ *
+ * Requests are identical when their method, path, request parameters (regardless of order) and
+ * {@link Request#getResponseParserKey()} are equal.  A request is only shared while in flight, once it
+ * completes the next identical request is sent again.
+ */
+final class RequestCoalescer {
+    private final ConcurrentMap<List<Object>, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final BuildkiteClientMetrics metrics;
+
+    /**
+     * Constructor.
+     * @param metrics Records requests which were coalesced.
+     */
+    RequestCoalescer(final BuildkiteClientMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Execute a request, or wait for an identical request already in flight.
+     *
+     * @param <T> The parsed response object.
+     * @param request The request to execute.
+     * @param execution Executes the request, if no identical request is in flight.
+     * @return The parsed response object.
+     * @throws BuildkiteException if API returns an error response.
+     */
+    @SuppressWarnings("unchecked")
+    <T> T execute(final Request<T> request, final Supplier<T> execution) {
+        if (request.getMethod() != HttpMethod.GET) {
+            return execution.get();
+        }
+
+        final List<Object> key = keyOf(request);
+        final CompletableFuture<Object> future = new CompletableFuture<>();
+        final CompletableFuture<Object> existing = inFlight.putIfAbsent(key, future);
+        if (existing != null) {
+            metrics.recordCoalesced();
+            return (T) await(existing);
+        }
+
+        try {
+            final T result = execution.get();
+            future.complete(result);
+            return result;
+        } catch (final RuntimeException exception) {
+            future.completeExceptionally(exception);
+            throw exception;
+        } finally {
+            inFlight.remove(key, future);
+            // Never leave waiters hanging, even on an Error.
+            if (!future.isDone()) {
+                future.completeExceptionally(new BuildkiteException("Identical request failed."));
+            }
+        }
+    }
+
+    private static Object await(final CompletableFuture<Object> future) {
+        try {
+            return future.get();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new BuildkiteException("Interrupted while waiting for an identical request.", exception);
+        } catch (final ExecutionException exception) {
+            if (exception.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) exception.getCause();
+            }
+            throw new BuildkiteException("Identical request failed: " + exception.getCause().getMessage(), exception.getCause());
+        }
+    }
+
+    private static List<Object> keyOf(final Request<?> request) {
+        final List<RequestParameter> parameters = new ArrayList<>(request.getRequestParameters().getParameters());
+        parameters.sort(Comparator.comparing(RequestParameter::getName));
+
+        final List<Object> key = new ArrayList<>();
+        key.add(request.getMethod());
+        key.add(request.getPath());
+        for (final RequestParameter parameter : parameters) {
+            final List<String> values = new ArrayList<>(parameter.getValues());
+            values.sort(Comparator.naturalOrder());
+            key.add(Arrays.asList(parameter.getName(), values));
+        }
+        key.add(request.getResponseParserKey());
+        return key;
+    }
+}
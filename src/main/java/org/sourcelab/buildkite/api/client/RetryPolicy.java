@@ -0,0 +1,204 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client;
+
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.GetRequest;
+import org.sourcelab.buildkite.api.client.request.HttpMethod;
+import org.sourcelab.buildkite.api.client.request.Request;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Defines if and how failed requests are retried.
+ *
+ * Requests failing with one of the retryable http status codes, or throwing one of the retryable exceptions,
+ * are retried up to the maximum number of attempts.  Delays between attempts grow exponentially from the base delay,
+ * capped at the maximum delay, and are randomly reduced by up to the jitter fraction so that many clients do not
+ * retry in lock step.
+ *
+ * Only idempotent {@link GetRequest}s are retried, unless retrying non-idempotent requests is explicitly enabled
+ * via {@link RetryPolicyBuilder#withRetryNonIdempotentRequests(boolean)}.
+ */
+public final class RetryPolicy {
+    private static final RetryPolicy NONE = new RetryPolicy(
+        1, Duration.ZERO, Duration.ZERO, 0, Collections.emptySet(), Collections.emptySet(), false
+    );
+
+    private final int maxAttempts;
+    private final Duration baseDelay;
+    private final Duration maxDelay;
+    private final double jitter;
+    private final Set<Integer> retryableStatusCodes;
+    private final Set<Class<? extends Throwable>> retryableExceptions;
+    private final boolean retryNonIdempotentRequests;
+
+    /**
+     * Create a new Builder for creating RetryPolicy instances.
+     * @return Builder for RetryPolicy instances.
+     */
+    public static RetryPolicyBuilder newBuilder() {
+        return new RetryPolicyBuilder();
+    }
+
+    /**
+     * Policy which never retries.
+     * @return Policy which never retries.
+     */
+    public static RetryPolicy none() {
+        return NONE;
+    }
+
+    /**
+     * Constructor.  Use {@see RetryPolicy::newBuilder()}
+     *
+     * @param maxAttempts Maximum number of attempts, including the first.
+     * @param baseDelay Delay before the first retry.
+     * @param maxDelay Maximum delay between attempts.
+     * @param jitter Fraction, between 0 and 1, by which each delay may be randomly reduced.
+     * @param retryableStatusCodes Http status codes which should be retried.
+     * @param retryableExceptions Exception types which should be retried.
+     * @param retryNonIdempotentRequests Should non-GET requests also be retried.
+     */
+    RetryPolicy(
+        final int maxAttempts,
+        final Duration baseDelay,
+        final Duration maxDelay,
+        final double jitter,
+        final Set<Integer> retryableStatusCodes,
+        final Set<Class<? extends Throwable>> retryableExceptions,
+        final boolean retryNonIdempotentRequests
+    ) {
+        this.maxAttempts = maxAttempts;
+        this.baseDelay = Objects.requireNonNull(baseDelay);
+        this.maxDelay = Objects.requireNonNull(maxDelay);
+        this.jitter = jitter;
+        this.retryableStatusCodes = Collections.unmodifiableSet(new LinkedHashSet<>(retryableStatusCodes));
+        this.retryableExceptions = Collections.unmodifiableSet(new LinkedHashSet<>(retryableExceptions));
+        this.retryNonIdempotentRequests = retryNonIdempotentRequests;
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public Duration getBaseDelay() {
+        return baseDelay;
+    }
+
+    public Duration getMaxDelay() {
+        return maxDelay;
+    }
+
+    public double getJitter() {
+        return jitter;
+    }
+
+    public Set<Integer> getRetryableStatusCodes() {
+        return retryableStatusCodes;
+    }
+
+    public Set<Class<? extends Throwable>> getRetryableExceptions() {
+        return retryableExceptions;
+    }
+
+    public boolean isRetryNonIdempotentRequests() {
+        return retryNonIdempotentRequests;
+    }
+
+    /**
+     * Should the given request be retried after the given attempt returned the given result.
+     *
+     * @param request The request which was executed.
+     * @param attempt The attempt number which returned the result, starting from 1.
+     * @param result The result returned by the API.
+     * @return true if the request should be retried.
+     */
+    public boolean shouldRetry(final Request<?> request, final int attempt, final HttpResult result) {
+        return canRetry(request, attempt) && retryableStatusCodes.contains(result.getStatus());
+    }
+
+    /**
+     * Should the given request be retried after the given attempt failed with the given error.
+     *
+     * @param request The request which was executed.
+     * @param attempt The attempt number which failed, starting from 1.
+     * @param error The error thrown while executing the request.
+     * @return true if the request should be retried.
+     */
+    public boolean shouldRetry(final Request<?> request, final int attempt, final Throwable error) {
+        if (!canRetry(request, attempt)) {
+            return false;
+        }
+
+        // Match against the error itself, or anything it wraps.
+        Throwable cause = error;
+        while (cause != null) {
+            for (final Class<? extends Throwable> retryableException : retryableExceptions) {
+                if (retryableException.isInstance(cause)) {
+                    return true;
+                }
+            }
+            cause = cause.getCause() == cause ? null : cause.getCause();
+        }
+        return false;
+    }
+
+    /**
+     * How long to wait before making the next attempt.
+     *
+     * @param attempt The attempt number which just failed, starting from 1.
+     * @return How long to wait, in nanoseconds, before making the next attempt.
+     */
+    public long getDelayNanos(final int attempt) {
+        // Exponential backoff, capped at the max delay.
+        final int exponent = Math.min(Math.max(attempt - 1, 0), 62);
+        final long baseNanos = baseDelay.toNanos();
+        final long maxNanos = maxDelay.toNanos();
+        final long delayNanos = baseNanos > (maxNanos >> exponent) ? maxNanos : baseNanos << exponent;
+
+        // Randomly reduce by up to the jitter fraction.
+        final double reduction = jitter <= 0 ? 0 : ThreadLocalRandom.current().nextDouble() * jitter;
+        return (long) (delayNanos * (1 - reduction));
+    }
+
+    private boolean canRetry(final Request<?> request, final int attempt) {
+        if (attempt >= maxAttempts) {
+            return false;
+        }
+        return request.getMethod() == HttpMethod.GET || retryNonIdempotentRequests;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryPolicy{"
+            + "maxAttempts=" + maxAttempts
+            + ", baseDelay=" + baseDelay
+            + ", maxDelay=" + maxDelay
+            + ", jitter=" + jitter
+            + ", retryableStatusCodes=" + retryableStatusCodes
+            + ", retryableExceptions=" + retryableExceptions
+            + ", retryNonIdempotentRequests=" + retryNonIdempotentRequests
+            + '}';
+    }
+}
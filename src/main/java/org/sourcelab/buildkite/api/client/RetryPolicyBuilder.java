@@ -0,0 +1,169 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client;
+
+import org.sourcelab.buildkite.api.client.exception.BuilderValidationException;
+import org.sourcelab.buildkite.api.client.exception.HttpRequestException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * Builder for {@link RetryPolicy} instances.
+ *
+ * Defaults to up to 3 attempts, starting with a 250ms delay which doubles up to a maximum of 5 seconds, with 50% jitter.
+ * Responses with http status 502, 503 or 504 are retried, as are {@link HttpRequestException}s raised when a request
+ * fails to complete, such as a connection reset.
+ */
+public final class RetryPolicyBuilder {
+    private int maxAttempts = 3;
+    private Duration baseDelay = Duration.ofMillis(250);
+    private Duration maxDelay = Duration.ofSeconds(5);
+    private double jitter = 0.5;
+    private Set<Integer> retryableStatusCodes = new LinkedHashSet<>(Arrays.asList(502, 503, 504));
+    private Set<Class<? extends Throwable>> retryableExceptions = new LinkedHashSet<>(Arrays.asList(HttpRequestException.class));
+    private boolean retryNonIdempotentRequests = false;
+
+    /**
+     * Constructor.
+     */
+    public RetryPolicyBuilder() {
+    }
+
+    /**
+     * Set the maximum number of attempts, including the first.  A value of 1 disables retries.
+     * @param maxAttempts Maximum number of attempts.
+     * @return self.
+     */
+    public RetryPolicyBuilder withMaxAttempts(final int maxAttempts) {
+        this.maxAttempts = maxAttempts;
+        return this;
+    }
+
+    /**
+     * Set the delay before the first retry.  Each following retry doubles the delay.
+     * @param baseDelay Delay before the first retry.
+     * @return self.
+     */
+    public RetryPolicyBuilder withBaseDelay(final Duration baseDelay) {
+        this.baseDelay = Objects.requireNonNull(baseDelay);
+        return this;
+    }
+
+    /**
+     * Set the maximum delay between attempts.
+     * @param maxDelay Maximum delay between attempts.
+     * @return self.
+     */
+    public RetryPolicyBuilder withMaxDelay(final Duration maxDelay) {
+        this.maxDelay = Objects.requireNonNull(maxDelay);
+        return this;
+    }
+
+    /**
+     * Set the fraction, between 0 and 1, by which each delay may be randomly reduced.
+     * @param jitter Fraction by which each delay may be randomly reduced, 0 for no jitter.
+     * @return self.
+     */
+    public RetryPolicyBuilder withJitter(final double jitter) {
+        this.jitter = jitter;
+        return this;
+    }
+
+    /**
+     * Replace the set of http status codes which should be retried.
+     * @param retryableStatusCodes Http status codes which should be retried.
+     * @return self.
+     */
+    public RetryPolicyBuilder withRetryableStatusCodes(final Collection<Integer> retryableStatusCodes) {
+        this.retryableStatusCodes = new LinkedHashSet<>(retryableStatusCodes);
+        return this;
+    }
+
+    /**
+     * Add a http status code which should be retried.
+     * @param retryableStatusCode Http status code which should be retried.
+     * @return self.
+     */
+    public RetryPolicyBuilder withRetryableStatusCode(final int retryableStatusCode) {
+        this.retryableStatusCodes.add(retryableStatusCode);
+        return this;
+    }
+
+    /**
+     * Replace the set of exception types which should be retried.  A failed request is retried if the thrown
+     * exception, or any exception it wraps, is an instance of one of these types.
+     * @param retryableExceptions Exception types which should be retried.
+     * @return self.
+     */
+    public RetryPolicyBuilder withRetryableExceptions(final Collection<Class<? extends Throwable>> retryableExceptions) {
+        this.retryableExceptions = new LinkedHashSet<>(retryableExceptions);
+        return this;
+    }
+
+    /**
+     * Add an exception type which should be retried.
+     * @param retryableException Exception type which should be retried.
+     * @return self.
+     */
+    public RetryPolicyBuilder withRetryableException(final Class<? extends Throwable> retryableException) {
+        this.retryableExceptions.add(Objects.requireNonNull(retryableException));
+        return this;
+    }
+
+    /**
+     * Should non-idempotent requests, such as POST and PUT requests, also be retried.  Defaults to false,
+     * as retrying a request which reached the API before failing may apply it twice.
+     * @param retryNonIdempotentRequests true to also retry non-GET requests.
+     * @return self.
+     */
+    public RetryPolicyBuilder withRetryNonIdempotentRequests(final boolean retryNonIdempotentRequests) {
+        this.retryNonIdempotentRequests = retryNonIdempotentRequests;
+        return this;
+    }
+
+    /**
+     * Create new {@link RetryPolicy} instance.
+     * @return RetryPolicy instance.
+     * @throws BuilderValidationException if improper values defined.
+     */
+    public RetryPolicy build() {
+        if (maxAttempts < 1) {
+            throw new BuilderValidationException("The 'MaxAttempts' property must be 1 or larger.");
+        }
+        if (baseDelay.isNegative() || maxDelay.isNegative()) {
+            throw new BuilderValidationException("Retry delays must not be negative.");
+        }
+        if (jitter < 0 || jitter > 1) {
+            throw new BuilderValidationException("The 'Jitter' property must be between 0 and 1.");
+        }
+        return new RetryPolicy(
+            maxAttempts,
+            baseDelay,
+            maxDelay,
+            jitter,
+            retryableStatusCodes,
+            retryableExceptions,
+            retryNonIdempotentRequests
+        );
+    }
+}
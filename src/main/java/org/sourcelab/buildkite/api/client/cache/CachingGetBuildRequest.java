@@ -0,0 +1,54 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.cache;
+
+import org.sourcelab.buildkite.api.client.request.GetBuildFilters;
+import org.sourcelab.buildkite.api.client.request.GetBuildRequest;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.parser.ResponseParser;
+
+import java.util.Objects;
+
+/**
+ * Get build request adding each finished build it parses to a {@link FinishedBuildCache}.
+ */
+class CachingGetBuildRequest extends GetBuildRequest {
+    private final GetBuildFilters filters;
+    private final FinishedBuildCache cache;
+
+    /**
+     * Constructor.
+     * @param filters Identifies the build.
+     * @param cache Cache to add the build to once parsed, if finished.
+     */
+    CachingGetBuildRequest(final GetBuildFilters filters, final FinishedBuildCache cache) {
+        super(filters);
+        this.filters = Objects.requireNonNull(filters);
+        this.cache = Objects.requireNonNull(cache);
+    }
+
+    @Override
+    public ResponseParser<Build> getResponseParser() {
+        final ResponseParser<Build> parser = super.getResponseParser();
+        return (result) -> {
+            final Build build = parser.parseResponse(result);
+            cache.put(filters, build, result);
+            return build;
+        };
+    }
+}
@@ -0,0 +1,402 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
+import org.sourcelab.buildkite.api.client.http.HttpHeaders;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.GetBuildFilters;
+import org.sourcelab.buildkite.api.client.request.GetBuildRequest;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.BuildState;
+import org.sourcelab.buildkite.api.client.response.parser.JacksonFactory;
+import org.sourcelab.buildkite.api.client.util.BuildStateUtils;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Bounded cache of finished builds, serving repeat requests for a finished build without a request to the API.
+ *
+ * Once a build's state is terminal, as determined by {@link BuildStateUtils#isStateTerminal(BuildState)}, it no
+ * longer changes, so may be cached indefinitely.  Retrying one of its jobs does change it, so
+ * {@link org.sourcelab.buildkite.api.client.BuildkiteClient#retryJob} invalidates the build's entry.
+ *
+ * Parsed builds are held in memory, least recently used first out, bounded by weight: the size in bytes of the
+ * response each build was parsed from.  Optionally, the raw response of each cached build is also written to a
+ * directory, bounded by its combined size on disk.  Builds evicted from memory, or cached by an earlier process,
+ * are then re-parsed from disk rather than requested again.
+ *
+ * Instances are thread safe.
+ */
+public class FinishedBuildCache {
+    private static final Logger logger = LoggerFactory.getLogger(FinishedBuildCache.class);
+
+    private final long maxWeight;
+    private final Path directory;
+    private final long maxDiskBytes;
+
+    /**
+     * Parsed builds keyed by build and projection, in least to most recently used order.  Guarded by this.
+     */
+    private final LinkedHashMap<List<Object>, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight = 0;
+
+    /**
+     * Size of each cached file keyed by file name, in least to most recently used order.  Guarded by itself.
+     */
+    private final LinkedHashMap<String, Long> files = new LinkedHashMap<>(16, 0.75f, true);
+    private long diskBytes = 0;
+
+    /**
+     * Constructor, caching builds in memory only.
+     * @param maxWeight Maximum combined size, in bytes, of the responses cached builds were parsed from.
+     */
+    public FinishedBuildCache(final long maxWeight) {
+        this(maxWeight, null, 0);
+    }
+
+    /**
+     * Constructor.
+     * @param maxWeight Maximum combined size, in bytes, of the responses cached builds were parsed from.
+     * @param directory Directory to additionally write cached builds to, or null to cache in memory only.
+     * @param maxDiskBytes Maximum combined size, in bytes, of the files written to the directory.
+     */
+    public FinishedBuildCache(final long maxWeight, final Path directory, final long maxDiskBytes) {
+        if (maxWeight < 1) {
+            throw new IllegalArgumentException("maxWeight must be 1 or larger.");
+        }
+        if (directory != null && maxDiskBytes < 1) {
+            throw new IllegalArgumentException("maxDiskBytes must be 1 or larger.");
+        }
+        this.maxWeight = maxWeight;
+        this.directory = directory;
+        this.maxDiskBytes = maxDiskBytes;
+        if (directory != null) {
+            loadDirectory();
+        }
+    }
+
+    /**
+     * Check if a build will no longer change, and may be cached.
+     * @param build The build to check.
+     * @return true if the build has finished, false if not.
+     */
+    public static boolean isCacheable(final Build build) {
+        return build != null && BuildStateUtils.isStateTerminal(build.getState());
+    }
+
+    /**
+     * Create a request for the build matching the given filters, which adds the build to this cache once parsed,
+     * if it has finished.
+     * @param filters Identifies the build.
+     * @return Request for the build.
+     */
+    public GetBuildRequest newRequest(final GetBuildFilters filters) {
+        return new CachingGetBuildRequest(filters, this);
+    }
+
+    /**
+     * Find a previously cached build matching the given filters.
+     * @param filters Identifies the build.
+     * @return The cached build if one exists.
+     */
+    public Optional<Build> get(final GetBuildFilters filters) {
+        final List<Object> key = keyOf(filters);
+        synchronized (this) {
+            final Entry entry = entries.get(key);
+            if (entry != null) {
+                return Optional.of(entry.build);
+            }
+        }
+        if (directory == null) {
+            return Optional.empty();
+        }
+
+        // Fall back to disk, promoting the build back into memory.
+        final Optional<byte[]> json = readFile(fileNameOf(filters));
+        if (!json.isPresent()) {
+            return Optional.empty();
+        }
+        final Build build;
+        try {
+            build = JacksonFactory.readValue(
+                Build.class, new HttpResult(200, json.get(), StandardCharsets.UTF_8, new HttpHeaders(Collections.emptyList())), filters.getProjection()
+            );
+        } catch (final IOException exception) {
+            logger.warn("Discarding unreadable cached build {}: {}", fileNameOf(filters), exception.getMessage());
+            deleteFile(fileNameOf(filters));
+            return Optional.empty();
+        }
+        putInMemory(key, build, json.get().length);
+        return Optional.of(build);
+    }
+
+    /**
+     * Cache a build, if it has finished.
+     * @param filters Identifies the build.
+     * @param build The build parsed from the result.
+     * @param result The response the build was parsed from.
+     */
+    public void put(final GetBuildFilters filters, final Build build, final HttpResult result) {
+        if (!isCacheable(build)) {
+            return;
+        }
+        putInMemory(keyOf(filters), build, result.getContentLength());
+        if (directory != null) {
+            writeFile(fileNameOf(filters), readContent(result));
+        }
+    }
+
+    /**
+     * Remove a build from the cache, for example after retrying one of its jobs.
+     * @param organizationSlugId Organization associated with the build.
+     * @param pipelineSlugId Pipeline associated with the build.
+     * @param buildNumber The build number.
+     */
+    public void invalidate(final String organizationSlugId, final String pipelineSlugId, final long buildNumber) {
+        synchronized (this) {
+            final Iterator<Map.Entry<List<Object>, Entry>> iterator = entries.entrySet().iterator();
+            while (iterator.hasNext()) {
+                final Map.Entry<List<Object>, Entry> entry = iterator.next();
+                if (entry.getKey().subList(0, 3).equals(Arrays.asList(organizationSlugId, pipelineSlugId, buildNumber))) {
+                    weight -= entry.getValue().weight;
+                    iterator.remove();
+                }
+            }
+        }
+        if (directory != null) {
+            for (final Boolean includeRetriedJobs : Arrays.asList(null, Boolean.TRUE, Boolean.FALSE)) {
+                deleteFile(fileNameOf(organizationSlugId, pipelineSlugId, buildNumber, includeRetriedJobs));
+            }
+        }
+    }
+
+    /**
+     * Number of parsed builds held in memory.
+     * @return Number of parsed builds held in memory.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Combined size, in bytes, of the responses the builds held in memory were parsed from.
+     * @return Combined weight of the builds held in memory.
+     */
+    public synchronized long getWeight() {
+        return weight;
+    }
+
+    /**
+     * Combined size, in bytes, of the builds written to disk.
+     * @return Combined size of the builds written to disk, 0 if not caching to disk.
+     */
+    public long getDiskBytes() {
+        synchronized (files) {
+            return diskBytes;
+        }
+    }
+
+    private synchronized void putInMemory(final List<Object> key, final Build build, final int buildWeight) {
+        if (buildWeight > maxWeight) {
+            return;
+        }
+        final Entry previous = entries.put(key, new Entry(build, buildWeight));
+        if (previous != null) {
+            weight -= previous.weight;
+        }
+        weight += buildWeight;
+
+        // Evict least recently used builds until within bounds.
+        final Iterator<Entry> iterator = entries.values().iterator();
+        while (weight > maxWeight && iterator.hasNext()) {
+            weight -= iterator.next().weight;
+            iterator.remove();
+        }
+    }
+
+    private void loadDirectory() {
+        try {
+            Files.createDirectories(directory);
+            final List<Path> existing = new ArrayList<>();
+            try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "*.json")) {
+                stream.forEach(existing::add);
+            }
+            existing.sort(Comparator.comparing((path) -> path.toFile().lastModified()));
+            synchronized (files) {
+                for (final Path path : existing) {
+                    final long size = Files.size(path);
+                    files.put(path.getFileName().toString(), size);
+                    diskBytes += size;
+                }
+                evictFiles();
+            }
+        } catch (final IOException exception) {
+            throw new BuildkiteException("Unable to read build cache directory " + directory + ": " + exception.getMessage(), exception);
+        }
+    }
+
+    private Optional<byte[]> readFile(final String fileName) {
+        synchronized (files) {
+            if (!files.containsKey(fileName)) {
+                return Optional.empty();
+            }
+            try {
+                return Optional.of(Files.readAllBytes(directory.resolve(fileName)));
+            } catch (final IOException exception) {
+                logger.warn("Unable to read cached build {}: {}", fileName, exception.getMessage());
+                diskBytes -= files.remove(fileName);
+                return Optional.empty();
+            }
+        }
+    }
+
+    private void writeFile(final String fileName, final byte[] json) {
+        if (json.length > maxDiskBytes) {
+            return;
+        }
+        synchronized (files) {
+            final Path file = directory.resolve(fileName);
+            try {
+                final Path temporary = Files.createTempFile(directory, fileName, ".tmp");
+                try {
+                    Files.write(temporary, json);
+                    Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                } finally {
+                    Files.deleteIfExists(temporary);
+                }
+            } catch (final IOException exception) {
+                // The build remains cached in memory.
+                logger.warn("Unable to write cached build {}: {}", file, exception.getMessage());
+                return;
+            }
+            final Long previous = files.put(fileName, (long) json.length);
+            diskBytes += json.length - (previous == null ? 0 : previous);
+            evictFiles();
+        }
+    }
+
+    private void deleteFile(final String fileName) {
+        synchronized (files) {
+            final Long size = files.remove(fileName);
+            if (size != null) {
+                diskBytes -= size;
+            }
+            try {
+                Files.deleteIfExists(directory.resolve(fileName));
+            } catch (final IOException exception) {
+                logger.warn("Unable to delete cached build {}: {}", fileName, exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Delete least recently used files until within bounds.  Must hold the lock on files.
+     */
+    private void evictFiles() {
+        final Iterator<Map.Entry<String, Long>> iterator = files.entrySet().iterator();
+        while (diskBytes > maxDiskBytes && iterator.hasNext()) {
+            final Map.Entry<String, Long> eldest = iterator.next();
+            iterator.remove();
+            diskBytes -= eldest.getValue();
+            try {
+                Files.deleteIfExists(directory.resolve(eldest.getKey()));
+            } catch (final IOException exception) {
+                logger.warn("Unable to delete cached build {}: {}", eldest.getKey(), exception.getMessage());
+            }
+        }
+    }
+
+    private static byte[] readContent(final HttpResult result) {
+        final ByteArrayOutputStream content = new ByteArrayOutputStream(result.getContentLength());
+        final byte[] buffer = new byte[8192];
+        try (final InputStream inputStream = result.getContentStream()) {
+            int read;
+            while ((read = inputStream.read(buffer)) != -1) {
+                content.write(buffer, 0, read);
+            }
+        } catch (final IOException exception) {
+            // Reading from memory, never thrown.
+            throw new BuildkiteException("Unable to read response: " + exception.getMessage(), exception);
+        }
+        return content.toByteArray();
+    }
+
+    private static List<Object> keyOf(final GetBuildFilters filters) {
+        return Arrays.asList(
+            filters.getOrgIdSlug(),
+            filters.getPipelineIdSlug(),
+            filters.getBuildNumber(),
+            filters.getIncludeRetriedJobs(),
+            filters.getProjection()
+        );
+    }
+
+    private static String fileNameOf(final GetBuildFilters filters) {
+        return fileNameOf(filters.getOrgIdSlug(), filters.getPipelineIdSlug(), filters.getBuildNumber(), filters.getIncludeRetriedJobs());
+    }
+
+    private static String fileNameOf(
+        final String organizationSlugId,
+        final String pipelineSlugId,
+        final long buildNumber,
+        final Boolean includeRetriedJobs
+    ) {
+        final String key = organizationSlugId + "/" + pipelineSlugId + "/" + buildNumber
+            + (includeRetriedJobs == null ? "" : "/retried=" + includeRetriedJobs);
+        try {
+            return URLEncoder.encode(key, "UTF-8") + ".json";
+        } catch (final UnsupportedEncodingException exception) {
+            // UTF-8 is always supported.
+            throw new IllegalStateException(exception);
+        }
+    }
+
+    /**
+     * A parsed build and its weight.
+     */
+    private static final class Entry {
+        private final Build build;
+        private final int weight;
+
+        private Entry(final Build build, final int weight) {
+            this.build = build;
+            this.weight = weight;
+        }
+    }
+}
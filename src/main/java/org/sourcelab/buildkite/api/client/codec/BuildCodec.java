@@ -0,0 +1,558 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.codec;
+
+import org.sourcelab.buildkite.api.client.exception.CodecException;
+import org.sourcelab.buildkite.api.client.response.Agent;
+import org.sourcelab.buildkite.api.client.response.Artifact;
+import org.sourcelab.buildkite.api.client.response.Author;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.Creator;
+import org.sourcelab.buildkite.api.client.response.Job;
+import org.sourcelab.buildkite.api.client.response.Pipeline;
+import org.sourcelab.buildkite.api.client.response.Provider;
+import org.sourcelab.buildkite.api.client.response.PullRequest;
+import org.sourcelab.buildkite.api.client.response.RebuiltFrom;
+import org.sourcelab.buildkite.api.client.response.Step;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.time.DateTimeException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * Compact binary encoding of the response model, for passing builds between processes or holding them in caches
+ * without the size and parsing cost of JSON.  Decoding returns objects whose values all equal those encoded.
+ *
+ * Each encoded value starts with the {@link #SCHEMA_VERSION} it was written with and a tag identifying its type,
+ * followed by its fields in a fixed order:
+ * <ul>
+ *     <li>Integers are variable length, zig-zag encoded where they may be negative.</li>
+ *     <li>Strings are written as UTF-8 the first time they occur within a value, and as a reference to that first
+ *     occurrence after, so values repeating across a build's jobs (agent details, urls, commands) are held once.</li>
+ *     <li>Timestamps are epoch milliseconds when in the {@code UTC} zone with millisecond precision, as the API
+ *     returns them, and otherwise carry their nanoseconds and zone.</li>
+ *     <li>Optional objects and collections are preceded by whether they are present.</li>
+ * </ul>
+ *
+ * Content written by a newer schema version than supported is rejected with a {@link CodecException}, as are
+ * truncated or corrupt content and values of a different type than requested.
+ */
+public final class BuildCodec {
+    /**
+     * Version of the format written.  Incremented whenever fields are added, removed or reordered.
+     */
+    public static final int SCHEMA_VERSION = 1;
+
+    private static final int TYPE_BUILD = 1;
+    private static final int TYPE_JOB = 2;
+    private static final int TYPE_AGENT = 3;
+    private static final int TYPE_PIPELINE = 4;
+    private static final int TYPE_STEP = 5;
+    private static final int TYPE_ARTIFACT = 6;
+
+    private BuildCodec() {
+    }
+
+    /**
+     * Encode a build, along with its jobs, pipeline and other dependencies.
+     * @param build The build to encode.
+     * @return Encoded build.
+     */
+    public static byte[] encodeBuild(final Build build) {
+        return encode(TYPE_BUILD, build, BuildCodec::writeBuild);
+    }
+
+    /**
+     * Decode a build written by {@link #encodeBuild(Build)}.
+     * @param bytes Encoded build.
+     * @return Decoded build.
+     * @throws CodecException if the content is not a build, or unable to be decoded.
+     */
+    public static Build decodeBuild(final byte[] bytes) {
+        return decodeBuild(bytes, 0, bytes.length);
+    }
+
+    /**
+     * Decode a build written by {@link #encodeBuild(Build)}.
+     * @param bytes Array holding the encoded build.
+     * @param offset Position of the encoded build within the array.
+     * @param length Length of the encoded build.
+     * @return Decoded build.
+     * @throws CodecException if the content is not a build, or unable to be decoded.
+     */
+    public static Build decodeBuild(final byte[] bytes, final int offset, final int length) {
+        return decode(TYPE_BUILD, ByteBuffer.wrap(bytes, offset, length), BuildCodec::readBuild);
+    }
+
+    /**
+     * Encode a job, along with its agent.
+     * @param job The job to encode.
+     * @return Encoded job.
+     */
+    public static byte[] encodeJob(final Job job) {
+        return encode(TYPE_JOB, job, BuildCodec::writeJob);
+    }
+
+    /**
+     * Decode a job written by {@link #encodeJob(Job)}.
+     * @param bytes Encoded job.
+     * @return Decoded job.
+     * @throws CodecException if the content is not a job, or unable to be decoded.
+     */
+    public static Job decodeJob(final byte[] bytes) {
+        return decode(TYPE_JOB, ByteBuffer.wrap(bytes), BuildCodec::readJob);
+    }
+
+    /**
+     * Encode an agent.
+     * @param agent The agent to encode.
+     * @return Encoded agent.
+     */
+    public static byte[] encodeAgent(final Agent agent) {
+        return encode(TYPE_AGENT, agent, BuildCodec::writeAgent);
+    }
+
+    /**
+     * Decode an agent written by {@link #encodeAgent(Agent)}.
+     * @param bytes Encoded agent.
+     * @return Decoded agent.
+     * @throws CodecException if the content is not an agent, or unable to be decoded.
+     */
+    public static Agent decodeAgent(final byte[] bytes) {
+        return decode(TYPE_AGENT, ByteBuffer.wrap(bytes), BuildCodec::readAgent);
+    }
+
+    /**
+     * Encode a pipeline, along with its provider and steps.
+     * @param pipeline The pipeline to encode.
+     * @return Encoded pipeline.
+     */
+    public static byte[] encodePipeline(final Pipeline pipeline) {
+        return encode(TYPE_PIPELINE, pipeline, BuildCodec::writePipeline);
+    }
+
+    /**
+     * Decode a pipeline written by {@link #encodePipeline(Pipeline)}.
+     * @param bytes Encoded pipeline.
+     * @return Decoded pipeline.
+     * @throws CodecException if the content is not a pipeline, or unable to be decoded.
+     */
+    public static Pipeline decodePipeline(final byte[] bytes) {
+        return decode(TYPE_PIPELINE, ByteBuffer.wrap(bytes), BuildCodec::readPipeline);
+    }
+
+    /**
+     * Encode a pipeline step.
+     * @param step The step to encode.
+     * @return Encoded step.
+     */
+    public static byte[] encodeStep(final Step step) {
+        return encode(TYPE_STEP, step, BuildCodec::writeStep);
+    }
+
+    /**
+     * Decode a pipeline step written by {@link #encodeStep(Step)}.
+     * @param bytes Encoded step.
+     * @return Decoded step.
+     * @throws CodecException if the content is not a step, or unable to be decoded.
+     */
+    public static Step decodeStep(final byte[] bytes) {
+        return decode(TYPE_STEP, ByteBuffer.wrap(bytes), BuildCodec::readStep);
+    }
+
+    /**
+     * Encode an artifact.
+     * @param artifact The artifact to encode.
+     * @return Encoded artifact.
+     */
+    public static byte[] encodeArtifact(final Artifact artifact) {
+        return encode(TYPE_ARTIFACT, artifact, BuildCodec::writeArtifact);
+    }
+
+    /**
+     * Decode an artifact written by {@link #encodeArtifact(Artifact)}.
+     * @param bytes Encoded artifact.
+     * @return Decoded artifact.
+     * @throws CodecException if the content is not an artifact, or unable to be decoded.
+     */
+    public static Artifact decodeArtifact(final byte[] bytes) {
+        return decode(TYPE_ARTIFACT, ByteBuffer.wrap(bytes), BuildCodec::readArtifact);
+    }
+
+    private static <T> byte[] encode(final int type, final T value, final BiConsumer<CodecWriter, T> encoder) {
+        final CodecWriter writer = new CodecWriter();
+        writer.writeVarInt(SCHEMA_VERSION);
+        writer.write(type);
+        encoder.accept(writer, value);
+        return writer.toByteArray();
+    }
+
+    private static <T> T decode(final int type, final ByteBuffer buffer, final Function<CodecReader, T> decoder) {
+        final CodecReader reader = new CodecReader(buffer);
+        try {
+            final long version = reader.readVarInt();
+            if (version < 1 || version > SCHEMA_VERSION) {
+                throw new CodecException("Unsupported schema version " + version + ", supported up to " + SCHEMA_VERSION + ".");
+            }
+            final int actualType = reader.readByte();
+            if (actualType != type) {
+                throw new CodecException("Expected encoded type " + type + " but found " + actualType + ".");
+            }
+            final T value = decoder.apply(reader);
+            if (reader.hasRemaining()) {
+                throw new CodecException("Unexpected content after encoded value.");
+            }
+            return value;
+        } catch (final BufferUnderflowException exception) {
+            throw new CodecException("Encoded value is truncated.", exception);
+        } catch (final DateTimeException | IllegalArgumentException exception) {
+            throw new CodecException("Unable to decode value: " + exception.getMessage(), exception);
+        }
+    }
+
+    private static void writeBuild(final CodecWriter writer, final Build build) {
+        writer.writeString(build.getId());
+        writer.writeString(build.getGraphqlId());
+        writer.writeString(build.getUrl());
+        writer.writeString(build.getWebUrl());
+        writer.writeLong(build.getNumber());
+        writer.writeString(build.getState() == null ? null : build.getState().name().toLowerCase(Locale.ROOT));
+        writer.writeBoolean(build.isBlocked());
+        writer.writeString(build.getMessage());
+        writer.writeString(build.getCommit());
+        writer.writeString(build.getBranch());
+        writer.writeString(build.getSource());
+        writer.writeTimestamp(build.getCreatedAt());
+        writer.writeTimestamp(build.getScheduledAt());
+        writer.writeTimestamp(build.getStartedAt());
+        writer.writeTimestamp(build.getFinishedAt());
+        if (writer.writePresence(build.getAuthor())) {
+            writeAuthor(writer, build.getAuthor());
+        }
+        if (writer.writePresence(build.getCreator())) {
+            writeCreator(writer, build.getCreator());
+        }
+        if (writer.writePresence(build.getPipeline())) {
+            writePipeline(writer, build.getPipeline());
+        }
+        if (writer.writePresence(build.getJobs())) {
+            writer.writeSize(build.getJobs().size());
+            for (final Job job : build.getJobs()) {
+                writeJob(writer, job);
+            }
+        }
+        if (writer.writePresence(build.getRebuiltFrom())) {
+            writer.writeString(build.getRebuiltFrom().getId());
+            writer.writeLong(build.getRebuiltFrom().getNumber());
+            writer.writeString(build.getRebuiltFrom().getUrl());
+        }
+        if (writer.writePresence(build.getPullRequest())) {
+            writer.writeString(build.getPullRequest().getId());
+            writer.writeString(build.getPullRequest().getBase());
+            writer.writeString(build.getPullRequest().getRepository());
+        }
+    }
+
+    private static Build readBuild(final CodecReader reader) {
+        final String id = reader.readString();
+        final String graphqlId = reader.readString();
+        final String url = reader.readString();
+        final String webUrl = reader.readString();
+        final long number = reader.readLong();
+        final String state = reader.readString();
+        final boolean blocked = reader.readBoolean();
+        final String message = reader.readString();
+        final String commit = reader.readString();
+        final String branch = reader.readString();
+        final String source = reader.readString();
+        final ZonedDateTime createdAt = reader.readTimestamp();
+        final ZonedDateTime scheduledAt = reader.readTimestamp();
+        final ZonedDateTime startedAt = reader.readTimestamp();
+        final ZonedDateTime finishedAt = reader.readTimestamp();
+        final Author author = reader.readPresence() ? readAuthor(reader) : null;
+        final Creator creator = reader.readPresence() ? readCreator(reader) : null;
+        final Pipeline pipeline = reader.readPresence() ? readPipeline(reader) : null;
+        List<Job> jobs = null;
+        if (reader.readPresence()) {
+            final int size = reader.readSize();
+            jobs = new ArrayList<>(size);
+            for (int index = 0; index < size; index++) {
+                jobs.add(readJob(reader));
+            }
+        }
+        final RebuiltFrom rebuiltFrom = reader.readPresence()
+            ? new RebuiltFrom(reader.readString(), reader.readLong(), reader.readString())
+            : null;
+        final PullRequest pullRequest = reader.readPresence()
+            ? new PullRequest(reader.readString(), reader.readString(), reader.readString())
+            : null;
+        return new Build(
+            id, graphqlId, url, webUrl, number, state, blocked, message, commit, branch, source,
+            createdAt, scheduledAt, startedAt, finishedAt, author, creator, pipeline, jobs, rebuiltFrom, pullRequest
+        );
+    }
+
+    private static void writeJob(final CodecWriter writer, final Job job) {
+        writer.writeString(job.getId());
+        writer.writeString(job.getGraphqlId());
+        writer.writeString(job.getType());
+        writer.writeString(job.getName());
+        writer.writeString(job.getStepKey());
+        writer.writeString(job.getState() == null ? null : job.getState().name().toLowerCase(Locale.ROOT));
+        writer.writeString(job.getWebUrl());
+        writer.writeString(job.getLogUrl());
+        writer.writeString(job.getRawLogUrl());
+        writer.writeString(job.getCommand());
+        writer.writeBoolean(job.isSoftFailed());
+        writer.writeLong(job.getExitStatus());
+        writer.writeString(job.getArtifactPaths());
+        if (writer.writePresence(job.getAgent())) {
+            writeAgent(writer, job.getAgent());
+        }
+        writer.writeTimestamp(job.getCreatedAt());
+        writer.writeTimestamp(job.getScheduledAt());
+        writer.writeTimestamp(job.getRunnableAt());
+        writer.writeTimestamp(job.getStartedAt());
+        writer.writeTimestamp(job.getFinishedAt());
+        writer.writeBoolean(job.isRetried());
+        writer.writeString(job.getRetriedInJobId());
+        writer.writeLong(job.getRetriesCount());
+        writer.writeString(job.getRetryType());
+        writer.writeInteger(job.getParallelGroupIndex());
+        writer.writeInteger(job.getParallelGroupTotal());
+    }
+
+    private static Job readJob(final CodecReader reader) {
+        final String id = reader.readString();
+        final String graphqlId = reader.readString();
+        final String type = reader.readString();
+        final String name = reader.readString();
+        final String stepKey = reader.readString();
+        final String state = reader.readString();
+        final String webUrl = reader.readString();
+        final String logUrl = reader.readString();
+        final String rawLogUrl = reader.readString();
+        final String command = reader.readString();
+        final boolean softFailed = reader.readBoolean();
+        final int exitStatus = (int) reader.readLong();
+        final String artifactPaths = reader.readString();
+        final Agent agent = reader.readPresence() ? readAgent(reader) : null;
+        final ZonedDateTime createdAt = reader.readTimestamp();
+        final ZonedDateTime scheduledAt = reader.readTimestamp();
+        final ZonedDateTime runnableAt = reader.readTimestamp();
+        final ZonedDateTime startedAt = reader.readTimestamp();
+        final ZonedDateTime finishedAt = reader.readTimestamp();
+        final boolean retried = reader.readBoolean();
+        final String retriedInJobId = reader.readString();
+        final long retriesCount = reader.readLong();
+        final String retryType = reader.readString();
+        final Integer parallelGroupIndex = reader.readInteger();
+        final Integer parallelGroupTotal = reader.readInteger();
+        return new Job(
+            id, graphqlId, type, name, stepKey, state, webUrl, logUrl, rawLogUrl, command, softFailed, exitStatus, artifactPaths,
+            agent, createdAt, scheduledAt, runnableAt, startedAt, finishedAt, retried, retriedInJobId, retriesCount, retryType,
+            parallelGroupIndex, parallelGroupTotal
+        );
+    }
+
+    private static void writeAgent(final CodecWriter writer, final Agent agent) {
+        writer.writeString(agent.getId());
+        writer.writeString(agent.getGraphqlId());
+        writer.writeString(agent.getUrl());
+        writer.writeString(agent.getWebUrl());
+        writer.writeString(agent.getName());
+        writer.writeString(agent.getConnectionState());
+        writer.writeString(agent.getHostname());
+        writer.writeString(agent.getIpAddress());
+        writer.writeString(agent.getUserAgent());
+        writer.writeTimestamp(agent.getCreatedAt());
+        if (writer.writePresence(agent.getCreator())) {
+            writeCreator(writer, agent.getCreator());
+        }
+    }
+
+    private static Agent readAgent(final CodecReader reader) {
+        return new Agent(
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readTimestamp(),
+            reader.readPresence() ? readCreator(reader) : null
+        );
+    }
+
+    private static void writeAuthor(final CodecWriter writer, final Author author) {
+        writer.writeString(author.getUsername());
+        writer.writeString(author.getName());
+        writer.writeString(author.getEmail());
+    }
+
+    private static Author readAuthor(final CodecReader reader) {
+        return new Author(reader.readString(), reader.readString(), reader.readString());
+    }
+
+    private static void writeCreator(final CodecWriter writer, final Creator creator) {
+        writer.writeString(creator.getId());
+        writer.writeString(creator.getName());
+        writer.writeString(creator.getEmail());
+        writer.writeString(creator.getAvatarUrl());
+        writer.writeTimestamp(creator.getCreatedAt());
+    }
+
+    private static Creator readCreator(final CodecReader reader) {
+        return new Creator(reader.readString(), reader.readString(), reader.readString(), reader.readString(), reader.readTimestamp());
+    }
+
+    private static void writePipeline(final CodecWriter writer, final Pipeline pipeline) {
+        writer.writeString(pipeline.getId());
+        writer.writeString(pipeline.getGraphqlId());
+        writer.writeString(pipeline.getWebUrl());
+        writer.writeString(pipeline.getUrl());
+        writer.writeString(pipeline.getName());
+        writer.writeString(pipeline.getDescription());
+        writer.writeString(pipeline.getSlug());
+        writer.writeString(pipeline.getRepository());
+        writer.writeString(pipeline.getClusterId());
+        writer.writeBoolean(pipeline.isSkipQueuedBranchBuilds());
+        writer.writeBoolean(pipeline.isCancelRunningBranchBuilds());
+        writer.writeBoolean(pipeline.isAllowRebuilds());
+        writer.writeString(pipeline.getBuildsUrl());
+        writer.writeString(pipeline.getBadgeUrl());
+        writer.writeTimestamp(pipeline.getCreatedAt());
+        writer.writeLong(pipeline.getScheduledBuildsCount());
+        writer.writeLong(pipeline.getRunningBuildsCount());
+        writer.writeLong(pipeline.getScheduledJobsCount());
+        writer.writeLong(pipeline.getRunningJobsCount());
+        writer.writeLong(pipeline.getWaitingJobsCount());
+        if (writer.writePresence(pipeline.getProvider())) {
+            writer.writeString(pipeline.getProvider().getId());
+            writer.writeString(pipeline.getProvider().getWebhookUrl());
+            writer.writeMap(pipeline.getProvider().getSettings());
+        }
+        writer.writeSize(pipeline.getSteps().size());
+        for (final Step step : pipeline.getSteps()) {
+            writeStep(writer, step);
+        }
+    }
+
+    private static Pipeline readPipeline(final CodecReader reader) {
+        final String id = reader.readString();
+        final String graphqlId = reader.readString();
+        final String webUrl = reader.readString();
+        final String url = reader.readString();
+        final String name = reader.readString();
+        final String description = reader.readString();
+        final String slug = reader.readString();
+        final String repository = reader.readString();
+        final String clusterId = reader.readString();
+        final boolean skipQueuedBranchBuilds = reader.readBoolean();
+        final boolean cancelRunningBranchBuilds = reader.readBoolean();
+        final boolean allowRebuilds = reader.readBoolean();
+        final String buildsUrl = reader.readString();
+        final String badgeUrl = reader.readString();
+        final ZonedDateTime createdAt = reader.readTimestamp();
+        final long scheduledBuildsCount = reader.readLong();
+        final long runningBuildsCount = reader.readLong();
+        final long scheduledJobsCount = reader.readLong();
+        final long runningJobsCount = reader.readLong();
+        final long waitingJobsCount = reader.readLong();
+        final Provider provider = reader.readPresence()
+            ? new Provider(reader.readString(), reader.readString(), reader.readMap())
+            : null;
+        final int stepCount = reader.readSize();
+        final List<Step> steps = new ArrayList<>(stepCount);
+        for (int index = 0; index < stepCount; index++) {
+            steps.add(readStep(reader));
+        }
+        return new Pipeline(
+            id, graphqlId, webUrl, url, name, description, slug, repository, clusterId,
+            skipQueuedBranchBuilds, cancelRunningBranchBuilds, allowRebuilds, buildsUrl, badgeUrl, createdAt,
+            scheduledBuildsCount, runningBuildsCount, scheduledJobsCount, runningJobsCount, waitingJobsCount, provider, steps
+        );
+    }
+
+    private static void writeStep(final CodecWriter writer, final Step step) {
+        writer.writeString(step.getType());
+        writer.writeString(step.getName());
+        writer.writeString(step.getCommand());
+        writer.writeString(step.getArtifactPaths());
+        writer.writeString(step.getBranchConfiguration());
+        writer.writeMap(step.getEnv());
+        writer.writeLong(step.getTimeoutInMinutes());
+        writer.writeStrings(step.getAgentQueryRules());
+    }
+
+    private static Step readStep(final CodecReader reader) {
+        return new Step(
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readMap(),
+            reader.readLong(),
+            reader.readStrings()
+        );
+    }
+
+    private static void writeArtifact(final CodecWriter writer, final Artifact artifact) {
+        writer.writeString(artifact.getId());
+        writer.writeString(artifact.getJobId());
+        writer.writeString(artifact.getUrl());
+        writer.writeString(artifact.getDownloadUrl());
+        writer.writeString(artifact.getState());
+        writer.writeString(artifact.getPath());
+        writer.writeString(artifact.getDirname());
+        writer.writeString(artifact.getFilename());
+        writer.writeString(artifact.getMimeType());
+        writer.writeLong(artifact.getFileSize());
+        writer.writeString(artifact.getGlobPath());
+        writer.writeString(artifact.getOriginalPath());
+        writer.writeString(artifact.getSha1sum());
+    }
+
+    private static Artifact readArtifact(final CodecReader reader) {
+        return new Artifact(
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString(),
+            reader.readLong(),
+            reader.readString(),
+            reader.readString(),
+            reader.readString()
+        );
+    }
+}
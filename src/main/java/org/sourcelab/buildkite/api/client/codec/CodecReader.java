@@ -0,0 +1,145 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.codec;
+
+import org.sourcelab.buildkite.api.client.exception.CodecException;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads values written by a {@link CodecWriter}.  Callers are expected to translate
+ * {@link java.nio.BufferUnderflowException}s from truncated content into {@link CodecException}s.
+ */
+final class CodecReader {
+    private final ByteBuffer buffer;
+
+    /**
+     * Strings in the order they were first written.
+     */
+    private final List<String> dictionary = new ArrayList<>();
+
+    CodecReader(final ByteBuffer buffer) {
+        this.buffer = buffer;
+    }
+
+    boolean hasRemaining() {
+        return buffer.hasRemaining();
+    }
+
+    int readByte() {
+        return buffer.get() & 0xFF;
+    }
+
+    long readVarInt() {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte next = buffer.get();
+            value |= (long) (next & 0x7F) << shift;
+            if ((next & 0x80) == 0) {
+                return value;
+            }
+        }
+        throw new CodecException("Malformed variable length integer.");
+    }
+
+    long readLong() {
+        final long value = readVarInt();
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    int readSize() {
+        final long size = readVarInt();
+        // Every element takes at least one byte, so larger sizes can only come from corrupt content.
+        if (size < 0 || size > buffer.remaining()) {
+            throw new CodecException("Invalid size " + size + ".");
+        }
+        return (int) size;
+    }
+
+    boolean readBoolean() {
+        return buffer.get() != 0;
+    }
+
+    boolean readPresence() {
+        return buffer.get() != CodecWriter.NULL;
+    }
+
+    Integer readInteger() {
+        return readPresence() ? (int) readLong() : null;
+    }
+
+    String readString() {
+        final long tag = readVarInt();
+        if (tag == CodecWriter.NULL) {
+            return null;
+        }
+        if (tag >= CodecWriter.STRING_REFERENCE) {
+            final long reference = tag - CodecWriter.STRING_REFERENCE;
+            if (reference >= dictionary.size()) {
+                throw new CodecException("Invalid string reference " + reference + ".");
+            }
+            return dictionary.get((int) reference);
+        }
+        final int length = readSize();
+        final String value = new String(buffer.array(), buffer.arrayOffset() + buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        dictionary.add(value);
+        return value;
+    }
+
+    ZonedDateTime readTimestamp() {
+        final int encoding = readByte();
+        switch (encoding) {
+            case CodecWriter.NULL:
+                return null;
+            case CodecWriter.TIMESTAMP_MILLIS:
+                return ZonedDateTime.ofInstant(Instant.ofEpochMilli(readLong()), CodecWriter.UTC);
+            case CodecWriter.TIMESTAMP_EXTENDED:
+                final Instant instant = Instant.ofEpochSecond(readLong(), readVarInt());
+                return ZonedDateTime.ofInstant(instant, ZoneId.of(readString()));
+            default:
+                throw new CodecException("Unknown timestamp encoding " + encoding + ".");
+        }
+    }
+
+    List<String> readStrings() {
+        final int size = readSize();
+        final List<String> values = new ArrayList<>(size);
+        for (int index = 0; index < size; index++) {
+            values.add(readString());
+        }
+        return values;
+    }
+
+    Map<String, String> readMap() {
+        final int size = readSize();
+        final Map<String, String> values = new HashMap<>();
+        for (int index = 0; index < size; index++) {
+            values.put(readString(), readString());
+        }
+        return values;
+    }
+}
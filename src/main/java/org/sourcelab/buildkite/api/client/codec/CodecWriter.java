@@ -0,0 +1,126 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.codec;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Appends encoded values to a growable buffer, see {@link BuildCodec} for the format.
+ */
+final class CodecWriter extends ByteArrayOutputStream {
+    static final ZoneId UTC = ZoneId.of("UTC");
+
+    static final int NULL = 0;
+    static final int PRESENT = 1;
+    static final int STRING_LITERAL = 1;
+    static final int STRING_REFERENCE = 2;
+    static final int TIMESTAMP_MILLIS = 1;
+    static final int TIMESTAMP_EXTENDED = 2;
+
+    /**
+     * Index of each distinct string written so far.
+     */
+    private final Map<String, Integer> dictionary = new HashMap<>();
+
+    CodecWriter() {
+        super(1024);
+    }
+
+    void writeVarInt(long value) {
+        while ((value & ~0x7FL) != 0) {
+            write((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        write((int) value);
+    }
+
+    void writeLong(final long value) {
+        writeVarInt((value << 1) ^ (value >> 63));
+    }
+
+    void writeSize(final int size) {
+        writeVarInt(size);
+    }
+
+    void writeBoolean(final boolean value) {
+        write(value ? 1 : 0);
+    }
+
+    boolean writePresence(final Object value) {
+        write(value == null ? NULL : PRESENT);
+        return value != null;
+    }
+
+    void writeInteger(final Integer value) {
+        if (writePresence(value)) {
+            writeLong(value);
+        }
+    }
+
+    void writeString(final String value) {
+        if (value == null) {
+            writeVarInt(NULL);
+            return;
+        }
+        final Integer reference = dictionary.get(value);
+        if (reference != null) {
+            writeVarInt(STRING_REFERENCE + (long) reference);
+            return;
+        }
+        dictionary.put(value, dictionary.size());
+        final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarInt(STRING_LITERAL);
+        writeVarInt(bytes.length);
+        write(bytes, 0, bytes.length);
+    }
+
+    void writeTimestamp(final ZonedDateTime value) {
+        if (value == null) {
+            write(NULL);
+        } else if (value.getNano() % 1_000_000 == 0 && UTC.equals(value.getZone())) {
+            write(TIMESTAMP_MILLIS);
+            writeLong(value.toInstant().toEpochMilli());
+        } else {
+            write(TIMESTAMP_EXTENDED);
+            writeLong(value.toEpochSecond());
+            writeVarInt(value.getNano());
+            writeString(value.getZone().getId());
+        }
+    }
+
+    void writeStrings(final List<String> values) {
+        writeSize(values.size());
+        for (final String value : values) {
+            writeString(value);
+        }
+    }
+
+    void writeMap(final Map<String, String> values) {
+        writeSize(values.size());
+        for (final Map.Entry<String, String> entry : values.entrySet()) {
+            writeString(entry.getKey());
+            writeString(entry.getValue());
+        }
+    }
+}
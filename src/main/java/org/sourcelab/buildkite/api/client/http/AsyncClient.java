@@ -0,0 +1,60 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.http;
+
+import org.sourcelab.buildkite.api.client.request.Request;
+
+import java.io.Closeable;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Abstraction around an underlying non-blocking Http Client library.  Requests are submitted
+ * without blocking the calling thread, and the result is delivered via the returned future.
+ */
+public interface AsyncClient extends Closeable {
+    /**
+     * Submit the supplied request, returning a future that completes with the server's response.
+     * @param request The request to execute.
+     * @return Future that completes with the API response, or completes exceptionally
+     *         with an {@link org.sourcelab.buildkite.api.client.exception.HttpRequestException}.
+     */
+    CompletableFuture<HttpResult> executeRequestAsync(final Request<?> request);
+
+    /**
+     * Statistics about the underlying connection pool, if the implementation pools connections.
+     * @return Snapshot of the connection pool statistics, or empty if the implementation does not pool connections.
+     */
+    default Optional<ConnectionPoolStats> getConnectionPoolStats() {
+        return Optional.empty();
+    }
+
+    /**
+     * The conditional request response cache, if the implementation caches responses.
+     * @return The response cache, or empty if responses are not cached.
+     */
+    default Optional<ResponseCache> getResponseCache() {
+        return Optional.empty();
+    }
+
+    /**
+     * Close the Client implementation and release any resources it
+     * may have open.
+     */
+    void close();
+}
@@ -20,6 +20,7 @@ package org.sourcelab.buildkite.api.client.http;
 import org.sourcelab.buildkite.api.client.request.Request;
 
 import java.io.Closeable;
+import java.util.Optional;
 
 /**
  * Abstraction around underlying Http Client library.  Allows for replacing the
@@ -33,6 +34,22 @@ public interface Client extends Closeable {
      */
     HttpResult executeRequest(final Request<?> request);
 
+    /**
+     * Statistics about the underlying connection pool, if the implementation pools connections.
+     * @return Snapshot of the connection pool statistics, or empty if the implementation does not pool connections.
+     */
+    default Optional<ConnectionPoolStats> getConnectionPoolStats() {
+        return Optional.empty();
+    }
+
+    /**
+     * The conditional request response cache, if the implementation caches responses.
+     * @return The response cache, or empty if responses are not cached.
+     */
+    default Optional<ResponseCache> getResponseCache() {
+        return Optional.empty();
+    }
+
     /**
      * Close the Client implementation and release any resources it
      * may have open.
@@ -0,0 +1,85 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.http;
+
+/**
+ * Point in time snapshot of the underlying Http connection pool.
+ */
+public class ConnectionPoolStats {
+    private final int leased;
+    private final int pending;
+    private final int available;
+    private final int max;
+
+    /**
+     * Constructor.
+     * @param leased Number of connections currently leased/in use.
+     * @param pending Number of requests waiting to lease a connection.
+     * @param available Number of idle connections available for re-use.
+     * @param max Maximum number of connections the pool allows.
+     */
+    public ConnectionPoolStats(final int leased, final int pending, final int available, final int max) {
+        this.leased = leased;
+        this.pending = pending;
+        this.available = available;
+        this.max = max;
+    }
+
+    /**
+     * Number of connections currently leased/in use.
+     * @return Number of connections currently leased/in use.
+     */
+    public int getLeased() {
+        return leased;
+    }
+
+    /**
+     * Number of requests currently blocked waiting to lease a connection.  A value consistently above
+     * zero indicates the pool is undersized for the workload.
+     * @return Number of requests waiting to lease a connection.
+     */
+    public int getPending() {
+        return pending;
+    }
+
+    /**
+     * Number of idle connections available for re-use.
+     * @return Number of idle connections available for re-use.
+     */
+    public int getAvailable() {
+        return available;
+    }
+
+    /**
+     * Maximum number of connections the pool allows.
+     * @return Maximum number of connections the pool allows.
+     */
+    public int getMax() {
+        return max;
+    }
+
+    @Override
+    public String toString() {
+        return "ConnectionPoolStats{"
+            + "leased=" + leased
+            + ", pending=" + pending
+            + ", available=" + available
+            + ", max=" + max
+            + '}';
+    }
+}
@@ -0,0 +1,228 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.http;
+
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClientBuilder;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.Header;
+import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.sourcelab.buildkite.api.client.Configuration;
+import org.sourcelab.buildkite.api.client.exception.HttpRequestException;
+import org.sourcelab.buildkite.api.client.request.HttpMethod;
+import org.sourcelab.buildkite.api.client.request.Request;
+
+import java.net.URI;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Non-blocking HTTP Client implementation making use of the HttpComponents 5.x async client.
+ *
+ * All requests are multiplexed over a single IO reactor, so many requests may be in flight at once
+ * without dedicating a thread to each.  Resources are released when {@link #close()} is called.
+ */
+public class HttpComponentsAsyncClient implements AsyncClient {
+    /**
+     * User supplied API Client configuration.
+     */
+    private final Configuration configuration;
+
+    /**
+     * Pooled connection manager, held for the lifetime of this client.
+     */
+    private final PoolingAsyncClientConnectionManager connectionManager;
+
+    /**
+     * Underlying HttpClient, held for the lifetime of this client.
+     */
+    private final CloseableHttpAsyncClient httpClient;
+
+    /**
+     * Conditional request response cache, or null if disabled.
+     */
+    private final ResponseCache responseCache;
+
+    /**
+     * Constructor.
+     * @param configuration User supplied API Client configuration.
+     */
+    public HttpComponentsAsyncClient(final Configuration configuration) {
+        this.configuration = configuration;
+
+        final ConnectionConfig connectionConfig = ConnectionConfig.custom()
+            .setTimeToLive(TimeValue.of(configuration.getConnectionTimeToLive().toMillis(), TimeUnit.MILLISECONDS))
+            .build();
+
+        this.connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(configuration.getMaxConnectionsTotal())
+            .setMaxConnPerRoute(configuration.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(connectionConfig)
+            .build();
+
+        // Inject Auth Header
+        final List<Header> defaultHeaders = new ArrayList<>();
+        defaultHeaders.add(new BasicHeader("Authorization", "Bearer " + configuration.getApiToken(), true));
+
+        this.httpClient = HttpAsyncClientBuilder.create()
+            .setDefaultHeaders(defaultHeaders)
+            .setConnectionManager(connectionManager)
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(configuration.getConnectionIdleTimeout().toMillis(), TimeUnit.MILLISECONDS))
+            // Retries are handled by the configured RetryPolicy.
+            .disableAutomaticRetries()
+            .build();
+        this.httpClient.start();
+
+        this.responseCache = configuration.isResponseCacheEnabled()
+            ? new ResponseCache(configuration.getResponseCacheMaxEntries(), configuration.getResponseCacheMaxBytes())
+            : null;
+    }
+
+    @Override
+    public CompletableFuture<HttpResult> executeRequestAsync(final Request<?> request) {
+        final CompletableFuture<HttpResult> future = new CompletableFuture<>();
+        final URI uri;
+        final SimpleHttpRequest httpRequest;
+        try {
+            uri = HttpComponentsClient.generateRequestUri(configuration.getApiUrl(), request);
+            httpRequest = buildRequest(uri, request);
+        } catch (final Exception exception) {
+            future.completeExceptionally(new HttpRequestException(exception.getMessage(), exception));
+            return future;
+        }
+
+        // If we have a cached response, only ask for the response if it has changed.
+        final String cacheKey;
+        final HttpResult cached;
+        if (responseCache != null && request.getMethod() == HttpMethod.GET) {
+            cacheKey = uri.toString();
+            cached = responseCache.get(cacheKey).orElse(null);
+            if (cached != null) {
+                responseCache.getConditionalHeaders(cached)
+                    .forEach((header) -> httpRequest.addHeader(header.getName(), header.getValue()));
+            }
+        } else {
+            cacheKey = null;
+            cached = null;
+        }
+
+        httpClient.execute(httpRequest, new FutureCallback<SimpleHttpResponse>() {
+            @Override
+            public void completed(final SimpleHttpResponse response) {
+                final HttpResult result = toHttpResult(response);
+                future.complete(cacheKey == null ? result : responseCache.resolve(cacheKey, cached, result));
+            }
+
+            @Override
+            public void failed(final Exception exception) {
+                future.completeExceptionally(new HttpRequestException(exception.getMessage(), exception));
+            }
+
+            @Override
+            public void cancelled() {
+                future.cancel(false);
+            }
+        });
+        return future;
+    }
+
+    @Override
+    public Optional<ConnectionPoolStats> getConnectionPoolStats() {
+        final PoolStats stats = connectionManager.getTotalStats();
+        return Optional.of(new ConnectionPoolStats(
+            stats.getLeased(),
+            stats.getPending(),
+            stats.getAvailable(),
+            stats.getMax()
+        ));
+    }
+
+    @Override
+    public Optional<ResponseCache> getResponseCache() {
+        return Optional.ofNullable(responseCache);
+    }
+
+    /**
+     * Shuts down the IO reactor and closes the connection pool.
+     */
+    @Override
+    public void close() {
+        // Closing the client also shuts down the connection manager it owns.
+        httpClient.close(CloseMode.GRACEFUL);
+    }
+
+    /**
+     * Translate the library agnostic Request into an HttpComponents request.
+     *
+     * @param uri The full URI to request.
+     * @param request The request to translate.
+     * @return HttpComponents request instance.
+     */
+    private SimpleHttpRequest buildRequest(final URI uri, final Request<?> request) {
+        switch (request.getMethod()) {
+            case GET:
+                return SimpleRequestBuilder.get(uri).build();
+            case DELETE:
+                return SimpleRequestBuilder.delete(uri).build();
+            case PUT:
+                return SimpleRequestBuilder.put(uri).build();
+            case POST:
+                return SimpleRequestBuilder.post(uri)
+                    .setBody(request.getRequestBody(), ContentType.DEFAULT_TEXT)
+                    .build();
+            default:
+                throw new IllegalArgumentException("Invalid HttpType: " + request.getMethod());
+        }
+    }
+
+    /**
+     * Translate the HttpComponents response into our library agnostic result.
+     *
+     * @param response The response to translate.
+     * @return Library agnostic result.
+     */
+    private HttpResult toHttpResult(final SimpleHttpResponse response) {
+        // Collect response headers.
+        final List<HttpHeader> allHeaders = new ArrayList<>();
+        for (final Header header : response.getHeaders()) {
+            allHeaders.add(new HttpHeader(header.getName(), header.getValue()));
+        }
+
+        final ContentType contentType = response.getContentType();
+        return new HttpResult(
+            response.getCode(),
+            response.getBodyBytes(),
+            contentType == null ? null : contentType.getCharset(),
+            new HttpHeaders(allHeaders)
+        );
+    }
+}
@@ -21,17 +21,23 @@ import org.apache.hc.client5.http.classic.methods.HttpDelete;
 import org.apache.hc.client5.http.classic.methods.HttpGet;
 import org.apache.hc.client5.http.classic.methods.HttpPost;
 import org.apache.hc.client5.http.classic.methods.HttpPut;
+import org.apache.hc.client5.http.config.ConnectionConfig;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
 import org.apache.hc.client5.http.impl.classic.CloseableHttpResponse;
 import org.apache.hc.client5.http.impl.classic.HttpClientBuilder;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
 import org.apache.hc.core5.http.ClassicHttpRequest;
+import org.apache.hc.core5.http.ContentType;
 import org.apache.hc.core5.http.Header;
 import org.apache.hc.core5.http.HttpEntity;
-import org.apache.hc.core5.http.ParseException;
 import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apache.hc.core5.http.io.entity.StringEntity;
 import org.apache.hc.core5.http.message.BasicHeader;
+import org.apache.hc.core5.io.CloseMode;
 import org.apache.hc.core5.net.URIBuilder;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
 import org.sourcelab.buildkite.api.client.Configuration;
 import org.sourcelab.buildkite.api.client.exception.HttpRequestException;
 import org.sourcelab.buildkite.api.client.request.Request;
@@ -40,12 +46,19 @@ import org.sourcelab.buildkite.api.client.request.RequestParameter;
 import java.io.IOException;
 import java.net.URI;
 import java.net.URISyntaxException;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Underlying HTTP Client implementation making use of HttpComponents 5.x library.
+ *
+ * A single pooled {@link CloseableHttpClient} is created when this instance is constructed and is
+ * re-used for all requests, allowing TCP/TLS connections to be kept alive between requests.
+ * Resources are released when {@link #close()} is called.
  */
 public class HttpComponentsClient implements Client {
     /**
@@ -53,20 +66,57 @@ public class HttpComponentsClient implements Client {
      */
     private final Configuration configuration;
 
+    /**
+     * Pooled connection manager, held for the lifetime of this client.
+     */
+    private final PoolingHttpClientConnectionManager connectionManager;
+
+    /**
+     * Underlying HttpClient, held for the lifetime of this client.
+     */
+    private final CloseableHttpClient httpClient;
+
+    /**
+     * Conditional request response cache, or null if disabled.
+     */
+    private final ResponseCache responseCache;
+
     /**
      * Constructor.
      * @param configuration User supplied API Client configuration.
      */
     public HttpComponentsClient(final Configuration configuration) {
         this.configuration = configuration;
+        this.connectionManager = createConnectionManager();
+        this.httpClient = createClient();
+        this.responseCache = configuration.isResponseCacheEnabled()
+            ? new ResponseCache(configuration.getResponseCacheMaxEntries(), configuration.getResponseCacheMaxBytes())
+            : null;
     }
 
     /**
-     * Get reference to underlying HttpClient to make requests against.
+     * Create the pooled connection manager based on the user supplied configuration.
+     *
+     * @return Pooled connection manager instance.
+     */
+    private PoolingHttpClientConnectionManager createConnectionManager() {
+        final ConnectionConfig connectionConfig = ConnectionConfig.custom()
+            .setTimeToLive(TimeValue.of(configuration.getConnectionTimeToLive().toMillis(), TimeUnit.MILLISECONDS))
+            .build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+            .setMaxConnTotal(configuration.getMaxConnectionsTotal())
+            .setMaxConnPerRoute(configuration.getMaxConnectionsPerRoute())
+            .setDefaultConnectionConfig(connectionConfig)
+            .build();
+    }
+
+    /**
+     * Create the underlying HttpClient to make requests against.
      *
      * @return HttpClient instance.
      */
-    private CloseableHttpClient getClient() {
+    private CloseableHttpClient createClient() {
         final HttpClientBuilder builder = HttpClientBuilder.create();
 
         // Inject Auth Header
@@ -74,6 +124,15 @@ public class HttpComponentsClient implements Client {
         defaultHeaders.add(new BasicHeader("Authorization", "Bearer " + configuration.getApiToken(), true));
         builder.setDefaultHeaders(defaultHeaders);
 
+        // Attach pooled connection manager, and have a background thread evict stale connections.
+        builder
+            .setConnectionManager(connectionManager)
+            .evictExpiredConnections()
+            .evictIdleConnections(TimeValue.of(configuration.getConnectionIdleTimeout().toMillis(), TimeUnit.MILLISECONDS));
+
+        // Retries are handled by the configured RetryPolicy, so disable HttpClient's own retry strategy.
+        builder.disableAutomaticRetries();
+
         // Construct builder and return.
         return builder.build();
     }
@@ -85,60 +144,88 @@ public class HttpComponentsClient implements Client {
      */
     @Override
     public HttpResult executeRequest(final Request request) {
-        try (final CloseableHttpClient httpClient = getClient()) {
-            switch (request.getMethod()) {
-                case GET:
-                    return executeGetRequest(request, httpClient);
-                case DELETE:
-                    return executeDeleteRequest(request, httpClient);
-                case PUT:
-                    return executePutRequest(request, httpClient);
-                case POST:
-                    return executePostRequest(request, httpClient);
-                default:
-                    throw new IllegalArgumentException("Invalid HttpType: " + request.getMethod());
-            }
-        } catch (final IOException ioException) {
-            throw new HttpRequestException(ioException.getMessage(), ioException);
+        switch (request.getMethod()) {
+            case GET:
+                return executeGetRequest(request);
+            case DELETE:
+                return executeDeleteRequest(request);
+            case PUT:
+                return executePutRequest(request);
+            case POST:
+                return executePostRequest(request);
+            default:
+                throw new IllegalArgumentException("Invalid HttpType: " + request.getMethod());
         }
     }
 
+    @Override
+    public Optional<ConnectionPoolStats> getConnectionPoolStats() {
+        final PoolStats stats = connectionManager.getTotalStats();
+        return Optional.of(new ConnectionPoolStats(
+            stats.getLeased(),
+            stats.getPending(),
+            stats.getAvailable(),
+            stats.getMax()
+        ));
+    }
+
+    @Override
+    public Optional<ResponseCache> getResponseCache() {
+        return Optional.ofNullable(responseCache);
+    }
+
+    /**
+     * Closes the underlying HttpClient and its connection pool.
+     */
     @Override
     public void close() {
-        // Not required in this implementation.
+        // Closing the client also shuts down the connection manager it owns.
+        httpClient.close(CloseMode.GRACEFUL);
     }
 
-    private HttpResult executePostRequest(final Request request, final CloseableHttpClient httpClient) {
+    private HttpResult executePostRequest(final Request request) {
         try {
             final HttpPost httpPost = new HttpPost(generateRequestUri(request));
             httpPost.setEntity(new StringEntity(request.getRequestBody()));
-            return submitRequest(httpPost, httpClient);
+            return submitRequest(httpPost);
         } catch (final Exception exception) {
             throw new HttpRequestException(exception.getMessage(), exception);
         }
     }
 
-    private HttpResult executePutRequest(final Request request, final CloseableHttpClient httpClient) {
+    private HttpResult executePutRequest(final Request request) {
         try {
             final HttpPut httpPut = new HttpPut(generateRequestUri(request));
-            return submitRequest(httpPut, httpClient);
+            return submitRequest(httpPut);
         } catch (final Exception exception) {
             throw new HttpRequestException(exception.getMessage(), exception);
         }
     }
 
-    private HttpResult executeGetRequest(final Request request, final CloseableHttpClient httpClient) {
+    private HttpResult executeGetRequest(final Request request) {
         try {
-            final HttpGet httpGet = new HttpGet(generateRequestUri(request));
-            return submitRequest(httpGet, httpClient);
+            final URI uri = generateRequestUri(request);
+            final HttpGet httpGet = new HttpGet(uri);
+            if (responseCache == null) {
+                return submitRequest(httpGet);
+            }
+
+            // If we have a cached response, only ask for the response if it has changed.
+            final String cacheKey = uri.toString();
+            final HttpResult cached = responseCache.get(cacheKey).orElse(null);
+            if (cached != null) {
+                responseCache.getConditionalHeaders(cached)
+                    .forEach((header) -> httpGet.addHeader(header.getName(), header.getValue()));
+            }
+            return responseCache.resolve(cacheKey, cached, submitRequest(httpGet));
         } catch (final Exception exception) {
             throw new HttpRequestException(exception.getMessage(), exception);
         }
     }
 
-    private HttpResult executeDeleteRequest(final Request request, final CloseableHttpClient httpClient) {
+    private HttpResult executeDeleteRequest(final Request request) {
         final HttpDelete httpDelete = new HttpDelete(generateRequestUri(request));
-        return submitRequest(httpDelete, httpClient);
+        return submitRequest(httpDelete);
     }
 
     /**
@@ -149,16 +236,28 @@ public class HttpComponentsClient implements Client {
      * @throws HttpRequestException on URI exceptions.
      */
     private URI generateRequestUri(final Request request) {
+        return generateRequestUri(configuration.getApiUrl(), request);
+    }
+
+    /**
+     * Generate URI for the request, including any request parameters.
+     *
+     * @param apiUrl The base API url.
+     * @param request The request to generate URI for.
+     * @return Generate URI for the request, including any request parameters.
+     * @throws HttpRequestException on URI exceptions.
+     */
+    static URI generateRequestUri(final String apiUrl, final Request request) {
         // Construct URI including our request parameters.
         try {
-            final String path = configuration.getApiUrl() + request.getPath();
+            final String path = apiUrl + request.getPath();
             final URIBuilder uriBuilder = new URIBuilder(path)
                     .setCharset(StandardCharsets.UTF_8);
 
             // Attach request parameters
             for (final RequestParameter requestParameter : request.getRequestParameters().getParameters()) {
                 for (final String value : requestParameter.getValues()) {
-                    uriBuilder.setParameter(requestParameter.getName(), value);
+                    uriBuilder.addParameter(requestParameter.getName(), value);
                 }
             }
             return uriBuilder.build();
@@ -167,15 +266,21 @@ public class HttpComponentsClient implements Client {
         }
     }
 
-    private HttpResult submitRequest(final ClassicHttpRequest httpRequest, final CloseableHttpClient httpClient) {
+    private HttpResult submitRequest(final ClassicHttpRequest httpRequest) {
         try (final CloseableHttpResponse response = httpClient.execute(httpRequest)) {
+            // Buffer the body as raw bytes, it is only decoded into a String on demand.
             final HttpEntity entity = response.getEntity();
-            final String responseStr;
+            final byte[] responseBytes;
+            Charset charset = null;
             if (entity != null) {
-                responseStr = EntityUtils.toString(entity);
+                responseBytes = EntityUtils.toByteArray(entity);
+                final ContentType contentType = ContentType.parseLenient(entity.getContentType());
+                if (contentType != null) {
+                    charset = contentType.getCharset();
+                }
                 EntityUtils.consume(entity);
             } else {
-                responseStr = "";
+                responseBytes = null;
             }
 
             // Collect response headers.
@@ -187,13 +292,14 @@ public class HttpComponentsClient implements Client {
             // Build final abstracted result
             final HttpResult result = new HttpResult(
                     response.getCode(),
-                    responseStr,
+                    responseBytes,
+                    charset,
                     new HttpHeaders(allHeaders)
             );
 
             // and return it.
             return result;
-        } catch (final IOException | ParseException e) {
+        } catch (final IOException e) {
             throw new HttpRequestException(e.getMessage(), e);
         }
     }
@@ -23,6 +23,7 @@ import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -82,6 +83,24 @@ public class HttpHeaders {
         return headerMap.get(name).getValue();
     }
 
+    /**
+     * Find a header value by name, ignoring case.
+     * @param name Name of the header to find the value for.
+     * @return Header's value, or empty if no header with the given name exists.
+     */
+    public Optional<String> findHeader(final String name) {
+        Objects.requireNonNull(name);
+        final HttpHeader exactMatch = headerMap.get(name);
+        if (exactMatch != null) {
+            return Optional.of(exactMatch.getValue());
+        }
+        return headerMap.values()
+            .stream()
+            .filter((header) -> header.getName().equalsIgnoreCase(name))
+            .map(HttpHeader::getValue)
+            .findFirst();
+    }
+
     @Override
     public String toString() {
         return "HttpHeaders{"
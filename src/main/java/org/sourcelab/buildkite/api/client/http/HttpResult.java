@@ -17,12 +17,33 @@
 
 package org.sourcelab.buildkite.api.client.http;
 
+import org.sourcelab.buildkite.api.client.request.Request;
+import org.sourcelab.buildkite.api.client.response.parser.StringDeduplicator;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
 
 /**
  * Represents the Response from a Http Request.
+ *
+ * The response body is held as the raw bytes received from the server.  Response parsers should consume
+ * it via {@link #getContentStream()}, which avoids materializing the body as a String.  The String form is only
+ * decoded on demand via {@link #getContent()}, for example when reporting errors or trace logging.
  */
 public class HttpResult {
+    private static final byte[] EMPTY = new byte[0];
+
+    /**
+     * Parsed objects are estimated to retain this many times the size of the JSON they were parsed from, as each
+     * value becomes a field, a boxed value or a String, along with object headers and references.
+     */
+    static final int PARSED_SIZE_FACTOR = 3;
 
     /**
      * Http Status Code.
@@ -30,25 +51,73 @@ public class HttpResult {
     final int status;
 
     /**
-     * Response Body, in String form.
+     * Response Body, in raw byte form.
      */
-    final String content;
+    private final byte[] contentBytes;
+
+    /**
+     * Charset used to decode the response body into a String.
+     */
+    private final Charset charset;
+
+    /**
+     * Response Body, in String form. Lazily decoded.
+     */
+    private volatile String content;
 
     /**
      * Http Response Headers.
      */
     final HttpHeaders httpHeaders;
 
+    /**
+     * Object previously parsed from this result, shared with any copies made via {@link #withHttpHeaders(HttpHeaders)}.
+     */
+    private final AtomicReference<ParsedResponse> parsedResponse;
+
+    /**
+     * Table used to canonicalize repeating values while parsing, or null if not deduplicating.
+     */
+    private final StringDeduplicator stringDeduplicator;
+
     /**
      * Constructor.
      * @param status Status code.
-     * @param content String representation of the response.
+     * @param contentBytes Raw bytes of the response body.
+     * @param charset Charset of the response body, or null to default to UTF-8.
      * @param httpHeaders Http response headers.
      */
-    public HttpResult(final int status, final String content, final HttpHeaders httpHeaders) {
+    public HttpResult(final int status, final byte[] contentBytes, final Charset charset, final HttpHeaders httpHeaders) {
+        this(status, contentBytes, charset, null, httpHeaders, new AtomicReference<>(), null);
+    }
+
+    private HttpResult(
+        final int status,
+        final byte[] contentBytes,
+        final Charset charset,
+        final String content,
+        final HttpHeaders httpHeaders,
+        final AtomicReference<ParsedResponse> parsedResponse,
+        final StringDeduplicator stringDeduplicator
+    ) {
         this.status = status;
+        this.contentBytes = contentBytes == null ? EMPTY : contentBytes;
+        this.charset = charset == null ? StandardCharsets.UTF_8 : charset;
         this.content = content;
-        this.httpHeaders = httpHeaders;
+        this.httpHeaders = Objects.requireNonNull(httpHeaders);
+        this.parsedResponse = parsedResponse;
+        this.stringDeduplicator = stringDeduplicator;
+    }
+
+    /**
+     * Constructor.
+     * @param status Status code.
+     * @param content String representation of the response.
+     * @param httpHeaders Http response headers.
+     */
+    public HttpResult(final int status, final String content, final HttpHeaders httpHeaders) {
+        this(status, content == null ? EMPTY : content.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, httpHeaders);
+        this.content = content == null ? "" : content;
     }
 
     /**
@@ -64,20 +133,125 @@ public class HttpResult {
         return status;
     }
 
+    /**
+     * The response body decoded as a String.  Prefer {@link #getContentStream()} when parsing
+     * the response, as this decodes (and retains) a second copy of the body.
+     * @return The response body decoded as a String.
+     */
     public String getContent() {
-        return content;
+        String decoded = content;
+        if (decoded == null) {
+            decoded = new String(contentBytes, charset);
+            content = decoded;
+        }
+        return decoded;
+    }
+
+    /**
+     * Stream over the raw bytes of the response body.
+     * @return Stream over the raw bytes of the response body.
+     */
+    public InputStream getContentStream() {
+        return new ByteArrayInputStream(contentBytes);
+    }
+
+    /**
+     * Size of the response body, in bytes.
+     * @return Size of the response body, in bytes.
+     */
+    public int getContentLength() {
+        return contentBytes.length;
+    }
+
+    /**
+     * Estimate of the memory retained by this result: its body, the String decoded from it if any, and the object
+     * parsed from it if any.  Parsed objects can't be measured, so are estimated as {@link #PARSED_SIZE_FACTOR}
+     * times the size of the body they were parsed from.
+     * @return Estimated retained size, in bytes.
+     */
+    long getRetainedSizeEstimate() {
+        long size = contentBytes.length;
+        final String decoded = content;
+        if (decoded != null) {
+            size += 2L * decoded.length();
+        }
+        if (parsedResponse.get() != null) {
+            size += PARSED_SIZE_FACTOR * contentBytes.length;
+        }
+        return size;
     }
 
     public HttpHeaders getHttpHeaders() {
         return httpHeaders;
     }
 
+    /**
+     * Table used to canonicalize repeating values while parsing this result.
+     * @return Table used to canonicalize repeating values, or empty if values are not deduplicated.
+     */
+    public Optional<StringDeduplicator> getStringDeduplicator() {
+        return Optional.ofNullable(stringDeduplicator);
+    }
+
+    /**
+     * Parse this result using the given request.  The parsed object is retained, and handed back to any later
+     * request of the same type asking to parse this result, rather than parsing it again.  This allows results
+     * served from a {@link ResponseCache} to skip parsing entirely.
+     *
+     * @param <T> The parsed response object.
+     * @param request The request this result was returned for.
+     * @return Parsed response object.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T parseResponse(final Request<T> request) {
+        final ParsedResponse previous = parsedResponse.get();
+        final Object parserKey = request.getResponseParserKey();
+        if (previous != null && previous.parserKey.equals(parserKey)) {
+            return (T) previous.value;
+        }
+        final T parsed = request.parseResponse(this);
+        parsedResponse.set(new ParsedResponse(parserKey, parsed));
+        return parsed;
+    }
+
+    /**
+     * Create a copy of this result with different headers, sharing the body and any previously parsed object.
+     * @param httpHeaders Headers for the copy.
+     * @return Copy of this result with the given headers.
+     */
+    HttpResult withHttpHeaders(final HttpHeaders httpHeaders) {
+        return new HttpResult(status, contentBytes, charset, content, httpHeaders, parsedResponse, stringDeduplicator);
+    }
+
+    /**
+     * Create a copy of this result which canonicalizes repeating values through the given table when parsed,
+     * sharing the body and any previously parsed object.
+     * @param stringDeduplicator Table used to canonicalize repeating values, or null to not deduplicate.
+     * @return Copy of this result using the given table.
+     */
+    public HttpResult withStringDeduplicator(final StringDeduplicator stringDeduplicator) {
+        return new HttpResult(status, contentBytes, charset, content, httpHeaders, parsedResponse, stringDeduplicator);
+    }
+
     @Override
     public String toString() {
         return "HttpResult{"
             + "status=" + status
-            + ", content='" + content + '\''
+            + ", content='" + getContent() + '\''
             + ", httpHeaders=" + httpHeaders
             + '}';
     }
+
+    /**
+     * Object parsed from a result, along with the type of request which parsed it.
+     */
+    private static final class ParsedResponse {
+        private final Object parserKey;
+        private final Object value;
+
+        private ParsedResponse(final Object parserKey, final Object value) {
+            this.parserKey = parserKey;
+            this.value = value;
+        }
+    }
 }
@@ -0,0 +1,230 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.http;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Bounded, least-recently-used cache of GET responses which carry an {@code ETag} or {@code Last-Modified}
+ * validator.
+ *
+ * Repeat requests for a cached URI are sent as conditional requests using {@code If-None-Match} and
+ * {@code If-Modified-Since}.  When the API replies with 304 Not Modified, the previously cached {@link HttpResult}
+ * is returned in its place.  Because the cached result memoizes the object parsed from it, see
+ * {@link HttpResult#parseResponse(org.sourcelab.buildkite.api.client.request.Request)}, unchanged responses skip
+ * both the response body transfer and parsing.
+ *
+ * The cache is bounded both by the number of entries and by their estimated combined retained size: each entry's
+ * response body, along with the String decoded from it and the object parsed from it, if any, see
+ * {@link HttpResult#getRetainedSizeEstimate()}.  An entry is re-weighed whenever it is looked up or replaced, so
+ * an object parsed after the entry was cached is counted from the entry's next use.
+ *
+ * Every request served from a cached entry is handed the same parsed object, which must be treated as read only.
+ * Instances are thread safe.
+ */
+public class ResponseCache {
+    private final int maxEntries;
+    private final long maxBytes;
+
+    /**
+     * Cached results keyed by request URI, in least to most recently used order.
+     */
+    private final LinkedHashMap<String, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes = 0;
+
+    private final AtomicLong notModifiedCount = new AtomicLong(0);
+
+    /**
+     * Constructor.
+     * @param maxEntries Maximum number of responses to cache.
+     * @param maxBytes Maximum estimated combined retained size, in bytes, of cached responses.
+     */
+    public ResponseCache(final int maxEntries, final long maxBytes) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be 1 or larger.");
+        }
+        if (maxBytes < 1) {
+            throw new IllegalArgumentException("maxBytes must be 1 or larger.");
+        }
+        this.maxEntries = maxEntries;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * Find a previously cached result for the given key.
+     * @param key Cache key, the full request URI.
+     * @return The cached result if one exists.
+     */
+    public synchronized Optional<HttpResult> get(final String key) {
+        final Entry entry = entries.get(key);
+        if (entry == null) {
+            return Optional.empty();
+        }
+        // The result may have been parsed or decoded since it was weighed.
+        final long weight = entry.result.getRetainedSizeEstimate();
+        totalBytes += weight - entry.weight;
+        entry.weight = weight;
+        evict();
+        return Optional.of(entry.result);
+    }
+
+    /**
+     * Headers to attach to a request to conditionally re-request the given cached result.
+     * @param cached Previously cached result.
+     * @return Conditional request headers.
+     */
+    public List<HttpHeader> getConditionalHeaders(final HttpResult cached) {
+        final List<HttpHeader> headers = new ArrayList<>();
+        cached.getHttpHeaders().findHeader("ETag")
+            .ifPresent((etag) -> headers.add(new HttpHeader("If-None-Match", etag)));
+        cached.getHttpHeaders().findHeader("Last-Modified")
+            .ifPresent((lastModified) -> headers.add(new HttpHeader("If-Modified-Since", lastModified)));
+        return headers;
+    }
+
+    /**
+     * Given the result of a (possibly conditional) request, determine what result should be returned to the caller,
+     * updating the cache along the way.
+     *
+     * @param key Cache key, the full request URI.
+     * @param cached The previously cached result the request was conditional on, or null if none.
+     * @param result The result returned by the API.
+     * @return The cached result if the API replied 304 Not Modified, otherwise the result returned by the API.
+     */
+    public HttpResult resolve(final String key, final HttpResult cached, final HttpResult result) {
+        if (result.getStatus() == 304 && cached != null) {
+            notModifiedCount.incrementAndGet();
+
+            // Keep the cached body and parsed object, but expose the most recent response headers.
+            final HttpResult revalidated = cached.withHttpHeaders(mergeHeaders(cached.getHttpHeaders(), result.getHttpHeaders()));
+            put(key, revalidated);
+            return revalidated;
+        }
+        if (result.getStatus() == 200 && hasValidator(result)) {
+            put(key, result);
+        } else if (cached != null) {
+            remove(key);
+        }
+        return result;
+    }
+
+    /**
+     * Number of requests answered with 304 Not Modified and served from the cache.
+     * @return Number of requests answered with 304 Not Modified and served from the cache.
+     */
+    public long getNotModifiedCount() {
+        return notModifiedCount.get();
+    }
+
+    /**
+     * Number of cached entries.
+     * @return Number of cached entries.
+     */
+    public synchronized int size() {
+        return entries.size();
+    }
+
+    /**
+     * Estimated combined retained size, in bytes, of the cached responses.
+     * @return Estimated combined retained size, in bytes, of the cached responses.
+     */
+    public synchronized long getSizeInBytes() {
+        return totalBytes;
+    }
+
+    /**
+     * Remove all cached entries.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    private synchronized void put(final String key, final HttpResult result) {
+        // Responses larger than the entire cache are never stored.
+        final long weight = result.getRetainedSizeEstimate();
+        if (weight > maxBytes) {
+            remove(key);
+            return;
+        }
+
+        final Entry previous = entries.put(key, new Entry(result, weight));
+        if (previous != null) {
+            totalBytes -= previous.weight;
+        }
+        totalBytes += weight;
+        evict();
+    }
+
+    /**
+     * Evict least recently used entries until within bounds.
+     */
+    private synchronized void evict() {
+        final Iterator<Map.Entry<String, Entry>> iterator = entries.entrySet().iterator();
+        while ((entries.size() > maxEntries || totalBytes > maxBytes) && iterator.hasNext()) {
+            totalBytes -= iterator.next().getValue().weight;
+            iterator.remove();
+        }
+    }
+
+    private synchronized void remove(final String key) {
+        final Entry previous = entries.remove(key);
+        if (previous != null) {
+            totalBytes -= previous.weight;
+        }
+    }
+
+    private static boolean hasValidator(final HttpResult result) {
+        return result.getHttpHeaders().findHeader("ETag").isPresent()
+            || result.getHttpHeaders().findHeader("Last-Modified").isPresent();
+    }
+
+    /**
+     * A 304 response may omit headers from the original response, so overlay the new headers onto the cached ones.
+     */
+    private static HttpHeaders mergeHeaders(final HttpHeaders cachedHeaders, final HttpHeaders newHeaders) {
+        final Map<String, HttpHeader> merged = new LinkedHashMap<>();
+        for (final String name : cachedHeaders.getHeaderNames()) {
+            merged.put(name.toLowerCase(Locale.ROOT), new HttpHeader(name, cachedHeaders.getHeader(name)));
+        }
+        for (final String name : newHeaders.getHeaderNames()) {
+            merged.put(name.toLowerCase(Locale.ROOT), new HttpHeader(name, newHeaders.getHeader(name)));
+        }
+        return new HttpHeaders(merged.values());
+    }
+
+    /**
+     * A cached result, along with its retained size when last weighed.  Guarded by the cache.
+     */
+    private static final class Entry {
+        private final HttpResult result;
+        private long weight;
+
+        private Entry(final HttpResult result, final long weight) {
+            this.result = result;
+            this.weight = weight;
+        }
+    }
+}
@@ -43,6 +43,7 @@ public class BuildFilters implements Filters {
     private final String orgIdSlug;
     private final String pipelineIdSlug;
 
+    private final BuildProjection projection;
 
     /**
      * Builder for {@link BuildFilters}.
@@ -69,6 +70,31 @@ public class BuildFilters implements Filters {
         final PageOptions pageOptions,
         final String orgIdSlug,
         final String pipelineSlugId
+    ) {
+        this(
+            branches, commits, createdFrom, createdTo, creator, finishedFrom, includeRetriedJobs,
+            metaData, states, pageOptions, orgIdSlug, pipelineSlugId, BuildProjection.FULL
+        );
+    }
+
+    /**
+     * Constructor.
+     * Use {@link BuildFiltersBuilder} to create instances.
+     */
+    public BuildFilters(
+        final Set<String> branches,
+        final Set<String> commits,
+        final ZonedDateTime createdFrom,
+        final ZonedDateTime createdTo,
+        final String creator,
+        final ZonedDateTime finishedFrom,
+        final Boolean includeRetriedJobs,
+        final Map<String, String> metaData,
+        final Set<String> states,
+        final PageOptions pageOptions,
+        final String orgIdSlug,
+        final String pipelineSlugId,
+        final BuildProjection projection
     ) {
         this.branches = Collections.unmodifiableSet(new HashSet<>(branches));
         this.commits = Collections.unmodifiableSet(new HashSet<>(commits));
@@ -82,6 +108,7 @@ public class BuildFilters implements Filters {
         this.pageOptions = pageOptions == null ? PageOptions.getDefault() : pageOptions;
         this.orgIdSlug = orgIdSlug;
         this.pipelineIdSlug = pipelineSlugId;
+        this.projection = projection == null ? BuildProjection.FULL : projection;
     }
 
     public Set<String> getBranches() {
@@ -140,6 +167,10 @@ public class BuildFilters implements Filters {
         return hasOrgIdSlug() && pipelineIdSlug != null;
     }
 
+    public BuildProjection getProjection() {
+        return projection;
+    }
+
     @Override
     public String toString() {
         return "BuildFilters{"
@@ -155,6 +186,7 @@ public class BuildFilters implements Filters {
                 + ", pageOptions=" + pageOptions
                 + ", orgIdSlug='" + orgIdSlug + '\''
                 + ", pipelineIdSlug='" + pipelineIdSlug + '\''
+                + ", projection=" + projection
                 + '}';
     }
 }
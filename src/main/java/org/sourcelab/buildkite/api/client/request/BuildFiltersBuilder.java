@@ -51,6 +51,8 @@ public final class BuildFiltersBuilder {
      */
     private String pipelineIdSlug = null;
 
+    private BuildProjection projection = BuildProjection.FULL;
+
     /**
      * Constructor.
      */
@@ -306,6 +308,16 @@ public final class BuildFiltersBuilder {
         return withOrganization(orgIdSlug);
     }
 
+    /**
+     * Define which parts of each Build are parsed from the response.  Defaults to {@link BuildProjection#FULL}.
+     * @param projection Which parts of each Build to parse.
+     * @return BuildFiltersBuilder for method chaining.
+     */
+    public BuildFiltersBuilder withProjection(final BuildProjection projection) {
+        this.projection = Objects.requireNonNull(projection);
+        return this;
+    }
+
     /**
      * New BuildFilters instance using configured properties.
      * @return New BuildFilters instance using configured properties.
@@ -331,7 +343,8 @@ public final class BuildFiltersBuilder {
             states,
             pageOptions,
             orgIdSlug,
-            pipelineIdSlug
+            pipelineIdSlug,
+            projection
         );
     }
 }
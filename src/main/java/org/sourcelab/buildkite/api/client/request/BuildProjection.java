@@ -0,0 +1,73 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.request;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Defines which parts of a {@link org.sourcelab.buildkite.api.client.response.Build} are parsed from the API response.
+ *
+ * Excluded properties are skipped over while reading the response rather than being bound to objects, reducing both
+ * parse time and the memory retained by each Build.
+ */
+public enum BuildProjection {
+    /**
+     * Parse all properties.  This is the default.
+     */
+    FULL(Collections.emptySet(), false),
+
+    /**
+     * Skip the nested jobs list and pipeline, {@code Build.getJobs()} and {@code Build.getPipeline()} will return null.
+     * Useful for overview/list views which only need the build number, state, branch, commit and timestamps.
+     */
+    SUMMARY(new HashSet<>(Arrays.asList("jobs", "pipeline")), false),
+
+    /**
+     * Parse all properties, but hold each job as raw JSON and only parse a Job the first time it is accessed
+     * via {@code Build.getJobs().get(index)}.  Useful when paging through many builds but only inspecting the
+     * jobs of a few of them.
+     */
+    LAZY_JOBS(Collections.emptySet(), true);
+
+    private final Set<String> excludedProperties;
+    private final boolean lazyJobs;
+
+    BuildProjection(final Set<String> excludedProperties, final boolean lazyJobs) {
+        this.excludedProperties = Collections.unmodifiableSet(excludedProperties);
+        this.lazyJobs = lazyJobs;
+    }
+
+    /**
+     * Names of the Build properties which are skipped when parsing.
+     * @return Names of the Build properties which are skipped when parsing.
+     */
+    public Set<String> getExcludedProperties() {
+        return excludedProperties;
+    }
+
+    /**
+     * Whether jobs are parsed on first access rather than up front.
+     * @return true if jobs are parsed on first access.
+     */
+    public boolean isLazyJobs() {
+        return lazyJobs;
+    }
+}
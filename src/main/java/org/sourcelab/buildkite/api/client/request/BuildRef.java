@@ -0,0 +1,81 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.request;
+
+import java.util.Objects;
+
+/**
+ * Identifies a single build by its organization, pipeline and build number.
+ */
+public final class BuildRef {
+    private final String organizationSlug;
+    private final String pipelineSlug;
+    private final long buildNumber;
+
+    /**
+     * Constructor.
+     * @param organizationSlug Organization associated with the build.
+     * @param pipelineSlug Pipeline associated with the build.
+     * @param buildNumber The build number.
+     */
+    public BuildRef(final String organizationSlug, final String pipelineSlug, final long buildNumber) {
+        this.organizationSlug = Objects.requireNonNull(organizationSlug);
+        this.pipelineSlug = Objects.requireNonNull(pipelineSlug);
+        this.buildNumber = buildNumber;
+    }
+
+    public String getOrganizationSlug() {
+        return organizationSlug;
+    }
+
+    public String getPipelineSlug() {
+        return pipelineSlug;
+    }
+
+    public long getBuildNumber() {
+        return buildNumber;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        final BuildRef buildRef = (BuildRef) other;
+        return buildNumber == buildRef.buildNumber
+            && organizationSlug.equals(buildRef.organizationSlug)
+            && pipelineSlug.equals(buildRef.pipelineSlug);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(organizationSlug, pipelineSlug, buildNumber);
+    }
+
+    @Override
+    public String toString() {
+        return "BuildRef{"
+            + "organizationSlug='" + organizationSlug + '\''
+            + ", pipelineSlug='" + pipelineSlug + '\''
+            + ", buildNumber=" + buildNumber
+            + '}';
+    }
+}
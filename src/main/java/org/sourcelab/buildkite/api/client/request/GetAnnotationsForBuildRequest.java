@@ -25,16 +25,24 @@ import java.util.Objects;
 
 public class GetAnnotationsForBuildRequest extends GetRequest<AnnotationsForBuildResponse> implements PageableRequest<AnnotationsForBuildResponse> {
     private final AnnotationFilters filters;
-    private PageOptions pageOptions;
+    private final PageOptions pageOptions;
 
     /**
      * Constructor.
      * @param filters User supplied filter properties.
      */
     public GetAnnotationsForBuildRequest(final AnnotationFilters filters) {
-        Objects.requireNonNull(filters);
-        this.filters = filters;
-        this.pageOptions = filters.getPageOptions() == null ? PageOptions.getDefault() : filters.getPageOptions();
+        this(filters, filters.getPageOptions() == null ? PageOptions.getDefault() : filters.getPageOptions());
+    }
+
+    /**
+     * Constructor.
+     * @param filters User supplied filter properties.
+     * @param pageOptions Which page of results to request.
+     */
+    private GetAnnotationsForBuildRequest(final AnnotationFilters filters, final PageOptions pageOptions) {
+        this.filters = Objects.requireNonNull(filters);
+        this.pageOptions = Objects.requireNonNull(pageOptions);
     }
 
     @Override
@@ -61,7 +69,12 @@ public class GetAnnotationsForBuildRequest extends GetRequest<AnnotationsForBuil
     }
 
     @Override
-    public void updatePageOptions(final PageOptions pageOptions) {
-        this.pageOptions = Objects.requireNonNull(pageOptions);
+    public PageOptions getPageOptions() {
+        return pageOptions;
+    }
+
+    @Override
+    public GetAnnotationsForBuildRequest withPageOptions(final PageOptions pageOptions) {
+        return new GetAnnotationsForBuildRequest(filters, pageOptions);
     }
 }
@@ -25,6 +25,7 @@ public class GetBuildFilters {
     private final String pipelineIdSlug;
     private final long buildNumber;
     private final Boolean includeRetriedJobs;
+    private final BuildProjection projection;
 
     /**
      * Builder for {@link GetBuildFilters}.
@@ -43,11 +44,26 @@ public class GetBuildFilters {
         final String pipelineIdSlug,
         final long buildNumber,
         final Boolean includeRetriedJobs
+    ) {
+        this(orgIdSlug, pipelineIdSlug, buildNumber, includeRetriedJobs, BuildProjection.FULL);
+    }
+
+    /**
+     * Constructor.
+     * Use {@link GetBuildFiltersBuilder} to create instances.
+     */
+    public GetBuildFilters(
+        final String orgIdSlug,
+        final String pipelineIdSlug,
+        final long buildNumber,
+        final Boolean includeRetriedJobs,
+        final BuildProjection projection
     ) {
         this.orgIdSlug = orgIdSlug;
         this.pipelineIdSlug = pipelineIdSlug;
         this.buildNumber = buildNumber;
         this.includeRetriedJobs = includeRetriedJobs;
+        this.projection = projection == null ? BuildProjection.FULL : projection;
     }
 
     public String getOrgIdSlug() {
@@ -66,6 +82,10 @@ public class GetBuildFilters {
         return includeRetriedJobs;
     }
 
+    public BuildProjection getProjection() {
+        return projection;
+    }
+
     @Override
     public String toString() {
         return "GetBuildFilters{"
@@ -73,6 +93,7 @@ public class GetBuildFilters {
                 + ", pipelineIdSlug='" + pipelineIdSlug + '\''
                 + ", buildNumber=" + buildNumber
                 + ", includeRetriedJobs=" + includeRetriedJobs
+                + ", projection=" + projection
                 + '}';
     }
 }
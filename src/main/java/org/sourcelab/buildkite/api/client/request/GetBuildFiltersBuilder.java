@@ -26,6 +26,7 @@ public final class GetBuildFiltersBuilder {
     private String pipelineIdSlug = null;
     private Long buildNumber = null;
     private Boolean includeRetriedJobs = null;
+    private BuildProjection projection = BuildProjection.FULL;
 
     public GetBuildFiltersBuilder() {
     }
@@ -50,6 +51,16 @@ public final class GetBuildFiltersBuilder {
         return this;
     }
 
+    /**
+     * Define which parts of the Build are parsed from the response.  Defaults to {@link BuildProjection#FULL}.
+     * @param projection Which parts of the Build to parse.
+     * @return GetBuildFiltersBuilder for method chaining.
+     */
+    public GetBuildFiltersBuilder withProjection(final BuildProjection projection) {
+        this.projection = Objects.requireNonNull(projection);
+        return this;
+    }
+
     /**
      * Create instance from Builder.
      * @return GetBuildFilters
@@ -66,6 +77,6 @@ public final class GetBuildFiltersBuilder {
         if (buildNumber == null) {
             throw new BuilderValidationException("Build Number must be provided.");
         }
-        return new GetBuildFilters(orgIdSlug, pipelineIdSlug, buildNumber, includeRetriedJobs);
+        return new GetBuildFilters(orgIdSlug, pipelineIdSlug, buildNumber, includeRetriedJobs, projection);
     }
 }
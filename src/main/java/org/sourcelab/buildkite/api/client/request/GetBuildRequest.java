@@ -21,6 +21,7 @@ import org.sourcelab.buildkite.api.client.response.Build;
 import org.sourcelab.buildkite.api.client.response.parser.GetBuildResponseParser;
 import org.sourcelab.buildkite.api.client.response.parser.ResponseParser;
 
+import java.util.Arrays;
 import java.util.Objects;
 
 public class GetBuildRequest extends GetRequest<Build> {
@@ -59,6 +60,11 @@ public class GetBuildRequest extends GetRequest<Build> {
 
     @Override
     public ResponseParser<Build> getResponseParser() {
-        return new GetBuildResponseParser();
+        return new GetBuildResponseParser(filters.getProjection());
+    }
+
+    @Override
+    public Object getResponseParserKey() {
+        return Arrays.asList(GetBuildRequest.class, filters.getProjection());
     }
 }
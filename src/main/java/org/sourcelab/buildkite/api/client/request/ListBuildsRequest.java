@@ -22,21 +22,30 @@ import org.sourcelab.buildkite.api.client.response.parser.ListBuildsResponsePars
 import org.sourcelab.buildkite.api.client.response.parser.ResponseParser;
 
 import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.Objects;
 
 public class ListBuildsRequest extends GetRequest<ListBuildsResponse> implements PageableRequest<ListBuildsResponse> {
     private final BuildFilters filters;
-    private PageOptions pageOptions;
+    private final PageOptions pageOptions;
 
     /**
      * Constructor.
      * @param filters Search Criteria.
      */
     public ListBuildsRequest(final BuildFilters filters) {
-        Objects.requireNonNull(filters);
-        this.filters = filters;
-        this.pageOptions = filters.getPageOptions() == null ? PageOptions.getDefault() : filters.getPageOptions();
+        this(filters, filters.getPageOptions() == null ? PageOptions.getDefault() : filters.getPageOptions());
+    }
+
+    /**
+     * Constructor.
+     * @param filters Search Criteria.
+     * @param pageOptions Which page of results to request.
+     */
+    private ListBuildsRequest(final BuildFilters filters, final PageOptions pageOptions) {
+        this.filters = Objects.requireNonNull(filters);
+        this.pageOptions = Objects.requireNonNull(pageOptions);
     }
 
     @Override
@@ -105,11 +114,21 @@ public class ListBuildsRequest extends GetRequest<ListBuildsResponse> implements
 
     @Override
     public ResponseParser<ListBuildsResponse> getResponseParser() {
-        return new ListBuildsResponseParser(this);
+        return new ListBuildsResponseParser(this, filters.getProjection());
     }
 
     @Override
-    public void updatePageOptions(final PageOptions pageOptions) {
-        this.pageOptions = Objects.requireNonNull(pageOptions);
+    public Object getResponseParserKey() {
+        return Arrays.asList(ListBuildsRequest.class, filters.getProjection());
+    }
+
+    @Override
+    public PageOptions getPageOptions() {
+        return pageOptions;
+    }
+
+    @Override
+    public ListBuildsRequest withPageOptions(final PageOptions pageOptions) {
+        return new ListBuildsRequest(filters, pageOptions);
     }
 }
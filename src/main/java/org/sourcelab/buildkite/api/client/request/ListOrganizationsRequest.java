@@ -25,16 +25,24 @@ import java.util.Objects;
 
 public class ListOrganizationsRequest extends GetRequest<ListOrganizationsResponse> implements PageableRequest<ListOrganizationsResponse> {
     private final OrganizationFilters filters;
-    private PageOptions pageOptions;
+    private final PageOptions pageOptions;
 
     /**
      * Constructor.
      * @param filters Search Criteria.
      */
     public ListOrganizationsRequest(final OrganizationFilters filters) {
-        Objects.requireNonNull(filters);
-        this.filters = filters;
-        this.pageOptions = filters.getPageOptions() == null ? PageOptions.getDefault() : filters.getPageOptions();
+        this(filters, filters.getPageOptions() == null ? PageOptions.getDefault() : filters.getPageOptions());
+    }
+
+    /**
+     * Constructor.
+     * @param filters Search Criteria.
+     * @param pageOptions Which page of results to request.
+     */
+    private ListOrganizationsRequest(final OrganizationFilters filters, final PageOptions pageOptions) {
+        this.filters = Objects.requireNonNull(filters);
+        this.pageOptions = Objects.requireNonNull(pageOptions);
     }
 
     @Override
@@ -63,7 +71,12 @@ public class ListOrganizationsRequest extends GetRequest<ListOrganizationsRespon
     }
 
     @Override
-    public void updatePageOptions(final PageOptions pageOptions) {
-        this.pageOptions = Objects.requireNonNull(pageOptions);
+    public PageOptions getPageOptions() {
+        return pageOptions;
+    }
+
+    @Override
+    public ListOrganizationsRequest withPageOptions(final PageOptions pageOptions) {
+        return new ListOrganizationsRequest(filters, pageOptions);
     }
 }
@@ -25,16 +25,24 @@ import java.util.Objects;
 
 public class ListPipelinesRequest extends GetRequest<ListPipelinesResponse> implements PageableRequest<ListPipelinesResponse> {
     private final PipelineFilters filters;
-    private PageOptions pageOptions;
+    private final PageOptions pageOptions;
 
     /**
      * Constructor.
      * @param filters Search Criteria.
      */
     public ListPipelinesRequest(final PipelineFilters filters) {
-        Objects.requireNonNull(filters);
-        this.filters = filters;
-        this.pageOptions = filters.getPageOptions() == null ? PageOptions.getDefault() : filters.getPageOptions();
+        this(filters, filters.getPageOptions() == null ? PageOptions.getDefault() : filters.getPageOptions());
+    }
+
+    /**
+     * Constructor.
+     * @param filters Search Criteria.
+     * @param pageOptions Which page of results to request.
+     */
+    private ListPipelinesRequest(final PipelineFilters filters, final PageOptions pageOptions) {
+        this.filters = Objects.requireNonNull(filters);
+        this.pageOptions = Objects.requireNonNull(pageOptions);
     }
 
     @Override
@@ -59,7 +67,12 @@ public class ListPipelinesRequest extends GetRequest<ListPipelinesResponse> impl
     }
 
     @Override
-    public void updatePageOptions(final PageOptions pageOptions) {
-        this.pageOptions = Objects.requireNonNull(pageOptions);
+    public PageOptions getPageOptions() {
+        return pageOptions;
+    }
+
+    @Override
+    public ListPipelinesRequest withPageOptions(final PageOptions pageOptions) {
+        return new ListPipelinesRequest(filters, pageOptions);
     }
 }
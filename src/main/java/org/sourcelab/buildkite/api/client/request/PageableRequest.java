@@ -18,9 +18,26 @@
 package org.sourcelab.buildkite.api.client.request;
 
 /**
- * Defines an API request.
+ * Defines an API request which returns a single page of results.
+ *
+ * Implementations are immutable, requesting a different page creates a new request via
+ * {@link #withPageOptions(PageOptions)} and leaves the original untouched.  This allows the same request,
+ * or the response holding it, to be shared and paged from by multiple threads.
+ *
  * @param <T> The parsed return type representing the response.
  */
 public interface PageableRequest<T> extends Request<T> {
-    void updatePageOptions(final PageOptions pageOptions);
+    /**
+     * Which page of results this request retrieves.
+     * @return Which page of results this request retrieves.
+     */
+    PageOptions getPageOptions();
+
+    /**
+     * Create a copy of this request, retrieving the given page of results instead.
+     *
+     * @param pageOptions Which page of results to retrieve.
+     * @return New request for the given page, this request is not modified.
+     */
+    PageableRequest<T> withPageOptions(final PageOptions pageOptions);
 }
@@ -65,6 +65,15 @@ public interface Request<T> {
      */
     ResponseParser<T> getResponseParser();
 
+    /**
+     * Identifies how the response to this request is parsed.  Requests with equal keys parse the same response
+     * into equivalent objects, allowing a previously parsed response to be re-used.
+     * @return Key identifying how the response to this request is parsed.
+     */
+    default Object getResponseParserKey() {
+        return getClass();
+    }
+
     /**
      * Parses the API's response into a concrete object.
      *
@@ -30,6 +30,8 @@ public class RetryMultipleJobsOptions {
     private final long buildNumber;
     private final Set<String> jobIds;
     private final boolean throwOnError;
+    private final int parallelism;
+    private final double maxRequestsPerSecond;
 
     /**
      * Builder instance for {@link RetryMultipleJobsOptions}.
@@ -48,12 +50,29 @@ public class RetryMultipleJobsOptions {
         final long buildNumber,
         final Collection<String> jobIds,
         final boolean throwOnError
+    ) {
+        this(organizationSlug, pipelineIdSlug, buildNumber, jobIds, throwOnError, 1, 0);
+    }
+
+    /**
+     * Constructor.
+     */
+    public RetryMultipleJobsOptions(
+        final String organizationSlug,
+        final String pipelineIdSlug,
+        final long buildNumber,
+        final Collection<String> jobIds,
+        final boolean throwOnError,
+        final int parallelism,
+        final double maxRequestsPerSecond
     ) {
         this.organizationSlug = organizationSlug;
         this.pipelineSlug = pipelineIdSlug;
         this.buildNumber = buildNumber;
         this.jobIds = new HashSet<>(jobIds);
         this.throwOnError = throwOnError;
+        this.parallelism = parallelism;
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
     }
 
     public String getOrganizationSlug() {
@@ -85,6 +104,22 @@ public class RetryMultipleJobsOptions {
         return throwOnError;
     }
 
+    /**
+     * Maximum number of jobs retried concurrently.  1 retries jobs one at a time.
+     * @return Maximum number of jobs retried concurrently.
+     */
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Maximum number of retry requests started per second, across all concurrent requests.
+     * @return Maximum number of retry requests started per second, or 0 if unlimited.
+     */
+    public double getMaxRequestsPerSecond() {
+        return maxRequestsPerSecond;
+    }
+
     @Override
     public String toString() {
         return "RetryMultipleJobsOptions{"
@@ -93,6 +128,8 @@ public class RetryMultipleJobsOptions {
             + "\n\tbuildNumber=" + buildNumber
             + "\n\tjobIds=" + jobIds
             + "\n\tthrowOnError=" + throwOnError
+            + "\n\tparallelism=" + parallelism
+            + "\n\tmaxRequestsPerSecond=" + maxRequestsPerSecond
             + "\n}";
     }
 }
@@ -29,6 +29,8 @@ public final class RetryMultipleJobsOptionsBuilder {
     private Long buildNumber = null;
     private Set<String> jobIds = new HashSet<>();
     private boolean throwOnError = true;
+    private int parallelism = 1;
+    private double maxRequestsPerSecond = 0;
 
     public RetryMultipleJobsOptionsBuilder() {
     }
@@ -63,6 +65,27 @@ public final class RetryMultipleJobsOptionsBuilder {
         return this;
     }
 
+    /**
+     * Retry up to the given number of jobs concurrently.  Defaults to 1, retrying jobs one at a time.
+     * @param parallelism Maximum number of jobs retried concurrently.
+     * @return self.
+     */
+    public RetryMultipleJobsOptionsBuilder withParallelism(final int parallelism) {
+        this.parallelism = parallelism;
+        return this;
+    }
+
+    /**
+     * Limit how many retry requests are started per second, across all concurrent requests.
+     * Defaults to 0, no limit beyond the client's own rate limit pacing.
+     * @param maxRequestsPerSecond Maximum number of retry requests started per second, or 0 for no limit.
+     * @return self.
+     */
+    public RetryMultipleJobsOptionsBuilder withMaxRequestsPerSecond(final double maxRequestsPerSecond) {
+        this.maxRequestsPerSecond = maxRequestsPerSecond;
+        return this;
+    }
+
     /**
      * Create new {@link RetryMultipleJobsOptions} instance.
      * @return Create new {@link RetryMultipleJobsOptions} instance.
@@ -81,6 +104,12 @@ public final class RetryMultipleJobsOptionsBuilder {
         if (jobIds.isEmpty()) {
             throw new BuilderValidationException("At least one JobId must be provided.");
         }
-        return new RetryMultipleJobsOptions(organizationSlug, pipelineSlug, buildNumber, jobIds, throwOnError);
+        if (parallelism < 1) {
+            throw new BuilderValidationException("Parallelism must be 1 or larger.");
+        }
+        if (maxRequestsPerSecond < 0 || Double.isNaN(maxRequestsPerSecond)) {
+            throw new BuilderValidationException("MaxRequestsPerSecond must be 0 or larger.");
+        }
+        return new RetryMultipleJobsOptions(organizationSlug, pipelineSlug, buildNumber, jobIds, throwOnError, parallelism, maxRequestsPerSecond);
     }
 }
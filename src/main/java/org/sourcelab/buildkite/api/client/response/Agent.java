@@ -19,6 +19,7 @@ package org.sourcelab.buildkite.api.client.response;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import java.time.ZonedDateTime;
 
@@ -42,15 +43,15 @@ public class Agent {
      */
     @JsonCreator
     public Agent(
-        @JsonProperty("id") final String id,
-        @JsonProperty("graphql_id") final String graphqlId,
-        @JsonProperty("url") final String url,
-        @JsonProperty("web_url") final String webUrl,
-        @JsonProperty("name") final String name,
-        @JsonProperty("connection_state") final String connectionState,
-        @JsonProperty("hostname") final String hostname,
-        @JsonProperty("ip_address") final String ipAddress,
-        @JsonProperty("user_agent") final String userAgent,
+        @JsonProperty("id") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String id,
+        @JsonProperty("graphql_id") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String graphqlId,
+        @JsonProperty("url") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String url,
+        @JsonProperty("web_url") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String webUrl,
+        @JsonProperty("name") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String name,
+        @JsonProperty("connection_state") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String connectionState,
+        @JsonProperty("hostname") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String hostname,
+        @JsonProperty("ip_address") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String ipAddress,
+        @JsonProperty("user_agent") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String userAgent,
         @JsonProperty("created_at") final ZonedDateTime createdAt,
         @JsonProperty("creator") final Creator creator
     ) {
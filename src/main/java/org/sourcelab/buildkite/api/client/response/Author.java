@@ -19,6 +19,7 @@ package org.sourcelab.buildkite.api.client.response;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 public class Author {
     private final String username;
@@ -30,9 +31,9 @@ public class Author {
      */
     @JsonCreator
     public Author(
-        @JsonProperty("username") final String username,
-        @JsonProperty("name") final String name,
-        @JsonProperty("email") final String email
+        @JsonProperty("username") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String username,
+        @JsonProperty("name") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String name,
+        @JsonProperty("email") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String email
     ) {
         this.username = username;
         this.name = name;
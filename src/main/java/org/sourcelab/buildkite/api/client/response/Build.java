@@ -19,8 +19,10 @@ package org.sourcelab.buildkite.api.client.response;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import java.time.ZonedDateTime;
+import java.util.Collections;
 import java.util.List;
 
 public class Build {
@@ -59,12 +61,12 @@ public class Build {
         @JsonProperty("url") final String url,
         @JsonProperty("web_url") final String webUrl,
         @JsonProperty("number") final long number,
-        @JsonProperty("state") final String state,
+        @JsonProperty("state") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String state,
         @JsonProperty("blocked") final boolean blocked,
         @JsonProperty("message") final String message,
         @JsonProperty("commit") final String commit,
-        @JsonProperty("branch") final String branch,
-        @JsonProperty("source") final String source,
+        @JsonProperty("branch") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String branch,
+        @JsonProperty("source") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String source,
         @JsonProperty("created_at") final ZonedDateTime createdAt,
         @JsonProperty("scheduled_at") final ZonedDateTime scheduledAt,
         @JsonProperty("started_at") final ZonedDateTime startedAt,
@@ -72,7 +74,7 @@ public class Build {
         @JsonProperty("author") final Author author,
         @JsonProperty("creator") final Creator creator,
         @JsonProperty("pipeline") final Pipeline pipeline,
-        @JsonProperty("jobs") final List<Job> jobs,
+        @JsonProperty("jobs") @JsonDeserialize(using = JobListDeserializer.class) final List<Job> jobs,
         @JsonProperty("rebuilt_from") final RebuiltFrom rebuiltFrom,
         @JsonProperty("pull_request") final PullRequest pullRequest
     ) {
@@ -94,7 +96,8 @@ public class Build {
         this.author = author;
         this.creator = creator;
         this.pipeline = pipeline;
-        this.jobs = jobs;
+        // Read only, as parsed builds may be shared, for example by responses served from a cache.
+        this.jobs = jobs == null ? null : Collections.unmodifiableList(jobs);
         this.rebuiltFrom = rebuiltFrom;
         this.pullRequest = pullRequest;
     }
@@ -0,0 +1,141 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.response;
+
+import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
+import org.sourcelab.buildkite.api.client.util.BuildkiteClientUtils;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Per item results from a bulk operation, such as {@link BuildkiteClientUtils#cancelBuilds}.
+ * Each item either has a result, or the error that occurred while executing its request.
+ *
+ * @param <K> Identifies each item.
+ * @param <V> Result for each item.
+ */
+public class BulkResults<K, V> {
+    /**
+     * Maps Item => Result of the request.
+     */
+    private final Map<K, V> results;
+
+    /**
+     * Maps Item => Error that occurred during the request.
+     */
+    private final Map<K, BuildkiteException> errors;
+
+    /**
+     * Constructor.
+     *
+     * @param results Each item mapped to the result of its request.
+     * @param errors Each item mapped to any error that occurred during its request.
+     */
+    public BulkResults(final Map<K, V> results, final Map<K, BuildkiteException> errors) {
+        this.results = Collections.unmodifiableMap(new LinkedHashMap<>(results));
+        this.errors = Collections.unmodifiableMap(new LinkedHashMap<>(errors));
+    }
+
+    /**
+     * All items the operation was executed for.
+     * @return All items the operation was executed for.
+     */
+    public Set<K> getKeys() {
+        final Set<K> keys = new HashSet<>(results.keySet());
+        keys.addAll(errors.keySet());
+        return keys;
+    }
+
+    /**
+     * Check if a result exists for the given item.
+     * @param key The item.
+     * @return true if a result exists, false if not.
+     */
+    public boolean hasResult(final K key) {
+        return results.containsKey(key);
+    }
+
+    /**
+     * Get the result for the given item.
+     * @param key The item.
+     * @return The result of the item's request.
+     */
+    public V getResult(final K key) {
+        if (!hasResult(key)) {
+            throw new IllegalArgumentException("Item " + key + " has no result.");
+        }
+        return results.get(key);
+    }
+
+    /**
+     * Items mapped to the result of their request, in the order the items were supplied.
+     * @return Items mapped to the result of their request.
+     */
+    public Map<K, V> getResults() {
+        return results;
+    }
+
+    /**
+     * Check if the given item had an error.
+     * @param key The item.
+     * @return true if an error occurred, false if not.
+     */
+    public boolean hasError(final K key) {
+        return errors.containsKey(key);
+    }
+
+    /**
+     * Get the error for the given item.
+     * @param key The item.
+     * @return The error that occurred.
+     */
+    public BuildkiteException getError(final K key) {
+        if (!hasError(key)) {
+            throw new IllegalArgumentException("Item " + key + " did not have an error.");
+        }
+        return errors.get(key);
+    }
+
+    /**
+     * Items mapped to the error that occurred during their request, in the order the items were supplied.
+     * @return Items mapped to the error that occurred during their request.
+     */
+    public Map<K, BuildkiteException> getErrors() {
+        return errors;
+    }
+
+    /**
+     * Check if any item had an error.
+     * @return true if any item had an error, false if not.
+     */
+    public boolean hasErrors() {
+        return !errors.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BulkResults{"
+            + "\n\tresults=" + results
+            + "\n\terrors=" + errors
+            + "\n}";
+    }
+}
@@ -0,0 +1,59 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.response;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.deser.std.StdScalarDeserializer;
+import com.fasterxml.jackson.databind.deser.std.StringDeserializer;
+import org.sourcelab.buildkite.api.client.response.parser.StringDeduplicator;
+
+import java.io.IOException;
+
+/**
+ * Deserializes String properties whose values frequently repeat across responses, such as branch names,
+ * hostnames and emails.
+ *
+ * When a {@link StringDeduplicator} is supplied via the {@link #ATTRIBUTE} deserialization attribute, values are
+ * canonicalized through it, otherwise they are read as normal.
+ */
+public final class CanonicalStringDeserializer extends StdScalarDeserializer<String> {
+    /**
+     * Deserialization attribute holding the {@link StringDeduplicator} to canonicalize values with.
+     */
+    public static final String ATTRIBUTE = CanonicalStringDeserializer.class.getName() + ".deduplicator";
+
+    /**
+     * Constructor.
+     */
+    public CanonicalStringDeserializer() {
+        super(String.class);
+    }
+
+    @Override
+    public String deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+        final Object deduplicator = context.getAttribute(ATTRIBUTE);
+        if (deduplicator == null || !parser.hasToken(JsonToken.VALUE_STRING)) {
+            return StringDeserializer.instance.deserialize(parser, context);
+        }
+        return ((StringDeduplicator) deduplicator).deduplicate(
+            parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength()
+        );
+    }
+}
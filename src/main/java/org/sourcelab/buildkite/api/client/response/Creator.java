@@ -19,6 +19,7 @@ package org.sourcelab.buildkite.api.client.response;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import java.time.ZonedDateTime;
 
@@ -34,10 +35,10 @@ public class Creator {
      */
     @JsonCreator
     public Creator(
-        @JsonProperty("id") final String id,
-        @JsonProperty("name") final String name,
-        @JsonProperty("email") final String email,
-        @JsonProperty("avatar_url") final String avatarUrl,
+        @JsonProperty("id") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String id,
+        @JsonProperty("name") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String name,
+        @JsonProperty("email") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String email,
+        @JsonProperty("avatar_url") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String avatarUrl,
         @JsonProperty("created_at") final ZonedDateTime createdAt
     ) {
         this.id = id;
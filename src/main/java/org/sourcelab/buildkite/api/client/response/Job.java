@@ -19,6 +19,7 @@ package org.sourcelab.buildkite.api.client.response;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.annotation.JsonDeserialize;
 
 import java.time.ZonedDateTime;
 
@@ -65,17 +66,17 @@ public class Job {
     public Job(
         @JsonProperty("id") final String id,
         @JsonProperty("graphql_id") final String graphqlId,
-        @JsonProperty("type") final String type,
-        @JsonProperty("name") final String name,
-        @JsonProperty("step_key") final String stepKey,
-        @JsonProperty("state") final String state,
+        @JsonProperty("type") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String type,
+        @JsonProperty("name") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String name,
+        @JsonProperty("step_key") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String stepKey,
+        @JsonProperty("state") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String state,
         @JsonProperty("web_url") final String webUrl,
         @JsonProperty("log_url") final String logUrl,
         @JsonProperty("raw_log_url") final String rawLogUrl,
-        @JsonProperty("command") final String command,
+        @JsonProperty("command") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String command,
         @JsonProperty("soft_failed") final Boolean softFailed,
         @JsonProperty("exit_status") final int exitStatus,
-        @JsonProperty("artifact_paths") final String artifactPaths,
+        @JsonProperty("artifact_paths") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String artifactPaths,
         @JsonProperty("agent") final Agent agent,
         @JsonProperty("created_at") final ZonedDateTime createdAt,
         @JsonProperty("scheduled_at") final ZonedDateTime scheduledAt,
@@ -85,7 +86,7 @@ public class Job {
         @JsonProperty("retried") final Boolean retried,
         @JsonProperty("retried_in_job_id") final String retriedInJobId,
         @JsonProperty("retries_count") final Long retriesCount,
-        @JsonProperty("retry_type") final String retryType,
+        @JsonProperty("retry_type") @JsonDeserialize(using = CanonicalStringDeserializer.class) final String retryType,
         @JsonProperty("parallel_group_index") final Integer parallelGroupIndex,
         @JsonProperty("parallel_group_total") final Integer parallelGroupTotal
     ) {
@@ -0,0 +1,77 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JavaType;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.type.TypeFactory;
+import org.sourcelab.buildkite.api.client.response.parser.StringDeduplicator;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Deserializes the jobs of a {@link Build}.
+ *
+ * When the {@link #LAZY_ATTRIBUTE} deserialization attribute is set, each job is copied as compact raw JSON
+ * instead of being bound, and {@link Build#getJobs()} parses each Job the first time it is accessed.
+ * Otherwise jobs are bound as normal.
+ */
+public final class JobListDeserializer extends JsonDeserializer<List<Job>> {
+    /**
+     * Deserialization attribute which, when set to true, enables lazy parsing of jobs.
+     */
+    public static final String LAZY_ATTRIBUTE = JobListDeserializer.class.getName() + ".lazy";
+
+    private static final JavaType JOB_LIST_TYPE = TypeFactory.defaultInstance().constructCollectionType(List.class, Job.class);
+
+    @Override
+    public List<Job> deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+        if (!Boolean.TRUE.equals(context.getAttribute(LAZY_ATTRIBUTE)) || !parser.isExpectedStartArrayToken()) {
+            return context.readValue(parser, JOB_LIST_TYPE);
+        }
+
+        // Copy each job's JSON back to back, recording where each one starts and ends.
+        final ByteArrayOutputStream json = new ByteArrayOutputStream();
+        int[] offsets = new int[16];
+        int count = 0;
+        try (final JsonGenerator generator = parser.getCodec().getFactory().createGenerator(json)) {
+            while (parser.nextToken() != JsonToken.END_ARRAY) {
+                if (count + 1 >= offsets.length) {
+                    offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                }
+                generator.flush();
+                offsets[count++] = json.size();
+                generator.copyCurrentStructure(parser);
+            }
+            generator.flush();
+            offsets[count] = json.size();
+        }
+        return new LazyJobList(
+            json.toByteArray(),
+            Arrays.copyOf(offsets, count + 1),
+            (StringDeduplicator) context.getAttribute(CanonicalStringDeserializer.ATTRIBUTE)
+        );
+    }
+}
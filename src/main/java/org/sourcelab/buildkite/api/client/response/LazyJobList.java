@@ -0,0 +1,92 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.response;
+
+import com.fasterxml.jackson.databind.ObjectReader;
+import org.sourcelab.buildkite.api.client.exception.ResponseParsingException;
+import org.sourcelab.buildkite.api.client.response.parser.JacksonFactory;
+import org.sourcelab.buildkite.api.client.response.parser.StringDeduplicator;
+
+import java.io.IOException;
+import java.util.AbstractList;
+import java.util.RandomAccess;
+
+/**
+ * Read only list of Jobs which holds each job as raw JSON, and only parses a Job the first time it is accessed.
+ *
+ * Safe for concurrent use, two threads accessing the same index at once may both parse it, but Jobs are immutable
+ * so either result is equivalent.
+ */
+final class LazyJobList extends AbstractList<Job> implements RandomAccess {
+    /**
+     * Raw JSON for all jobs, back to back.
+     */
+    private final byte[] json;
+
+    /**
+     * Job at index N spans from offsets[N] to offsets[N + 1] within the raw JSON.
+     */
+    private final int[] offsets;
+
+    /**
+     * Jobs parsed so far.
+     */
+    private final Job[] jobs;
+
+    /**
+     * Table used to canonicalize repeating values when parsing jobs, or null if not deduplicating.
+     */
+    private final StringDeduplicator stringDeduplicator;
+
+    LazyJobList(final byte[] json, final int[] offsets, final StringDeduplicator stringDeduplicator) {
+        this.json = json;
+        this.offsets = offsets;
+        this.jobs = new Job[offsets.length - 1];
+        this.stringDeduplicator = stringDeduplicator;
+    }
+
+    @Override
+    public Job get(final int index) {
+        if (index < 0 || index >= jobs.length) {
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + jobs.length);
+        }
+        Job job = jobs[index];
+        if (job == null) {
+            job = parse(index);
+            jobs[index] = job;
+        }
+        return job;
+    }
+
+    @Override
+    public int size() {
+        return jobs.length;
+    }
+
+    private Job parse(final int index) {
+        try {
+            ObjectReader reader = JacksonFactory.readerFor(Job.class);
+            if (stringDeduplicator != null) {
+                reader = reader.withAttribute(CanonicalStringDeserializer.ATTRIBUTE, stringDeduplicator);
+            }
+            return reader.readValue(json, offsets[index], offsets[index + 1] - offsets[index]);
+        } catch (final IOException exception) {
+            throw new ResponseParsingException("Unable to parse Job: " + exception.getMessage(), exception);
+        }
+    }
+}
@@ -17,13 +17,14 @@
 
 package org.sourcelab.buildkite.api.client.response.parser;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.sourcelab.buildkite.api.client.http.HttpResult;
 import org.sourcelab.buildkite.api.client.response.AccessTokenResponse;
 
+import java.io.IOException;
+
 public class AccessTokenResponseParser implements ResponseParser<AccessTokenResponse> {
     @Override
-    public AccessTokenResponse parseResponse(final HttpResult result) throws JsonProcessingException {
-        return JacksonFactory.newInstance().readValue(result.getContent(), AccessTokenResponse.class);
+    public AccessTokenResponse parseResponse(final HttpResult result) throws IOException {
+        return JacksonFactory.readerFor(AccessTokenResponse.class).readValue(result.getContentStream());
     }
 }
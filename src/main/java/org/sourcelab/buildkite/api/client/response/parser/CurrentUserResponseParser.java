@@ -17,13 +17,14 @@
 
 package org.sourcelab.buildkite.api.client.response.parser;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.sourcelab.buildkite.api.client.http.HttpResult;
 import org.sourcelab.buildkite.api.client.response.CurrentUserResponse;
 
+import java.io.IOException;
+
 public class CurrentUserResponseParser implements ResponseParser<CurrentUserResponse> {
     @Override
-    public CurrentUserResponse parseResponse(final HttpResult result) throws JsonProcessingException {
-        return JacksonFactory.newInstance().readValue(result.getContent(), CurrentUserResponse.class);
+    public CurrentUserResponse parseResponse(final HttpResult result) throws IOException {
+        return JacksonFactory.readerFor(CurrentUserResponse.class).readValue(result.getContentStream());
     }
 }
@@ -28,6 +28,6 @@ import java.io.IOException;
 public class ErrorResponseParser implements ResponseParser<ErrorResponse> {
     @Override
     public ErrorResponse parseResponse(final HttpResult result) throws IOException {
-        return JacksonFactory.newInstance().readValue(result.getContent(), ErrorResponse.class);
+        return JacksonFactory.readerFor(ErrorResponse.class).readValue(result.getContentStream());
     }
 }
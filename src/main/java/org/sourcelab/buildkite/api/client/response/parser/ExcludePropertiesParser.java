@@ -0,0 +1,65 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.response.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+
+import java.io.IOException;
+import java.util.Set;
+
+/**
+ * Skips over the named properties of the root object, or of each object within a root array, at the token
+ * level so they are never bound.  Properties nested deeper are passed through as is.
+ */
+final class ExcludePropertiesParser extends JsonParserDelegate {
+    private final Set<String> excludedProperties;
+
+    ExcludePropertiesParser(final JsonParser parser, final Set<String> excludedProperties) {
+        super(parser);
+        this.excludedProperties = excludedProperties;
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        JsonToken token = delegate.nextToken();
+        while (token == JsonToken.FIELD_NAME && isExcluded()) {
+            // Move to the property's value and skip over it, along with anything nested within it.
+            delegate.nextToken();
+            delegate.skipChildren();
+            token = delegate.nextToken();
+        }
+        return token;
+    }
+
+    @Override
+    public JsonToken nextValue() throws IOException {
+        final JsonToken token = nextToken();
+        return token == JsonToken.FIELD_NAME ? nextToken() : token;
+    }
+
+    private boolean isExcluded() throws IOException {
+        if (!excludedProperties.contains(delegate.getCurrentName())) {
+            return false;
+        }
+        final JsonStreamContext parent = delegate.getParsingContext().getParent();
+        return parent.inRoot() || (parent.inArray() && parent.getParent().inRoot());
+    }
+}
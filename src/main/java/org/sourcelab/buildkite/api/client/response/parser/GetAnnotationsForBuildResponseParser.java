@@ -17,13 +17,13 @@
 
 package org.sourcelab.buildkite.api.client.response.parser;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.sourcelab.buildkite.api.client.http.HttpResult;
 import org.sourcelab.buildkite.api.client.request.GetAnnotationsForBuildRequest;
 import org.sourcelab.buildkite.api.client.response.Annotation;
 import org.sourcelab.buildkite.api.client.response.AnnotationsForBuildResponse;
 import org.sourcelab.buildkite.api.client.response.PagingLinks;
 
+import java.io.IOException;
 import java.util.Arrays;
 
 public class GetAnnotationsForBuildResponseParser implements ResponseParser<AnnotationsForBuildResponse> {
@@ -34,7 +34,7 @@ public class GetAnnotationsForBuildResponseParser implements ResponseParser<Anno
     }
 
     @Override
-    public AnnotationsForBuildResponse parseResponse(final HttpResult result) throws JsonProcessingException {
+    public AnnotationsForBuildResponse parseResponse(final HttpResult result) throws IOException {
         final PagingLinks pagingLinks;
         if (result.getHttpHeaders().hasHeader("Link")) {
             // Parse out the link header.
@@ -45,7 +45,7 @@ public class GetAnnotationsForBuildResponseParser implements ResponseParser<Anno
             pagingLinks = PagingLinks.newBuilder().build();
         }
 
-        final Annotation[] annotations = JacksonFactory.newInstance().readValue(result.getContent(), Annotation[].class);
+        final Annotation[] annotations = JacksonFactory.readerFor(Annotation[].class).readValue(result.getContentStream());
 
         // Construct response.
         return new AnnotationsForBuildResponse(pagingLinks, Arrays.asList(annotations), originalRequest);
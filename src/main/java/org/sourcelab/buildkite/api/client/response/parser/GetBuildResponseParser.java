@@ -17,13 +17,33 @@
 
 package org.sourcelab.buildkite.api.client.response.parser;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.BuildProjection;
 import org.sourcelab.buildkite.api.client.response.Build;
 
+import java.io.IOException;
+import java.util.Objects;
+
 public class GetBuildResponseParser implements ResponseParser<Build> {
+    private final BuildProjection projection;
+
+    /**
+     * Constructor.
+     */
+    public GetBuildResponseParser() {
+        this(BuildProjection.FULL);
+    }
+
+    /**
+     * Constructor.
+     * @param projection Which parts of the Build to parse.
+     */
+    public GetBuildResponseParser(final BuildProjection projection) {
+        this.projection = Objects.requireNonNull(projection);
+    }
+
     @Override
-    public Build parseResponse(final HttpResult result) throws JsonProcessingException {
-        return JacksonFactory.newInstance().readValue(result.getContent(), Build.class);
+    public Build parseResponse(final HttpResult result) throws IOException {
+        return JacksonFactory.readValue(Build.class, result, projection);
     }
 }
@@ -17,13 +17,14 @@
 
 package org.sourcelab.buildkite.api.client.response.parser;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.sourcelab.buildkite.api.client.http.HttpResult;
 import org.sourcelab.buildkite.api.client.response.Job;
 
+import java.io.IOException;
+
 public class GetJobResponseParser implements ResponseParser<Job> {
     @Override
-    public Job parseResponse(final HttpResult result) throws JsonProcessingException {
-        return JacksonFactory.newInstance().readValue(result.getContent(), Job.class);
+    public Job parseResponse(final HttpResult result) throws IOException {
+        return JacksonFactory.readValue(Job.class, result);
     }
 }
@@ -28,6 +28,6 @@ import java.io.IOException;
 public class GetMetaResponseParser implements ResponseParser<MetaResponse> {
     @Override
     public MetaResponse parseResponse(final HttpResult result) throws IOException {
-        return JacksonFactory.newInstance().readValue(result.getContent(), MetaResponse.class);
+        return JacksonFactory.readerFor(MetaResponse.class).readValue(result.getContentStream());
     }
 }
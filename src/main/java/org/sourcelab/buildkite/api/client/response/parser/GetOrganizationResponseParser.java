@@ -17,13 +17,14 @@
 
 package org.sourcelab.buildkite.api.client.response.parser;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.sourcelab.buildkite.api.client.http.HttpResult;
 import org.sourcelab.buildkite.api.client.response.Organization;
 
+import java.io.IOException;
+
 public class GetOrganizationResponseParser implements ResponseParser<Organization> {
     @Override
-    public Organization parseResponse(final HttpResult result) throws JsonProcessingException {
-        return JacksonFactory.newInstance().readValue(result.getContent(), Organization.class);
+    public Organization parseResponse(final HttpResult result) throws IOException {
+        return JacksonFactory.readerFor(Organization.class).readValue(result.getContentStream());
     }
 }
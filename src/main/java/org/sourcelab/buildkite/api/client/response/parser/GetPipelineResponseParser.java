@@ -17,13 +17,14 @@
 
 package org.sourcelab.buildkite.api.client.response.parser;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.sourcelab.buildkite.api.client.http.HttpResult;
 import org.sourcelab.buildkite.api.client.response.Pipeline;
 
+import java.io.IOException;
+
 public class GetPipelineResponseParser implements ResponseParser<Pipeline> {
     @Override
-    public Pipeline parseResponse(final HttpResult result) throws JsonProcessingException {
-        return JacksonFactory.newInstance().readValue(result.getContent(), Pipeline.class);
+    public Pipeline parseResponse(final HttpResult result) throws IOException {
+        return JacksonFactory.readerFor(Pipeline.class).readValue(result.getContentStream());
     }
 }
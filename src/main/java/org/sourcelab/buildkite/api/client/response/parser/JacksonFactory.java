@@ -17,40 +17,74 @@
 
 package org.sourcelab.buildkite.api.client.response.parser;
 
+import com.fasterxml.jackson.core.JsonParser;
 import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.Module;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.module.SimpleModule;
 import com.fasterxml.jackson.databind.type.MapType;
+import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.BuildProjection;
+import org.sourcelab.buildkite.api.client.response.Annotation;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.CanonicalStringDeserializer;
+import org.sourcelab.buildkite.api.client.response.Emoji;
+import org.sourcelab.buildkite.api.client.response.ErrorResponse;
+import org.sourcelab.buildkite.api.client.response.JobListDeserializer;
+import org.sourcelab.buildkite.api.client.response.Organization;
+import org.sourcelab.buildkite.api.client.response.Pipeline;
 
+import java.io.IOException;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 /**
- * Creates properly configured Jackson Json Mapper instances.
+ * Creates properly configured Jackson Json Mapper instances, and caches pre-resolved {@link ObjectReader}s
+ * per response type.
  */
 public final class JacksonFactory {
 
     /**
-     * Holds our jackson singleton mapper.  ObjectMapper is defined as being
-     * ThreadSafe so this should be OK to stash as a static and shared.
+     * Response types which are resolved up front, as they are parsed most frequently.
      */
-    private static final ObjectMapper mapper = new ObjectMapper();
+    private static final List<Class<?>> PRELOADED_TYPES = Collections.unmodifiableList(Arrays.asList(
+        Build.class,
+        Build[].class,
+        Pipeline[].class,
+        Organization[].class,
+        Annotation[].class,
+        Emoji[].class,
+        ErrorResponse.class
+    ));
 
     /**
      * Defines a "type safe" Map[String, String] deserialization type for Jackson.
      */
-    public static final MapType mapTypeStringString = mapper.getTypeFactory()
+    public static final MapType mapTypeStringString = TypeFactory.defaultInstance()
             .constructMapType(Map.class, String.class, String.class);
 
-    /*
-     * Statically configure the instance.
+    /**
+     * Holds our jackson singleton mapper along with its readers.  ObjectMapper and ObjectReader are defined as
+     * being ThreadSafe so this should be OK to stash as a static and shared.  Replaced as a whole when additional
+     * modules are registered.
      */
-    static {
-        // Configure mapper
-        mapper
-            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
-            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
-            .registerModule(new JavaTimeModule());
+    private static volatile Mappers mappers = new Mappers(Collections.emptyList());
+
+    private JacksonFactory() {
     }
 
     /**
@@ -58,6 +92,113 @@ public final class JacksonFactory {
      * @return ObjectMapper instance.
      */
     public static ObjectMapper newInstance() {
-        return mapper;
+        return mappers.mapper;
+    }
+
+    /**
+     * Retrieve a reader for the given type.  Readers resolve their deserializer once when created, and are cached,
+     * avoiding looking up the deserializer by type on every read.
+     *
+     * @param type The type to read.
+     * @return ObjectReader for the given type.
+     */
+    public static ObjectReader readerFor(final Class<?> type) {
+        final Mappers current = mappers;
+        return current.readers.computeIfAbsent(type, current.mapper::readerFor);
+    }
+
+    /**
+     * Read a value of the given type from a result, canonicalizing repeating values through the result's
+     * {@link StringDeduplicator}, if it has one.
+     *
+     * @param <T> The type to read.
+     * @param type The type to read.
+     * @param result The result to read.
+     * @return The value read.
+     * @throws IOException on parse errors.
+     */
+    public static <T> T readValue(final Class<T> type, final HttpResult result) throws IOException {
+        return readValue(type, result, BuildProjection.FULL);
+    }
+
+    /**
+     * Read a value of the given type from a result using the given projection.  Properties excluded by the
+     * projection are skipped over for the root object, or for each object within a root array, are never bound,
+     * and are left as their default value.  Projections with lazy jobs defer parsing each Job until it is first
+     * accessed.  Repeating values are canonicalized through the result's {@link StringDeduplicator}, if it has one.
+     *
+     * @param <T> The type to read.
+     * @param type The type to read.
+     * @param result The result to read.
+     * @param projection Defines which properties are parsed.
+     * @return The value read.
+     * @throws IOException on parse errors.
+     */
+    public static <T> T readValue(final Class<T> type, final HttpResult result, final BuildProjection projection) throws IOException {
+        ObjectReader reader = readerFor(type);
+        if (projection.isLazyJobs()) {
+            reader = reader.withAttribute(JobListDeserializer.LAZY_ATTRIBUTE, Boolean.TRUE);
+        }
+        final Optional<StringDeduplicator> stringDeduplicator = result.getStringDeduplicator();
+        if (stringDeduplicator.isPresent()) {
+            reader = reader.withAttribute(CanonicalStringDeserializer.ATTRIBUTE, stringDeduplicator.get());
+        }
+        final Set<String> excludedProperties = projection.getExcludedProperties();
+        if (excludedProperties.isEmpty()) {
+            return reader.readValue(result.getContentStream());
+        }
+
+        try (final JsonParser parser = new ExcludePropertiesParser(reader.createParser(result.getContentStream()), excludedProperties)) {
+            return reader.readValue(parser);
+        }
+    }
+
+    /**
+     * Register additional Jackson modules, such as the Afterburner or Blackbird bytecode generation modules.
+     *
+     * The mapper is shared by every client within the JVM, so registered modules apply process wide, to all
+     * clients, and should be registered once at startup before any client is created.  Modules already registered,
+     * as identified by {@link Module#getTypeId()}, are ignored, otherwise the mapper and its readers are re-created.
+     *
+     * @param modules Modules to register.
+     */
+    public static synchronized void registerModules(final Collection<Module> modules) {
+        Objects.requireNonNull(modules);
+        final List<Module> registered = new ArrayList<>(mappers.modules);
+        for (final Module module : modules) {
+            if (registered.stream().noneMatch((existing) -> existing.getTypeId().equals(module.getTypeId()))) {
+                registered.add(module);
+            }
+        }
+        if (registered.size() != mappers.modules.size()) {
+            mappers = new Mappers(registered);
+        }
+    }
+
+    /**
+     * A configured mapper along with readers created from it.
+     */
+    private static final class Mappers {
+        private final List<Module> modules;
+        private final ObjectMapper mapper;
+        private final ConcurrentMap<Class<?>, ObjectReader> readers = new ConcurrentHashMap<>();
+
+        private Mappers(final List<Module> modules) {
+            this.modules = Collections.unmodifiableList(new ArrayList<>(modules));
+
+            // Configure mapper
+            this.mapper = new ObjectMapper()
+                .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false)
+                .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+                .registerModule(new JavaTimeModule())
+                .registerModule(new SimpleModule("buildkite-timestamps")
+                    .addDeserializer(ZonedDateTime.class, new UtcTimestampDeserializer()))
+                .registerModules(modules);
+
+            // Resolve readers for the most frequently parsed types up front.
+            for (final Class<?> type : PRELOADED_TYPES) {
+                readers.put(type, mapper.readerFor(type));
+            }
+        }
     }
-}
\ No newline at end of file
+}
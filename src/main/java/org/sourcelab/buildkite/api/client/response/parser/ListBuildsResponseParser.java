@@ -17,24 +17,37 @@
 
 package org.sourcelab.buildkite.api.client.response.parser;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.BuildProjection;
 import org.sourcelab.buildkite.api.client.request.ListBuildsRequest;
 import org.sourcelab.buildkite.api.client.response.Build;
 import org.sourcelab.buildkite.api.client.response.ListBuildsResponse;
 import org.sourcelab.buildkite.api.client.response.PagingLinks;
 
+import java.io.IOException;
 import java.util.Arrays;
+import java.util.Objects;
 
 public class ListBuildsResponseParser implements ResponseParser<ListBuildsResponse> {
     private final ListBuildsRequest originalRequest;
+    private final BuildProjection projection;
 
     public ListBuildsResponseParser(final ListBuildsRequest originalRequest) {
+        this(originalRequest, BuildProjection.FULL);
+    }
+
+    /**
+     * Constructor.
+     * @param originalRequest The request the response is for.
+     * @param projection Which parts of each Build to parse.
+     */
+    public ListBuildsResponseParser(final ListBuildsRequest originalRequest, final BuildProjection projection) {
         this.originalRequest = originalRequest;
+        this.projection = Objects.requireNonNull(projection);
     }
 
     @Override
-    public ListBuildsResponse parseResponse(final HttpResult result) throws JsonProcessingException {
+    public ListBuildsResponse parseResponse(final HttpResult result) throws IOException {
         final PagingLinks pagingLinks;
         if (result.getHttpHeaders().hasHeader("Link")) {
             // Parse out the link header.
@@ -45,7 +58,7 @@ public class ListBuildsResponseParser implements ResponseParser<ListBuildsRespon
             pagingLinks = PagingLinks.newBuilder().build();
         }
 
-        final Build[] builds = JacksonFactory.newInstance().readValue(result.getContent(), Build[].class);
+        final Build[] builds = JacksonFactory.readValue(Build[].class, result, projection);
 
         // Construct response.
         return new ListBuildsResponse(pagingLinks, Arrays.asList(builds), originalRequest);
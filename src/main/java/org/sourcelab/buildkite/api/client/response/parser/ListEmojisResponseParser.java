@@ -31,7 +31,7 @@ import java.util.stream.Collectors;
 public class ListEmojisResponseParser implements ResponseParser<List<Emoji>> {
     @Override
     public List<Emoji> parseResponse(final HttpResult result) throws IOException {
-        final Emoji[] emojis = JacksonFactory.newInstance().readValue(result.getContent(), Emoji[].class);
+        final Emoji[] emojis = JacksonFactory.readerFor(Emoji[].class).readValue(result.getContentStream());
         return Arrays.stream(emojis).collect(Collectors.toList());
     }
 }
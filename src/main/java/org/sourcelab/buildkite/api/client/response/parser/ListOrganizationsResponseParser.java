@@ -17,13 +17,13 @@
 
 package org.sourcelab.buildkite.api.client.response.parser;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.sourcelab.buildkite.api.client.http.HttpResult;
 import org.sourcelab.buildkite.api.client.request.ListOrganizationsRequest;
 import org.sourcelab.buildkite.api.client.response.ListOrganizationsResponse;
 import org.sourcelab.buildkite.api.client.response.Organization;
 import org.sourcelab.buildkite.api.client.response.PagingLinks;
 
+import java.io.IOException;
 import java.util.Arrays;
 
 public class ListOrganizationsResponseParser implements ResponseParser<ListOrganizationsResponse> {
@@ -34,7 +34,7 @@ public class ListOrganizationsResponseParser implements ResponseParser<ListOrgan
     }
 
     @Override
-    public ListOrganizationsResponse parseResponse(final HttpResult result) throws JsonProcessingException {
+    public ListOrganizationsResponse parseResponse(final HttpResult result) throws IOException {
         final PagingLinks pagingLinks;
         if (result.getHttpHeaders().hasHeader("Link")) {
             // Parse out the link header.
@@ -45,7 +45,7 @@ public class ListOrganizationsResponseParser implements ResponseParser<ListOrgan
             pagingLinks = PagingLinks.newBuilder().build();
         }
 
-        final Organization[] organizations = JacksonFactory.newInstance().readValue(result.getContent(), Organization[].class);
+        final Organization[] organizations = JacksonFactory.readerFor(Organization[].class).readValue(result.getContentStream());
 
         // Construct response.
         return new ListOrganizationsResponse(pagingLinks, Arrays.asList(organizations), originalRequest);
@@ -17,13 +17,13 @@
 
 package org.sourcelab.buildkite.api.client.response.parser;
 
-import com.fasterxml.jackson.core.JsonProcessingException;
 import org.sourcelab.buildkite.api.client.http.HttpResult;
 import org.sourcelab.buildkite.api.client.request.ListPipelinesRequest;
 import org.sourcelab.buildkite.api.client.response.ListPipelinesResponse;
 import org.sourcelab.buildkite.api.client.response.PagingLinks;
 import org.sourcelab.buildkite.api.client.response.Pipeline;
 
+import java.io.IOException;
 import java.util.Arrays;
 
 public class ListPipelinesResponseParser implements ResponseParser<ListPipelinesResponse> {
@@ -34,7 +34,7 @@ public class ListPipelinesResponseParser implements ResponseParser<ListPipelines
     }
 
     @Override
-    public ListPipelinesResponse parseResponse(final HttpResult result) throws JsonProcessingException {
+    public ListPipelinesResponse parseResponse(final HttpResult result) throws IOException {
         final PagingLinks pagingLinks;
         if (result.getHttpHeaders().hasHeader("Link")) {
             // Parse out the link header.
@@ -45,7 +45,7 @@ public class ListPipelinesResponseParser implements ResponseParser<ListPipelines
             pagingLinks = PagingLinks.newBuilder().build();
         }
 
-        final Pipeline[] pipelines = JacksonFactory.newInstance().readValue(result.getContent(), Pipeline[].class);
+        final Pipeline[] pipelines = JacksonFactory.readerFor(Pipeline[].class).readValue(result.getContentStream());
 
         // Construct response.
         return new ListPipelinesResponse(pagingLinks, Arrays.asList(pipelines), originalRequest);
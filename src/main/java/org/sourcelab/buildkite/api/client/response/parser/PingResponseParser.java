@@ -28,6 +28,6 @@ import java.io.IOException;
 public class PingResponseParser implements ResponseParser<PingResponse> {
     @Override
     public PingResponse parseResponse(final HttpResult result) throws IOException {
-        return JacksonFactory.newInstance().readValue(result.getContent(), PingResponse.class);
+        return JacksonFactory.readerFor(PingResponse.class).readValue(result.getContentStream());
     }
 }
@@ -0,0 +1,127 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.response.parser;
+
+/**
+ * Bounded table used to canonicalize values which repeat across parsed responses, such as branch names,
+ * job names, agent hostnames, and author names and emails, so each distinct value is held by a single String
+ * instance rather than one per occurrence.
+ *
+ * The table is direct mapped: each value hashes to a single slot, and a value hashing to an occupied slot
+ * replaces the previous one.  This keeps lookups lock free and memory bounded, at the cost of occasionally
+ * missing a duplicate.  Values are looked up from the parser's character buffer, so a String is only allocated
+ * on a miss.
+ *
+ * Safe for concurrent use.  Slots are written without locking, but Strings are immutable, so a reader sees
+ * either the previous or the new value of a slot, and either way returns an equal String.
+ */
+public final class StringDeduplicator {
+    /**
+     * Values longer than this are not canonicalized, keeping the retained size of the table bounded.
+     */
+    static final int MAX_VALUE_LENGTH = 512;
+
+    private static final int MAX_CAPACITY = 1 << 30;
+
+    private final String[] table;
+    private final int mask;
+
+    /**
+     * Constructor.
+     * @param maxEntries Maximum number of distinct values held, rounded up to the next power of two.
+     */
+    public StringDeduplicator(final int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("maxEntries must be 1 or larger");
+        }
+        int size = 1;
+        while (size < maxEntries && size < MAX_CAPACITY) {
+            size <<= 1;
+        }
+        this.table = new String[size];
+        this.mask = size - 1;
+    }
+
+    /**
+     * Return the canonical String instance for the given characters.
+     *
+     * @param chars Buffer holding the value.
+     * @param offset Offset of the value within the buffer.
+     * @param length Length of the value.
+     * @return String equal to the given characters.
+     */
+    public String deduplicate(final char[] chars, final int offset, final int length) {
+        if (length > MAX_VALUE_LENGTH) {
+            return new String(chars, offset, length);
+        }
+
+        int hash = 0;
+        for (int index = offset; index < offset + length; index++) {
+            hash = 31 * hash + chars[index];
+        }
+        final int slot = (hash ^ (hash >>> 16)) & mask;
+
+        final String existing = table[slot];
+        if (existing != null && matches(existing, chars, offset, length)) {
+            return existing;
+        }
+        final String value = new String(chars, offset, length);
+        table[slot] = value;
+        return value;
+    }
+
+    /**
+     * Return the canonical String instance for the given value.
+     *
+     * @param value Value to canonicalize.
+     * @return String equal to the given value, or null if value is null.
+     */
+    public String deduplicate(final String value) {
+        if (value == null) {
+            return null;
+        }
+        return deduplicate(value.toCharArray(), 0, value.length());
+    }
+
+    /**
+     * Maximum number of distinct values held.
+     * @return Maximum number of distinct values held.
+     */
+    public int getCapacity() {
+        return table.length;
+    }
+
+    private static boolean matches(final String existing, final char[] chars, final int offset, final int length) {
+        if (existing.length() != length) {
+            return false;
+        }
+        for (int index = 0; index < length; index++) {
+            if (existing.charAt(index) != chars[offset + index]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "StringDeduplicator{"
+            + "capacity=" + table.length
+            + '}';
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.response.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.datatype.jsr310.deser.InstantDeserializer;
+
+import java.io.IOException;
+import java.time.DateTimeException;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+/**
+ * Deserializes {@link ZonedDateTime} values sent in the fixed format used by the Buildkite API,
+ * UTC ISO-8601 with optional millisecond precision, ie {@code 2023-01-04T23:38:39.123Z}.
+ *
+ * The timestamp is decoded directly from the parser's character buffer, without allocating a String or
+ * going through a DateTimeFormatter.  Any other format is handed off to the JSR-310 module's deserializer,
+ * and both produce identical values, in the {@code UTC} zone.
+ */
+final class UtcTimestampDeserializer extends JsonDeserializer<ZonedDateTime> {
+    private static final ZoneId UTC = ZoneId.of("UTC");
+
+    /**
+     * Length of {@code yyyy-MM-ddTHH:mm:ssZ}.
+     */
+    private static final int SECONDS_LENGTH = 20;
+
+    /**
+     * Length of {@code yyyy-MM-ddTHH:mm:ss.SSSZ}.
+     */
+    private static final int MILLIS_LENGTH = 24;
+
+    private final JsonDeserializer<ZonedDateTime> fallback;
+
+    UtcTimestampDeserializer() {
+        this(InstantDeserializer.ZONED_DATE_TIME);
+    }
+
+    UtcTimestampDeserializer(final JsonDeserializer<ZonedDateTime> fallback) {
+        this.fallback = fallback;
+    }
+
+    @Override
+    public ZonedDateTime deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+        if (parser.hasToken(JsonToken.VALUE_STRING)) {
+            final ZonedDateTime value = parse(parser.getTextCharacters(), parser.getTextOffset(), parser.getTextLength());
+            if (value != null) {
+                return value;
+            }
+        }
+        return fallback.deserialize(parser, context);
+    }
+
+    /**
+     * Decode a timestamp in the fixed Buildkite format.
+     *
+     * @param chars Buffer holding the timestamp.
+     * @param offset Offset of the timestamp within the buffer.
+     * @param length Length of the timestamp.
+     * @return The decoded value, or null if not in the expected format.
+     */
+    static ZonedDateTime parse(final char[] chars, final int offset, final int length) {
+        if ((length != SECONDS_LENGTH && length != MILLIS_LENGTH)
+            || chars[offset + 4] != '-'
+            || chars[offset + 7] != '-'
+            || chars[offset + 10] != 'T'
+            || chars[offset + 13] != ':'
+            || chars[offset + 16] != ':'
+            || chars[offset + length - 1] != 'Z') {
+            return null;
+        }
+
+        final int year = digits(chars, offset, 4);
+        final int month = digits(chars, offset + 5, 2);
+        final int day = digits(chars, offset + 8, 2);
+        final int hour = digits(chars, offset + 11, 2);
+        final int minute = digits(chars, offset + 14, 2);
+        final int second = digits(chars, offset + 17, 2);
+        int millis = 0;
+        if (length == MILLIS_LENGTH) {
+            if (chars[offset + 19] != '.') {
+                return null;
+            }
+            millis = digits(chars, offset + 20, 3);
+        }
+        if ((year | month | day | hour | minute | second | millis) < 0) {
+            return null;
+        }
+
+        try {
+            final LocalDateTime dateTime = LocalDateTime.of(year, month, day, hour, minute, second, millis * 1_000_000);
+            return ZonedDateTime.ofInstant(dateTime, ZoneOffset.UTC, UTC);
+        } catch (final DateTimeException exception) {
+            // Out of range field, let the fallback report it.
+            return null;
+        }
+    }
+
+    /**
+     * Decode a run of ASCII digits.
+     * @return The decoded value, or -1 if any character is not a digit.
+     */
+    private static int digits(final char[] chars, final int offset, final int count) {
+        int value = 0;
+        for (int index = offset; index < offset + count; index++) {
+            final int digit = chars[index] - '0';
+            if (digit < 0 || digit > 9) {
+                return -1;
+            }
+            value = value * 10 + digit;
+        }
+        return value;
+    }
+}
@@ -0,0 +1,693 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.store;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sourcelab.buildkite.api.client.BuildkiteClient;
+import org.sourcelab.buildkite.api.client.codec.BuildCodec;
+import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
+import org.sourcelab.buildkite.api.client.exception.CodecException;
+import org.sourcelab.buildkite.api.client.request.BuildFilters;
+import org.sourcelab.buildkite.api.client.request.ListBuildsRequest;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.ListBuildsResponse;
+import org.sourcelab.buildkite.api.client.util.BuildkiteClientUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent store of builds, along with their jobs, so build history survives restarts without being requested
+ * from the API again.
+ *
+ * Builds are appended as compact binary records, encoded by {@link BuildCodec}, to segment files, a new segment
+ * being started once the current one reaches its maximum size.  Storing a build already held supersedes its
+ * previous record.  Each record is described by a fixed width entry in a memory-mapped index file, holding hashes
+ * of the build's organization, pipeline and number and of its id, its creation time, and the record's location.
+ * Opening a store reads only the index, never the segments, other than to recover records written after the index
+ * was last updated, or to verify the most recent entries still describe intact records.
+ *
+ * Builds are found by organization, pipeline and number, by id, or by a range of creation times.  A build is then
+ * read and decoded from its segment; builds whose key only shares a hash are never returned.
+ *
+ * {@link #listBuilds(BuildkiteClient, BuildFilters)} and {@link #retrieveAll(BuildkiteClient, BuildFilters, int)}
+ * request builds from the API, writing each one through to the store before returning them.
+ *
+ * Superseded records are not reclaimed from segment files.  Instances are thread safe, but a directory must only be
+ * opened by a single instance at a time.
+ */
+public class BuildStore implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(BuildStore.class);
+
+    private static final String INDEX_FILE = "index.bin";
+    private static final Pattern SEGMENT_FILE = Pattern.compile("segment-(\\d{8})\\.log");
+    private static final Pattern BUILD_URL = Pattern.compile(".*/organizations/([^/]+)/pipelines/([^/]+)/builds/\\d+$");
+
+    // Index file layout: header of magic, version and entry count, followed by fixed width entries.
+    private static final int INDEX_MAGIC = 0x424B4958;
+    private static final int INDEX_VERSION = 1;
+    private static final int HEADER_BYTES = 16;
+    private static final int COUNT_POSITION = 8;
+    private static final int INITIAL_ENTRIES = 1024;
+
+    // Entry layout: number key hash, id hash, created at millis, segment, offset, record length and flags.
+    private static final int ENTRY_BYTES = 40;
+    private static final int NUMBER_HASH = 0;
+    private static final int ID_HASH = 8;
+    private static final int CREATED_AT = 16;
+    private static final int SEGMENT = 24;
+    private static final int OFFSET = 28;
+    private static final int LENGTH = 32;
+    private static final int FLAGS = 36;
+    private static final int LIVE = 1;
+    private static final int HAS_ID = 2;
+    private static final int HAS_CREATED_AT = 4;
+
+    // Record layout: payload length and CRC32, followed by the payload.
+    private static final int RECORD_HEADER_BYTES = 8;
+
+    private final Path directory;
+    private final long segmentMaxBytes;
+
+    // All state below is guarded by this.
+    private final Map<Integer, FileChannel> segments = new HashMap<>();
+    private int activeSegment = 1;
+    private long activeSegmentSize = 0;
+    private FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private int entryCount = 0;
+    private boolean closed = false;
+
+    /**
+     * Slot of the live index entry for each hash of organization, pipeline and number, or id.
+     */
+    private final Map<Long, Integer> byNumber = new HashMap<>();
+    private final Map<Long, Integer> byId = new HashMap<>();
+
+    /**
+     * Slots of live index entries by build creation time, in epoch milliseconds.
+     */
+    private final NavigableMap<Long, TreeSet<Integer>> byCreatedAt = new TreeMap<>();
+
+    /**
+     * Create a new Builder for creating BuildStore instances.
+     * @return Builder for BuildStore instances.
+     */
+    public static BuildStoreBuilder newBuilder() {
+        return new BuildStoreBuilder();
+    }
+
+    /**
+     * Constructor.  Use {@link #newBuilder()}.
+     *
+     * @param directory Directory holding the store's segment and index files.
+     * @param segmentMaxBytes Size at which a segment file is closed to new records.
+     */
+    BuildStore(final Path directory, final long segmentMaxBytes) {
+        this.directory = Objects.requireNonNull(directory);
+        this.segmentMaxBytes = segmentMaxBytes;
+        try {
+            Files.createDirectories(directory);
+            openIndex();
+            recover();
+        } catch (final IOException | RuntimeException exception) {
+            close();
+            throw new BuildkiteException("Unable to open build store " + directory + ": " + exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Store a build, superseding any previously stored record of it.  The build's organization and pipeline are
+     * read from its url.
+     * @param build The build to store.
+     * @throws IllegalArgumentException if the build's url does not identify its organization and pipeline.
+     * @throws BuildkiteException if the build could not be written.
+     */
+    public void put(final Build build) {
+        final Matcher matcher = BUILD_URL.matcher(String.valueOf(build.getUrl()));
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Unable to determine organization and pipeline of build from url " + build.getUrl());
+        }
+        put(matcher.group(1), matcher.group(2), build);
+    }
+
+    /**
+     * Store a build, superseding any previously stored record of it.
+     * @param organizationSlugId Organization associated with the build.
+     * @param pipelineSlugId Pipeline associated with the build.
+     * @param build The build to store.
+     * @throws BuildkiteException if the build could not be written.
+     */
+    public synchronized void put(final String organizationSlugId, final String pipelineSlugId, final Build build) {
+        ensureOpen();
+        final ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        try (final DataOutputStream output = new DataOutputStream(payloadBytes)) {
+            output.writeUTF(Objects.requireNonNull(organizationSlugId));
+            output.writeUTF(Objects.requireNonNull(pipelineSlugId));
+            output.write(BuildCodec.encodeBuild(build));
+        } catch (final IOException exception) {
+            // Writing to memory, never thrown.
+            throw new IllegalStateException(exception);
+        }
+        final ByteBuffer payload = ByteBuffer.wrap(payloadBytes.toByteArray());
+
+        final CRC32 crc = new CRC32();
+        crc.update(payload.duplicate());
+        final int recordLength = RECORD_HEADER_BYTES + payload.remaining();
+        try {
+            if (activeSegmentSize > 0 && activeSegmentSize + recordLength > segmentMaxBytes) {
+                segment(activeSegment).force(false);
+                activeSegment++;
+                activeSegmentSize = 0;
+            }
+            final ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+            header.putInt(payload.remaining()).putInt((int) crc.getValue()).flip();
+            final FileChannel channel = segment(activeSegment);
+            writeFully(channel, header, activeSegmentSize);
+            writeFully(channel, payload, activeSegmentSize + RECORD_HEADER_BYTES);
+        } catch (final IOException exception) {
+            throw new BuildkiteException("Unable to write build " + build.getId() + " to store " + directory + ": " + exception.getMessage(), exception);
+        }
+        addEntry(organizationSlugId, pipelineSlugId, build, activeSegment, (int) activeSegmentSize, recordLength);
+        activeSegmentSize += recordLength;
+    }
+
+    /**
+     * Store each of the given builds, see {@link #put(Build)}.
+     * @param builds The builds to store.
+     */
+    public synchronized void putAll(final Collection<Build> builds) {
+        for (final Build build : builds) {
+            put(build);
+        }
+    }
+
+    /**
+     * Find a stored build by its organization, pipeline and number.
+     * @param organizationSlugId Organization associated with the build.
+     * @param pipelineSlugId Pipeline associated with the build.
+     * @param buildNumber The build number.
+     * @return The stored build if found.
+     */
+    public synchronized Optional<Build> get(final String organizationSlugId, final String pipelineSlugId, final long buildNumber) {
+        ensureOpen();
+        final Integer slot = byNumber.get(numberHash(organizationSlugId, pipelineSlugId, buildNumber));
+        if (slot == null) {
+            return Optional.empty();
+        }
+        final StoredBuild stored = read(slot);
+        if (!stored.organizationSlugId.equals(organizationSlugId)
+            || !stored.pipelineSlugId.equals(pipelineSlugId)
+            || stored.build.getNumber() != buildNumber) {
+            return Optional.empty();
+        }
+        return Optional.of(stored.build);
+    }
+
+    /**
+     * Find a stored build by its id.
+     * @param buildId Id of the build.
+     * @return The stored build if found.
+     */
+    public synchronized Optional<Build> getById(final String buildId) {
+        ensureOpen();
+        final Integer slot = byId.get(hash(buildId));
+        if (slot == null) {
+            return Optional.empty();
+        }
+        final Build build = read(slot).build;
+        return buildId.equals(build.getId()) ? Optional.of(build) : Optional.empty();
+    }
+
+    /**
+     * Find all stored builds created within the given range.
+     * @param createdFrom Find builds created at or after this time.
+     * @param createdTo Find builds created before this time.
+     * @return Builds created within the range, oldest first.
+     */
+    public synchronized List<Build> findByCreatedAt(final ZonedDateTime createdFrom, final ZonedDateTime createdTo) {
+        ensureOpen();
+        final List<Build> builds = new ArrayList<>();
+        byCreatedAt.subMap(createdFrom.toInstant().toEpochMilli(), true, createdTo.toInstant().toEpochMilli(), false)
+            .values()
+            .forEach((slots) -> slots.forEach((slot) -> builds.add(read(slot).build)));
+        return builds;
+    }
+
+    /**
+     * Number of builds held by the store.
+     * @return Number of builds held by the store.
+     */
+    public synchronized int size() {
+        return byNumber.size();
+    }
+
+    /**
+     * Request a page of builds from the API, storing each of them before returning the page.
+     * @param client The BuildkiteClient to execute the request against.
+     * @param filters Search criteria.
+     * @return The page of builds.
+     * @throws BuildkiteException if API returns an error response, or the builds could not be written.
+     */
+    public ListBuildsResponse listBuilds(final BuildkiteClient client, final BuildFilters filters) {
+        final ListBuildsResponse response = client.listBuilds(filters);
+        putAll(response.getBuilds());
+        return response;
+    }
+
+    /**
+     * Request all builds matching the filters from the API, storing each of them before returning them.
+     * See {@link BuildkiteClientUtils#retrieveAll(org.sourcelab.buildkite.api.client.request.Filters, Class, Class, BuildkiteClient, int)}.
+     * @param client The BuildkiteClient to execute the requests against.
+     * @param filters Search criteria.
+     * @param parallelism Maximum number of pages to request concurrently, must be 1 or larger.
+     * @return All builds matching the filters, in the order returned by the API.
+     * @throws BuildkiteException if API returns an error response, or the builds could not be written.
+     */
+    public List<Build> retrieveAll(final BuildkiteClient client, final BuildFilters filters, final int parallelism) {
+        final List<Build> builds = BuildkiteClientUtils.retrieveAll(filters, ListBuildsRequest.class, Build.class, client, parallelism);
+        putAll(builds);
+        return builds;
+    }
+
+    /**
+     * Flush written records and index entries to disk.
+     * @throws BuildkiteException if the store could not be flushed.
+     */
+    public synchronized void flush() {
+        ensureOpen();
+        try {
+            segment(activeSegment).force(false);
+            index.force();
+        } catch (final IOException exception) {
+            throw new BuildkiteException("Unable to flush build store " + directory + ": " + exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Flush and close the store.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (index != null) {
+            index.force();
+        }
+        for (final FileChannel channel : segments.values()) {
+            closeQuietly(channel);
+        }
+        segments.clear();
+        if (indexChannel != null) {
+            closeQuietly(indexChannel);
+        }
+    }
+
+    private void openIndex() throws IOException {
+        indexChannel = FileChannel.open(
+            directory.resolve(INDEX_FILE), StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE
+        );
+        final long size = indexChannel.size();
+        if (size >= HEADER_BYTES) {
+            index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            entryCount = index.getInt(COUNT_POSITION);
+            if (index.getInt(0) == INDEX_MAGIC
+                && index.getInt(4) == INDEX_VERSION
+                && entryCount >= 0
+                && HEADER_BYTES + (long) entryCount * ENTRY_BYTES <= size) {
+                for (int slot = 0; slot < entryCount; slot++) {
+                    if ((flags(slot) & LIVE) != 0) {
+                        link(slot);
+                    }
+                }
+                return;
+            }
+            logger.warn("Rebuilding unreadable build store index in {}", directory);
+        }
+
+        // No usable index, rebuild it from the segment files.
+        indexChannel.truncate(0);
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (long) INITIAL_ENTRIES * ENTRY_BYTES);
+        index.putInt(0, INDEX_MAGIC);
+        index.putInt(4, INDEX_VERSION);
+        index.putInt(COUNT_POSITION, 0);
+        entryCount = 0;
+    }
+
+    /**
+     * Index any records appended to segments after the index was last updated, truncating any partially written record.
+     */
+    private void recover() throws IOException {
+        dropEntriesAheadOfSegments();
+
+        final TreeSet<Integer> segmentNumbers = new TreeSet<>();
+        try (final DirectoryStream<Path> stream = Files.newDirectoryStream(directory, "segment-*.log")) {
+            for (final Path path : stream) {
+                final Matcher matcher = SEGMENT_FILE.matcher(path.getFileName().toString());
+                if (matcher.matches()) {
+                    segmentNumbers.add(Integer.parseInt(matcher.group(1)));
+                }
+            }
+        }
+
+        // Records are indexed in the order they are appended, so the last entry marks how far the index reaches.
+        int resumeSegment = segmentNumbers.isEmpty() ? 1 : segmentNumbers.first();
+        long resumeOffset = 0;
+        if (entryCount > 0) {
+            final int last = entryCount - 1;
+            resumeSegment = entryInt(last, SEGMENT);
+            resumeOffset = (long) entryInt(last, OFFSET) + entryInt(last, LENGTH);
+        }
+
+        int recovered = 0;
+        for (final int segmentNumber : segmentNumbers.tailSet(resumeSegment, true)) {
+            final FileChannel channel = segment(segmentNumber);
+            long position = segmentNumber == resumeSegment ? resumeOffset : 0;
+            while (position < channel.size()) {
+                final StoredBuild stored = readRecord(channel, position);
+                if (stored == null) {
+                    logger.warn("Truncating partially written record at {} of build store segment {}", position, segmentNumber);
+                    channel.truncate(position);
+                    break;
+                }
+                addEntry(stored.organizationSlugId, stored.pipelineSlugId, stored.build, segmentNumber, (int) position, stored.length);
+                position += stored.length;
+                recovered++;
+            }
+        }
+        if (recovered > 0) {
+            logger.info("Recovered {} unindexed records into build store {}", recovered, directory);
+        }
+
+        if (!segmentNumbers.isEmpty()) {
+            activeSegment = Math.max(segmentNumbers.last(), resumeSegment);
+        }
+        activeSegmentSize = segment(activeSegment).size();
+    }
+
+    /**
+     * Neither the index nor the segments are forced as records are written, so after a crash the index may reach disk
+     * ahead of the records it describes.  Drop trailing entries whose record is missing or torn, restoring the most
+     * recent intact record of each build they superseded.
+     */
+    private void dropEntriesAheadOfSegments() throws IOException {
+        final int indexed = entryCount;
+        final Set<Long> droppedNumberHashes = new HashSet<>();
+        while (entryCount > 0 && !isRecordIntact(entryCount - 1)) {
+            final int slot = --entryCount;
+            droppedNumberHashes.add(index.getLong(entryPosition(slot) + NUMBER_HASH));
+            if ((flags(slot) & LIVE) != 0) {
+                unlink(slot);
+            }
+        }
+        if (entryCount == indexed) {
+            return;
+        }
+        index.putInt(COUNT_POSITION, entryCount);
+        logger.warn("Dropped {} build store index entries ahead of their segment data in {}", indexed - entryCount, directory);
+
+        for (int slot = entryCount - 1; slot >= 0 && !droppedNumberHashes.isEmpty(); slot--) {
+            final long numberHash = index.getLong(entryPosition(slot) + NUMBER_HASH);
+            if (droppedNumberHashes.remove(numberHash) && !byNumber.containsKey(numberHash) && isRecordIntact(slot)) {
+                index.putInt(entryPosition(slot) + FLAGS, flags(slot) | LIVE);
+                link(slot);
+            }
+        }
+    }
+
+    /**
+     * Check the record described by an index entry is fully held by its segment.
+     */
+    private boolean isRecordIntact(final int slot) throws IOException {
+        final FileChannel channel = segment(entryInt(slot, SEGMENT));
+        final long offset = entryInt(slot, OFFSET);
+        final int length = entryInt(slot, LENGTH);
+        if (offset + length > channel.size()) {
+            return false;
+        }
+        final StoredBuild stored = readRecord(channel, offset);
+        return stored != null && stored.length == length;
+    }
+
+    private void addEntry(
+        final String organizationSlugId,
+        final String pipelineSlugId,
+        final Build build,
+        final int segment,
+        final int offset,
+        final int length
+    ) {
+        // Grow the mapped index as needed, mapping beyond the end of the file extends it.
+        final long required = HEADER_BYTES + (long) (entryCount + 1) * ENTRY_BYTES;
+        if (required > index.capacity()) {
+            index.force();
+            try {
+                index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES + (index.capacity() - HEADER_BYTES) * 2L);
+            } catch (final IOException exception) {
+                throw new BuildkiteException("Unable to grow build store index " + directory + ": " + exception.getMessage(), exception);
+            }
+        }
+
+        final int slot = entryCount;
+        final int position = entryPosition(slot);
+        int flags = LIVE;
+        index.putLong(position + NUMBER_HASH, numberHash(organizationSlugId, pipelineSlugId, build.getNumber()));
+        if (build.getId() != null) {
+            index.putLong(position + ID_HASH, hash(build.getId()));
+            flags |= HAS_ID;
+        }
+        if (build.getCreatedAt() != null) {
+            index.putLong(position + CREATED_AT, build.getCreatedAt().toInstant().toEpochMilli());
+            flags |= HAS_CREATED_AT;
+        }
+        index.putInt(position + SEGMENT, segment);
+        index.putInt(position + OFFSET, offset);
+        index.putInt(position + LENGTH, length);
+        index.putInt(position + FLAGS, flags);
+
+        // Publish the entry only once fully written.
+        entryCount++;
+        index.putInt(COUNT_POSITION, entryCount);
+        link(slot);
+    }
+
+    /**
+     * Add a live entry to the in memory lookups, superseding any entry for the same build.
+     */
+    private void link(final int slot) {
+        final int position = entryPosition(slot);
+        final Integer previous = byNumber.put(index.getLong(position + NUMBER_HASH), slot);
+        if (previous != null) {
+            unlink(previous);
+        }
+        if ((flags(slot) & HAS_ID) != 0) {
+            final Integer previousById = byId.put(index.getLong(position + ID_HASH), slot);
+            if (previousById != null && !previousById.equals(previous)) {
+                unlink(previousById);
+            }
+        }
+        if ((flags(slot) & HAS_CREATED_AT) != 0) {
+            byCreatedAt.computeIfAbsent(index.getLong(position + CREATED_AT), (createdAt) -> new TreeSet<>()).add(slot);
+        }
+    }
+
+    /**
+     * Mark a superseded entry as no longer live, removing it from the in memory lookups.
+     */
+    private void unlink(final int slot) {
+        final int position = entryPosition(slot);
+        index.putInt(position + FLAGS, flags(slot) & ~LIVE);
+        byNumber.remove(index.getLong(position + NUMBER_HASH), slot);
+        if ((flags(slot) & HAS_ID) != 0) {
+            byId.remove(index.getLong(position + ID_HASH), slot);
+        }
+        if ((flags(slot) & HAS_CREATED_AT) != 0) {
+            final long createdAt = index.getLong(position + CREATED_AT);
+            final TreeSet<Integer> slots = byCreatedAt.get(createdAt);
+            if (slots != null && slots.remove(slot) && slots.isEmpty()) {
+                byCreatedAt.remove(createdAt);
+            }
+        }
+    }
+
+    private StoredBuild read(final int slot) {
+        final int segment = entryInt(slot, SEGMENT);
+        final long offset = entryInt(slot, OFFSET);
+        try {
+            final StoredBuild stored = readRecord(segment(segment), offset);
+            if (stored == null) {
+                throw new BuildkiteException("Corrupt record at " + offset + " of build store segment " + segment);
+            }
+            return stored;
+        } catch (final IOException exception) {
+            throw new BuildkiteException("Unable to read build store segment " + segment + ": " + exception.getMessage(), exception);
+        }
+    }
+
+    /**
+     * Read and decode the record at the given position.
+     * @return The decoded record, or null if incomplete or corrupt.
+     */
+    private static StoredBuild readRecord(final FileChannel channel, final long position) throws IOException {
+        final ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER_BYTES);
+        if (!readFully(channel, header, position)) {
+            return null;
+        }
+        final int payloadLength = header.getInt(0);
+        if (payloadLength < 0 || payloadLength > channel.size() - position - RECORD_HEADER_BYTES) {
+            return null;
+        }
+        final ByteBuffer payload = ByteBuffer.allocate(payloadLength);
+        if (!readFully(channel, payload, position + RECORD_HEADER_BYTES)) {
+            return null;
+        }
+        final CRC32 crc = new CRC32();
+        crc.update(payload.array(), 0, payloadLength);
+        if ((int) crc.getValue() != header.getInt(4)) {
+            return null;
+        }
+        try {
+            final DataInputStream input = new DataInputStream(new ByteArrayInputStream(payload.array(), 0, payloadLength));
+            final String organizationSlugId = input.readUTF();
+            final String pipelineSlugId = input.readUTF();
+            final int buildOffset = payloadLength - input.available();
+            final Build build = BuildCodec.decodeBuild(payload.array(), buildOffset, payloadLength - buildOffset);
+            return new StoredBuild(organizationSlugId, pipelineSlugId, build, RECORD_HEADER_BYTES + payloadLength);
+        } catch (final IOException | CodecException exception) {
+            return null;
+        }
+    }
+
+    private FileChannel segment(final int segment) throws IOException {
+        FileChannel channel = segments.get(segment);
+        if (channel == null) {
+            final Path file = directory.resolve(String.format("segment-%08d.log", segment));
+            channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            segments.put(segment, channel);
+        }
+        return channel;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Build store " + directory + " is closed.");
+        }
+    }
+
+    private int flags(final int slot) {
+        return entryInt(slot, FLAGS);
+    }
+
+    private int entryInt(final int slot, final int field) {
+        return index.getInt(entryPosition(slot) + field);
+    }
+
+    private static int entryPosition(final int slot) {
+        return HEADER_BYTES + slot * ENTRY_BYTES;
+    }
+
+    private static void writeFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            offset += channel.write(buffer, offset);
+        }
+    }
+
+    private static boolean readFully(final FileChannel channel, final ByteBuffer buffer, final long position) throws IOException {
+        long offset = position;
+        while (buffer.hasRemaining()) {
+            final int read = channel.read(buffer, offset);
+            if (read < 0) {
+                return false;
+            }
+            offset += read;
+        }
+        return true;
+    }
+
+    private static void closeQuietly(final Closeable closeable) {
+        try {
+            closeable.close();
+        } catch (final IOException exception) {
+            logger.warn("Unable to close build store file: {}", exception.getMessage());
+        }
+    }
+
+    private static long numberHash(final String organizationSlugId, final String pipelineSlugId, final long buildNumber) {
+        return hash(organizationSlugId + "/" + pipelineSlugId + "/" + buildNumber);
+    }
+
+    /**
+     * 64 bit FNV-1a hash, wide enough that distinct keys practically never share a hash.
+     */
+    private static long hash(final String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (int index = 0; index < value.length(); index++) {
+            hash ^= value.charAt(index);
+            hash *= 0x100000001b3L;
+        }
+        return hash;
+    }
+
+    /**
+     * A decoded record.
+     */
+    private static final class StoredBuild {
+        private final String organizationSlugId;
+        private final String pipelineSlugId;
+        private final Build build;
+        private final int length;
+
+        private StoredBuild(final String organizationSlugId, final String pipelineSlugId, final Build build, final int length) {
+            this.organizationSlugId = organizationSlugId;
+            this.pipelineSlugId = pipelineSlugId;
+            this.build = build;
+            this.length = length;
+        }
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.store;
+
+import org.sourcelab.buildkite.api.client.exception.BuilderValidationException;
+
+import java.nio.file.Path;
+
+/**
+ * Builder for {@link BuildStore} instances.
+ */
+public final class BuildStoreBuilder {
+    private Path directory = null;
+    private long segmentMaxBytes = 64L * 1024 * 1024;
+
+    /**
+     * Constructor.
+     */
+    public BuildStoreBuilder() {
+    }
+
+    /**
+     * Set the directory holding the store's segment and index files, created if it does not exist.
+     * @param directory Directory holding the store's files.
+     * @return self.
+     */
+    public BuildStoreBuilder withDirectory(final Path directory) {
+        this.directory = directory;
+        return this;
+    }
+
+    /**
+     * Set the size at which a segment file is closed to new records, and a new segment started.
+     * Defaults to 64MB.
+     * @param segmentMaxBytes Maximum size in bytes of a segment file.
+     * @return self.
+     */
+    public BuildStoreBuilder withSegmentMaxBytes(final long segmentMaxBytes) {
+        this.segmentMaxBytes = segmentMaxBytes;
+        return this;
+    }
+
+    /**
+     * Open the store, recovering any records written after its index was last updated.
+     * @return The opened BuildStore.
+     * @throws org.sourcelab.buildkite.api.client.exception.BuildkiteException if the store could not be opened.
+     */
+    public BuildStore build() {
+        if (directory == null) {
+            throw new BuilderValidationException("The 'Directory' property must be configured.");
+        }
+        if (segmentMaxBytes < 1024 || segmentMaxBytes > Integer.MAX_VALUE) {
+            throw new BuilderValidationException("The 'SegmentMaxBytes' property must be between 1024 and " + Integer.MAX_VALUE + ".");
+        }
+        return new BuildStore(directory, segmentMaxBytes);
+    }
+}
@@ -0,0 +1,91 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.sync;
+
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
+import org.sourcelab.buildkite.api.client.response.parser.JacksonFactory;
+
+import java.io.IOException;
+import java.io.UnsupportedEncodingException;
+import java.net.URLEncoder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Persists each checkpoint as a JSON file within a directory, one file per scope.
+ *
+ * Checkpoints are written to a temporary file and then moved into place, so a crash part way through
+ * saving leaves the previous checkpoint intact.
+ */
+public class FileSyncCheckpointStore implements SyncCheckpointStore {
+    private final Path directory;
+
+    /**
+     * Constructor.
+     * @param directory Directory to hold checkpoint files, created if it does not exist.
+     */
+    public FileSyncCheckpointStore(final Path directory) {
+        this.directory = Objects.requireNonNull(directory);
+    }
+
+    @Override
+    public Optional<SyncCheckpoint> load(final String scope) {
+        final Path file = fileFor(scope);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(JacksonFactory.readerFor(SyncCheckpoint.class).readValue(file.toFile()));
+        } catch (final IOException exception) {
+            throw new BuildkiteException("Unable to read checkpoint " + file + ": " + exception.getMessage(), exception);
+        }
+    }
+
+    @Override
+    public void save(final String scope, final SyncCheckpoint checkpoint) {
+        final Path file = fileFor(scope);
+        try {
+            Files.createDirectories(directory);
+            final Path temporary = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            try {
+                final ObjectWriter writer = JacksonFactory.newInstance()
+                    .writerFor(SyncCheckpoint.class)
+                    .without(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+                writer.writeValue(temporary.toFile(), checkpoint);
+                Files.move(temporary, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (final IOException exception) {
+            throw new BuildkiteException("Unable to write checkpoint " + file + ": " + exception.getMessage(), exception);
+        }
+    }
+
+    private Path fileFor(final String scope) {
+        try {
+            return directory.resolve(URLEncoder.encode(scope, "UTF-8") + ".json");
+        } catch (final UnsupportedEncodingException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
@@ -0,0 +1,311 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.sync;
+
+import org.sourcelab.buildkite.api.client.BuildkiteClient;
+import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
+import org.sourcelab.buildkite.api.client.exception.NotFoundException;
+import org.sourcelab.buildkite.api.client.request.BuildFilters;
+import org.sourcelab.buildkite.api.client.request.BuildFiltersBuilder;
+import org.sourcelab.buildkite.api.client.request.BuildProjection;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.BuildState;
+import org.sourcelab.buildkite.api.client.response.ListBuildsResponse;
+import org.sourcelab.buildkite.api.client.util.BuildStateUtils;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+/**
+ * Keeps a local copy of an organization's, or a single pipeline's, builds up to date, requesting only the builds
+ * created or finished since the previous sync rather than re-listing every build.
+ *
+ * Each call to {@link #sync()}:
+ * <ol>
+ *     <li>Lists builds created since the saved created watermark.</li>
+ *     <li>Lists builds finished since the saved finished watermark.</li>
+ *     <li>Re-checks builds which had not finished as of the previous sync, and were not seen by the above,
+ *     using a single listing of unfinished builds, falling back to retrieving any still unaccounted for
+ *     individually.</li>
+ *     <li>Passes every build seen to the upsert callback, then saves the new watermarks and the builds which
+ *     have still not finished to the {@link SyncCheckpointStore}.</li>
+ * </ol>
+ * Both watermarks are moved back by the configured overlap before requesting, to absorb clock skew, so builds
+ * near a watermark are passed to the callback on more than one sync.  The checkpoint is only saved once every
+ * build has been passed to the callback, so a failed sync is repeated in full by the next one.
+ *
+ * A build is considered finished once its state is terminal, see {@link BuildStateUtils#isStateTerminal(BuildState)}.
+ *
+ * Syncs of a single instance are serialized.  Separate instances must not share a scope within the same store.
+ */
+public class IncrementalBuildSync {
+    /**
+     * Largest page size supported by the Buildkite REST Api.
+     */
+    private static final int MAX_PER_PAGE = 100;
+
+    /**
+     * States of builds which may still change, requested when re-checking pending builds.
+     */
+    private static final List<String> UNFINISHED_STATES = Collections.unmodifiableList(Arrays.asList(
+        "scheduled", "running", "blocked", "failing", "canceling"
+    ));
+
+    private final BuildkiteClient client;
+    private final String orgIdSlug;
+    private final String pipelineIdSlug;
+    private final Consumer<Build> upsertCallback;
+    private final SyncCheckpointStore checkpointStore;
+    private final Duration overlap;
+    private final ZonedDateTime initialCreatedFrom;
+    private final BuildProjection projection;
+    private final Clock clock;
+
+    /**
+     * Create a new Builder for creating IncrementalBuildSync instances.
+     * @return Builder for IncrementalBuildSync instances.
+     */
+    public static IncrementalBuildSyncBuilder newBuilder() {
+        return new IncrementalBuildSyncBuilder();
+    }
+
+    /**
+     * Constructor.  Use {@link #newBuilder()}.
+     *
+     * @param client The client used to make requests.
+     * @param orgIdSlug Slug of the organization to sync.
+     * @param pipelineIdSlug Slug of the pipeline to sync, or null to sync the whole organization.
+     * @param upsertCallback Callback invoked with each new or updated build.
+     * @param checkpointStore Where checkpoints are persisted.
+     * @param overlap How far before the saved watermarks each sync starts.
+     * @param initialCreatedFrom Earliest creation time of builds requested on the first sync, or null for all builds.
+     * @param projection Which parts of each build are parsed.
+     * @param clock Clock used to seed watermarks when no builds have been seen yet.
+     */
+    IncrementalBuildSync(
+        final BuildkiteClient client,
+        final String orgIdSlug,
+        final String pipelineIdSlug,
+        final Consumer<Build> upsertCallback,
+        final SyncCheckpointStore checkpointStore,
+        final Duration overlap,
+        final ZonedDateTime initialCreatedFrom,
+        final BuildProjection projection,
+        final Clock clock
+    ) {
+        this.client = Objects.requireNonNull(client);
+        this.orgIdSlug = Objects.requireNonNull(orgIdSlug);
+        this.pipelineIdSlug = pipelineIdSlug;
+        this.upsertCallback = Objects.requireNonNull(upsertCallback);
+        this.checkpointStore = Objects.requireNonNull(checkpointStore);
+        this.overlap = Objects.requireNonNull(overlap);
+        this.initialCreatedFrom = initialCreatedFrom;
+        this.projection = Objects.requireNonNull(projection);
+        this.clock = Objects.requireNonNull(clock);
+    }
+
+    /**
+     * Identifies the organization or pipeline synced, used as the key within the {@link SyncCheckpointStore}.
+     * @return "org-slug" or "org-slug/pipeline-slug".
+     */
+    public String getScope() {
+        return pipelineIdSlug == null ? orgIdSlug : orgIdSlug + "/" + pipelineIdSlug;
+    }
+
+    /**
+     * Run a single sync cycle.
+     *
+     * @return Summary of the sync.
+     * @throws BuildkiteException on errors, in which case the checkpoint is left unchanged.
+     */
+    public synchronized SyncResult sync() {
+        final ZonedDateTime now = ZonedDateTime.now(clock);
+        final Optional<SyncCheckpoint> previous = checkpointStore.load(getScope());
+        final Cycle cycle = new Cycle();
+
+        if (previous.isPresent()) {
+            // Builds created or finished since the last sync.
+            listAll(newFilters().withCreatedFrom(previous.get().getCreatedWatermark().minus(overlap)), cycle);
+            listAll(newFilters().withFinishedFrom(previous.get().getFinishedWatermark().minus(overlap)), cycle);
+            recheckPendingBuilds(previous.get().getPendingBuilds(), cycle);
+        } else {
+            // First sync, list every build.
+            listAll(newFilters().withCreatedFrom(initialCreatedFrom), cycle);
+        }
+
+        // Hand off every build seen before saving the checkpoint, so builds are never skipped if this fails.
+        cycle.builds.values().forEach(upsertCallback);
+
+        final SyncCheckpoint checkpoint = nextCheckpoint(previous, cycle, now);
+        checkpointStore.save(getScope(), checkpoint);
+        return new SyncResult(cycle.builds.size(), cycle.requestCount, checkpoint);
+    }
+
+    /**
+     * Re-check builds which were pending as of the previous sync, and have not already been seen by this one.
+     */
+    private void recheckPendingBuilds(final List<PendingBuild> pendingBuilds, final Cycle cycle) {
+        final List<PendingBuild> unseen = new ArrayList<>();
+        for (final PendingBuild pendingBuild : pendingBuilds) {
+            if (!cycle.builds.containsKey(pendingBuild.getId())) {
+                unseen.add(pendingBuild);
+            }
+        }
+        if (unseen.isEmpty()) {
+            return;
+        }
+
+        // A single listing of the unfinished builds going back to the oldest pending one covers most of them.
+        ZonedDateTime oldest = unseen.get(0).getCreatedAt();
+        for (final PendingBuild pendingBuild : unseen) {
+            if (pendingBuild.getCreatedAt().isBefore(oldest)) {
+                oldest = pendingBuild.getCreatedAt();
+            }
+        }
+        listAll(newFilters().withCreatedFrom(oldest.minus(overlap)).withStates(UNFINISHED_STATES), cycle);
+
+        // Anything else changed state within the overlap, or was deleted, retrieve it directly.
+        for (final PendingBuild pendingBuild : unseen) {
+            if (cycle.builds.containsKey(pendingBuild.getId())) {
+                continue;
+            }
+            cycle.requestCount++;
+            try {
+                client.getBuild(orgIdSlug, pendingBuild.getPipelineSlug(), pendingBuild.getNumber())
+                    .ifPresent((build) -> cycle.builds.put(build.getId(), build));
+            } catch (final NotFoundException exception) {
+                cycle.deletedBuildIds.add(pendingBuild.getId());
+            }
+        }
+    }
+
+    private SyncCheckpoint nextCheckpoint(final Optional<SyncCheckpoint> previous, final Cycle cycle, final ZonedDateTime now) {
+        ZonedDateTime createdWatermark = previous.map(SyncCheckpoint::getCreatedWatermark).orElse(null);
+        ZonedDateTime finishedWatermark = previous.map(SyncCheckpoint::getFinishedWatermark).orElse(null);
+
+        final Map<String, PendingBuild> pendingBuilds = new LinkedHashMap<>();
+        previous.ifPresent((checkpoint) -> checkpoint.getPendingBuilds().forEach((build) -> pendingBuilds.put(build.getId(), build)));
+        cycle.deletedBuildIds.forEach(pendingBuilds::remove);
+
+        for (final Build build : cycle.builds.values()) {
+            createdWatermark = latest(createdWatermark, build.getCreatedAt());
+            finishedWatermark = latest(finishedWatermark, build.getFinishedAt());
+            if (isFinished(build)) {
+                pendingBuilds.remove(build.getId());
+            } else {
+                pendingBuilds.put(build.getId(), new PendingBuild(
+                    build.getId(),
+                    pipelineSlugOf(build),
+                    build.getNumber(),
+                    build.getCreatedAt() == null ? now : build.getCreatedAt()
+                ));
+            }
+        }
+
+        // Nothing seen yet, start from now.
+        return new SyncCheckpoint(
+            createdWatermark == null ? now : createdWatermark,
+            finishedWatermark == null ? now : finishedWatermark,
+            new ArrayList<>(pendingBuilds.values())
+        );
+    }
+
+    private void listAll(final BuildFiltersBuilder filters, final Cycle cycle) {
+        final BuildFilters builtFilters = filters.build();
+        ListBuildsResponse response = client.listBuilds(builtFilters);
+        cycle.requestCount++;
+        cycle.addAll(response.getBuilds());
+        while (response.hasNextPage()) {
+            response = client.nextPage(response);
+            cycle.requestCount++;
+            cycle.addAll(response.getBuilds());
+        }
+    }
+
+    private BuildFiltersBuilder newFilters() {
+        final BuildFiltersBuilder builder = BuildFilters.newBuilder()
+            .withPerPage(MAX_PER_PAGE)
+            .withProjection(projection);
+        if (pipelineIdSlug == null) {
+            return builder.withOrganization(orgIdSlug);
+        }
+        return builder.withPipeline(orgIdSlug, pipelineIdSlug);
+    }
+
+    private String pipelineSlugOf(final Build build) {
+        if (pipelineIdSlug != null) {
+            return pipelineIdSlug;
+        }
+        if (build.getPipeline() != null && build.getPipeline().getSlug() != null) {
+            return build.getPipeline().getSlug();
+        }
+
+        // Pipeline not parsed, fall back to the build's API url: .../pipelines/{slug}/builds/{number}
+        final String url = build.getUrl();
+        final int start = url == null ? -1 : url.indexOf("/pipelines/");
+        final int end = start < 0 ? -1 : url.indexOf('/', start + "/pipelines/".length());
+        if (end < 0) {
+            throw new BuildkiteException("Unable to determine pipeline of build " + build.getId());
+        }
+        return url.substring(start + "/pipelines/".length(), end);
+    }
+
+    /**
+     * Determine if a build has reached a state it will not leave.
+     * @param build The build to check.
+     * @return true if finished, false if it may still change.
+     */
+    static boolean isFinished(final Build build) {
+        return BuildStateUtils.isStateTerminal(build.getState());
+    }
+
+    private static ZonedDateTime latest(final ZonedDateTime current, final ZonedDateTime candidate) {
+        if (candidate == null) {
+            return current;
+        }
+        if (current == null || candidate.isAfter(current)) {
+            return candidate;
+        }
+        return current;
+    }
+
+    /**
+     * Builds seen during a single sync, keyed by id, with later responses replacing earlier ones.
+     */
+    private static final class Cycle {
+        private final Map<String, Build> builds = new LinkedHashMap<>();
+        private final List<String> deletedBuildIds = new ArrayList<>();
+        private int requestCount = 0;
+
+        private void addAll(final List<Build> page) {
+            for (final Build build : page) {
+                builds.put(build.getId(), build);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.sync;
+
+import org.sourcelab.buildkite.api.client.BuildkiteClient;
+import org.sourcelab.buildkite.api.client.exception.BuilderValidationException;
+import org.sourcelab.buildkite.api.client.request.BuildProjection;
+import org.sourcelab.buildkite.api.client.response.Build;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Objects;
+import java.util.function.Consumer;
+
+/**
+ * Builder for {@link IncrementalBuildSync} instances.
+ */
+public final class IncrementalBuildSyncBuilder {
+    private BuildkiteClient client = null;
+    private String orgIdSlug = null;
+    private String pipelineIdSlug = null;
+    private Consumer<Build> upsertCallback = null;
+    private SyncCheckpointStore checkpointStore = new InMemorySyncCheckpointStore();
+    private Duration overlap = Duration.ofMinutes(5);
+    private ZonedDateTime initialCreatedFrom = null;
+    private BuildProjection projection = BuildProjection.FULL;
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * Constructor.
+     */
+    public IncrementalBuildSyncBuilder() {
+    }
+
+    /**
+     * Set the client used to make requests.
+     * @param client The client used to make requests.
+     * @return self.
+     */
+    public IncrementalBuildSyncBuilder withClient(final BuildkiteClient client) {
+        this.client = client;
+        return this;
+    }
+
+    /**
+     * Sync all builds within the given organization.
+     * @param orgIdSlug Slug of the organization.
+     * @return self.
+     */
+    public IncrementalBuildSyncBuilder withOrganization(final String orgIdSlug) {
+        this.orgIdSlug = orgIdSlug;
+        this.pipelineIdSlug = null;
+        return this;
+    }
+
+    /**
+     * Sync only the builds of the given pipeline.
+     * @param orgIdSlug Slug of the organization.
+     * @param pipelineIdSlug Slug of the pipeline.
+     * @return self.
+     */
+    public IncrementalBuildSyncBuilder withPipeline(final String orgIdSlug, final String pipelineIdSlug) {
+        this.orgIdSlug = orgIdSlug;
+        this.pipelineIdSlug = pipelineIdSlug;
+        return this;
+    }
+
+    /**
+     * Set the callback invoked with each new or updated build.  The same build may be passed more than once
+     * across syncs, so the callback should insert or replace by {@link Build#getId()}.
+     * @param upsertCallback Callback invoked with each new or updated build.
+     * @return self.
+     */
+    public IncrementalBuildSyncBuilder withUpsertCallback(final Consumer<Build> upsertCallback) {
+        this.upsertCallback = upsertCallback;
+        return this;
+    }
+
+    /**
+     * Set where checkpoints are persisted between syncs.  Defaults to holding them in memory.
+     * @param checkpointStore Where checkpoints are persisted.
+     * @return self.
+     */
+    public IncrementalBuildSyncBuilder withCheckpointStore(final SyncCheckpointStore checkpointStore) {
+        this.checkpointStore = checkpointStore;
+        return this;
+    }
+
+    /**
+     * Set how far before the saved watermarks each sync starts requesting from, absorbing clock skew and builds
+     * whose timestamps are written late.  Defaults to 5 minutes.
+     * @param overlap How far before the saved watermarks each sync starts.
+     * @return self.
+     */
+    public IncrementalBuildSyncBuilder withOverlap(final Duration overlap) {
+        this.overlap = overlap;
+        return this;
+    }
+
+    /**
+     * Limit the first sync, when no checkpoint has been saved, to builds created from the given time.
+     * Defaults to syncing all builds.
+     * @param initialCreatedFrom Earliest creation time of builds requested on the first sync.
+     * @return self.
+     */
+    public IncrementalBuildSyncBuilder withInitialCreatedFrom(final ZonedDateTime initialCreatedFrom) {
+        this.initialCreatedFrom = initialCreatedFrom;
+        return this;
+    }
+
+    /**
+     * Set which parts of each build are parsed.  Defaults to {@link BuildProjection#FULL}.
+     * @param projection Which parts of each build are parsed.
+     * @return self.
+     */
+    public IncrementalBuildSyncBuilder withProjection(final BuildProjection projection) {
+        this.projection = Objects.requireNonNull(projection);
+        return this;
+    }
+
+    /**
+     * Set the clock used to seed watermarks when no builds have been seen yet.
+     * @param clock The clock to use.
+     * @return self.
+     */
+    public IncrementalBuildSyncBuilder withClock(final Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+        return this;
+    }
+
+    /**
+     * Create new IncrementalBuildSync instance from set values.
+     * @return IncrementalBuildSync instance.
+     * @throws BuilderValidationException if improper values defined.
+     */
+    public IncrementalBuildSync build() {
+        if (client == null) {
+            throw new BuilderValidationException("The 'Client' property must be configured.");
+        }
+        if (orgIdSlug == null || orgIdSlug.trim().isEmpty()) {
+            throw new BuilderValidationException("The 'Organization' property must be configured.");
+        }
+        if (upsertCallback == null) {
+            throw new BuilderValidationException("The 'UpsertCallback' property must be configured.");
+        }
+        if (checkpointStore == null) {
+            throw new BuilderValidationException("The 'CheckpointStore' property must be configured.");
+        }
+        if (overlap == null || overlap.isNegative()) {
+            throw new BuilderValidationException("The 'Overlap' property must not be negative.");
+        }
+        return new IncrementalBuildSync(
+            client,
+            orgIdSlug,
+            pipelineIdSlug,
+            upsertCallback,
+            checkpointStore,
+            overlap,
+            initialCreatedFrom,
+            projection,
+            clock
+        );
+    }
+}
@@ -0,0 +1,100 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.sync;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.ZonedDateTime;
+import java.util.Objects;
+
+/**
+ * A build seen by {@link IncrementalBuildSync} which had not yet finished, and so is re-checked on later syncs.
+ */
+public final class PendingBuild {
+    private final String id;
+    private final String pipelineSlug;
+    private final long number;
+    private final ZonedDateTime createdAt;
+
+    /**
+     * Constructor.
+     * @param id Id of the build.
+     * @param pipelineSlug Slug of the pipeline the build belongs to.
+     * @param number Build number within the pipeline.
+     * @param createdAt When the build was created.
+     */
+    @JsonCreator
+    public PendingBuild(
+        @JsonProperty("id") final String id,
+        @JsonProperty("pipeline_slug") final String pipelineSlug,
+        @JsonProperty("number") final long number,
+        @JsonProperty("created_at") final ZonedDateTime createdAt
+    ) {
+        this.id = Objects.requireNonNull(id);
+        this.pipelineSlug = Objects.requireNonNull(pipelineSlug);
+        this.number = number;
+        this.createdAt = Objects.requireNonNull(createdAt);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getPipelineSlug() {
+        return pipelineSlug;
+    }
+
+    public long getNumber() {
+        return number;
+    }
+
+    public ZonedDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    @Override
+    public boolean equals(final Object other) {
+        if (this == other) {
+            return true;
+        }
+        if (other == null || getClass() != other.getClass()) {
+            return false;
+        }
+        final PendingBuild that = (PendingBuild) other;
+        return number == that.number
+            && id.equals(that.id)
+            && pipelineSlug.equals(that.pipelineSlug)
+            && createdAt.toInstant().equals(that.createdAt.toInstant());
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return "PendingBuild{"
+            + "id='" + id + '\''
+            + ", pipelineSlug='" + pipelineSlug + '\''
+            + ", number=" + number
+            + ", createdAt=" + createdAt
+            + '}';
+    }
+}
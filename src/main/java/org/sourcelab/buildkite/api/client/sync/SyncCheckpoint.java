@@ -0,0 +1,79 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.sync;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * State persisted by {@link IncrementalBuildSync} between syncs of a single organization or pipeline.
+ *
+ * Watermarks are the latest build creation and finish times seen so far.  Later syncs only request builds
+ * created or finished from these times onwards, less the configured overlap.
+ */
+public final class SyncCheckpoint {
+    private final ZonedDateTime createdWatermark;
+    private final ZonedDateTime finishedWatermark;
+    private final List<PendingBuild> pendingBuilds;
+
+    /**
+     * Constructor.
+     * @param createdWatermark Latest build creation time seen.
+     * @param finishedWatermark Latest build finish time seen.
+     * @param pendingBuilds Builds which had not finished when last seen.
+     */
+    @JsonCreator
+    public SyncCheckpoint(
+        @JsonProperty("created_watermark") final ZonedDateTime createdWatermark,
+        @JsonProperty("finished_watermark") final ZonedDateTime finishedWatermark,
+        @JsonProperty("pending_builds") final List<PendingBuild> pendingBuilds
+    ) {
+        this.createdWatermark = Objects.requireNonNull(createdWatermark);
+        this.finishedWatermark = Objects.requireNonNull(finishedWatermark);
+        this.pendingBuilds = pendingBuilds == null
+            ? Collections.emptyList()
+            : Collections.unmodifiableList(new ArrayList<>(pendingBuilds));
+    }
+
+    public ZonedDateTime getCreatedWatermark() {
+        return createdWatermark;
+    }
+
+    public ZonedDateTime getFinishedWatermark() {
+        return finishedWatermark;
+    }
+
+    public List<PendingBuild> getPendingBuilds() {
+        return pendingBuilds;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncCheckpoint{"
+            + "createdWatermark=" + createdWatermark
+            + ", finishedWatermark=" + finishedWatermark
+            + ", pendingBuilds=" + pendingBuilds
+            + '}';
+    }
+}
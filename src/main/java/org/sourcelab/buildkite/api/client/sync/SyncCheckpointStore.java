@@ -0,0 +1,39 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.sync;
+
+import java.util.Optional;
+
+/**
+ * Persists the {@link SyncCheckpoint} of each organization or pipeline synced by {@link IncrementalBuildSync}.
+ */
+public interface SyncCheckpointStore {
+    /**
+     * Load the checkpoint saved for the given scope.
+     * @param scope Identifies the organization or pipeline synced, ie "my-org" or "my-org/my-pipeline".
+     * @return The saved checkpoint, or empty if none has been saved yet.
+     */
+    Optional<SyncCheckpoint> load(String scope);
+
+    /**
+     * Save the checkpoint for the given scope, replacing any previously saved checkpoint.
+     * @param scope Identifies the organization or pipeline synced, ie "my-org" or "my-org/my-pipeline".
+     * @param checkpoint The checkpoint to save.
+     */
+    void save(String scope, SyncCheckpoint checkpoint);
+}
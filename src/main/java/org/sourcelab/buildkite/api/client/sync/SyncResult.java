@@ -0,0 +1,62 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.sync;
+
+import java.util.Objects;
+
+/**
+ * Summary of a single {@link IncrementalBuildSync#sync()} cycle.
+ */
+public final class SyncResult {
+    private final int upsertedCount;
+    private final int requestCount;
+    private final SyncCheckpoint checkpoint;
+
+    /**
+     * Constructor.
+     * @param upsertedCount Number of builds passed to the upsert callback.
+     * @param requestCount Number of API requests made.
+     * @param checkpoint The checkpoint saved at the end of the sync.
+     */
+    public SyncResult(final int upsertedCount, final int requestCount, final SyncCheckpoint checkpoint) {
+        this.upsertedCount = upsertedCount;
+        this.requestCount = requestCount;
+        this.checkpoint = Objects.requireNonNull(checkpoint);
+    }
+
+    public int getUpsertedCount() {
+        return upsertedCount;
+    }
+
+    public int getRequestCount() {
+        return requestCount;
+    }
+
+    public SyncCheckpoint getCheckpoint() {
+        return checkpoint;
+    }
+
+    @Override
+    public String toString() {
+        return "SyncResult{"
+            + "upsertedCount=" + upsertedCount
+            + ", requestCount=" + requestCount
+            + ", checkpoint=" + checkpoint
+            + '}';
+    }
+}
@@ -67,4 +67,21 @@ public class BuildStateUtils {
                 return false;
         }
     }
+
+    /**
+     * Check if the provided BuildState value is "terminal", meaning a build in this state will not change state
+     * again, unless one of its jobs is retried.  This is every state considered "finished" by
+     * {@link #isStateConsideredFinished(BuildState)}, along with {@link BuildState#CANCELED}.
+     *
+     * Unlike {@link #isStateConsideredFinished(BuildState)}, a null state is not considered terminal.
+     *
+     * @param state The state to check.
+     * @return true if the state is terminal, false if not.
+     */
+    public static boolean isStateTerminal(final BuildState state) {
+        if (state == null) {
+            return false;
+        }
+        return state == BuildState.CANCELED || isStateConsideredFinished(state);
+    }
 }
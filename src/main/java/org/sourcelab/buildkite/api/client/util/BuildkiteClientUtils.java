@@ -19,8 +19,10 @@ package org.sourcelab.buildkite.api.client.util;
 
 import org.sourcelab.buildkite.api.client.BuildkiteClient;
 import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
+import org.sourcelab.buildkite.api.client.exception.NotFoundException;
 import org.sourcelab.buildkite.api.client.request.AnnotationFilters;
 import org.sourcelab.buildkite.api.client.request.BuildFilters;
+import org.sourcelab.buildkite.api.client.request.BuildRef;
 import org.sourcelab.buildkite.api.client.request.Filters;
 import org.sourcelab.buildkite.api.client.request.GetAnnotationsForBuildRequest;
 import org.sourcelab.buildkite.api.client.request.ListBuildsRequest;
@@ -33,28 +35,70 @@ import org.sourcelab.buildkite.api.client.request.PipelineFilters;
 import org.sourcelab.buildkite.api.client.request.Request;
 import org.sourcelab.buildkite.api.client.request.RetryJobOptions;
 import org.sourcelab.buildkite.api.client.request.RetryMultipleJobsOptions;
+import org.sourcelab.buildkite.api.client.request.UnblockJobOptions;
+import org.sourcelab.buildkite.api.client.response.AnnotationsForBuildResponse;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.BulkResults;
 import org.sourcelab.buildkite.api.client.response.Job;
 import org.sourcelab.buildkite.api.client.response.ListBuildsResponse;
 import org.sourcelab.buildkite.api.client.response.ListOrganizationsResponse;
 import org.sourcelab.buildkite.api.client.response.ListPipelinesResponse;
 import org.sourcelab.buildkite.api.client.response.MultipleRetriedJobsResults;
 import org.sourcelab.buildkite.api.client.response.PageableResponse;
+import org.sourcelab.buildkite.api.client.response.PagingLinks;
 
+import java.time.Duration;
+import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 
 /**
  * Collection of Utilities for common access patterns that consists of multiple
  * requests to the Buildkite REST Api.
  */
 public class BuildkiteClientUtils {
+    /**
+     * Largest page size supported by the Buildkite REST Api.
+     */
+    private static final int MAX_PER_PAGE = 100;
+
+    /**
+     * Windows no longer than this are never split further, the API filters builds to the second.
+     */
+    private static final Duration MIN_WINDOW_LENGTH = Duration.ofSeconds(1);
+
+    /**
+     * Windows spanning more pages than this are split when sharding by time.
+     */
+    private static final int DEFAULT_MAX_PAGES_PER_WINDOW = 10;
+
+    /**
+     * Default number of requests executed concurrently by bulk operations.
+     */
+    private static final int DEFAULT_BULK_PARALLELISM = 8;
+
 
     /**
      * Helper method to retrieve all entries given a filter criteria.
-     * The results will be ordered from OLDEST to NEWEST.
+     * The results are returned in the same order the API returns them.
      *
      * NOTE: This may result in executing a LARGE number of requests depending
      * on how many entries exist.
@@ -65,7 +109,7 @@ public class BuildkiteClientUtils {
      * @param requestClass The request class.
      * @param objectClass The object within the Response to return.
      * @param client The BuildkiteClient to execute the requests against.
-     * @return List of Objects sorted from OLDEST to NEWEST.
+     * @return List of Objects in the order returned by the API.
      * @throws BuildkiteException on errors.
      */
     public static <REQUEST, OBJECT> List<OBJECT> retrieveAll(
@@ -74,18 +118,7 @@ public class BuildkiteClientUtils {
         final Class<OBJECT> objectClass,
         final BuildkiteClient client
     ) {
-        final PageableRequest<REQUEST> request;
-        if (filters instanceof BuildFilters) {
-            request = (PageableRequest<REQUEST>) new ListBuildsRequest((BuildFilters) filters);
-        } else if (filters instanceof OrganizationFilters) {
-            request = (PageableRequest<REQUEST>) new ListOrganizationsRequest((OrganizationFilters) filters);
-        } else if (filters instanceof PipelineFilters) {
-            request = (PageableRequest<REQUEST>) new ListPipelinesRequest((PipelineFilters) filters);
-        } else if (filters instanceof AnnotationFilters) {
-            request = (PageableRequest<REQUEST>) new GetAnnotationsForBuildRequest((AnnotationFilters) filters);
-        } else {
-            throw new RuntimeException("Unknown type pass " + filters.getClass().getSimpleName());
-        }
+        final PageableRequest<REQUEST> request = createPageableRequest(filters);
 
         final List<OBJECT> entries = new ArrayList<>();
         boolean hasMore = true;
@@ -93,34 +126,310 @@ public class BuildkiteClientUtils {
         while (hasMore) {
             page++;
 
-            // Create request
-            request.updatePageOptions(new PageOptions(page, 100));
+            // Create request for the next page, requests are immutable.
+            final PageableRequest<REQUEST> pageRequest = request.withPageOptions(new PageOptions(page, MAX_PER_PAGE));
 
             // Retrieve first entry only, to determine how many total entries there are.
-            final PageableResponse<REQUEST> lookupResponse = client.executeRequest((Request<? extends PageableResponse<REQUEST>>) request);
-
-            if (filters instanceof BuildFilters) {
-                entries.addAll((Collection<? extends OBJECT>) ((ListBuildsResponse) lookupResponse).getBuilds());
-            } else if (filters instanceof OrganizationFilters) {
-                entries.addAll((Collection<? extends OBJECT>) ((ListOrganizationsResponse) lookupResponse).getOrganizations());
-            } else if (filters instanceof PipelineFilters) {
-                entries.addAll((Collection<? extends OBJECT>) ((ListPipelinesResponse) lookupResponse).getPipelines());
-            } else {
-                throw new RuntimeException("Unknown type.");
-            }
+            final PageableResponse<REQUEST> lookupResponse = client.executeRequest((Request<? extends PageableResponse<REQUEST>>) pageRequest);
+            entries.addAll(extractEntries(filters, lookupResponse));
 
             hasMore = lookupResponse.getPagingLinks().hasNextUrl();
         }
 
-        // But the results are still sorted in newest to oldest, presumably, we want oldest to newest, so reverse the order
-        // before returning.
-        final List<OBJECT> reversed = new ArrayList<>(entries);
-        return reversed;
+        return entries;
+    }
+
+    /**
+     * Helper method to retrieve all entries given a filter criteria, fetching pages concurrently.
+     *
+     * The first page is requested on the calling thread. If the response includes a "last" paging link,
+     * the total number of pages is read from it and the remaining pages are requested concurrently using
+     * at most {@code parallelism} threads. If the API does not supply a "last" link, the remaining pages are
+     * retrieved sequentially, the same as {@link #retrieveAll(Filters, Class, Class, BuildkiteClient)}.
+     *
+     * Results are returned in the same order as {@link #retrieveAll(Filters, Class, Class, BuildkiteClient)}.
+     *
+     * NOTE: This may result in executing a LARGE number of requests depending
+     * on how many entries exist.
+     *
+     * @param <REQUEST> The request class.
+     * @param <OBJECT> The object within the Response to return.
+     * @param filters Search criteria.
+     * @param requestClass The request class.
+     * @param objectClass The object within the Response to return.
+     * @param client The BuildkiteClient to execute the requests against.
+     * @param parallelism Maximum number of pages to request concurrently, must be 1 or larger.
+     * @return List of Objects in the same order as {@link #retrieveAll(Filters, Class, Class, BuildkiteClient)}.
+     * @throws BuildkiteException on errors.
+     */
+    public static <REQUEST, OBJECT> List<OBJECT> retrieveAll(
+        final Filters filters,
+        final Class<REQUEST> requestClass,
+        final Class<OBJECT> objectClass,
+        final BuildkiteClient client,
+        final int parallelism
+    ) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be 1 or larger.");
+        }
+
+        // Retrieve the first page, this tells us how many pages exist in total.
+        final PageableRequest<REQUEST> request = createPageableRequest(filters);
+        final PageableRequest<REQUEST> firstRequest = request.withPageOptions(new PageOptions(1, MAX_PER_PAGE));
+        final PageableResponse<REQUEST> firstResponse = client.executeRequest((Request<? extends PageableResponse<REQUEST>>) firstRequest);
+
+        final List<OBJECT> entries = new ArrayList<>(extractEntries(filters, firstResponse));
+        final PagingLinks pagingLinks = firstResponse.getPagingLinks();
+        if (!pagingLinks.hasNextUrl()) {
+            return entries;
+        }
+
+        // Without a "last" link we cannot know how many pages exist, fall back to walking them one at a time.
+        if (!pagingLinks.hasLastUrl() || parallelism == 1) {
+            return retrieveRemainingSequentially(filters, firstResponse, entries, client);
+        }
+
+        final long lastPage = PageOptions.fromUrl(pagingLinks.getLastUrl()).getPage();
+        if (lastPage < 2) {
+            return retrieveRemainingSequentially(filters, firstResponse, entries, client);
+        }
+
+        final int threads = (int) Math.min(parallelism, lastPage - 1);
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("buildkite-page-fetch"));
+        try {
+            // Requests are immutable, so each page is derived from the first request.
+            final List<Future<List<OBJECT>>> pages = new ArrayList<>();
+            for (long page = 2; page <= lastPage; page++) {
+                final PageableRequest<REQUEST> pageRequest = firstRequest.withPageOptions(new PageOptions(page, MAX_PER_PAGE));
+                pages.add(executorService.submit(() -> extractEntries(
+                    filters,
+                    client.executeRequest((Request<? extends PageableResponse<REQUEST>>) pageRequest)
+                )));
+            }
+
+            // Merge results in page order.
+            for (final Future<List<OBJECT>> page : pages) {
+                entries.addAll(page.get());
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new BuildkiteException("Interrupted while retrieving pages.", exception);
+        } catch (final ExecutionException exception) {
+            if (exception.getCause() instanceof BuildkiteException) {
+                throw (BuildkiteException) exception.getCause();
+            }
+            throw new BuildkiteException("Failed to retrieve page: " + exception.getCause().getMessage(), exception.getCause());
+        } finally {
+            // Abandon any outstanding page requests if we failed part way through.
+            executorService.shutdownNow();
+        }
+        return entries;
+    }
+
+    /**
+     * Helper method to retrieve all builds created within the filter's {@code createdFrom}..{@code createdTo} range,
+     * sharding the range into time windows which are retrieved concurrently, splitting any window which spans more
+     * than 10 pages.  See {@link #retrieveAllBuildsSharded(BuildFilters, BuildkiteClient, int, int)}.
+     *
+     * @param filters Search criteria, must include {@code createdFrom}.
+     * @param client The BuildkiteClient to execute the requests against.
+     * @param parallelism Maximum number of windows to request concurrently, must be 1 or larger.
+     * @return List of builds, newest first.
+     * @throws BuildkiteException on errors.
+     */
+    public static List<Build> retrieveAllBuildsSharded(final BuildFilters filters, final BuildkiteClient client, final int parallelism) {
+        return retrieveAllBuildsSharded(filters, client, parallelism, DEFAULT_MAX_PAGES_PER_WINDOW);
+    }
+
+    /**
+     * Helper method to retrieve all builds created within the filter's {@code createdFrom}..{@code createdTo} range,
+     * sharding the range into time windows which are retrieved concurrently.
+     *
+     * The range is initially split into {@code parallelism} equal windows, each paged through independently.  Any
+     * window found to span more than {@code maxPagesPerWindow} pages is split in half, and each half retrieved in turn,
+     * so that no single window needs deep pagination.  Windows are merged newest first, the same order the API
+     * returns builds in, and builds appearing in more than one window are only included once.
+     *
+     * If {@code createdTo} is not set, builds created up until now are retrieved.
+     *
+     * NOTE: This may result in executing a LARGE number of requests depending
+     * on how many entries exist.
+     *
+     * @param filters Search criteria, must include {@code createdFrom}.
+     * @param client The BuildkiteClient to execute the requests against.
+     * @param parallelism Maximum number of windows to request concurrently, must be 1 or larger.
+     * @param maxPagesPerWindow Windows spanning more pages than this are split, must be 1 or larger.
+     * @return List of builds, newest first.
+     * @throws BuildkiteException on errors.
+     */
+    public static List<Build> retrieveAllBuildsSharded(
+        final BuildFilters filters,
+        final BuildkiteClient client,
+        final int parallelism,
+        final int maxPagesPerWindow
+    ) {
+        Objects.requireNonNull(filters);
+        if (filters.getCreatedFrom() == null) {
+            throw new IllegalArgumentException("Filters must define a 'createdFrom' time to shard.");
+        }
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be 1 or larger.");
+        }
+        if (maxPagesPerWindow < 1) {
+            throw new IllegalArgumentException("MaxPagesPerWindow must be 1 or larger.");
+        }
+        final ZonedDateTime from = filters.getCreatedFrom();
+        final ZonedDateTime to = filters.getCreatedTo() == null ? ZonedDateTime.now(from.getZone()) : filters.getCreatedTo();
+        if (to.isBefore(from)) {
+            throw new IllegalArgumentException("Filter 'createdTo' must not be before 'createdFrom'.");
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(parallelism, new DaemonThreadFactory("buildkite-window-fetch"));
+        try {
+            // Initial windows, newest first.
+            final Duration windowLength = Duration.between(from, to).dividedBy(parallelism);
+            final List<CompletableFuture<List<Build>>> windows = new ArrayList<>();
+            ZonedDateTime windowTo = to;
+            for (int window = 0; window < parallelism; window++) {
+                final ZonedDateTime windowFrom = window == parallelism - 1 ? from : windowTo.minus(windowLength);
+                windows.add(retrieveWindow(filters, windowFrom, windowTo, client, executorService, maxPagesPerWindow));
+                windowTo = windowFrom;
+            }
+
+            // Merge in window order, skipping builds already seen on a shared window boundary.
+            final Set<String> seenIds = new HashSet<>();
+            final List<Build> builds = new ArrayList<>();
+            for (final CompletableFuture<List<Build>> window : windows) {
+                for (final Build build : window.join()) {
+                    if (seenIds.add(build.getId())) {
+                        builds.add(build);
+                    }
+                }
+            }
+            return builds;
+        } catch (final CompletionException exception) {
+            if (exception.getCause() instanceof BuildkiteException) {
+                throw (BuildkiteException) exception.getCause();
+            }
+            throw new BuildkiteException("Failed to retrieve page: " + exception.getCause().getMessage(), exception.getCause());
+        } finally {
+            // Abandon any outstanding window requests if we failed part way through.
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * Retrieve all builds within a window, splitting it in half if it spans too many pages.
+     */
+    private static CompletableFuture<List<Build>> retrieveWindow(
+        final BuildFilters filters,
+        final ZonedDateTime from,
+        final ZonedDateTime to,
+        final BuildkiteClient client,
+        final ExecutorService executorService,
+        final int maxPagesPerWindow
+    ) {
+        return CompletableFuture
+            .supplyAsync(() -> client.listBuilds(windowFilters(filters, from, to)), executorService)
+            .thenCompose((firstPage) -> {
+                final PagingLinks pagingLinks = firstPage.getPagingLinks();
+                final Duration length = Duration.between(from, to);
+                if (pagingLinks.hasLastUrl()
+                    && PageOptions.fromUrl(pagingLinks.getLastUrl()).getPage() > maxPagesPerWindow
+                    && length.compareTo(MIN_WINDOW_LENGTH) > 0) {
+                    // Too deep, split in half, newer half first.
+                    final ZonedDateTime middle = from.plus(length.dividedBy(2));
+                    final CompletableFuture<List<Build>> newer = retrieveWindow(filters, middle, to, client, executorService, maxPagesPerWindow);
+                    final CompletableFuture<List<Build>> older = retrieveWindow(filters, from, middle, client, executorService, maxPagesPerWindow);
+                    return newer.thenCombine(older, (newerBuilds, olderBuilds) -> {
+                        final List<Build> builds = new ArrayList<>(newerBuilds);
+                        builds.addAll(olderBuilds);
+                        return builds;
+                    });
+                }
+
+                // Shallow enough, walk the remaining pages of this window.
+                return CompletableFuture.supplyAsync(() -> {
+                    final List<Build> builds = new ArrayList<>(firstPage.getBuilds());
+                    ListBuildsResponse response = firstPage;
+                    while (response.hasNextPage()) {
+                        response = client.nextPage(response);
+                        builds.addAll(response.getBuilds());
+                    }
+                    return builds;
+                }, executorService);
+            });
+    }
+
+    private static BuildFilters windowFilters(final BuildFilters filters, final ZonedDateTime from, final ZonedDateTime to) {
+        return new BuildFilters(
+            filters.getBranches(),
+            filters.getCommits(),
+            from,
+            to,
+            filters.getCreator(),
+            filters.getFinishedFrom(),
+            filters.getIncludeRetriedJobs(),
+            filters.getMetaData(),
+            filters.getStates(),
+            new PageOptions(1, MAX_PER_PAGE),
+            filters.getOrgIdSlug(),
+            filters.getPipelineIdSlug(),
+            filters.getProjection()
+        );
+    }
+
+    private static <REQUEST, OBJECT> List<OBJECT> retrieveRemainingSequentially(
+        final Filters filters,
+        final PageableResponse<REQUEST> firstResponse,
+        final List<OBJECT> entries,
+        final BuildkiteClient client
+    ) {
+        final PageableRequest<REQUEST> request = firstResponse.getOriginalRequest();
+        PageableResponse<REQUEST> response = firstResponse;
+        long page = 1;
+        while (response.getPagingLinks().hasNextUrl()) {
+            page++;
+            response = client.executeRequest((Request<? extends PageableResponse<REQUEST>>) request.withPageOptions(new PageOptions(page, MAX_PER_PAGE)));
+            entries.addAll(extractEntries(filters, response));
+        }
+        return entries;
+    }
+
+    private static <REQUEST> PageableRequest<REQUEST> createPageableRequest(final Filters filters) {
+        if (filters instanceof BuildFilters) {
+            return (PageableRequest<REQUEST>) new ListBuildsRequest((BuildFilters) filters);
+        } else if (filters instanceof OrganizationFilters) {
+            return (PageableRequest<REQUEST>) new ListOrganizationsRequest((OrganizationFilters) filters);
+        } else if (filters instanceof PipelineFilters) {
+            return (PageableRequest<REQUEST>) new ListPipelinesRequest((PipelineFilters) filters);
+        } else if (filters instanceof AnnotationFilters) {
+            return (PageableRequest<REQUEST>) new GetAnnotationsForBuildRequest((AnnotationFilters) filters);
+        }
+        throw new RuntimeException("Unknown type pass " + filters.getClass().getSimpleName());
+    }
+
+    private static <OBJECT> List<OBJECT> extractEntries(final Filters filters, final PageableResponse<?> response) {
+        if (filters instanceof BuildFilters) {
+            return (List<OBJECT>) ((ListBuildsResponse) response).getBuilds();
+        } else if (filters instanceof OrganizationFilters) {
+            return (List<OBJECT>) ((ListOrganizationsResponse) response).getOrganizations();
+        } else if (filters instanceof PipelineFilters) {
+            return (List<OBJECT>) ((ListPipelinesResponse) response).getPipelines();
+        } else if (filters instanceof AnnotationFilters) {
+            return (List<OBJECT>) ((AnnotationsForBuildResponse) response).getAnnotations();
+        }
+        throw new RuntimeException("Unknown type.");
     }
 
     /**
      * Given multiple jobs that belong to the same pipeline, retry all of them and return a single result.
      *
+     * Jobs are retried up to {@link RetryMultipleJobsOptions#getParallelism()} at a time, with the start of each
+     * request spaced to stay within {@link RetryMultipleJobsOptions#getMaxRequestsPerSecond()}, if set.  When
+     * {@link RetryMultipleJobsOptions#isThrowOnError()} is set, the first failure is thrown, and retries not yet
+     * started are abandoned.
+     *
      * @param options Defines the jobs to retry.
      * @param client The client to execute the requests against.
      * @return Results from retrying multiple jobs.
@@ -132,24 +441,314 @@ public class BuildkiteClientUtils {
     ) {
         final Map<String, Job> updatedJobs = new HashMap<>();
         final Map<String, BuildkiteException> errors = new HashMap<>();
+        final RequestPacer pacer = new RequestPacer(options.getMaxRequestsPerSecond());
+
+        final int threads = Math.min(options.getParallelism(), options.getJobIds().size());
+        if (threads <= 1) {
+            options.getJobIds().forEach((jobId) -> {
+                try {
+                    pacer.acquire();
+                    updatedJobs.put(jobId, retryJob(options, jobId, client));
+                } catch (final BuildkiteException error) {
+                    if (options.isThrowOnError()) {
+                        throw error;
+                    }
+                    errors.put(jobId, error);
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new BuildkiteException("Interrupted while retrying jobs.", exception);
+                }
+            });
+            return new MultipleRetriedJobsResults(updatedJobs, errors);
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("buildkite-job-retry"));
+        final CompletionService<Job> completionService = new ExecutorCompletionService<>(executorService);
+        try {
+            final Map<Future<Job>, String> pending = new HashMap<>();
+            for (final String jobId : options.getJobIds()) {
+                pending.put(completionService.submit(() -> {
+                    pacer.acquire();
+                    return retryJob(options, jobId, client);
+                }), jobId);
+            }
 
-        options.getJobIds().forEach((jobId) -> {
-            try {
-                final Job retriedJob = client.retryJob(RetryJobOptions.newBuilder()
-                    .withJobId(jobId)
-                    .withBuildNumber(options.getBuildNumber())
-                    .withPipelineSlug(options.getPipelineSlug())
-                    .withOrganizationSlug(options.getOrganizationSlug())
-                    .build()
-                );
-                updatedJobs.put(jobId, retriedJob);
-            } catch (final BuildkiteException error) {
-                if (options.isThrowOnError()) {
-                    throw error;
+            // Collect results as they complete, so a failure is seen as soon as it happens.
+            for (int completed = 0; completed < pending.size(); completed++) {
+                final Future<Job> future = completionService.take();
+                final String jobId = pending.get(future);
+                try {
+                    updatedJobs.put(jobId, future.get());
+                } catch (final ExecutionException exception) {
+                    final BuildkiteException error = exception.getCause() instanceof BuildkiteException
+                        ? (BuildkiteException) exception.getCause()
+                        : new BuildkiteException("Failed to retry job: " + exception.getCause().getMessage(), exception.getCause());
+                    if (options.isThrowOnError()) {
+                        throw error;
+                    }
+                    errors.put(jobId, error);
                 }
-                errors.put(jobId, error);
             }
-        });
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new BuildkiteException("Interrupted while retrying jobs.", exception);
+        } finally {
+            // Abandon any outstanding retries if we failed part way through.
+            executorService.shutdownNow();
+        }
         return new MultipleRetriedJobsResults(updatedJobs, errors);
     }
+
+    private static Job retryJob(final RetryMultipleJobsOptions options, final String jobId, final BuildkiteClient client) {
+        return client.retryJob(RetryJobOptions.newBuilder()
+            .withJobId(jobId)
+            .withBuildNumber(options.getBuildNumber())
+            .withPipelineSlug(options.getPipelineSlug())
+            .withOrganizationSlug(options.getOrganizationSlug())
+            .build()
+        );
+    }
+
+    /**
+     * Cancel each of the given builds, if its state is either scheduled or running.  See {@link #cancelBuilds(Collection, BuildkiteClient, int)}.
+     *
+     * @param builds The builds to cancel.
+     * @param client The client to execute the requests against.
+     * @return Each build mapped to its updated Build instance, or the error cancelling it.
+     */
+    public static BulkResults<BuildRef, Build> cancelBuilds(
+        final Collection<BuildRef> builds,
+        final BuildkiteClient client
+    ) {
+        return cancelBuilds(builds, client, DEFAULT_BULK_PARALLELISM);
+    }
+
+    /**
+     * Cancel each of the given builds, if its state is either scheduled or running.
+     *
+     * Up to {@code parallelism} requests are executed concurrently over the client's connection pool.  A failure
+     * for one item does not stop the others, it is recorded in the returned results instead.
+     *
+     * @param builds The builds to cancel.
+     * @param client The client to execute the requests against.
+     * @param parallelism Maximum number of requests to execute concurrently, must be 1 or larger.
+     * @return Each build mapped to its updated Build instance, or the error cancelling it.
+     */
+    public static BulkResults<BuildRef, Build> cancelBuilds(
+        final Collection<BuildRef> builds,
+        final BuildkiteClient client,
+        final int parallelism
+    ) {
+        return executeBulk(
+            builds,
+            Function.identity(),
+            (build) -> client.cancelBuild(build.getOrganizationSlug(), build.getPipelineSlug(), build.getBuildNumber()),
+            parallelism
+        );
+    }
+
+    /**
+     * Rebuild each of the given builds.  See {@link #rebuildBuilds(Collection, BuildkiteClient, int)}.
+     *
+     * @param builds The builds to rebuild.
+     * @param client The client to execute the requests against.
+     * @return Each build mapped to the new Build instance, or the error rebuilding it.
+     */
+    public static BulkResults<BuildRef, Build> rebuildBuilds(
+        final Collection<BuildRef> builds,
+        final BuildkiteClient client
+    ) {
+        return rebuildBuilds(builds, client, DEFAULT_BULK_PARALLELISM);
+    }
+
+    /**
+     * Rebuild each of the given builds.
+     *
+     * Up to {@code parallelism} requests are executed concurrently over the client's connection pool.  A failure
+     * for one item does not stop the others, it is recorded in the returned results instead.
+     *
+     * @param builds The builds to rebuild.
+     * @param client The client to execute the requests against.
+     * @param parallelism Maximum number of requests to execute concurrently, must be 1 or larger.
+     * @return Each build mapped to the new Build instance, or the error rebuilding it.
+     */
+    public static BulkResults<BuildRef, Build> rebuildBuilds(
+        final Collection<BuildRef> builds,
+        final BuildkiteClient client,
+        final int parallelism
+    ) {
+        return executeBulk(
+            builds,
+            Function.identity(),
+            (build) -> client.rebuildBuild(build.getOrganizationSlug(), build.getPipelineSlug(), build.getBuildNumber()),
+            parallelism
+        );
+    }
+
+    /**
+     * Retrieve each of the given builds.  See {@link #getBuilds(Collection, BuildkiteClient, int)}.
+     *
+     * @param builds The builds to retrieve.
+     * @param client The client to execute the requests against.
+     * @return Each build mapped to the retrieved Build instance, or the error retrieving it.
+     */
+    public static BulkResults<BuildRef, Build> getBuilds(
+        final Collection<BuildRef> builds,
+        final BuildkiteClient client
+    ) {
+        return getBuilds(builds, client, DEFAULT_BULK_PARALLELISM);
+    }
+
+    /**
+     * Retrieve each of the given builds.
+     *
+     * Up to {@code parallelism} requests are executed concurrently over the client's connection pool.  A failure
+     * for one item does not stop the others, it is recorded in the returned results instead.
+     *
+     * @param builds The builds to retrieve.
+     * @param client The client to execute the requests against.
+     * @param parallelism Maximum number of requests to execute concurrently, must be 1 or larger.
+     * @return Each build mapped to the retrieved Build instance, or the error retrieving it.
+     */
+    public static BulkResults<BuildRef, Build> getBuilds(
+        final Collection<BuildRef> builds,
+        final BuildkiteClient client,
+        final int parallelism
+    ) {
+        return executeBulk(
+            builds,
+            Function.identity(),
+            (build) -> client.getBuild(build.getOrganizationSlug(), build.getPipelineSlug(), build.getBuildNumber())
+                .orElseThrow(() -> new NotFoundException("Build " + build + " was not found.")),
+            parallelism
+        );
+    }
+
+    /**
+     * Unblock each of the given jobs.  See {@link #unblockJobs(Collection, BuildkiteClient, int)}.
+     *
+     * @param jobs The jobs to unblock.
+     * @param client The client to execute the requests against.
+     * @return Each job id mapped to the updated Job instance, or the error unblocking it.
+     */
+    public static BulkResults<String, Job> unblockJobs(
+        final Collection<UnblockJobOptions> jobs,
+        final BuildkiteClient client
+    ) {
+        return unblockJobs(jobs, client, DEFAULT_BULK_PARALLELISM);
+    }
+
+    /**
+     * Unblock each of the given jobs.
+     *
+     * Up to {@code parallelism} requests are executed concurrently over the client's connection pool.  A failure
+     * for one item does not stop the others, it is recorded in the returned results instead.
+     *
+     * @param jobs The jobs to unblock.
+     * @param client The client to execute the requests against.
+     * @param parallelism Maximum number of requests to execute concurrently, must be 1 or larger.
+     * @return Each job id mapped to the updated Job instance, or the error unblocking it.
+     */
+    public static BulkResults<String, Job> unblockJobs(
+        final Collection<UnblockJobOptions> jobs,
+        final BuildkiteClient client,
+        final int parallelism
+    ) {
+        return executeBulk(jobs, UnblockJobOptions::getJobId, client::unblockJob, parallelism);
+    }
+
+    /**
+     * Execute an operation for each item, up to {@code parallelism} concurrently, collecting each item's result or error.
+     * Items sharing a key are only executed once, for the first of them supplied.
+     */
+    private static <I, K, V> BulkResults<K, V> executeBulk(
+        final Collection<I> items,
+        final Function<I, K> keyFunction,
+        final Function<I, V> operation,
+        final int parallelism
+    ) {
+        Objects.requireNonNull(items);
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("Parallelism must be 1 or larger.");
+        }
+        final Map<K, I> uniqueItems = new LinkedHashMap<>();
+        for (final I item : items) {
+            uniqueItems.putIfAbsent(keyFunction.apply(item), item);
+        }
+        final Map<K, V> results = new LinkedHashMap<>();
+        final Map<K, BuildkiteException> errors = new LinkedHashMap<>();
+
+        final int threads = Math.min(parallelism, uniqueItems.size());
+        if (threads <= 1) {
+            for (final Map.Entry<K, I> entry : uniqueItems.entrySet()) {
+                try {
+                    results.put(entry.getKey(), operation.apply(entry.getValue()));
+                } catch (final RuntimeException error) {
+                    errors.put(entry.getKey(), toBulkError(error));
+                }
+            }
+            return new BulkResults<>(results, errors);
+        }
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads, new DaemonThreadFactory("buildkite-bulk-request"));
+        try {
+            final Map<K, Future<V>> futures = new LinkedHashMap<>();
+            for (final Map.Entry<K, I> entry : uniqueItems.entrySet()) {
+                final I item = entry.getValue();
+                futures.put(entry.getKey(), executorService.submit(() -> operation.apply(item)));
+            }
+
+            // Collect in the order items were supplied.
+            for (final Map.Entry<K, Future<V>> entry : futures.entrySet()) {
+                try {
+                    results.put(entry.getKey(), entry.getValue().get());
+                } catch (final ExecutionException exception) {
+                    errors.put(entry.getKey(), toBulkError(exception.getCause()));
+                }
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new BuildkiteException("Interrupted while executing requests.", exception);
+        } finally {
+            executorService.shutdownNow();
+        }
+        return new BulkResults<>(results, errors);
+    }
+
+    /**
+     * Represent an item's failure as a BuildkiteException, wrapping any other error.
+     */
+    private static BuildkiteException toBulkError(final Throwable error) {
+        if (error instanceof BuildkiteException) {
+            return (BuildkiteException) error;
+        }
+        return new BuildkiteException("Failed to execute request: " + error.getMessage(), error);
+    }
+
+    /**
+     * Spaces out the start of requests shared across threads, to stay within a requests per second budget.
+     */
+    private static final class RequestPacer {
+        private final long intervalNanos;
+        private final AtomicLong nextPermitNanos = new AtomicLong(System.nanoTime());
+
+        private RequestPacer(final double maxRequestsPerSecond) {
+            this.intervalNanos = maxRequestsPerSecond <= 0 ? 0 : (long) (TimeUnit.SECONDS.toNanos(1) / maxRequestsPerSecond);
+        }
+
+        /**
+         * Block until the next request may start.
+         */
+        private void acquire() throws InterruptedException {
+            if (intervalNanos == 0) {
+                return;
+            }
+            final long now = System.nanoTime();
+            final long permit = nextPermitNanos.getAndUpdate((next) -> Math.max(next, now) + intervalNanos);
+            final long waitNanos = permit - now;
+            if (waitNanos > 0) {
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+    }
 }
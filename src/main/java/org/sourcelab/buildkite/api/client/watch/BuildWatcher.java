@@ -0,0 +1,406 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.watch;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sourcelab.buildkite.api.client.BuildkiteClient;
+import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
+import org.sourcelab.buildkite.api.client.exception.NotFoundException;
+import org.sourcelab.buildkite.api.client.request.BuildFilters;
+import org.sourcelab.buildkite.api.client.request.BuildFiltersBuilder;
+import org.sourcelab.buildkite.api.client.request.BuildProjection;
+import org.sourcelab.buildkite.api.client.request.GetBuildFilters;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.BuildState;
+import org.sourcelab.buildkite.api.client.response.ListBuildsResponse;
+import org.sourcelab.buildkite.api.client.util.BuildStateUtils;
+import org.sourcelab.buildkite.api.client.util.DaemonThreadFactory;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Waits for builds to finish, sharing a single poll loop between every caller.
+ *
+ * All builds watched within a pipeline are polled together by a single scheduler thread:
+ * <ol>
+ *     <li>Builds newly watched since the previous poll are found with a single listing of the pipeline's unfinished
+ *     builds.  Any not in that listing have already finished, or do not exist, and are retrieved individually.</li>
+ *     <li>Builds already being watched are checked with a single listing of the pipeline's builds finished since
+ *     the previous poll, less the configured overlap to absorb clock skew.</li>
+ * </ol>
+ * So each poll costs a couple of requests per pipeline regardless of how many builds or callers are waiting.
+ *
+ * Pipelines are polled at an interval adapted to the builds being watched: a tenth of the age of the youngest build,
+ * bounded by the minimum and maximum poll intervals.  Blocked builds wait on a person, and are polled at the maximum
+ * interval.
+ *
+ * A build is considered finished once its state is terminal, see {@link BuildStateUtils#isStateTerminal(BuildState)}.
+ */
+public class BuildWatcher implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(BuildWatcher.class);
+
+    /**
+     * Largest page size supported by the Buildkite REST Api.
+     */
+    private static final int MAX_PER_PAGE = 100;
+
+    /**
+     * States of builds which may still change, requested when finding newly watched builds.
+     */
+    private static final List<String> UNFINISHED_STATES = Collections.unmodifiableList(Arrays.asList(
+        "scheduled", "running", "blocked", "failing", "canceling"
+    ));
+
+    /**
+     * Builds are polled at this fraction of their age.
+     */
+    private static final int AGE_DIVISOR = 10;
+
+    /**
+     * How long newly watched builds wait before being found, so that builds watched together are found together.
+     */
+    private static final Duration DISCOVERY_DELAY = Duration.ofMillis(100);
+
+    private final BuildkiteClient client;
+    private final Duration minPollInterval;
+    private final Duration maxPollInterval;
+    private final Duration overlap;
+    private final BuildProjection projection;
+    private final Clock clock;
+    private final ScheduledExecutorService scheduler;
+
+    /**
+     * Watched pipelines, keyed by "org-slug/pipeline-slug".  Guarded by this instance.
+     */
+    private final Map<String, PipelineWatch> pipelines = new HashMap<>();
+    private boolean closed = false;
+
+    /**
+     * Create a new Builder for creating BuildWatcher instances.
+     * @return Builder for BuildWatcher instances.
+     */
+    public static BuildWatcherBuilder newBuilder() {
+        return new BuildWatcherBuilder();
+    }
+
+    /**
+     * Constructor.  Use {@link #newBuilder()}.
+     *
+     * @param client The client used to make requests.
+     * @param minPollInterval Shortest interval between polls of a pipeline.
+     * @param maxPollInterval Longest interval between polls of a pipeline.
+     * @param overlap How far before the previous poll each poll requests finished builds from.
+     * @param projection Which parts of each build are parsed.
+     * @param clock Clock used to determine the age of builds.
+     */
+    BuildWatcher(
+        final BuildkiteClient client,
+        final Duration minPollInterval,
+        final Duration maxPollInterval,
+        final Duration overlap,
+        final BuildProjection projection,
+        final Clock clock
+    ) {
+        this.client = Objects.requireNonNull(client);
+        this.minPollInterval = Objects.requireNonNull(minPollInterval);
+        this.maxPollInterval = Objects.requireNonNull(maxPollInterval);
+        this.overlap = Objects.requireNonNull(overlap);
+        this.projection = Objects.requireNonNull(projection);
+        this.clock = Objects.requireNonNull(clock);
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(new DaemonThreadFactory("buildkite-build-watcher"));
+    }
+
+    /**
+     * Wait for a build to finish.
+     *
+     * The returned future completes with the finished build, or exceptionally with a {@link NotFoundException} if
+     * the build does not exist, or a {@link BuildkiteException} if the watcher is closed first.  Cancelling the
+     * returned future stops watching the build on behalf of this caller only.
+     *
+     * @param organizationSlugId Organization associated with the build.
+     * @param pipelineSlugId Pipeline associated with the build.
+     * @param buildNumber The build number.
+     * @return Future completed once the build has finished.
+     */
+    public CompletableFuture<Build> awaitCompletion(final String organizationSlugId, final String pipelineSlugId, final long buildNumber) {
+        Objects.requireNonNull(organizationSlugId);
+        Objects.requireNonNull(pipelineSlugId);
+
+        final CompletableFuture<Build> future = new CompletableFuture<>();
+        synchronized (this) {
+            if (closed) {
+                future.completeExceptionally(new BuildkiteException("BuildWatcher has been closed."));
+                return future;
+            }
+            final PipelineWatch pipelineWatch = pipelines.computeIfAbsent(
+                organizationSlugId + "/" + pipelineSlugId,
+                (key) -> new PipelineWatch(organizationSlugId, pipelineSlugId)
+            );
+            pipelineWatch.watches.computeIfAbsent(buildNumber, (number) -> new Watch()).waiters.add(future);
+
+            // Bring the next poll forward to find the new build, unless a poll is already in progress.
+            if (!pipelineWatch.polling
+                && (pipelineWatch.nextPoll == null || pipelineWatch.nextPoll.getDelay(TimeUnit.MILLISECONDS) > DISCOVERY_DELAY.toMillis())) {
+                if (pipelineWatch.nextPoll != null) {
+                    pipelineWatch.nextPoll.cancel(false);
+                }
+                pipelineWatch.nextPoll = schedulePoll(pipelineWatch, DISCOVERY_DELAY);
+            }
+        }
+        return future;
+    }
+
+    /**
+     * Number of builds currently being watched, across all pipelines.
+     * @return Number of builds currently being watched.
+     */
+    public synchronized int getWatchedBuildCount() {
+        return pipelines.values().stream().mapToInt((pipelineWatch) -> pipelineWatch.watches.size()).sum();
+    }
+
+    /**
+     * Stop polling.  Futures for builds still being watched are completed exceptionally.
+     */
+    @Override
+    public void close() {
+        final List<CompletableFuture<Build>> waiters = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            pipelines.values().forEach((pipelineWatch) -> pipelineWatch.watches.values().forEach((watch) -> waiters.addAll(watch.waiters)));
+            pipelines.clear();
+        }
+        scheduler.shutdownNow();
+        final BuildkiteException exception = new BuildkiteException("BuildWatcher has been closed.");
+        waiters.forEach((waiter) -> waiter.completeExceptionally(exception));
+    }
+
+    private ScheduledFuture<?> schedulePoll(final PipelineWatch pipelineWatch, final Duration delay) {
+        return scheduler.schedule(() -> poll(pipelineWatch), delay.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Poll all builds watched within a pipeline, then schedule the next poll.  Runs on the scheduler thread.
+     */
+    private void poll(final PipelineWatch pipelineWatch) {
+        final ZonedDateTime pollStart = ZonedDateTime.now(clock);
+        final List<Long> undiscovered = new ArrayList<>();
+        final List<Long> discovered = new ArrayList<>();
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            pipelineWatch.polling = true;
+            pruneCancelled(pipelineWatch);
+            pipelineWatch.watches.forEach((number, watch) -> (watch.discovered ? discovered : undiscovered).add(number));
+        }
+
+        try {
+            if (!undiscovered.isEmpty()) {
+                discover(pipelineWatch, undiscovered);
+            }
+            if (!discovered.isEmpty() && pipelineWatch.finishedWatermark != null) {
+                listAll(newFilters(pipelineWatch).withFinishedFrom(pipelineWatch.finishedWatermark.minus(overlap)), (build) -> {
+                    if (isFinished(build)) {
+                        complete(pipelineWatch, build.getNumber(), (waiter) -> waiter.complete(build));
+                    }
+                });
+            }
+            pipelineWatch.finishedWatermark = pollStart;
+        } catch (final BuildkiteException exception) {
+            logger.warn("Failed to poll builds of pipeline {}/{}, will retry: {}",
+                pipelineWatch.orgIdSlug, pipelineWatch.pipelineIdSlug, exception.getMessage());
+        } catch (final RuntimeException exception) {
+            logger.error("Unexpected error polling builds of pipeline {}/{}, will retry.",
+                pipelineWatch.orgIdSlug, pipelineWatch.pipelineIdSlug, exception);
+        }
+
+        synchronized (this) {
+            pipelineWatch.polling = false;
+            pruneCancelled(pipelineWatch);
+            if (closed) {
+                return;
+            }
+            if (pipelineWatch.watches.isEmpty()) {
+                pipelines.remove(pipelineWatch.orgIdSlug + "/" + pipelineWatch.pipelineIdSlug);
+                pipelineWatch.nextPoll = null;
+            } else {
+                pipelineWatch.nextPoll = schedulePoll(pipelineWatch, nextPollInterval(pipelineWatch));
+            }
+        }
+    }
+
+    /**
+     * Find the current state of newly watched builds.
+     */
+    private void discover(final PipelineWatch pipelineWatch, final List<Long> buildNumbers) {
+        // A single listing of the pipeline's unfinished builds finds most newly watched builds.
+        final Map<Long, Build> unfinished = new HashMap<>();
+        listAll(newFilters(pipelineWatch).withStates(UNFINISHED_STATES), (build) -> unfinished.put(build.getNumber(), build));
+
+        for (final Long buildNumber : buildNumbers) {
+            Build build = unfinished.get(buildNumber);
+            if (build == null) {
+                // Already finished, or does not exist, retrieve it directly.
+                try {
+                    final Optional<Build> retrieved = client.getBuild(GetBuildFilters.newBuilder()
+                        .withOrgIdSlug(pipelineWatch.orgIdSlug)
+                        .withPipelineIdSlug(pipelineWatch.pipelineIdSlug)
+                        .withBuildNumber(buildNumber)
+                        .withProjection(projection)
+                    );
+                    if (!retrieved.isPresent()) {
+                        throw new NotFoundException("Build " + buildNumber + " was not found.");
+                    }
+                    build = retrieved.get();
+                } catch (final NotFoundException exception) {
+                    complete(pipelineWatch, buildNumber, (waiter) -> waiter.completeExceptionally(exception));
+                    continue;
+                }
+            }
+
+            if (isFinished(build)) {
+                final Build finished = build;
+                complete(pipelineWatch, buildNumber, (waiter) -> waiter.complete(finished));
+                continue;
+            }
+            synchronized (this) {
+                final Watch watch = pipelineWatch.watches.get(buildNumber);
+                if (watch != null) {
+                    watch.discovered = true;
+                    watch.state = build.getState();
+                    watch.createdAt = build.getCreatedAt();
+                }
+            }
+        }
+    }
+
+    /**
+     * Stop watching a build, completing each of its waiters.
+     */
+    private void complete(final PipelineWatch pipelineWatch, final Long buildNumber, final Consumer<CompletableFuture<Build>> completion) {
+        final Watch watch;
+        synchronized (this) {
+            watch = pipelineWatch.watches.remove(buildNumber);
+        }
+        if (watch != null) {
+            watch.waiters.forEach(completion);
+        }
+    }
+
+    /**
+     * Stop watching builds for waiters which have been cancelled.  Must hold the lock on this instance.
+     */
+    private void pruneCancelled(final PipelineWatch pipelineWatch) {
+        pipelineWatch.watches.values().forEach((watch) -> watch.waiters.removeIf(CompletableFuture::isDone));
+        pipelineWatch.watches.values().removeIf((watch) -> watch.waiters.isEmpty());
+    }
+
+    /**
+     * Poll as often as the most urgent build being watched requires.  Must hold the lock on this instance.
+     */
+    private Duration nextPollInterval(final PipelineWatch pipelineWatch) {
+        final ZonedDateTime now = ZonedDateTime.now(clock);
+        Duration interval = maxPollInterval;
+        for (final Watch watch : pipelineWatch.watches.values()) {
+            final Duration watchInterval;
+            if (!watch.discovered || watch.createdAt == null) {
+                watchInterval = minPollInterval;
+            } else if (watch.state == BuildState.BLOCKED) {
+                watchInterval = maxPollInterval;
+            } else {
+                watchInterval = Duration.between(watch.createdAt, now).dividedBy(AGE_DIVISOR);
+            }
+            if (watchInterval.compareTo(interval) < 0) {
+                interval = watchInterval;
+            }
+        }
+        return interval.compareTo(minPollInterval) < 0 ? minPollInterval : interval;
+    }
+
+    private void listAll(final BuildFiltersBuilder filters, final Consumer<Build> consumer) {
+        ListBuildsResponse response = client.listBuilds(filters.build());
+        response.getBuilds().forEach(consumer);
+        while (response.hasNextPage()) {
+            response = client.nextPage(response);
+            response.getBuilds().forEach(consumer);
+        }
+    }
+
+    private BuildFiltersBuilder newFilters(final PipelineWatch pipelineWatch) {
+        return BuildFilters.newBuilder()
+            .withPipeline(pipelineWatch.orgIdSlug, pipelineWatch.pipelineIdSlug)
+            .withPerPage(MAX_PER_PAGE)
+            .withProjection(projection);
+    }
+
+    private static boolean isFinished(final Build build) {
+        return BuildStateUtils.isStateTerminal(build.getState());
+    }
+
+    /**
+     * Builds watched within a single pipeline.
+     */
+    private static final class PipelineWatch {
+        private final String orgIdSlug;
+        private final String pipelineIdSlug;
+        private final Map<Long, Watch> watches = new HashMap<>();
+        private ScheduledFuture<?> nextPoll;
+        private boolean polling = false;
+
+        /**
+         * When the previous successful poll started, only accessed by the scheduler thread.
+         */
+        private ZonedDateTime finishedWatermark;
+
+        private PipelineWatch(final String orgIdSlug, final String pipelineIdSlug) {
+            this.orgIdSlug = orgIdSlug;
+            this.pipelineIdSlug = pipelineIdSlug;
+        }
+    }
+
+    /**
+     * A single watched build, and the callers waiting on it.
+     */
+    private static final class Watch {
+        private final List<CompletableFuture<Build>> waiters = new ArrayList<>();
+        private boolean discovered = false;
+        private BuildState state;
+        private ZonedDateTime createdAt;
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.watch;
+
+import org.sourcelab.buildkite.api.client.BuildkiteClient;
+import org.sourcelab.buildkite.api.client.exception.BuilderValidationException;
+import org.sourcelab.buildkite.api.client.request.BuildProjection;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+
+/**
+ * Builder for {@link BuildWatcher} instances.
+ */
+public final class BuildWatcherBuilder {
+    private BuildkiteClient client = null;
+    private Duration minPollInterval = Duration.ofSeconds(5);
+    private Duration maxPollInterval = Duration.ofMinutes(1);
+    private Duration overlap = Duration.ofMinutes(1);
+    private BuildProjection projection = BuildProjection.FULL;
+    private Clock clock = Clock.systemUTC();
+
+    /**
+     * Constructor.
+     */
+    public BuildWatcherBuilder() {
+    }
+
+    /**
+     * Set the client used to make requests.
+     * @param client The client used to make requests.
+     * @return self.
+     */
+    public BuildWatcherBuilder withClient(final BuildkiteClient client) {
+        this.client = client;
+        return this;
+    }
+
+    /**
+     * Set the shortest interval between polls of a pipeline, used while recently created builds are watched.
+     * Defaults to 5 seconds.
+     * @param minPollInterval Shortest interval between polls of a pipeline.
+     * @return self.
+     */
+    public BuildWatcherBuilder withMinPollInterval(final Duration minPollInterval) {
+        this.minPollInterval = minPollInterval;
+        return this;
+    }
+
+    /**
+     * Set the longest interval between polls of a pipeline, used while only long running or blocked builds are
+     * watched.  Defaults to 1 minute.
+     * @param maxPollInterval Longest interval between polls of a pipeline.
+     * @return self.
+     */
+    public BuildWatcherBuilder withMaxPollInterval(final Duration maxPollInterval) {
+        this.maxPollInterval = maxPollInterval;
+        return this;
+    }
+
+    /**
+     * Set how far before the previous poll each poll requests finished builds from, absorbing clock skew between
+     * this host and the API.  Defaults to 1 minute.
+     * @param overlap How far before the previous poll each poll requests finished builds from.
+     * @return self.
+     */
+    public BuildWatcherBuilder withOverlap(final Duration overlap) {
+        this.overlap = overlap;
+        return this;
+    }
+
+    /**
+     * Set which parts of each finished build are parsed.  Defaults to {@link BuildProjection#FULL}.
+     * @param projection Which parts of each build are parsed.
+     * @return self.
+     */
+    public BuildWatcherBuilder withProjection(final BuildProjection projection) {
+        this.projection = Objects.requireNonNull(projection);
+        return this;
+    }
+
+    /**
+     * Set the clock used to determine the age of builds.
+     * @param clock The clock to use.
+     * @return self.
+     */
+    public BuildWatcherBuilder withClock(final Clock clock) {
+        this.clock = Objects.requireNonNull(clock);
+        return this;
+    }
+
+    /**
+     * Create new BuildWatcher instance from set values.
+     * @return BuildWatcher instance.
+     * @throws BuilderValidationException if improper values defined.
+     */
+    public BuildWatcher build() {
+        if (client == null) {
+            throw new BuilderValidationException("The 'Client' property must be configured.");
+        }
+        if (minPollInterval == null || minPollInterval.isNegative() || minPollInterval.isZero()) {
+            throw new BuilderValidationException("The 'MinPollInterval' property must be positive.");
+        }
+        if (maxPollInterval == null || maxPollInterval.compareTo(minPollInterval) < 0) {
+            throw new BuilderValidationException("The 'MaxPollInterval' property must not be shorter than 'MinPollInterval'.");
+        }
+        if (overlap == null || overlap.isNegative()) {
+            throw new BuilderValidationException("The 'Overlap' property must not be negative.");
+        }
+        return new BuildWatcher(client, minPollInterval, maxPollInterval, overlap, projection, clock);
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.webhook;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.Job;
+import org.sourcelab.buildkite.api.client.response.Pipeline;
+
+/**
+ * A build or job event pushed by a Buildkite webhook.
+ * @see <a href="https://buildkite.com/docs/apis/webhooks">https://buildkite.com/docs/apis/webhooks</a>
+ */
+public class WebhookEvent {
+    private final String event;
+    private final Build build;
+    private final Job job;
+    private final Pipeline pipeline;
+
+    /**
+     * Constructor.
+     * @param event Name of the event, for example "build.finished" or "job.started".
+     * @param build The build the event relates to.
+     * @param job The job the event relates to, only present for job events.
+     * @param pipeline The pipeline the build belongs to.
+     */
+    @JsonCreator
+    public WebhookEvent(
+        @JsonProperty("event") final String event,
+        @JsonProperty("build") final Build build,
+        @JsonProperty("job") final Job job,
+        @JsonProperty("pipeline") final Pipeline pipeline
+    ) {
+        this.event = event;
+        this.build = build;
+        this.job = job;
+        this.pipeline = pipeline;
+    }
+
+    public String getEvent() {
+        return event;
+    }
+
+    public Build getBuild() {
+        return build;
+    }
+
+    public Job getJob() {
+        return job;
+    }
+
+    public Pipeline getPipeline() {
+        return pipeline;
+    }
+
+    /**
+     * Check if this is a build event, such as "build.scheduled" or "build.finished".
+     * @return true if a build event, false if not.
+     */
+    public boolean isBuildEvent() {
+        return event != null && event.startsWith("build.");
+    }
+
+    /**
+     * Check if this is a job event, such as "job.started" or "job.finished".
+     * @return true if a job event, false if not.
+     */
+    public boolean isJobEvent() {
+        return event != null && event.startsWith("job.");
+    }
+
+    @Override
+    public String toString() {
+        return "WebhookEvent{"
+            + "event='" + event + '\''
+            + ", build=" + build
+            + ", job=" + job
+            + ", pipeline=" + pipeline
+            + '}';
+    }
+}
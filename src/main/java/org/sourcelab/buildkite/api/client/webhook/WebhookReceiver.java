@@ -0,0 +1,280 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.webhook;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
+import org.sourcelab.buildkite.api.client.response.parser.JacksonFactory;
+import org.sourcelab.buildkite.api.client.util.DaemonThreadFactory;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Embeddable endpoint receiving Buildkite webhooks, as a push based alternative to polling for build and job changes.
+ *
+ * Requests are served by the JDK's built in HTTP server, no servlet container is required.  Each request must be a
+ * POST carrying the webhook's token in the {@code X-Buildkite-Token} header.  Build and job events are parsed into
+ * {@link WebhookEvent}s and queued, then delivered to each registered {@link WebhookListener} in the order received
+ * by a single delivery thread.  Other events, such as "ping", are acknowledged and ignored.
+ *
+ * The queue is bounded.  While it is full, further events are rejected with a 503 response and counted by
+ * {@link #getRejectedEventCount()}.
+ *
+ * @see <a href="https://buildkite.com/docs/apis/webhooks">https://buildkite.com/docs/apis/webhooks</a>
+ */
+public class WebhookReceiver implements Closeable {
+    private static final Logger logger = LoggerFactory.getLogger(WebhookReceiver.class);
+
+    /**
+     * Header carrying the webhook's token.
+     */
+    static final String TOKEN_HEADER = "X-Buildkite-Token";
+
+    private final InetSocketAddress bindAddress;
+    private final String path;
+    private final byte[] token;
+    private final int maxRequestBytes;
+    private final BlockingQueue<WebhookEvent> queue;
+    private final List<WebhookListener> listeners = new CopyOnWriteArrayList<>();
+    private final AtomicLong receivedEventCount = new AtomicLong();
+    private final AtomicLong rejectedEventCount = new AtomicLong();
+
+    private HttpServer server;
+    private ExecutorService deliveryExecutor;
+    private boolean closed = false;
+
+    /**
+     * Create a new Builder for creating WebhookReceiver instances.
+     * @return Builder for WebhookReceiver instances.
+     */
+    public static WebhookReceiverBuilder newBuilder() {
+        return new WebhookReceiverBuilder();
+    }
+
+    /**
+     * Constructor.  Use {@link #newBuilder()}.
+     *
+     * @param bindAddress Address and port to listen on, port 0 to choose any free port.
+     * @param path Path webhooks are posted to.
+     * @param token The webhook's token, which each request must carry.
+     * @param queueCapacity Maximum number of events waiting for delivery.
+     * @param maxRequestBytes Largest request body accepted.
+     * @param listeners Listeners to deliver events to.
+     */
+    WebhookReceiver(
+        final InetSocketAddress bindAddress,
+        final String path,
+        final String token,
+        final int queueCapacity,
+        final int maxRequestBytes,
+        final List<WebhookListener> listeners
+    ) {
+        this.bindAddress = Objects.requireNonNull(bindAddress);
+        this.path = Objects.requireNonNull(path);
+        this.token = token.getBytes(StandardCharsets.UTF_8);
+        this.maxRequestBytes = maxRequestBytes;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.listeners.addAll(listeners);
+    }
+
+    /**
+     * Start listening for webhooks.  A receiver may only be started once.
+     * @return self.
+     * @throws BuildkiteException if unable to listen on the configured address.
+     */
+    public synchronized WebhookReceiver start() {
+        if (closed) {
+            throw new IllegalStateException("WebhookReceiver has been closed.");
+        }
+        if (server != null) {
+            throw new IllegalStateException("WebhookReceiver has already been started.");
+        }
+        try {
+            server = HttpServer.create(bindAddress, 0);
+        } catch (final IOException exception) {
+            throw new BuildkiteException("Unable to listen on " + bindAddress + ": " + exception.getMessage(), exception);
+        }
+        server.createContext(path, this::handle);
+        server.start();
+
+        deliveryExecutor = Executors.newSingleThreadExecutor(new DaemonThreadFactory("buildkite-webhook-delivery"));
+        deliveryExecutor.execute(this::deliver);
+        return this;
+    }
+
+    /**
+     * Register an additional listener.
+     * @param listener Listener to deliver events to.
+     */
+    public void addListener(final WebhookListener listener) {
+        listeners.add(Objects.requireNonNull(listener));
+    }
+
+    /**
+     * Remove a previously registered listener.
+     * @param listener Listener to stop delivering events to.
+     */
+    public void removeListener(final WebhookListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * The port being listened on, useful when configured with port 0.
+     * @return The port being listened on.
+     */
+    public synchronized int getPort() {
+        if (closed) {
+            throw new IllegalStateException("WebhookReceiver has been closed.");
+        }
+        if (server == null) {
+            throw new IllegalStateException("WebhookReceiver has not been started.");
+        }
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Number of build and job events accepted.
+     * @return Number of build and job events accepted.
+     */
+    public long getReceivedEventCount() {
+        return receivedEventCount.get();
+    }
+
+    /**
+     * Number of build and job events rejected because the delivery queue was full.
+     * @return Number of build and job events rejected.
+     */
+    public long getRejectedEventCount() {
+        return rejectedEventCount.get();
+    }
+
+    /**
+     * Stop listening.  Events still queued are discarded.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (server != null) {
+            server.stop(0);
+            deliveryExecutor.shutdownNow();
+            server = null;
+            deliveryExecutor = null;
+        }
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                respond(exchange, 405);
+                return;
+            }
+            final String requestToken = exchange.getRequestHeaders().getFirst(TOKEN_HEADER);
+            if (requestToken == null || !MessageDigest.isEqual(token, requestToken.getBytes(StandardCharsets.UTF_8))) {
+                respond(exchange, 401);
+                return;
+            }
+            final byte[] body = readBody(exchange.getRequestBody());
+            if (body == null) {
+                respond(exchange, 413);
+                return;
+            }
+
+            final WebhookEvent event;
+            try {
+                event = JacksonFactory.readerFor(WebhookEvent.class).readValue(body);
+            } catch (final IOException exception) {
+                logger.debug("Unable to parse webhook: {}", exception.getMessage());
+                respond(exchange, 400);
+                return;
+            }
+
+            if (event.isBuildEvent() || event.isJobEvent()) {
+                if (!queue.offer(event)) {
+                    rejectedEventCount.incrementAndGet();
+                    respond(exchange, 503);
+                    return;
+                }
+                receivedEventCount.incrementAndGet();
+            }
+            respond(exchange, 200);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Read the request body, or null if it is larger than allowed.
+     */
+    private byte[] readBody(final InputStream inputStream) throws IOException {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream();
+        final byte[] buffer = new byte[8192];
+        int read;
+        while ((read = inputStream.read(buffer)) != -1) {
+            if (body.size() + read > maxRequestBytes) {
+                return null;
+            }
+            body.write(buffer, 0, read);
+        }
+        return body.toByteArray();
+    }
+
+    private static void respond(final HttpExchange exchange, final int status) throws IOException {
+        exchange.sendResponseHeaders(status, -1);
+    }
+
+    /**
+     * Deliver queued events to listeners until closed.  Runs on the delivery thread.
+     */
+    private void deliver() {
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                final WebhookEvent event = queue.take();
+                for (final WebhookListener listener : listeners) {
+                    try {
+                        listener.onEvent(event);
+                    } catch (final RuntimeException exception) {
+                        logger.error("WebhookListener failed handling event {}", event.getEvent(), exception);
+                    }
+                }
+            }
+        } catch (final InterruptedException exception) {
+            // Closed.
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.webhook;
+
+import org.sourcelab.buildkite.api.client.exception.BuilderValidationException;
+
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Builder for {@link WebhookReceiver} instances.
+ */
+public final class WebhookReceiverBuilder {
+    private InetSocketAddress bindAddress = new InetSocketAddress(8080);
+    private String path = "/";
+    private String token = null;
+    private int queueCapacity = 1000;
+    private int maxRequestBytes = 10 * 1024 * 1024;
+    private final List<WebhookListener> listeners = new ArrayList<>();
+
+    /**
+     * Constructor.
+     */
+    public WebhookReceiverBuilder() {
+    }
+
+    /**
+     * Listen on the given port, on all interfaces.  Use port 0 to choose any free port.  Defaults to 8080.
+     * @param port Port to listen on.
+     * @return self.
+     */
+    public WebhookReceiverBuilder withPort(final int port) {
+        this.bindAddress = new InetSocketAddress(port);
+        return this;
+    }
+
+    /**
+     * Listen on the given address and port.
+     * @param bindAddress Address and port to listen on.
+     * @return self.
+     */
+    public WebhookReceiverBuilder withBindAddress(final InetSocketAddress bindAddress) {
+        this.bindAddress = Objects.requireNonNull(bindAddress);
+        return this;
+    }
+
+    /**
+     * Set the path webhooks are posted to.  Defaults to "/".
+     * @param path Path webhooks are posted to.
+     * @return self.
+     */
+    public WebhookReceiverBuilder withPath(final String path) {
+        this.path = path;
+        return this;
+    }
+
+    /**
+     * Set the webhook's token, shown on the webhook's notification service settings page.  Requests without
+     * a matching {@code X-Buildkite-Token} header are rejected.
+     * @param token The webhook's token.
+     * @return self.
+     */
+    public WebhookReceiverBuilder withToken(final String token) {
+        this.token = token;
+        return this;
+    }
+
+    /**
+     * Set the maximum number of events waiting to be delivered to listeners.  Defaults to 1000.
+     * @param queueCapacity Maximum number of events waiting to be delivered.
+     * @return self.
+     */
+    public WebhookReceiverBuilder withQueueCapacity(final int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+        return this;
+    }
+
+    /**
+     * Set the largest request body accepted, in bytes.  Defaults to 10MB.
+     * @param maxRequestBytes Largest request body accepted.
+     * @return self.
+     */
+    public WebhookReceiverBuilder withMaxRequestBytes(final int maxRequestBytes) {
+        this.maxRequestBytes = maxRequestBytes;
+        return this;
+    }
+
+    /**
+     * Register a listener to deliver events to.
+     * @param listener Listener to deliver events to.
+     * @return self.
+     */
+    public WebhookReceiverBuilder withListener(final WebhookListener listener) {
+        this.listeners.add(Objects.requireNonNull(listener));
+        return this;
+    }
+
+    /**
+     * Create new WebhookReceiver instance from set values.  Call {@link WebhookReceiver#start()} to begin listening.
+     * @return WebhookReceiver instance.
+     * @throws BuilderValidationException if improper values defined.
+     */
+    public WebhookReceiver build() {
+        if (token == null || token.isEmpty()) {
+            throw new BuilderValidationException("The 'Token' property must be configured.");
+        }
+        if (path == null || !path.startsWith("/")) {
+            throw new BuilderValidationException("The 'Path' property must start with '/'.");
+        }
+        if (queueCapacity < 1) {
+            throw new BuilderValidationException("The 'QueueCapacity' property must be 1 or larger.");
+        }
+        if (maxRequestBytes < 1) {
+            throw new BuilderValidationException("The 'MaxRequestBytes' property must be 1 or larger.");
+        }
+        return new WebhookReceiver(bindAddress, path, token, queueCapacity, maxRequestBytes, listeners);
+    }
+}
@@ -0,0 +1,155 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
+import org.sourcelab.buildkite.api.client.exception.InvalidPagingRequestException;
+import org.sourcelab.buildkite.api.client.exception.NotFoundException;
+import org.sourcelab.buildkite.api.client.http.AsyncClient;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.response.ListBuildsResponse;
+import org.sourcelab.buildkite.api.client.response.PagingLinks;
+import org.sourcelab.buildkite.api.client.response.PingResponse;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+public class BuildkiteAsyncClientTest {
+    private AsyncClient mockHttpClient;
+    private BuildkiteAsyncClient client;
+
+    @BeforeEach
+    void setUp() {
+        mockHttpClient = mock(AsyncClient.class);
+
+        // Inject our mock underlying http client.
+        final Configuration configuration = Configuration.newBuilder()
+            .withApiToken("Mock-Access-Token")
+            .withAsyncClientFactory((config) -> mockHttpClient)
+            .build();
+
+        client = new BuildkiteAsyncClient(configuration);
+    }
+
+    /**
+     * Verifies a successful response is parsed and delivered via the future.
+     */
+    @Test
+    void ping() throws Exception {
+        final CompletableFuture<HttpResult> pending = new CompletableFuture<>();
+        when(mockHttpClient.executeRequestAsync(any())).thenReturn(pending);
+
+        // Call method under test.
+        final CompletableFuture<PingResponse> future = client.ping();
+
+        // Nothing should be delivered until the underlying http response arrives.
+        assertFalse(future.isDone());
+        pending.complete(new HttpResult(200, MockResponseReader.readFile("ping.json")));
+
+        // Verify response.
+        final PingResponse response = future.get();
+        assertNotNull(response);
+        assertEquals(1672974170, response.getTimestamp());
+    }
+
+    /**
+     * Verifies responses are parsed on the client's parse pool rather than the thread completing the http request.
+     */
+    @Test
+    void executeRequestAsync_parsesOffTheIoThread() throws Exception {
+        final CompletableFuture<HttpResult> pending = new CompletableFuture<>();
+        when(mockHttpClient.executeRequestAsync(any())).thenReturn(pending);
+
+        final CompletableFuture<String> parsingThread = client.ping().thenApply((response) -> Thread.currentThread().getName());
+        pending.complete(new HttpResult(200, MockResponseReader.readFile("ping.json")));
+
+        assertTrue(parsingThread.get().startsWith("buildkite-response-parse"), parsingThread.get());
+    }
+
+    /**
+     * Verifies requesting a next page which does not exist completes exceptionally rather than throwing.
+     */
+    @Test
+    void nextPage_withoutNextLink_shouldCompleteExceptionally() {
+        final ListBuildsResponse lastPage = new ListBuildsResponse(
+            new PagingLinks(null, null, null, null), Collections.emptyList(), null
+        );
+
+        final CompletableFuture<ListBuildsResponse> future = client.nextPage(lastPage);
+        assertTrue(future.isCompletedExceptionally());
+
+        final ExecutionException thrownException = assertThrows(ExecutionException.class, future::get);
+        assertTrue(thrownException.getCause() instanceof InvalidPagingRequestException);
+    }
+
+    /**
+     * Verifies closing the client fails requests waiting to be retried, and requests made after it is closed.
+     */
+    @Test
+    void close_failsRequestsWaitingToBeRetried() {
+        when(mockHttpClient.executeRequestAsync(any()))
+            .thenReturn(CompletableFuture.completedFuture(new HttpResult(503, "{\"message\": \"Unavailable\"}")));
+        final BuildkiteAsyncClient retryingClient = new BuildkiteAsyncClient(Configuration.newBuilder()
+            .withApiToken("Mock-Access-Token")
+            .withAsyncClientFactory((config) -> mockHttpClient)
+            .withRetryPolicy(RetryPolicy.newBuilder()
+                .withBaseDelay(Duration.ofMinutes(1))
+                .withMaxDelay(Duration.ofMinutes(1))
+                .build())
+            .build());
+
+        // Call method under test.
+        final CompletableFuture<PingResponse> waiting = retryingClient.ping();
+        assertFalse(waiting.isDone());
+        retryingClient.close();
+
+        final ExecutionException thrownException = assertThrows(ExecutionException.class, waiting::get);
+        assertTrue(thrownException.getCause() instanceof BuildkiteException);
+        assertTrue(retryingClient.ping().isCompletedExceptionally());
+    }
+
+    /**
+     * Verifies error responses complete the future exceptionally with the same exceptions the
+     * blocking client throws.
+     */
+    @Test
+    void verify404Response_shouldCompleteExceptionally() {
+        when(mockHttpClient.executeRequestAsync(any()))
+            .thenReturn(CompletableFuture.completedFuture(new HttpResult(404, "{\"message\": \"Not Found\"}")));
+
+        final ExecutionException thrownException = assertThrows(
+            ExecutionException.class,
+            () -> client.getBuild("org", "pipeline", 1L).get()
+        );
+        assertTrue(thrownException.getCause() instanceof NotFoundException);
+        assertEquals("Not Found", thrownException.getCause().getMessage());
+    }
+}
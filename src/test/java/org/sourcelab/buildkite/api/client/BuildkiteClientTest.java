@@ -24,14 +24,21 @@ import org.slf4j.LoggerFactory;
 import org.sourcelab.buildkite.api.client.exception.InvalidAccessTokenException;
 import org.sourcelab.buildkite.api.client.exception.InvalidAllowedIpAddressException;
 import org.sourcelab.buildkite.api.client.exception.NotFoundException;
+import org.sourcelab.buildkite.api.client.exception.RateLimitExceededException;
 import org.sourcelab.buildkite.api.client.http.Client;
 import org.sourcelab.buildkite.api.client.http.ClientFactory;
+import org.sourcelab.buildkite.api.client.http.HttpHeader;
+import org.sourcelab.buildkite.api.client.http.HttpHeaders;
 import org.sourcelab.buildkite.api.client.http.HttpResult;
 import org.sourcelab.buildkite.api.client.request.AnnotationFilters;
 import org.sourcelab.buildkite.api.client.request.BuildFilters;
+import org.sourcelab.buildkite.api.client.request.BuildProjection;
 import org.sourcelab.buildkite.api.client.request.GetBuildFilters;
 import org.sourcelab.buildkite.api.client.request.HttpMethod;
+import org.sourcelab.buildkite.api.client.request.ListBuildsRequest;
+import org.sourcelab.buildkite.api.client.request.PageOptions;
 import org.sourcelab.buildkite.api.client.request.PipelineFilters;
+import org.sourcelab.buildkite.api.client.request.Request;
 import org.sourcelab.buildkite.api.client.request.RequestParameter;
 import org.sourcelab.buildkite.api.client.request.RequestParameters;
 import org.sourcelab.buildkite.api.client.response.AccessTokenResponse;
@@ -49,20 +56,35 @@ import org.sourcelab.buildkite.api.client.response.MetaResponse;
 import org.sourcelab.buildkite.api.client.response.PingResponse;
 import org.sourcelab.buildkite.api.client.response.Pipeline;
 
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.any;
 import static org.mockito.Mockito.argThat;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class BuildkiteClientTest {
@@ -129,6 +151,60 @@ public class BuildkiteClientTest {
         assertTrue(thrownException.getMessage().contains("API requested from an IP address not specifically allowed by your AccessToken"));
     }
 
+    /**
+     * Verifies if the API returns http code 429, we throw the appropriate rate limit exception
+     * and record the remaining budget.
+     */
+    @Test
+    void verify429Response_shouldThrowRateLimitExceededException() {
+        // Setup mock client to return http code 429
+        when(mockHttpClient.executeRequest(any()))
+            .thenReturn(new HttpResult(429, "{\"message\": \"Too Many Requests\"}", new HttpHeaders(Arrays.asList(
+                new HttpHeader("RateLimit-Remaining", "0"),
+                new HttpHeader("RateLimit-Reset", "42")
+            ))));
+
+        // Make request
+        final RateLimitExceededException thrownException =
+            assertThrows(RateLimitExceededException.class, () -> client.ping());
+
+        // Verify error details were populated.
+        assertEquals("Too Many Requests", thrownException.getMessage());
+        assertEquals(Optional.of(Duration.ofSeconds(42)), thrownException.getRetryAfter());
+        assertEquals(1, client.getMetrics().getRateLimitedResponseCount());
+        assertEquals(OptionalInt.of(0), client.getMetrics().getRateLimitRemaining());
+    }
+
+    /**
+     * Verifies if the API returns a retryable http code, the request is retried and the retry is recorded.
+     */
+    @Test
+    void verify503Response_shouldRetryRequest() {
+        client = new BuildkiteClient(Configuration.newBuilder()
+            .withApiToken(mockAccessToken)
+            .withClientFactory((config) -> mockHttpClient)
+            .withRetryPolicy(RetryPolicy.newBuilder()
+                .withBaseDelay(Duration.ofMillis(1))
+                .build())
+            .build());
+
+        // Setup mock client to return http code 503 followed by a successful response.
+        when(mockHttpClient.executeRequest(any()))
+            .thenReturn(
+                new HttpResult(503, "{\"message\": \"Service Unavailable\"}"),
+                new HttpResult(200, readFile("ping.json"))
+            );
+
+        // Make request
+        final PingResponse response = client.ping();
+
+        // Verify the request was retried.
+        assertEquals(1672974170, response.getTimestamp());
+        verify(mockHttpClient, times(2)).executeRequest(any());
+        assertEquals(1, client.getMetrics().getRetryCount());
+        assertEquals(2, client.getMetrics().getRequestCount());
+    }
+
     /**
      * Verifies if the API returns http code 404, we throw the appropriate not found exception
      */
@@ -423,6 +499,86 @@ public class BuildkiteClientTest {
         assertNull(build.getRebuiltFrom());
     }
 
+    /**
+     * Verifies the summary projection skips each build's jobs and pipeline, while parsing everything else.
+     */
+    @Test
+    void listBuildsWithSummaryProjection() {
+        // Setup mock expectations.
+        setupMockResponse(
+            "/v2/builds",
+            HttpMethod.GET,
+            RequestParameters.newBuilder()
+                .withParameter("per_page", 30)
+                .withParameter("page", 1)
+                .build(),
+            200,
+            "listBuilds.json"
+        );
+
+        // Call method under test.
+        final ListBuildsResponse response = client.listBuilds(BuildFilters.newBuilder()
+            .withProjection(BuildProjection.SUMMARY)
+        );
+
+        // Verify response.
+        assertEquals(2, response.getBuilds().size());
+        final Build build = response.getBuilds().get(0);
+        assertEquals("abc-id-1", build.getId());
+        assertEquals(8, build.getNumber());
+        assertEquals(BuildState.SCHEDULED, build.getState());
+        assertEquals("main", build.getBranch());
+        assertEquals("commit-id-here1", build.getCommit());
+        assertNotNull(build.getCreatedAt());
+        assertEquals("First Last", build.getAuthor().getName());
+        assertEquals("1245", build.getPullRequest().getId());
+        assertEquals(46, build.getRebuiltFrom().getNumber());
+        assertNull(build.getJobs());
+        assertNull(build.getPipeline());
+    }
+
+    /**
+     * Verifies a result previously parsed using one projection is not re-used for another.
+     */
+    @Test
+    void parsedResponseIsNotSharedAcrossProjections() {
+        final HttpResult result = new HttpResult(200, readFile("listBuilds.json"));
+
+        final ListBuildsResponse summary = result.parseResponse(new ListBuildsRequest(BuildFilters.newBuilder()
+            .withProjection(BuildProjection.SUMMARY)
+            .build()));
+        final ListBuildsResponse full = result.parseResponse(new ListBuildsRequest(BuildFilters.newBuilder().build()));
+
+        assertNull(summary.getBuilds().get(0).getJobs());
+        assertNotNull(full.getBuilds().get(0).getJobs());
+        assertNotNull(full.getBuilds().get(0).getPipeline());
+    }
+
+    /**
+     * Verifies the lazy jobs projection parses each job on first access, with the same result as eager parsing.
+     */
+    @Test
+    void listBuildsWithLazyJobsProjection() {
+        final HttpResult result = new HttpResult(200, readFile("listBuilds.json"));
+
+        final ListBuildsResponse lazy = result.parseResponse(new ListBuildsRequest(BuildFilters.newBuilder()
+            .withProjection(BuildProjection.LAZY_JOBS)
+            .build()));
+        final ListBuildsResponse full = result.parseResponse(new ListBuildsRequest(BuildFilters.newBuilder().build()));
+
+        assertEquals(full.getBuilds().size(), lazy.getBuilds().size());
+        for (int index = 0; index < full.getBuilds().size(); index++) {
+            final List<Job> lazyJobs = lazy.getBuilds().get(index).getJobs();
+            final List<Job> fullJobs = full.getBuilds().get(index).getJobs();
+            assertEquals(fullJobs.size(), lazyJobs.size());
+            for (int jobIndex = 0; jobIndex < fullJobs.size(); jobIndex++) {
+                assertEquals(fullJobs.get(jobIndex).toString(), lazyJobs.get(jobIndex).toString());
+                assertSame(lazyJobs.get(jobIndex), lazyJobs.get(jobIndex));
+            }
+        }
+        assertNotNull(lazy.getBuilds().get(0).getPipeline());
+    }
+
     /**
      * Verifies the {@link BuildkiteClient#listBuilds()} request and response parsing.
      */
@@ -754,6 +910,161 @@ public class BuildkiteClientTest {
         assertEquals("github", pipeline.getProvider().getId());
     }
 
+    /**
+     * Verifies streaming builds lazily walks every page, in order.
+     */
+    @Test
+    void streamBuilds_acrossPages() {
+        final String nextLink = "<https://api.buildkite.com/v2/builds?page=2&per_page=30>; rel=\"next\"";
+        when(mockHttpClient.executeRequest(any()))
+            .thenAnswer((invocation) -> {
+                final Request<?> request = invocation.getArgument(0);
+                final String page = request.getRequestParameters().getParameterByName("page").getValues().iterator().next();
+                final List<HttpHeader> headers = "1".equals(page)
+                    ? Collections.singletonList(new HttpHeader("Link", nextLink))
+                    : Collections.emptyList();
+                return new HttpResult(200, readFile("listBuilds.json"), new HttpHeaders(headers));
+            });
+
+        // Call method under test.
+        final List<String> buildIds;
+        try (final Stream<Build> builds = client.stream(BuildFilters.newBuilder().build())) {
+            buildIds = builds.map(Build::getId).collect(Collectors.toList());
+        }
+
+        // Verify both pages were consumed in order.
+        assertEquals(Arrays.asList("abc-id-1", "01858542", "abc-id-1", "01858542"), buildIds);
+        verify(mockHttpClient, times(2)).executeRequest(any());
+    }
+
+    /**
+     * Verifies abandoned streams share the client's bounded prefetch pool, which is released when the client is closed.
+     */
+    @Test
+    void streamBuilds_abandonedStreamsShareBoundedPrefetchPool() {
+        final String nextLink = "<https://api.buildkite.com/v2/builds?page=2&per_page=30>; rel=\"next\"";
+        when(mockHttpClient.executeRequest(any()))
+            .thenAnswer((invocation) -> new HttpResult(
+                200, readFile("listBuilds.json"), new HttpHeaders(Collections.singletonList(new HttpHeader("Link", nextLink)))
+            ));
+
+        // Start many streams, reading only their first entry and never closing them.
+        final int processors = Runtime.getRuntime().availableProcessors();
+        for (int index = 0; index < processors * 3; index++) {
+            final Stream<Build> builds = client.stream(BuildFilters.newBuilder().build());
+            assertTrue(builds.findFirst().isPresent());
+        }
+
+        final ThreadPoolExecutor prefetchExecutor = (ThreadPoolExecutor) client.getPagePrefetchExecutor();
+        assertTrue(prefetchExecutor.getPoolSize() <= processors, "Prefetch threads should be bounded");
+
+        client.close();
+        assertTrue(prefetchExecutor.isShutdown());
+    }
+
+    /**
+     * Verifies a single client and response can be paged from by many threads at once, with each
+     * thread receiving the page it asked for and the original request left untouched.
+     */
+    @Test
+    void pagingFromSharedResponse_concurrently() throws Exception {
+        final String links = "<https://api.buildkite.com/v2/builds?page=3&per_page=30>; rel=\"next\", "
+            + "<https://api.buildkite.com/v2/builds?page=1&per_page=30>; rel=\"prev\", "
+            + "<https://api.buildkite.com/v2/builds?page=1&per_page=30>; rel=\"first\", "
+            + "<https://api.buildkite.com/v2/builds?page=9&per_page=30>; rel=\"last\"";
+        when(mockHttpClient.executeRequest(any()))
+            .thenAnswer((invocation) -> new HttpResult(
+                200, readFile("listBuilds.json"), new HttpHeaders(Collections.singletonList(new HttpHeader("Link", links)))
+            ));
+
+        final ListBuildsResponse response = client.listBuilds(BuildFilters.newBuilder()
+            .withPageOptions(new PageOptions(2, 30))
+            .build());
+
+        final int threads = 8;
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            final CountDownLatch startLatch = new CountDownLatch(1);
+            final List<Future<List<Long>>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executorService.submit(() -> {
+                    startLatch.await();
+                    final List<Long> pages = new ArrayList<>();
+                    for (int iteration = 0; iteration < 25; iteration++) {
+                        pages.add(getPage(client.nextPage(response)));
+                        pages.add(getPage(client.previousPage(response)));
+                        pages.add(getPage(client.firstPage(response)));
+                        pages.add(getPage(client.lastPage(response)));
+                    }
+                    return pages;
+                }));
+            }
+            startLatch.countDown();
+
+            // Verify every thread received the pages it asked for.
+            for (final Future<List<Long>> future : futures) {
+                final List<Long> pages = future.get(30, TimeUnit.SECONDS);
+                for (int index = 0; index < pages.size(); index += 4) {
+                    assertEquals(Arrays.asList(3L, 1L, 1L, 9L), pages.subList(index, index + 4));
+                }
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+
+        // Verify the original request was never modified.
+        assertEquals(2, response.getOriginalRequest().getPageOptions().getPage());
+    }
+
+    /**
+     * Verifies identical concurrent GET requests share a single request and parsed response when coalescing is enabled.
+     */
+    @Test
+    void getBuild_coalescesIdenticalConcurrentRequests() throws Exception {
+        final BuildkiteClient coalescingClient = new BuildkiteClient(Configuration.newBuilder()
+            .withApiToken(mockAccessToken)
+            .withClientFactory((config) -> mockHttpClient)
+            .withRequestCoalescing(true)
+            .build());
+
+        final int threads = 5;
+        when(mockHttpClient.executeRequest(any()))
+            .thenAnswer((invocation) -> {
+                // Hold the first request in flight until every other caller has joined it.
+                final long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+                while (coalescingClient.getMetrics().getCoalescedRequestCount() < threads - 1 && System.nanoTime() < deadline) {
+                    Thread.sleep(5);
+                }
+                return new HttpResult(200, readFile("getBuild.json"));
+            });
+
+        final ExecutorService executorService = Executors.newFixedThreadPool(threads);
+        try {
+            final List<Future<Build>> futures = new ArrayList<>();
+            for (int thread = 0; thread < threads; thread++) {
+                futures.add(executorService.submit(() -> coalescingClient.getBuild("my-org", "my-pipeline", 1L).get()));
+            }
+
+            // Verify every caller received the same parsed build, from a single request.
+            final Build build = futures.get(0).get(30, TimeUnit.SECONDS);
+            for (final Future<Build> future : futures) {
+                assertSame(build, future.get(30, TimeUnit.SECONDS));
+            }
+        } finally {
+            executorService.shutdownNow();
+        }
+        verify(mockHttpClient, times(1)).executeRequest(any());
+        assertEquals(threads - 1, coalescingClient.getMetrics().getCoalescedRequestCount());
+
+        // Once complete, the next request is sent again.
+        coalescingClient.getBuild("my-org", "my-pipeline", 1L);
+        verify(mockHttpClient, times(2)).executeRequest(any());
+    }
+
+    private long getPage(final ListBuildsResponse response) {
+        return response.getOriginalRequest().getPageOptions().getPage();
+    }
+
     /**
      * For setting up a mocked response.
      *
@@ -19,9 +19,13 @@ package org.sourcelab.buildkite.api.client;
 
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.exception.BuilderValidationException;
+
+import java.time.Duration;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class ConfigurationTest {
@@ -43,6 +47,42 @@ class ConfigurationTest {
         assertEquals("MyFakeToken", configuration.getApiToken());
     }
 
+    /**
+     * Verify connection pool properties are passed through to the Configuration.
+     */
+    @Test
+    void connectionPoolProperties() {
+        final Configuration configuration = Configuration.newBuilder()
+            .withApiToken("MyFakeToken")
+            .withMaxConnectionsTotal(50)
+            .withMaxConnectionsPerRoute(25)
+            .withConnectionIdleTimeout(Duration.ofSeconds(10))
+            .withConnectionTimeToLive(Duration.ofMinutes(2))
+            .build();
+
+        assertEquals(50, configuration.getMaxConnectionsTotal());
+        assertEquals(25, configuration.getMaxConnectionsPerRoute());
+        assertEquals(Duration.ofSeconds(10), configuration.getConnectionIdleTimeout());
+        assertEquals(Duration.ofMinutes(2), configuration.getConnectionTimeToLive());
+    }
+
+    /**
+     * Verify invalid connection pool sizes are rejected.
+     */
+    @Test
+    void connectionPoolProperties_invalidValues() {
+        assertThrows(BuilderValidationException.class, () -> Configuration.newBuilder()
+            .withApiToken("MyFakeToken")
+            .withMaxConnectionsTotal(0)
+            .build()
+        );
+        assertThrows(BuilderValidationException.class, () -> Configuration.newBuilder()
+            .withApiToken("MyFakeToken")
+            .withMaxConnectionsPerRoute(-1)
+            .build()
+        );
+    }
+
     /**
      * Temp Testing CI/CD.
      */
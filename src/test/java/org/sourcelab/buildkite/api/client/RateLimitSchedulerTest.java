@@ -0,0 +1,115 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client;
+
+import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.http.HttpHeader;
+import org.sourcelab.buildkite.api.client.http.HttpHeaders;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+public class RateLimitSchedulerTest {
+    private final AtomicLong clock = new AtomicLong(0);
+
+    /**
+     * Verifies requests are never delayed before any rate limit headers have been seen.
+     */
+    @Test
+    void reserve_unknownBudget_noDelay() {
+        final RateLimitScheduler scheduler = new RateLimitScheduler(true, 5, clock::get);
+        assertEquals(0, scheduler.reserve());
+        assertFalse(scheduler.getRemaining().isPresent());
+    }
+
+    /**
+     * Verifies requests are sent immediately while above the threshold, then spread over the rest of the window.
+     */
+    @Test
+    void reserve_pacesOnceBelowThreshold() {
+        final RateLimitScheduler scheduler = new RateLimitScheduler(true, 2, clock::get);
+        scheduler.update(createResult(200, "4", "10"));
+        assertEquals(OptionalInt.of(4), scheduler.getRemaining());
+
+        // Above the threshold, sent immediately.
+        assertEquals(0, scheduler.reserve());
+        assertEquals(0, scheduler.reserve());
+
+        // At the threshold, the remaining 2 requests are spread over the 10 seconds left.
+        assertEquals(0, scheduler.reserve());
+        assertEquals(TimeUnit.SECONDS.toNanos(5), scheduler.reserve());
+
+        // Budget spent, held until the window resets.
+        assertEquals(TimeUnit.SECONDS.toNanos(10), scheduler.reserve());
+        assertEquals(TimeUnit.SECONDS.toNanos(10), scheduler.reserve());
+
+        // Once the window has reset, no longer delayed.
+        clock.set(TimeUnit.SECONDS.toNanos(10));
+        assertEquals(0, scheduler.reserve());
+        assertFalse(scheduler.getRemaining().isPresent());
+    }
+
+    /**
+     * Verifies a 429 response holds requests until the reported reset.
+     */
+    @Test
+    void update_tooManyRequests_holdsUntilReset() {
+        final RateLimitScheduler scheduler = new RateLimitScheduler(true, 0, clock::get);
+        scheduler.update(createResult(429, "0", "3"));
+
+        assertEquals(OptionalInt.of(0), scheduler.getRemaining());
+        assertEquals(TimeUnit.SECONDS.toNanos(3), scheduler.reserve());
+    }
+
+    /**
+     * Verifies out of order responses within the same window never raise the remaining budget.
+     */
+    @Test
+    void update_outOfOrderResponses() {
+        final RateLimitScheduler scheduler = new RateLimitScheduler(true, 0, clock::get);
+        scheduler.update(createResult(200, "50", "30"));
+        scheduler.update(createResult(200, "60", "30"));
+        assertEquals(OptionalInt.of(50), scheduler.getRemaining());
+        assertEquals(OptionalInt.of(200), scheduler.getLimit());
+    }
+
+    /**
+     * Verifies requests are not delayed when pacing is disabled, while the budget is still tracked.
+     */
+    @Test
+    void reserve_pacingDisabled() {
+        final RateLimitScheduler scheduler = new RateLimitScheduler(false, 10, clock::get);
+        scheduler.update(createResult(200, "0", "30"));
+        assertEquals(0, scheduler.reserve());
+        assertEquals(OptionalInt.of(0), scheduler.getRemaining());
+    }
+
+    private static HttpResult createResult(final int status, final String remaining, final String reset) {
+        return new HttpResult(status, "", new HttpHeaders(Arrays.asList(
+            new HttpHeader("RateLimit-Remaining", remaining),
+            new HttpHeader("RateLimit-Reset", reset),
+            new HttpHeader("RateLimit-Limit", "200")
+        )));
+    }
+}
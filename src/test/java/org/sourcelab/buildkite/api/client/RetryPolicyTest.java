@@ -0,0 +1,117 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client;
+
+import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.exception.BuilderValidationException;
+import org.sourcelab.buildkite.api.client.exception.BuildkiteException;
+import org.sourcelab.buildkite.api.client.exception.HttpRequestException;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.CancelBuildRequest;
+import org.sourcelab.buildkite.api.client.request.PingRequest;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RetryPolicyTest {
+    private final HttpResult unavailable = new HttpResult(503, "");
+
+    /**
+     * Verifies GET requests are retried on retryable status codes and exceptions, up to the max attempts.
+     */
+    @Test
+    void shouldRetry_getRequest() {
+        final RetryPolicy policy = RetryPolicy.newBuilder()
+            .withMaxAttempts(3)
+            .build();
+        final PingRequest request = new PingRequest();
+
+        assertTrue(policy.shouldRetry(request, 1, unavailable));
+        assertTrue(policy.shouldRetry(request, 2, unavailable));
+        assertFalse(policy.shouldRetry(request, 3, unavailable));
+        assertFalse(policy.shouldRetry(request, 1, new HttpResult(404, "")));
+
+        // Exceptions are matched against their causes too.
+        assertTrue(policy.shouldRetry(request, 1, new HttpRequestException("Connection reset")));
+        assertTrue(policy.shouldRetry(request, 1, new BuildkiteException("Wrapped", new HttpRequestException("Connection reset"))));
+        assertFalse(policy.shouldRetry(request, 1, new BuildkiteException("Not retryable")));
+    }
+
+    /**
+     * Verifies non-idempotent requests are only retried when opted in.
+     */
+    @Test
+    void shouldRetry_nonIdempotentRequest() {
+        final CancelBuildRequest request = new CancelBuildRequest("org", "pipeline", 1);
+
+        assertFalse(RetryPolicy.newBuilder().build().shouldRetry(request, 1, unavailable));
+        assertTrue(RetryPolicy.newBuilder()
+            .withRetryNonIdempotentRequests(true)
+            .build()
+            .shouldRetry(request, 1, unavailable));
+    }
+
+    /**
+     * Verifies the none policy never retries.
+     */
+    @Test
+    void shouldRetry_none() {
+        assertFalse(RetryPolicy.none().shouldRetry(new PingRequest(), 1, unavailable));
+    }
+
+    /**
+     * Verifies the delay grows exponentially, is capped at the max delay, and jitter only ever reduces it.
+     */
+    @Test
+    void getDelayNanos() {
+        final RetryPolicy policy = RetryPolicy.newBuilder()
+            .withBaseDelay(Duration.ofMillis(100))
+            .withMaxDelay(Duration.ofMillis(350))
+            .withJitter(0)
+            .build();
+
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(100), policy.getDelayNanos(1));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(200), policy.getDelayNanos(2));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(350), policy.getDelayNanos(3));
+        assertEquals(TimeUnit.MILLISECONDS.toNanos(350), policy.getDelayNanos(100));
+
+        final RetryPolicy jittered = RetryPolicy.newBuilder()
+            .withBaseDelay(Duration.ofMillis(100))
+            .withJitter(0.5)
+            .build();
+        for (int i = 0; i < 100; i++) {
+            final long delay = jittered.getDelayNanos(1);
+            assertTrue(delay >= TimeUnit.MILLISECONDS.toNanos(50) && delay <= TimeUnit.MILLISECONDS.toNanos(100));
+        }
+    }
+
+    /**
+     * Verifies invalid values are rejected.
+     */
+    @Test
+    void build_invalidValues() {
+        assertThrows(BuilderValidationException.class, () -> RetryPolicy.newBuilder().withMaxAttempts(0).build());
+        assertThrows(BuilderValidationException.class, () -> RetryPolicy.newBuilder().withJitter(1.5).build());
+        assertThrows(BuilderValidationException.class, () -> RetryPolicy.newBuilder().withBaseDelay(Duration.ofMillis(-1)).build());
+    }
+}
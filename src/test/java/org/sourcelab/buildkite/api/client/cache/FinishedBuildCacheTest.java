@@ -0,0 +1,114 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.cache;
+
+import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.BuildkiteClient;
+import org.sourcelab.buildkite.api.client.Configuration;
+import org.sourcelab.buildkite.api.client.http.Client;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.Request;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.BuildState;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class FinishedBuildCacheTest {
+
+    /**
+     * Finished builds are served from memory, unfinished builds are always requested.
+     */
+    @Test
+    void getBuild_servesFinishedBuildsFromCache() {
+        final Client mockHttpClient = mock(Client.class);
+        final BuildkiteClient client = createClient(mockHttpClient, null);
+
+        when(mockHttpClient.executeRequest(any()))
+            .thenReturn(new HttpResult(200, build(1, "passed")));
+        final Build first = client.getBuild("my-org", "my-pipeline", 1).get();
+        assertEquals(BuildState.PASSED, first.getState());
+        assertSame(first, client.getBuild("my-org", "my-pipeline", 1).get());
+
+        when(mockHttpClient.executeRequest(any()))
+            .thenReturn(new HttpResult(200, build(2, "running")), new HttpResult(200, build(2, "passed")));
+        assertEquals(BuildState.RUNNING, client.getBuild("my-org", "my-pipeline", 2).get().getState());
+        assertEquals(BuildState.PASSED, client.getBuild("my-org", "my-pipeline", 2).get().getState());
+        assertEquals(BuildState.PASSED, client.getBuild("my-org", "my-pipeline", 2).get().getState());
+
+        // Verify only the unfinished build was requested again.
+        verify(mockHttpClient, times(1)).executeRequest(requestForPath("/builds/1"));
+        verify(mockHttpClient, times(2)).executeRequest(requestForPath("/builds/2"));
+        verify(mockHttpClient, times(3)).executeRequest(any());
+        assertEquals(2, client.getMetrics().getFinishedBuildCacheHitCount());
+    }
+
+    /**
+     * Finished builds cached on disk are served to a new client, evicting the least recently used when full.
+     */
+    @Test
+    void getBuild_servesFinishedBuildsFromDisk() throws IOException {
+        final Path directory = Files.createTempDirectory("finished-builds");
+        final Client mockHttpClient = mock(Client.class);
+        final BuildkiteClient client = createClient(mockHttpClient, directory);
+        when(mockHttpClient.executeRequest(any()))
+            .thenReturn(new HttpResult(200, build(1, "passed")), new HttpResult(200, build(2, "failed")));
+        client.getBuild("my-org", "my-pipeline", 1);
+        client.getBuild("my-org", "my-pipeline", 2);
+
+        final Client secondMockHttpClient = mock(Client.class);
+        final BuildkiteClient secondClient = createClient(secondMockHttpClient, directory);
+        assertEquals("b2", secondClient.getBuild("my-org", "my-pipeline", 2).get().getId());
+        assertEquals("b1", secondClient.getBuild("my-org", "my-pipeline", 1).get().getId());
+        verify(secondMockHttpClient, never()).executeRequest(any());
+
+        // Bounded on disk to a single build.
+        final FinishedBuildCache cache = new FinishedBuildCache(1024, directory, build(1, "passed").length() + 1);
+        assertEquals(1, Files.list(directory).count());
+        assertEquals(build(1, "passed").length(), cache.getDiskBytes());
+    }
+
+    private static BuildkiteClient createClient(final Client httpClient, final Path directory) {
+        return new BuildkiteClient(Configuration.newBuilder()
+            .withApiToken("token")
+            .withRateLimitPacing(false)
+            .withFinishedBuildCacheMaxBytes(1024)
+            .withFinishedBuildCacheDirectory(directory)
+            .withClientFactory((configuration) -> httpClient)
+            .build());
+    }
+
+    private static Request<?> requestForPath(final String pathSuffix) {
+        return argThat((Request<?> request) -> request.getPath().endsWith(pathSuffix));
+    }
+
+    private static String build(final long number, final String state) {
+        return "{\"id\": \"b" + number + "\", \"number\": " + number + ", \"state\": \"" + state + "\"}";
+    }
+}
@@ -0,0 +1,136 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.codec;
+
+import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.exception.CodecException;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.BuildFilters;
+import org.sourcelab.buildkite.api.client.request.ListBuildsRequest;
+import org.sourcelab.buildkite.api.client.response.Agent;
+import org.sourcelab.buildkite.api.client.response.Artifact;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.Creator;
+import org.sourcelab.buildkite.api.client.response.Job;
+import org.sourcelab.buildkite.api.client.response.JobState;
+import org.sourcelab.buildkite.api.client.response.parser.ListBuildsResponseParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.ZonedDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.sourcelab.buildkite.api.client.MockResponseReader.readFile;
+
+class BuildCodecTest {
+
+    /**
+     * Builds and their dependencies decode to equal values, and re-encode to the same bytes.
+     */
+    @Test
+    void encode_roundTripsExactly() throws IOException {
+        final String json = readFile("listBuilds.json");
+        final List<Build> builds = new ListBuildsResponseParser(new ListBuildsRequest(BuildFilters.newBuilder().build()))
+            .parseResponse(new HttpResult(200, json))
+            .getBuilds();
+
+        int encodedSize = 0;
+        for (final Build build : builds) {
+            final byte[] encoded = BuildCodec.encodeBuild(build);
+            encodedSize += encoded.length;
+            final Build decoded = BuildCodec.decodeBuild(encoded);
+            assertEquals(build.toString(), decoded.toString());
+            assertEquals(build.getCreatedAt(), decoded.getCreatedAt());
+            assertArrayEquals(encoded, BuildCodec.encodeBuild(decoded));
+
+            for (final Job job : build.getJobs()) {
+                assertEquals(job.toString(), BuildCodec.decodeJob(BuildCodec.encodeJob(job)).toString());
+                if (job.getAgent() != null) {
+                    assertEquals(job.getAgent().toString(), BuildCodec.decodeAgent(BuildCodec.encodeAgent(job.getAgent())).toString());
+                }
+            }
+            assertEquals(build.getPipeline().toString(), BuildCodec.decodePipeline(BuildCodec.encodePipeline(build.getPipeline())).toString());
+        }
+        assertTrue(encodedSize < json.getBytes(StandardCharsets.UTF_8).length / 2, "Encoded size " + encodedSize);
+
+        final Artifact artifact = new Artifact(
+            "a1", "j1", "https://api/a1", "https://api/a1/download", "finished", "logs/out.txt", "logs", "out.txt",
+            "text/plain", 1234L, "logs/*.txt", "logs/out.txt", "da39a3ee"
+        );
+        assertEquals(artifact.toString(), BuildCodec.decodeArtifact(BuildCodec.encodeArtifact(artifact)).toString());
+    }
+
+    /**
+     * Timestamps outside of UTC, or with sub-millisecond precision, keep their zone and precision.
+     */
+    @Test
+    void encode_preservesTimestampZoneAndPrecision() {
+        final ZonedDateTime createdAt = ZonedDateTime.parse("2023-01-04T23:38:39.123456789+10:00[Australia/Sydney]");
+        final Creator creator = new Creator("c1", "name", "email", null, createdAt);
+        final Job job = new Job(
+            "j1", null, "script", null, null, "passed", null, null, null, null, null, 0, null,
+            null, null, null, null, null, null, null, null, null, null, null, null
+        );
+        assertEquals(job.toString(), BuildCodec.decodeJob(BuildCodec.encodeJob(job)).toString());
+
+        final byte[] encoded = BuildCodec.encodeAgent(new Agent(
+            "a1", null, null, null, null, null, null, null, null, createdAt, creator
+        ));
+        assertEquals(createdAt, BuildCodec.decodeAgent(encoded).getCreatedAt());
+        assertEquals(createdAt, BuildCodec.decodeAgent(encoded).getCreator().getCreatedAt());
+    }
+
+    /**
+     * States keep their value when encoded under a default locale with different case mapping rules.
+     */
+    @Test
+    void encode_stateIsLocaleIndependent() {
+        final Locale defaultLocale = Locale.getDefault();
+        Locale.setDefault(new Locale("tr", "TR"));
+        try {
+            final Job job = new Job(
+                "j1", null, "script", null, null, "failed", null, null, null, null, null, 1, null,
+                null, null, null, null, null, null, null, null, null, null, null, null
+            );
+            assertEquals(JobState.FAILED, BuildCodec.decodeJob(BuildCodec.encodeJob(job)).getState());
+        } finally {
+            Locale.setDefault(defaultLocale);
+        }
+    }
+
+    /**
+     * Newer schema versions, other types and truncated content are rejected.
+     */
+    @Test
+    void decode_rejectsUnsupportedContent() {
+        final byte[] encoded = BuildCodec.encodeArtifact(new Artifact(
+            "a1", null, null, null, null, null, null, null, null, null, null, null, null
+        ));
+        assertThrows(CodecException.class, () -> BuildCodec.decodeBuild(encoded));
+        assertThrows(CodecException.class, () -> BuildCodec.decodeArtifact(Arrays.copyOf(encoded, encoded.length - 1)));
+
+        encoded[0] = (byte) (BuildCodec.SCHEMA_VERSION + 1);
+        assertThrows(CodecException.class, () -> BuildCodec.decodeArtifact(encoded));
+    }
+}
@@ -0,0 +1,172 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.http;
+
+import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.MockResponseReader;
+import org.sourcelab.buildkite.api.client.request.GetBuildRequest;
+import org.sourcelab.buildkite.api.client.request.GetBuildFilters;
+import org.sourcelab.buildkite.api.client.response.Build;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class ResponseCacheTest {
+
+    /**
+     * Verifies conditional request headers are generated from the cached validators.
+     */
+    @Test
+    void getConditionalHeaders() {
+        final ResponseCache cache = new ResponseCache(10, 1024);
+        final HttpResult cached = createResult("{}", new HttpHeader("etag", "\"abc\""), new HttpHeader("Last-Modified", "yesterday"));
+
+        final List<HttpHeader> headers = cache.getConditionalHeaders(cached);
+        assertEquals(2, headers.size());
+        assertEquals("If-None-Match", headers.get(0).getName());
+        assertEquals("\"abc\"", headers.get(0).getValue());
+        assertEquals("If-Modified-Since", headers.get(1).getName());
+        assertEquals("yesterday", headers.get(1).getValue());
+    }
+
+    /**
+     * Verifies a 304 response returns the cached result, which re-uses the previously parsed object.
+     */
+    @Test
+    void resolve_notModified_returnsCachedResult() {
+        final ResponseCache cache = new ResponseCache(10, 100_000);
+        final GetBuildRequest request = new GetBuildRequest(GetBuildFilters.newBuilder()
+            .withOrgIdSlug("org")
+            .withPipelineIdSlug("pipeline")
+            .withBuildNumber(1L)
+            .build()
+        );
+
+        // Initial response is cached, and parsed.
+        final HttpResult initial = createResult(MockResponseReader.readFile("getBuild.json"), new HttpHeader("ETag", "\"v1\""));
+        assertSame(initial, cache.resolve("key", null, initial));
+        final Build parsed = initial.parseResponse(request);
+        assertEquals(1, cache.size());
+
+        // API reports the response has not changed.
+        final HttpResult notModified = new HttpResult(304, "", new HttpHeaders(Collections.singletonList(new HttpHeader("RateLimit-Remaining", "10"))));
+        final HttpResult resolved = cache.resolve("key", cache.get("key").get(), notModified);
+
+        // Should get the cached body, with the latest headers, and the already parsed object.
+        assertEquals(200, resolved.getStatus());
+        assertEquals(Optional.of("10"), resolved.getHttpHeaders().findHeader("RateLimit-Remaining"));
+        assertEquals(Optional.of("\"v1\""), resolved.getHttpHeaders().findHeader("ETag"));
+        assertSame(parsed, resolved.parseResponse(request));
+        assertEquals(1, cache.getNotModifiedCount());
+    }
+
+    /**
+     * Verifies responses without validators, or non-200 responses, are not cached.
+     */
+    @Test
+    void resolve_uncacheableResponses() {
+        final ResponseCache cache = new ResponseCache(10, 1024);
+
+        cache.resolve("noValidator", null, createResult("{}"));
+        cache.resolve("error", null, new HttpResult(404, "{}", new HttpHeaders(Collections.singletonList(new HttpHeader("ETag", "1")))));
+
+        assertEquals(0, cache.size());
+        assertFalse(cache.get("noValidator").isPresent());
+    }
+
+    /**
+     * Verifies least recently used entries are evicted once the entry count bound is exceeded.
+     */
+    @Test
+    void evictsByEntryCount() {
+        final ResponseCache cache = new ResponseCache(2, 1024);
+        cache.resolve("a", null, createResult("a", new HttpHeader("ETag", "1")));
+        cache.resolve("b", null, createResult("b", new HttpHeader("ETag", "1")));
+
+        // Touch 'a' so 'b' becomes least recently used.
+        cache.get("a");
+        cache.resolve("c", null, createResult("c", new HttpHeader("ETag", "1")));
+
+        assertEquals(2, cache.size());
+        assertTrue(cache.get("a").isPresent());
+        assertFalse(cache.get("b").isPresent());
+        assertTrue(cache.get("c").isPresent());
+    }
+
+    /**
+     * Verifies least recently used entries are evicted once the byte bound is exceeded.
+     */
+    @Test
+    void evictsBySize() {
+        final ResponseCache cache = new ResponseCache(10, 10);
+        cache.resolve("a", null, createResult("12345", new HttpHeader("ETag", "1")));
+        cache.resolve("b", null, createResult("12345", new HttpHeader("ETag", "1")));
+        assertEquals(10, cache.getSizeInBytes());
+
+        cache.resolve("c", null, createResult("123", new HttpHeader("ETag", "1")));
+        assertEquals(8, cache.getSizeInBytes());
+        assertFalse(cache.get("a").isPresent());
+
+        // Larger than the entire cache, never stored.
+        cache.resolve("d", null, createResult("12345678901", new HttpHeader("ETag", "1")));
+        assertFalse(cache.get("d").isPresent());
+    }
+
+    /**
+     * Verifies objects parsed from cached responses count towards the size bound once the entry is next used.
+     */
+    @Test
+    void evictsByRetainedSize_includingParsedObjects() {
+        final String json = MockResponseReader.readFile("getBuild.json");
+        final int bodyBytes = json.getBytes(StandardCharsets.UTF_8).length;
+        final ResponseCache cache = new ResponseCache(10, (2L + HttpResult.PARSED_SIZE_FACTOR) * bodyBytes - 1);
+        final GetBuildRequest request = new GetBuildRequest(GetBuildFilters.newBuilder()
+            .withOrgIdSlug("org")
+            .withPipelineIdSlug("pipeline")
+            .withBuildNumber(1L)
+            .build()
+        );
+
+        cache.resolve("a", null, createResult(json, new HttpHeader("ETag", "1")));
+        cache.resolve("b", null, createResult(json, new HttpHeader("ETag", "1")));
+        assertEquals(2L * bodyBytes, cache.getSizeInBytes());
+
+        // Parsing 'b' grows what it retains beyond the bound, evicting 'a' once 'b' is next used.
+        final Build parsed = cache.get("b").get().parseResponse(request);
+        assertTrue(cache.get("b").isPresent());
+        assertFalse(cache.get("a").isPresent());
+        assertEquals((1L + HttpResult.PARSED_SIZE_FACTOR) * bodyBytes, cache.getSizeInBytes());
+
+        // Parsed builds are shared between callers, so are read only.
+        assertThrows(UnsupportedOperationException.class, () -> parsed.getJobs().clear());
+    }
+
+    private static HttpResult createResult(final String content, final HttpHeader... headers) {
+        // Built from the raw body, as received from the API, so no decoded String is retained.
+        return new HttpResult(200, content.getBytes(StandardCharsets.UTF_8), StandardCharsets.UTF_8, new HttpHeaders(Arrays.asList(headers)));
+    }
+}
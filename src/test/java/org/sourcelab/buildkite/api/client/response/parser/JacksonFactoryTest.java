@@ -0,0 +1,84 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.response.parser;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.databind.DeserializationContext;
+import com.fasterxml.jackson.databind.JsonDeserializer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.response.Build;
+
+import java.io.IOException;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class JacksonFactoryTest {
+
+    /**
+     * Readers are created once per type and re-used.
+     */
+    @Test
+    void readerFor_isCached() {
+        assertSame(JacksonFactory.readerFor(Build[].class), JacksonFactory.readerFor(Build[].class));
+        assertSame(JacksonFactory.readerFor(Marker.class), JacksonFactory.readerFor(Marker.class));
+    }
+
+    /**
+     * Registered modules are applied to readers, and registering the same module again is a no-op.
+     */
+    @Test
+    void registerModules() throws IOException {
+        final SimpleModule module = new SimpleModule("marker-module");
+        module.addDeserializer(Marker.class, new JsonDeserializer<Marker>() {
+            @Override
+            public Marker deserialize(final JsonParser parser, final DeserializationContext context) throws IOException {
+                return new Marker("from-module:" + parser.getValueAsString());
+            }
+        });
+
+        JacksonFactory.registerModules(Collections.singletonList(module));
+        final ObjectMapper mapper = JacksonFactory.newInstance();
+        final Marker marker = JacksonFactory.readerFor(Marker.class).readValue("\"value\"");
+        assertEquals("from-module:value", marker.value);
+
+        // Registering again should not re-create the mapper.
+        JacksonFactory.registerModules(Collections.singletonList(module));
+        assertSame(mapper, JacksonFactory.newInstance());
+
+        // A different module re-creates the mapper, keeping previously registered modules.
+        JacksonFactory.registerModules(Collections.singletonList(new SimpleModule("other-module")));
+        assertNotSame(mapper, JacksonFactory.newInstance());
+        assertEquals("from-module:value", JacksonFactory.readerFor(Marker.class).<Marker>readValue("\"value\"").value);
+    }
+
+    /**
+     * Type only known to this test, so registering a deserializer for it does not affect other tests.
+     */
+    static class Marker {
+        private final String value;
+
+        Marker(final String value) {
+            this.value = value;
+        }
+    }
+}
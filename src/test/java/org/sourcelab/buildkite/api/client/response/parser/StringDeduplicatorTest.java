@@ -0,0 +1,83 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.response.parser;
+
+import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.MockResponseReader;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.BuildFilters;
+import org.sourcelab.buildkite.api.client.request.BuildProjection;
+import org.sourcelab.buildkite.api.client.request.ListBuildsRequest;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.ListBuildsResponse;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class StringDeduplicatorTest {
+
+    /**
+     * Equal values are canonicalized to the same instance, and capacity is rounded up to a power of two.
+     */
+    @Test
+    void deduplicate() {
+        final StringDeduplicator deduplicator = new StringDeduplicator(100);
+        assertEquals(128, deduplicator.getCapacity());
+
+        final String first = deduplicator.deduplicate(new String("main"));
+        assertSame(first, deduplicator.deduplicate(new String("main")));
+        assertSame(first, deduplicator.deduplicate("xmainx".toCharArray(), 1, 4));
+        assertEquals("feature", deduplicator.deduplicate(new String("feature")));
+
+        // Overly long values are not retained.
+        final char[] longValue = new char[StringDeduplicator.MAX_VALUE_LENGTH + 1];
+        assertNotSame(deduplicator.deduplicate(longValue, 0, longValue.length), deduplicator.deduplicate(longValue, 0, longValue.length));
+
+        assertEquals(1, new StringDeduplicator(1).getCapacity());
+        assertThrows(IllegalArgumentException.class, () -> new StringDeduplicator(0));
+    }
+
+    /**
+     * Values repeated across builds and jobs in a parsed response share a single instance, including jobs parsed lazily.
+     */
+    @Test
+    void parsedResponse_sharesRepeatedValues() {
+        final HttpResult result = new HttpResult(200, MockResponseReader.readFile("listBuilds.json"))
+            .withStringDeduplicator(new StringDeduplicator(1024));
+
+        for (final BuildProjection projection : new BuildProjection[] { BuildProjection.FULL, BuildProjection.LAZY_JOBS }) {
+            final ListBuildsResponse response = result.parseResponse(new ListBuildsRequest(BuildFilters.newBuilder()
+                .withProjection(projection)
+                .build()));
+            final Build first = response.getBuilds().get(0);
+            final Build second = response.getBuilds().get(1);
+
+            assertSame(first.getBranch(), second.getBranch());
+            assertSame(first.getAuthor().getEmail(), second.getAuthor().getEmail());
+            assertSame(first.getCreator().getEmail(), second.getCreator().getEmail());
+            assertSame(first.getJobs().get(0).getType(), second.getJobs().get(0).getType());
+        }
+
+        // Without a deduplicator, values are not shared.
+        final ListBuildsResponse response = new HttpResult(200, MockResponseReader.readFile("listBuilds.json"))
+            .parseResponse(new ListBuildsRequest(BuildFilters.newBuilder().build()));
+        assertNotSame(response.getBuilds().get(0).getBranch(), response.getBuilds().get(1).getBranch());
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.response.parser;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class UtcTimestampDeserializerTest {
+    private final ObjectReader javaTimeReader = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .readerFor(ZonedDateTime.class);
+
+    /**
+     * Timestamps decode to the same value as the JSR-310 module, whether decoded by hand or handed off to it.
+     */
+    @Test
+    void matchesJavaTimeModule() throws IOException {
+        final String[] values = {
+            "\"2023-01-04T23:38:39.123Z\"",
+            "\"2023-01-04T23:38:39.000Z\"",
+            "\"2023-01-04T23:38:39Z\"",
+            "\"2024-02-29T00:00:00.001Z\"",
+            "\"2023-01-04T23:38:39.123456Z\"",
+            "\"2023-01-04T23:38:39.123+02:00\"",
+            "1672875519123",
+            "null"
+        };
+        for (final String json : values) {
+            final ZonedDateTime expected = javaTimeReader.readValue(json);
+            final ZonedDateTime actual = JacksonFactory.readerFor(ZonedDateTime.class).readValue(json);
+            assertEquals(expected, actual, json);
+        }
+    }
+
+    /**
+     * Values not in the fixed format, or with out of range fields, are not decoded by hand.
+     */
+    @Test
+    void parse_unexpectedFormat() {
+        final String[] values = {
+            "2023-01-04T23:38:39.123+0200",
+            "2023-01-04 23:38:39.123Z",
+            "2023-13-04T23:38:39.123Z",
+            "2023-02-29T23:38:39.123Z",
+            "2023-01-04T23:38:3a.123Z",
+            "2023-01-04T23:38:39,123Z"
+        };
+        for (final String value : values) {
+            assertNull(UtcTimestampDeserializer.parse(value.toCharArray(), 0, value.length()), value);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.store;
+
+import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.BuildFilters;
+import org.sourcelab.buildkite.api.client.request.ListBuildsRequest;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.ListBuildsResponse;
+import org.sourcelab.buildkite.api.client.response.parser.ListBuildsResponseParser;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.sourcelab.buildkite.api.client.MockResponseReader.readFile;
+
+class BuildStoreTest {
+
+    /**
+     * Stored builds are found by number, id and creation time, unchanged, after the store is reopened.
+     */
+    @Test
+    void put_findsBuildsAfterReopening() throws IOException {
+        final Path directory = Files.createTempDirectory("build-store");
+        final List<Build> builds = readBuilds();
+        try (final BuildStore store = BuildStore.newBuilder().withDirectory(directory).withSegmentMaxBytes(1024).build()) {
+            store.putAll(builds);
+            store.putAll(builds);
+            assertEquals(2, store.size());
+        }
+
+        try (final BuildStore store = BuildStore.newBuilder().withDirectory(directory).build()) {
+            assertEquals(2, store.size());
+            assertEquals(builds.get(0).toString(), store.get("org-slug-here", "run-tests", 8).get().toString());
+            assertEquals(builds.get(1).toString(), store.getById("01858542").get().toString());
+            assertFalse(store.get("org-slug-here", "other-pipeline", 8).isPresent());
+            assertFalse(store.getById("missing").isPresent());
+
+            final List<Long> numbers = store.findByCreatedAt(ZonedDateTime.parse("2023-01-06T00:00:00Z"), ZonedDateTime.parse("2023-01-07T00:00:00Z"))
+                .stream()
+                .map(Build::getNumber)
+                .collect(Collectors.toList());
+            assertEquals("[7, 8]", numbers.toString());
+        }
+    }
+
+    /**
+     * Records written after the index was last updated are recovered, and partially written records discarded.
+     */
+    @Test
+    void open_recoversUnindexedRecords() throws IOException {
+        final Path directory = Files.createTempDirectory("build-store");
+        try (final BuildStore store = BuildStore.newBuilder().withDirectory(directory).build()) {
+            store.putAll(readBuilds());
+        }
+
+        // Lose the index and tear the tail of the segment.
+        Files.delete(directory.resolve("index.bin"));
+        Files.write(directory.resolve("segment-00000001.log"), new byte[] {0, 0, 1, 0, 42}, StandardOpenOption.APPEND);
+
+        try (final BuildStore store = BuildStore.newBuilder().withDirectory(directory).build()) {
+            assertEquals(2, store.size());
+            assertEquals(8, store.getById("abc-id-1").get().getNumber());
+            store.put(store.get("org-slug-here", "run-tests", 7).get());
+        }
+        try (final BuildStore store = BuildStore.newBuilder().withDirectory(directory).build()) {
+            assertEquals(2, store.size());
+            assertEquals("01858542", store.get("org-slug-here", "run-tests", 7).get().getId());
+        }
+    }
+
+    /**
+     * Index entries which reached disk ahead of their records are dropped, restoring the records they superseded.
+     */
+    @Test
+    void open_dropsEntriesAheadOfSegmentData() throws IOException {
+        final Path directory = Files.createTempDirectory("build-store");
+        final Path segment = directory.resolve("segment-00000001.log");
+        final List<Build> builds = readBuilds();
+        final long durableSize;
+        try (final BuildStore store = BuildStore.newBuilder().withDirectory(directory).build()) {
+            store.putAll(builds);
+            store.flush();
+            durableSize = Files.size(segment);
+            store.put(builds.get(0));
+            store.put(builds.get(1));
+        }
+
+        // Lose the superseding records, leaving the first of them torn, under an index which still describes them.
+        try (final FileChannel channel = FileChannel.open(segment, StandardOpenOption.WRITE)) {
+            channel.truncate(durableSize + 10);
+        }
+
+        try (final BuildStore store = BuildStore.newBuilder().withDirectory(directory).build()) {
+            assertEquals(2, store.size());
+            assertEquals(builds.get(0).toString(), store.get("org-slug-here", "run-tests", 8).get().toString());
+            assertEquals(builds.get(1).toString(), store.getById("01858542").get().toString());
+            assertEquals(durableSize, Files.size(segment));
+
+            // New records are appended after the intact ones, rather than over records still indexed.
+            store.put(builds.get(1));
+            assertEquals(2, store.findByCreatedAt(ZonedDateTime.parse("2023-01-06T00:00:00Z"), ZonedDateTime.parse("2023-01-07T00:00:00Z")).size());
+        }
+        try (final BuildStore store = BuildStore.newBuilder().withDirectory(directory).build()) {
+            assertEquals(2, store.size());
+            assertEquals(builds.get(0).toString(), store.getById("abc-id-1").get().toString());
+            assertEquals(builds.get(1).toString(), store.get("org-slug-here", "run-tests", 7).get().toString());
+        }
+    }
+
+    private static List<Build> readBuilds() throws IOException {
+        final ListBuildsResponse response = new ListBuildsResponseParser(new ListBuildsRequest(BuildFilters.newBuilder().build()))
+            .parseResponse(new HttpResult(200, readFile("listBuilds.json")));
+        return response.getBuilds();
+    }
+}
@@ -0,0 +1,203 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.sync;
+
+import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.BuildkiteClient;
+import org.sourcelab.buildkite.api.client.Configuration;
+import org.sourcelab.buildkite.api.client.http.Client;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.Request;
+import org.sourcelab.buildkite.api.client.request.RequestParameters;
+import org.sourcelab.buildkite.api.client.response.Build;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class IncrementalBuildSyncTest {
+    private static final ZonedDateTime T0 = ZonedDateTime.parse("2023-01-04T10:00:00Z");
+
+    /**
+     * Walks a build from running through to finished across several syncs, verifying only the expected
+     * queries are made, pending builds are tracked and the checkpoint survives being persisted.
+     */
+    @Test
+    void sync_tracksWatermarksAndPendingBuilds() throws IOException {
+        final Client mockHttpClient = mock(Client.class);
+        final BuildkiteClient client = new BuildkiteClient(Configuration.newBuilder()
+            .withApiToken("token")
+            .withRateLimitPacing(false)
+            .withClientFactory((configuration) -> mockHttpClient)
+            .build());
+        final Path directory = Files.createTempDirectory("build-sync");
+        final List<String> upserts = new ArrayList<>();
+
+        final IncrementalBuildSync sync = IncrementalBuildSync.newBuilder()
+            .withClient(client)
+            .withPipeline("my-org", "my-pipeline")
+            .withCheckpointStore(new FileSyncCheckpointStore(directory))
+            .withOverlap(Duration.ofMinutes(5))
+            .withClock(Clock.fixed(Instant.parse("2023-01-04T12:00:00Z"), ZoneOffset.UTC))
+            .withUpsertCallback((build) -> upserts.add(build.getId() + ":" + build.getState()))
+            .build();
+
+        // First sync lists everything.
+        when(mockHttpClient.executeRequest(any())).thenReturn(new HttpResult(200,
+            "[" + build("b1", 1, "passed", T0, T0.plusMinutes(10)) + "," + build("b2", 2, "running", T0.plusMinutes(20), null) + "]"
+        ));
+        SyncResult result = sync.sync();
+        assertEquals(Arrays.asList("b1:PASSED", "b2:RUNNING"), upserts);
+        assertEquals(1, result.getRequestCount());
+        verify(mockHttpClient).executeRequest(query("all"));
+        verify(mockHttpClient, times(1)).executeRequest(any());
+        assertEquals(T0.plusMinutes(20).toInstant(), result.getCheckpoint().getCreatedWatermark().toInstant());
+        assertEquals(T0.plusMinutes(10).toInstant(), result.getCheckpoint().getFinishedWatermark().toInstant());
+        assertEquals(Arrays.asList("b2"), pendingIds(result));
+
+        // Second sync: a new build, b2 re-checked via the unfinished listing.
+        upserts.clear();
+        when(mockHttpClient.executeRequest(any())).thenReturn(
+            new HttpResult(200, "[" + build("b3", 3, "scheduled", T0.plusMinutes(30), null) + "]"),
+            new HttpResult(200, "[]"),
+            new HttpResult(200, "[" + build("b2", 2, "failing", T0.plusMinutes(20), null) + "]")
+        );
+        result = sync.sync();
+        assertEquals(Arrays.asList("b3:SCHEDULED", "b2:FAILING"), upserts);
+        verify(mockHttpClient).executeRequest(query("created_from=2023-01-04T10:15:00Z"));
+        verify(mockHttpClient).executeRequest(query("finished_from=2023-01-04T10:05:00Z"));
+        verify(mockHttpClient).executeRequest(query("unfinished_from=2023-01-04T10:15:00Z"));
+        verify(mockHttpClient, times(4)).executeRequest(any());
+        assertEquals(Arrays.asList("b2", "b3"), pendingIds(result));
+
+        // Third sync, from a new instance reading the persisted checkpoint: b2 finished, b3 was deleted.
+        upserts.clear();
+        when(mockHttpClient.executeRequest(any())).thenReturn(
+            new HttpResult(200, "[]"),
+            new HttpResult(200, "[" + build("b2", 2, "failed", T0.plusMinutes(20), T0.plusMinutes(40)) + "]"),
+            new HttpResult(200, "[]"),
+            new HttpResult(404, "{\"message\": \"Not Found\"}")
+        );
+        result = IncrementalBuildSync.newBuilder()
+            .withClient(client)
+            .withPipeline("my-org", "my-pipeline")
+            .withCheckpointStore(new FileSyncCheckpointStore(directory))
+            .withUpsertCallback((build) -> upserts.add(build.getId() + ":" + build.getState()))
+            .build()
+            .sync();
+        assertEquals(Arrays.asList("b2:FAILED"), upserts);
+        verify(mockHttpClient).executeRequest(query("created_from=2023-01-04T10:25:00Z"));
+        verify(mockHttpClient, times(2)).executeRequest(query("finished_from=2023-01-04T10:05:00Z"));
+        verify(mockHttpClient).executeRequest(query("unfinished_from=2023-01-04T10:25:00Z"));
+        verify(mockHttpClient).executeRequest(query("get=3"));
+        verify(mockHttpClient, times(8)).executeRequest(any());
+        assertEquals(4, result.getRequestCount());
+        assertTrue(result.getCheckpoint().getPendingBuilds().isEmpty());
+        assertEquals(T0.plusMinutes(40).toInstant(), result.getCheckpoint().getFinishedWatermark().toInstant());
+    }
+
+    /**
+     * Failures in the upsert callback leave the checkpoint unchanged.
+     */
+    @Test
+    void sync_callbackFailure_doesNotAdvanceCheckpoint() {
+        final Client mockHttpClient = mock(Client.class);
+        final InMemorySyncCheckpointStore store = new InMemorySyncCheckpointStore();
+        final IncrementalBuildSync sync = IncrementalBuildSync.newBuilder()
+            .withClient(new BuildkiteClient(Configuration.newBuilder()
+                .withApiToken("token")
+                .withClientFactory((configuration) -> mockHttpClient)
+                .build()))
+            .withOrganization("my-org")
+            .withCheckpointStore(store)
+            .withUpsertCallback((build) -> {
+                throw new IllegalStateException("store unavailable");
+            })
+            .build();
+
+        when(mockHttpClient.executeRequest(any()))
+            .thenReturn(new HttpResult(200, "[" + build("b1", 1, "passed", T0, T0.plusMinutes(10)) + "]"));
+        try {
+            sync.sync();
+        } catch (final IllegalStateException expected) {
+            // Expected.
+        }
+        assertFalse(store.load("my-org").isPresent());
+    }
+
+    private static List<String> pendingIds(final SyncResult result) {
+        return result.getCheckpoint().getPendingBuilds().stream()
+            .map(PendingBuild::getId)
+            .sorted()
+            .collect(Collectors.toList());
+    }
+
+    private static String build(final String id, final long number, final String state, final ZonedDateTime createdAt, final ZonedDateTime finishedAt) {
+        return "{\"id\": \"" + id + "\", "
+            + "\"url\": \"https://api.buildkite.com/v2/organizations/my-org/pipelines/my-pipeline/builds/" + number + "\", "
+            + "\"number\": " + number + ", "
+            + "\"state\": \"" + state + "\", "
+            + "\"created_at\": \"" + createdAt.toInstant() + "\", "
+            + "\"finished_at\": " + (finishedAt == null ? "null" : "\"" + finishedAt.toInstant() + "\"")
+            + "}";
+    }
+
+    /**
+     * Matches requests by a short description of the query they make.
+     */
+    private static Request<?> query(final String description) {
+        return argThat((Request<?> request) -> description.equals(describe(request)));
+    }
+
+    private static String describe(final Request<?> request) {
+        final RequestParameters parameters = request.getRequestParameters();
+        if (request.getPath().matches(".*/builds/\\d+")) {
+            return "get=" + request.getPath().substring(request.getPath().lastIndexOf('/') + 1);
+        } else if (parameters.hasParameter("state[]")) {
+            return "unfinished_from=" + value(parameters, "created_from");
+        } else if (parameters.hasParameter("created_from")) {
+            return "created_from=" + value(parameters, "created_from");
+        } else if (parameters.hasParameter("finished_from")) {
+            return "finished_from=" + value(parameters, "finished_from");
+        }
+        return "all";
+    }
+
+    private static String value(final RequestParameters parameters, final String name) {
+        return parameters.getParameterByName(name).getValues().iterator().next();
+    }
+}
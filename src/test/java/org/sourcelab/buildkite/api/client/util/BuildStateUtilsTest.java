@@ -0,0 +1,55 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.util;
+
+import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.response.BuildState;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class BuildStateUtilsTest {
+
+    /**
+     * Verifies every finished state, along with canceled, is terminal.
+     */
+    @Test
+    void isStateTerminal_terminalStates() {
+        assertTrue(BuildStateUtils.isStateTerminal(BuildState.PASSED));
+        assertTrue(BuildStateUtils.isStateTerminal(BuildState.FAILED));
+        assertTrue(BuildStateUtils.isStateTerminal(BuildState.SKIPPED));
+        assertTrue(BuildStateUtils.isStateTerminal(BuildState.NOT_RUN));
+        assertTrue(BuildStateUtils.isStateTerminal(BuildState.BROKEN));
+        assertTrue(BuildStateUtils.isStateTerminal(BuildState.CANCELED));
+    }
+
+    /**
+     * Verifies in progress states, and a missing state, are not terminal.
+     */
+    @Test
+    void isStateTerminal_nonTerminalStates() {
+        assertFalse(BuildStateUtils.isStateTerminal(null));
+        assertFalse(BuildStateUtils.isStateTerminal(BuildState.CREATING));
+        assertFalse(BuildStateUtils.isStateTerminal(BuildState.SCHEDULED));
+        assertFalse(BuildStateUtils.isStateTerminal(BuildState.RUNNING));
+        assertFalse(BuildStateUtils.isStateTerminal(BuildState.FAILING));
+        assertFalse(BuildStateUtils.isStateTerminal(BuildState.BLOCKED));
+        assertFalse(BuildStateUtils.isStateTerminal(BuildState.CANCELING));
+        assertFalse(BuildStateUtils.isStateTerminal(BuildState.UNKNOWN));
+    }
+}
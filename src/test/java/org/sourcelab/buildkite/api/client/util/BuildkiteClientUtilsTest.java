@@ -0,0 +1,341 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.BuildkiteClient;
+import org.sourcelab.buildkite.api.client.Configuration;
+import org.sourcelab.buildkite.api.client.exception.NotFoundException;
+import org.sourcelab.buildkite.api.client.http.Client;
+import org.sourcelab.buildkite.api.client.http.HttpHeader;
+import org.sourcelab.buildkite.api.client.http.HttpHeaders;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.BuildFilters;
+import org.sourcelab.buildkite.api.client.request.BuildRef;
+import org.sourcelab.buildkite.api.client.request.ListOrganizationsRequest;
+import org.sourcelab.buildkite.api.client.request.OrganizationFilters;
+import org.sourcelab.buildkite.api.client.request.Request;
+import org.sourcelab.buildkite.api.client.request.RequestParameters;
+import org.sourcelab.buildkite.api.client.request.RetryMultipleJobsOptions;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.BulkResults;
+import org.sourcelab.buildkite.api.client.response.MultipleRetriedJobsResults;
+import org.sourcelab.buildkite.api.client.response.Organization;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class BuildkiteClientUtilsTest {
+    private static final int LAST_PAGE = 5;
+    private static final int TOTAL_BUILDS = 650;
+    private static final ZonedDateTime BUILDS_START = ZonedDateTime.parse("2023-01-04T00:00:00Z");
+
+    private Client mockHttpClient;
+    private BuildkiteClient client;
+
+    @BeforeEach
+    void setUp() {
+        mockHttpClient = mock(Client.class);
+
+        // Inject our mock underlying http client.
+        final Configuration configuration = Configuration.newBuilder()
+            .withApiToken("Mock-Access-Token")
+            .withClientFactory((config) -> mockHttpClient)
+            .build();
+
+        client = new BuildkiteClient(configuration);
+    }
+
+    /**
+     * Verifies retrieving pages concurrently returns the same entries, in the same order, as retrieving them sequentially.
+     */
+    @Test
+    void retrieveAll_withParallelism_preservesPageOrder() {
+        when(mockHttpClient.executeRequest(any()))
+            .thenAnswer((invocation) -> createPage(invocation.getArgument(0)));
+
+        final OrganizationFilters filters = OrganizationFilters.newBuilder().build();
+
+        // Call method under test.
+        final List<Organization> sequential = BuildkiteClientUtils.retrieveAll(filters, ListOrganizationsRequest.class, Organization.class, client);
+        final List<Organization> parallel = BuildkiteClientUtils.retrieveAll(filters, ListOrganizationsRequest.class, Organization.class, client, 3);
+
+        // Verify
+        final List<String> expectedIds = new ArrayList<>();
+        for (int page = 1; page <= LAST_PAGE; page++) {
+            expectedIds.add("org-" + page + "-a");
+            expectedIds.add("org-" + page + "-b");
+        }
+        assertEquals(expectedIds, sequential.stream().map(Organization::getId).collect(Collectors.toList()));
+        assertEquals(expectedIds, parallel.stream().map(Organization::getId).collect(Collectors.toList()));
+    }
+
+    /**
+     * Verifies a failure retrieving any page is surfaced to the caller as the original exception.
+     */
+    @Test
+    void retrieveAll_withParallelism_propagatesErrors() {
+        when(mockHttpClient.executeRequest(any()))
+            .thenAnswer((invocation) -> {
+                final Request<?> request = invocation.getArgument(0);
+                if (getPage(request) == 3) {
+                    return new HttpResult(404, "{\"message\": \"Not Found\"}");
+                }
+                return createPage(request);
+            });
+
+        final OrganizationFilters filters = OrganizationFilters.newBuilder().build();
+
+        // Call method under test.
+        assertThrows(NotFoundException.class, () -> BuildkiteClientUtils.retrieveAll(
+            filters, ListOrganizationsRequest.class, Organization.class, client, 3
+        ));
+    }
+
+    /**
+     * Verifies invalid parallelism values are rejected.
+     */
+    @Test
+    void retrieveAll_withInvalidParallelism() {
+        final OrganizationFilters filters = OrganizationFilters.newBuilder().build();
+        assertThrows(IllegalArgumentException.class, () -> BuildkiteClientUtils.retrieveAll(
+            filters, ListOrganizationsRequest.class, Organization.class, client, 0
+        ));
+    }
+
+    /**
+     * Verifies sharded retrieval splits deep windows, and returns every build exactly once, newest first.
+     */
+    @Test
+    void retrieveAllBuildsSharded_returnsAllBuildsInOrder() {
+        when(mockHttpClient.executeRequest(any()))
+            .thenAnswer((invocation) -> createBuildsPage(invocation.getArgument(0)));
+
+        final BuildFilters filters = BuildFilters.newBuilder()
+            .withCreatedFrom(BUILDS_START)
+            .withCreatedTo(BUILDS_START.plusMinutes(2L * TOTAL_BUILDS))
+            .build();
+
+        // Call method under test, windows spanning more than a single page are split.
+        final List<Build> builds = BuildkiteClientUtils.retrieveAllBuildsSharded(filters, client, 3, 1);
+
+        // Verify
+        final List<String> expectedIds = new ArrayList<>();
+        for (int index = TOTAL_BUILDS - 1; index >= 0; index--) {
+            expectedIds.add("build-" + index);
+        }
+        assertEquals(expectedIds, builds.stream().map(Build::getId).collect(Collectors.toList()));
+    }
+
+    /**
+     * Verifies sharded retrieval requires a created from time.
+     */
+    @Test
+    void retrieveAllBuildsSharded_requiresCreatedFrom() {
+        assertThrows(IllegalArgumentException.class, () -> BuildkiteClientUtils.retrieveAllBuildsSharded(
+            BuildFilters.newBuilder().build(), client, 3, 1
+        ));
+    }
+
+    /**
+     * Verifies retrying jobs concurrently collects each job's result or error.
+     */
+    @Test
+    void retryMultipleJobs_withParallelism_collectsResultsAndErrors() {
+        when(mockHttpClient.executeRequest(any()))
+            .thenAnswer((invocation) -> createRetriedJob(invocation.getArgument(0)));
+
+        final RetryMultipleJobsOptions options = RetryMultipleJobsOptions.newBuilder()
+            .withOrganizationSlug("my-org")
+            .withPipelineSlug("my-pipeline")
+            .withBuildNumber(1L)
+            .withJobIds(Arrays.asList("job-1", "job-2", "missing-job", "job-3", "job-4"))
+            .withThrowExceptionOnError(false)
+            .withParallelism(3)
+            .withMaxRequestsPerSecond(100)
+            .build();
+
+        // Call method under test.
+        final MultipleRetriedJobsResults results = BuildkiteClientUtils.retryMultipleJobs(options, client);
+
+        // Verify
+        assertEquals(4, results.getRetriedJobs().size());
+        assertEquals("job-3", results.getRetriedJobByOriginalJobId("job-3").getId());
+        assertEquals(1, results.getErrors().size());
+        assertTrue(results.getErrorByOriginalJobId("missing-job") instanceof NotFoundException);
+    }
+
+    /**
+     * Verifies retrying jobs concurrently fails fast with the original exception when throwOnError is set.
+     */
+    @Test
+    void retryMultipleJobs_withParallelism_throwsOnError() {
+        when(mockHttpClient.executeRequest(any()))
+            .thenAnswer((invocation) -> createRetriedJob(invocation.getArgument(0)));
+
+        final RetryMultipleJobsOptions options = RetryMultipleJobsOptions.newBuilder()
+            .withOrganizationSlug("my-org")
+            .withPipelineSlug("my-pipeline")
+            .withBuildNumber(1L)
+            .withJobIds(Arrays.asList("job-1", "job-2", "missing-job", "job-3"))
+            .withParallelism(2)
+            .build();
+
+        // Call method under test.
+        assertThrows(NotFoundException.class, () -> BuildkiteClientUtils.retryMultipleJobs(options, client));
+    }
+
+    /**
+     * Verifies bulk operations return each build's result or error, keyed by the build reference.
+     */
+    @Test
+    void cancelBuilds_collectsResultsAndErrorsPerBuild() {
+        when(mockHttpClient.executeRequest(any()))
+            .thenAnswer((invocation) -> {
+                final String path = ((Request<?>) invocation.getArgument(0)).getPath();
+                final String buildNumber = path.replaceAll(".*/builds/(\\d+)/cancel$", "$1");
+                if ("3".equals(buildNumber)) {
+                    return new HttpResult(404, "{\"message\": \"Not Found\"}");
+                }
+                return new HttpResult(200, "{\"id\": \"build-" + buildNumber + "\", \"number\": " + buildNumber + "}");
+            });
+
+        final List<BuildRef> builds = new ArrayList<>();
+        for (int number = 1; number <= 6; number++) {
+            builds.add(new BuildRef("my-org", "my-pipeline", number));
+        }
+
+        // Call method under test.
+        final BulkResults<BuildRef, Build> results = BuildkiteClientUtils.cancelBuilds(builds, client, 4);
+
+        // Verify
+        assertEquals(5, results.getResults().size());
+        assertEquals("build-5", results.getResult(new BuildRef("my-org", "my-pipeline", 5)).getId());
+        assertTrue(results.hasErrors());
+        assertTrue(results.getError(new BuildRef("my-org", "my-pipeline", 3)) instanceof NotFoundException);
+        assertEquals(new HashSet<>(builds), results.getKeys());
+    }
+
+    /**
+     * Verifies duplicate items are only executed once, and unexpected errors are recorded per item
+     * whether or not requests execute concurrently.
+     */
+    @Test
+    void cancelBuilds_deduplicatesAndWrapsErrorsConsistently() {
+        when(mockHttpClient.executeRequest(any()))
+            .thenThrow(new IllegalStateException("Unexpected"));
+
+        final BuildRef build = new BuildRef("my-org", "my-pipeline", 1);
+        final List<BuildRef> builds = Arrays.asList(build, new BuildRef("my-org", "my-pipeline", 1));
+        for (final int parallelism : new int[] {1, 4}) {
+            // Call method under test.
+            final BulkResults<BuildRef, Build> results = BuildkiteClientUtils.cancelBuilds(builds, client, parallelism);
+
+            // Verify
+            assertTrue(results.getResults().isEmpty());
+            assertEquals(Collections.singleton(build), results.getKeys());
+            assertTrue(results.getError(build).getCause() instanceof IllegalStateException);
+        }
+        verify(mockHttpClient, times(2)).executeRequest(any());
+    }
+
+    private static long getPage(final Request<?> request) {
+        return Long.parseLong(request.getRequestParameters().getParameterByName("page").getValues().iterator().next());
+    }
+
+    private static HttpResult createRetriedJob(final Request<?> request) {
+        final String path = request.getPath();
+        final String jobId = path.substring(path.indexOf("/jobs/") + "/jobs/".length(), path.lastIndexOf("/retry"));
+        if (jobId.startsWith("missing")) {
+            return new HttpResult(404, "{\"message\": \"Not Found\"}");
+        }
+        return new HttpResult(200, "{\"id\": \"" + jobId + "\", \"state\": \"scheduled\"}");
+    }
+
+    private static HttpResult createPage(final Request<?> request) {
+        final long page = getPage(request);
+        final String baseUrl = "https://api.buildkite.com/v2/organizations?";
+
+        final List<HttpHeader> headers;
+        if (page < LAST_PAGE) {
+            headers = Collections.singletonList(new HttpHeader("Link",
+                "<" + baseUrl + "page=" + (page + 1) + "&per_page=100>; rel=\"next\", "
+                + "<" + baseUrl + "page=" + LAST_PAGE + "&per_page=100>; rel=\"last\""
+            ));
+        } else {
+            headers = Collections.emptyList();
+        }
+
+        final String content = Arrays.asList("a", "b").stream()
+            .map((suffix) -> "{\"id\": \"org-" + page + "-" + suffix + "\"}")
+            .collect(Collectors.joining(", ", "[", "]"));
+        return new HttpResult(200, content, new HttpHeaders(headers));
+    }
+
+    /**
+     * Serve builds created every 2 minutes from {@link #BUILDS_START}, newest first, honoring the created range filter.
+     */
+    private static HttpResult createBuildsPage(final Request<?> request) {
+        final RequestParameters parameters = request.getRequestParameters();
+        final ZonedDateTime from = ZonedDateTime.parse(parameters.getParameterByName("created_from").getValues().iterator().next());
+        final ZonedDateTime to = ZonedDateTime.parse(parameters.getParameterByName("created_to").getValues().iterator().next());
+        final long page = getPage(request);
+        final int perPage = Integer.parseInt(parameters.getParameterByName("per_page").getValues().iterator().next());
+
+        final List<String> matching = new ArrayList<>();
+        for (int index = TOTAL_BUILDS - 1; index >= 0; index--) {
+            final ZonedDateTime createdAt = BUILDS_START.plusMinutes(2L * index);
+            if (!createdAt.isBefore(from) && !createdAt.isAfter(to)) {
+                matching.add("{\"id\": \"build-" + index + "\", \"created_at\": \"" + createdAt.toInstant() + "\"}");
+            }
+        }
+        final long lastPage = Math.max(1, (matching.size() + perPage - 1) / perPage);
+        final String baseUrl = "https://api.buildkite.com/v2/builds?";
+
+        final List<HttpHeader> headers;
+        if (page < lastPage) {
+            headers = Collections.singletonList(new HttpHeader("Link",
+                "<" + baseUrl + "page=" + (page + 1) + "&per_page=" + perPage + ">; rel=\"next\", "
+                + "<" + baseUrl + "page=" + lastPage + "&per_page=" + perPage + ">; rel=\"last\""
+            ));
+        } else {
+            headers = Collections.emptyList();
+        }
+
+        final String content = matching.stream()
+            .skip((page - 1) * perPage)
+            .limit(perPage)
+            .collect(Collectors.joining(", ", "[", "]"));
+        return new HttpResult(200, content, new HttpHeaders(headers));
+    }
+}
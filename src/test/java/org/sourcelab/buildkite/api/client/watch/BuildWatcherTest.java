@@ -0,0 +1,191 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.watch;
+
+import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.BuildkiteClient;
+import org.sourcelab.buildkite.api.client.Configuration;
+import org.sourcelab.buildkite.api.client.exception.NotFoundException;
+import org.sourcelab.buildkite.api.client.http.Client;
+import org.sourcelab.buildkite.api.client.http.HttpResult;
+import org.sourcelab.buildkite.api.client.request.Request;
+import org.sourcelab.buildkite.api.client.request.RequestParameters;
+import org.sourcelab.buildkite.api.client.response.Build;
+import org.sourcelab.buildkite.api.client.response.BuildState;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.any;
+import static org.mockito.Mockito.argThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class BuildWatcherTest {
+
+    /**
+     * Watches several builds of a single pipeline, verifying they are found with a single listing, and completed
+     * by polling for finished builds rather than retrieving each one.
+     */
+    @Test
+    void awaitCompletion_sharesPollsAcrossBuilds() throws Exception {
+        final Map<Long, String> states = Collections.synchronizedMap(new TreeMap<>());
+        final Map<Long, ZonedDateTime> finishedAts = Collections.synchronizedMap(new TreeMap<>());
+        states.put(1L, "running");
+        states.put(2L, "blocked");
+        states.put(3L, "passed");
+        finishedAts.put(3L, ZonedDateTime.now());
+
+        final Client mockHttpClient = mock(Client.class);
+        when(mockHttpClient.executeRequest(any()))
+            .thenAnswer((invocation) -> serveBuilds(invocation.getArgument(0), states, finishedAts));
+
+        try (final BuildWatcher watcher = BuildWatcher.newBuilder()
+            .withClient(new BuildkiteClient(Configuration.newBuilder()
+                .withApiToken("token")
+                .withRateLimitPacing(false)
+                .withClientFactory((configuration) -> mockHttpClient)
+                .build()))
+            .withMinPollInterval(Duration.ofMillis(20))
+            .withMaxPollInterval(Duration.ofMillis(20))
+            .build()) {
+
+            final CompletableFuture<Build> build1 = watcher.awaitCompletion("my-org", "my-pipeline", 1);
+            final CompletableFuture<Build> build1Again = watcher.awaitCompletion("my-org", "my-pipeline", 1);
+            final CompletableFuture<Build> build2 = watcher.awaitCompletion("my-org", "my-pipeline", 2);
+            final CompletableFuture<Build> build3 = watcher.awaitCompletion("my-org", "my-pipeline", 3);
+            final CompletableFuture<Build> missing = watcher.awaitCompletion("my-org", "my-pipeline", 4);
+
+            // Already finished, and missing builds, are resolved when first found.
+            assertEquals(BuildState.PASSED, build3.get(5, TimeUnit.SECONDS).getState());
+            final ExecutionException exception = assertThrows(ExecutionException.class, () -> missing.get(5, TimeUnit.SECONDS));
+            assertTrue(exception.getCause() instanceof NotFoundException);
+            assertFalse(build1.isDone());
+            assertEquals(2, watcher.getWatchedBuildCount());
+
+            // Finish the remaining builds.
+            finishedAts.put(1L, ZonedDateTime.now());
+            states.put(1L, "failed");
+            finishedAts.put(2L, ZonedDateTime.now());
+            states.put(2L, "canceled");
+            assertEquals(BuildState.FAILED, build1.get(5, TimeUnit.SECONDS).getState());
+            assertEquals(BuildState.FAILED, build1Again.get(5, TimeUnit.SECONDS).getState());
+            assertEquals(BuildState.CANCELED, build2.get(5, TimeUnit.SECONDS).getState());
+            assertEquals(0, watcher.getWatchedBuildCount());
+
+            // Builds were found together, and only those not in the unfinished listing were retrieved directly.
+            verify(mockHttpClient, times(1)).executeRequest(argThat((Request<?> request) -> request.getRequestParameters().hasParameter("state[]")));
+            verify(mockHttpClient, times(1)).executeRequest(argThat((Request<?> request) -> request.getPath().endsWith("/builds/3")));
+            verify(mockHttpClient, times(1)).executeRequest(argThat((Request<?> request) -> request.getPath().endsWith("/builds/4")));
+            verify(mockHttpClient, never()).executeRequest(argThat((Request<?> request) -> request.getPath().endsWith("/builds/1")));
+            verify(mockHttpClient, never()).executeRequest(argThat((Request<?> request) -> request.getPath().endsWith("/builds/2")));
+            verify(mockHttpClient, atLeastOnce())
+                .executeRequest(argThat((Request<?> request) -> request.getRequestParameters().hasParameter("finished_from")));
+        }
+    }
+
+    /**
+     * Closing the watcher completes outstanding futures exceptionally.
+     */
+    @Test
+    void close_completesOutstandingFutures() {
+        final Map<Long, String> states = Collections.synchronizedMap(new TreeMap<>());
+        final Map<Long, ZonedDateTime> finishedAts = Collections.synchronizedMap(new TreeMap<>());
+        states.put(1L, "running");
+
+        final Client mockHttpClient = mock(Client.class);
+        when(mockHttpClient.executeRequest(any()))
+            .thenAnswer((invocation) -> serveBuilds(invocation.getArgument(0), states, finishedAts));
+
+        final BuildWatcher watcher = BuildWatcher.newBuilder()
+            .withClient(new BuildkiteClient(Configuration.newBuilder()
+                .withApiToken("token")
+                .withClientFactory((configuration) -> mockHttpClient)
+                .build()))
+            .build();
+
+        final CompletableFuture<Build> build = watcher.awaitCompletion("my-org", "my-pipeline", 1);
+        watcher.close();
+        assertTrue(build.isCompletedExceptionally());
+        assertTrue(watcher.awaitCompletion("my-org", "my-pipeline", 1).isCompletedExceptionally());
+    }
+
+    /**
+     * Serve builds of a single pipeline from the given states and finish times, honoring the state and finished from filters.
+     */
+    private static HttpResult serveBuilds(
+        final Request<?> request,
+        final Map<Long, String> states,
+        final Map<Long, ZonedDateTime> finishedAts
+    ) {
+        final RequestParameters parameters = request.getRequestParameters();
+        synchronized (states) {
+            if (request.getPath().matches(".*/builds/\\d+")) {
+                final long number = Long.parseLong(request.getPath().substring(request.getPath().lastIndexOf('/') + 1));
+                if (!states.containsKey(number)) {
+                    return new HttpResult(404, "{\"message\": \"Not Found\"}");
+                }
+                return new HttpResult(200, build(number, states, finishedAts));
+            }
+
+            final List<Long> matching;
+            if (parameters.hasParameter("state[]")) {
+                final Collection<String> requestedStates = parameters.getParameterByName("state[]").getValues();
+                matching = states.keySet().stream()
+                    .filter((number) -> requestedStates.contains(states.get(number)))
+                    .collect(Collectors.toList());
+            } else {
+                final ZonedDateTime finishedFrom = ZonedDateTime.parse(parameters.getParameterByName("finished_from").getValues().iterator().next());
+                matching = states.keySet().stream()
+                    .filter((number) -> finishedAts.get(number) != null && !finishedAts.get(number).isBefore(finishedFrom))
+                    .collect(Collectors.toList());
+            }
+            final String content = matching.stream()
+                .map((number) -> build(number, states, finishedAts))
+                .collect(Collectors.joining(", ", "[", "]"));
+            return new HttpResult(200, content);
+        }
+    }
+
+    private static String build(final long number, final Map<Long, String> states, final Map<Long, ZonedDateTime> finishedAts) {
+        final ZonedDateTime finishedAt = finishedAts.get(number);
+        return "{\"id\": \"build-" + number + "\", "
+            + "\"number\": " + number + ", "
+            + "\"state\": \"" + states.get(number) + "\", "
+            + "\"created_at\": \"" + ZonedDateTime.now().minusMinutes(1).toInstant() + "\", "
+            + "\"finished_at\": " + (finishedAt == null ? "null" : "\"" + finishedAt.toInstant() + "\"")
+            + "}";
+    }
+}
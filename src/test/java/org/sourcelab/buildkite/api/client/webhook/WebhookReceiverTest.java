@@ -0,0 +1,117 @@
+/**
+ * Copyright 2023 SourceLab.org https://github.com/SourceLabOrg/Buildkite-Api-Client
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy of this software and associated
+ * documentation files (the "Software"), to deal in the Software without restriction, including without limitation the
+ * rights to use, copy, modify, merge, publish, distribute, sublicense, and/or sell copies of the Software, and to permit
+ * persons to whom the Software is furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all copies or substantial portions of the
+ * Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR IMPLIED, INCLUDING BUT NOT LIMITED TO THE
+ * WARRANTIES OF MERCHANTABILITY, FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE AUTHORS OR
+ * COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR
+ * OTHERWISE, ARISING FROM, OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE SOFTWARE.
+ */
+
+package org.sourcelab.buildkite.api.client.webhook;
+
+import org.junit.jupiter.api.Test;
+import org.sourcelab.buildkite.api.client.response.BuildState;
+import org.sourcelab.buildkite.api.client.response.JobState;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetSocketAddress;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class WebhookReceiverTest {
+    private static final String TOKEN = "webhook-token";
+
+    /**
+     * Posts webhooks from a local stand-in sender, verifying only authenticated build and job events are delivered.
+     */
+    @Test
+    void receivesBuildAndJobEvents() throws Exception {
+        final BlockingQueue<WebhookEvent> events = new LinkedBlockingQueue<>();
+        try (final WebhookReceiver receiver = WebhookReceiver.newBuilder()
+            .withBindAddress(new InetSocketAddress("127.0.0.1", 0))
+            .withPath("/buildkite")
+            .withToken(TOKEN)
+            .withListener(events::add)
+            .build()
+            .start()) {
+
+            final String build = "{\"id\": \"build-1\", \"number\": 1, \"state\": \"passed\", \"finished_at\": \"2023-01-04T23:38:39.123Z\"}";
+            assertEquals(200, post(receiver, TOKEN, "{\"event\": \"build.finished\", \"build\": " + build + "}"));
+            assertEquals(200, post(receiver, TOKEN,
+                "{\"event\": \"job.started\", \"job\": {\"id\": \"job-1\", \"state\": \"running\"}, \"build\": " + build + "}"));
+
+            // Rejected or ignored requests.
+            assertEquals(401, post(receiver, "wrong-token", "{\"event\": \"build.finished\", \"build\": " + build + "}"));
+            assertEquals(401, post(receiver, null, "{\"event\": \"build.finished\", \"build\": " + build + "}"));
+            assertEquals(400, post(receiver, TOKEN, "not json"));
+            assertEquals(200, post(receiver, TOKEN, "{\"event\": \"ping\", \"service\": {\"id\": \"service-1\"}}"));
+
+            final WebhookEvent buildEvent = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(buildEvent);
+            assertEquals("build.finished", buildEvent.getEvent());
+            assertEquals(BuildState.PASSED, buildEvent.getBuild().getState());
+            assertEquals(2023, buildEvent.getBuild().getFinishedAt().getYear());
+
+            final WebhookEvent jobEvent = events.poll(5, TimeUnit.SECONDS);
+            assertNotNull(jobEvent);
+            assertEquals("job-1", jobEvent.getJob().getId());
+            assertEquals(JobState.RUNNING, jobEvent.getJob().getState());
+
+            assertNull(events.poll(100, TimeUnit.MILLISECONDS));
+            assertEquals(2, receiver.getReceivedEventCount());
+        }
+    }
+
+    /**
+     * Verifies a closed receiver may be closed again, but not restarted.
+     */
+    @Test
+    void close_isIdempotentAndPreventsRestarting() {
+        final WebhookReceiver receiver = WebhookReceiver.newBuilder()
+            .withBindAddress(new InetSocketAddress("127.0.0.1", 0))
+            .withToken(TOKEN)
+            .build()
+            .start();
+        receiver.close();
+        receiver.close();
+
+        final IllegalStateException exception = assertThrows(IllegalStateException.class, receiver::start);
+        assertEquals("WebhookReceiver has been closed.", exception.getMessage());
+    }
+
+    private static int post(final WebhookReceiver receiver, final String token, final String body) throws IOException {
+        final HttpURLConnection connection = (HttpURLConnection) new URL("http://127.0.0.1:" + receiver.getPort() + "/buildkite").openConnection();
+        connection.setRequestMethod("POST");
+        connection.setDoOutput(true);
+        connection.setRequestProperty("Content-Type", "application/json");
+        if (token != null) {
+            connection.setRequestProperty(WebhookReceiver.TOKEN_HEADER, token);
+        }
+        try (final OutputStream outputStream = connection.getOutputStream()) {
+            outputStream.write(body.getBytes(StandardCharsets.UTF_8));
+        }
+        try {
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+}